@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import java.util.Arrays;
+
+import org.apache.geode.support.domain.marker.GeodeExtension;
+
+/**
+ * A DerivedValue is a value computed by the tool from other stat values, instead of being read from the archive: the result of
+ * an expression, or the values of a statistic from several rolled archives stitched together.
+ * <p>
+ * Samples are kept as primitive arrays and, as it happens with {@link ComboValue}, updates are not supported.
+ */
+@GeodeExtension(reason = "Derived statistics are computed from the parsed values and need to be treated as any other statistic.")
+public class DerivedValue extends AbstractValue {
+  private final long[] timeStamps;
+  private final double[] values;
+
+  /**
+   * @param name Name of the derived statistic.
+   * @param units Units of the derived statistic.
+   * @param description Description of the derived statistic.
+   * @param timeStamps Time stamps (millis since midnight, Jan 1, 1970 UTC) of the samples, should be sorted.
+   * @param values Values of the samples, one per time stamp.
+   */
+  public DerivedValue(String name, String units, String description, long[] timeStamps, double[] values) {
+    this(name, units, description, false, timeStamps, values);
+  }
+
+  /**
+   * @param name Name of the derived statistic.
+   * @param units Units of the derived statistic.
+   * @param description Description of the derived statistic.
+   * @param counter Whether the values are those of a counter, in which case the default filter is {@link #FILTER_PERSEC}.
+   * @param timeStamps Time stamps (millis since midnight, Jan 1, 1970 UTC) of the samples, should be sorted.
+   * @param values Values of the samples, one per time stamp.
+   */
+  public DerivedValue(String name, String units, String description, boolean counter, long[] timeStamps, double[] values) {
+    if (timeStamps.length != values.length) throw new IllegalArgumentException("TimeStamps and Values should have the same length.");
+
+    this.descriptor = new StatArchiveReader.StatDescriptor(name, -1, counter, false, (byte) StatArchiveFormat.DOUBLE_CODE, units, description);
+    this.filter = counter ? FILTER_PERSEC : FILTER_NONE;
+    this.timeStamps = timeStamps;
+    this.values = values;
+  }
+
+  private DerivedValue(DerivedValue in, long startTime, long endTime) {
+    this.descriptor = in.descriptor;
+    this.filter = in.filter;
+    this.timeStamps = in.timeStamps;
+    this.values = in.values;
+    this.startTime = startTime;
+    this.endTime = endTime;
+  }
+
+  private int getStartIdx() {
+    int startIdx = 0;
+    if (startTime != -1) {
+      while ((startIdx < timeStamps.length) && (timeStamps[startIdx] < startTime)) startIdx++;
+    }
+
+    return startIdx;
+  }
+
+  private int getEndIdx(int startIdx) {
+    int endIdx = timeStamps.length - 1;
+    if (endTime != -1) {
+      endIdx = startIdx - 1;
+      while ((endIdx + 1 < timeStamps.length) && (timeStamps[endIdx + 1] < endTime)) endIdx++;
+    }
+
+    return endIdx;
+  }
+
+  public StatValue createTrimmed(long startTime, long endTime) {
+    if (startTime == this.startTime && endTime == this.endTime) {
+      return this;
+    } else {
+      return new DerivedValue(this, startTime, endTime);
+    }
+  }
+
+  public boolean isTrimmedLeft() {
+    return getStartIdx() != 0;
+  }
+
+  /**
+   * Derived values are not bound to a single resource type.
+   */
+  public StatArchiveReader.ResourceType getType() {
+    return null;
+  }
+
+  /**
+   * Derived values are not bound to any resource.
+   */
+  public StatArchiveReader.ResourceInst[] getResources() {
+    return new StatArchiveReader.ResourceInst[0];
+  }
+
+  public long[] getRawAbsoluteTimeStamps() {
+    int startIdx = getStartIdx();
+    return Arrays.copyOfRange(timeStamps, startIdx, Math.max(startIdx, getEndIdx(startIdx) + 1));
+  }
+
+  public long[] getRawAbsoluteTimeStampsWithSecondRes() {
+    long[] result = getRawAbsoluteTimeStamps();
+    for (int i = 0; i < result.length; i++) {
+      result[i] += 500;
+      result[i] /= 1000;
+      result[i] *= 1000;
+    }
+    return result;
+  }
+
+  public double[] getRawSnapshots() {
+    int startIdx = getStartIdx();
+    return Arrays.copyOfRange(values, startIdx, Math.max(startIdx, getEndIdx(startIdx) + 1));
+  }
+
+  public double[] getSnapshots() {
+    double[] result;
+    int startIdx = getStartIdx();
+    int resultSize = Math.max(0, getEndIdx(startIdx) - startIdx + 1);
+
+    if (filter != FILTER_NONE && resultSize > 1) {
+      result = new double[resultSize - 1];
+      for (int i = 0; i < result.length; i++) {
+        double valueDelta = values[startIdx + i + 1] - values[startIdx + i];
+        if (filter == FILTER_PERSEC) {
+          double timeDelta = (timeStamps[startIdx + i + 1] - timeStamps[startIdx + i]); // millis
+          valueDelta /= (timeDelta / 1000); // per second
+        }
+        result[i] = valueDelta;
+      }
+    } else {
+      result = Arrays.copyOfRange(values, startIdx, startIdx + resultSize);
+    }
+    calcStats(result);
+    return result;
+  }
+
+  public boolean hasValueChanged() {
+    return false;
+  }
+}
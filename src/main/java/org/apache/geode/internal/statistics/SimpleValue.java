@@ -18,6 +18,7 @@ import java.io.PrintWriter;
 
 import org.springframework.util.Assert;
 
+import org.apache.geode.support.domain.marker.GeodeExtension;
 import org.apache.geode.support.domain.marker.GeodeReplacement;
 
 /**
@@ -219,6 +220,12 @@ class SimpleValue extends AbstractValue {
     nextBits = bits;
   }
 
+  @GeodeExtension(reason = "Bits prepared by a sample token that couldn't be fully decoded must not be added by the next sample.")
+  protected void discardNextBits() {
+    useNextBits = false;
+    nextBits = 0;
+  }
+
   protected void addSample() {
     statsValid = false;
     if (useNextBits) {
@@ -26,10 +26,14 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.function.BooleanSupplier;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
 
 import org.springframework.util.Assert;
 
@@ -44,6 +48,8 @@ public class StatArchiveFile {
   private InputStream is;
   private DataInputStream dataIn;
   private ValueFilter[] filters;
+  @GeodeExtension(reason = "Filters matching each type name, so the type check is done once per type instead of once per statistic and instance.")
+  private final Map<String, ValueFilter[]> typeFilters = new HashMap<>();
   private final File archiveName;
   private /* final */ int archiveVersion;
   private /* final */ ArchiveInfo info;
@@ -330,20 +336,35 @@ public class StatArchiveFile {
     }
   }
 
+  @GeodeExtension
+  private ValueFilter[] getTypeFilters(String typeName) {
+    ValueFilter[] result = typeFilters.get(typeName);
+
+    if (result == null) {
+      ArrayList<ValueFilter> l = new ArrayList<>();
+      for (int i = 0; i < filters.length; i++) {
+        if (filters[i].typeMatches(typeName)) {
+          l.add(filters[i]);
+        }
+      }
+      result = l.toArray(new ValueFilter[0]);
+      typeFilters.put(typeName, result);
+    }
+
+    return result;
+  }
+
+  @GeodeImprovement(reason = "Uses the filters matching the type, computed only once per type name.")
   boolean loadType(String typeName) {
     // note we don't have instance data or descriptor data yet
     if (filters == null || filters.length == 0) {
       return true;
     } else {
-      for (int i = 0; i < filters.length; i++) {
-        if (filters[i].typeMatches(typeName)) {
-          return true;
-        }
-      }
-      return false;
+      return getTypeFilters(typeName).length != 0;
     }
   }
 
+  @GeodeImprovement(reason = "Uses the filters matching the type, computed only once per type name.")
   boolean loadStatDescriptor(StatArchiveReader.StatDescriptor stat, StatArchiveReader.ResourceType type) {
     // note we don't have instance data yet
     if (!type.isLoaded()) {
@@ -352,8 +373,9 @@ public class StatArchiveFile {
     if (filters == null || filters.length == 0) {
       return true;
     } else {
-      for (int i = 0; i < filters.length; i++) {
-        if (filters[i].statMatches(stat.getName()) && filters[i].typeMatches(type.getName())) {
+      ValueFilter[] matchingFilters = getTypeFilters(type.getName());
+      for (int i = 0; i < matchingFilters.length; i++) {
+        if (matchingFilters[i].statMatches(stat.getName())) {
           return true;
         }
       }
@@ -362,6 +384,7 @@ public class StatArchiveFile {
     }
   }
 
+  @GeodeImprovement(reason = "Uses the filters matching the type, computed only once per type name.")
   boolean loadInstance(String textId, long numericId, StatArchiveReader.ResourceType type) {
     if (!type.isLoaded()) {
       return false;
@@ -369,15 +392,14 @@ public class StatArchiveFile {
     if (filters == null || filters.length == 0) {
       return true;
     } else {
-      for (int i = 0; i < filters.length; i++) {
-        if (filters[i].typeMatches(type.getName())) {
-          if (filters[i].instanceMatches(textId, numericId)) {
-            StatArchiveReader.StatDescriptor[] stats = type.getStats();
-            for (int j = 0; j < stats.length; j++) {
-              if (stats[j].isLoaded()) {
-                if (filters[i].statMatches(stats[j].getName())) {
-                  return true;
-                }
+      ValueFilter[] matchingFilters = getTypeFilters(type.getName());
+      for (int i = 0; i < matchingFilters.length; i++) {
+        if (matchingFilters[i].instanceMatches(textId, numericId)) {
+          StatArchiveReader.StatDescriptor[] stats = type.getStats();
+          for (int j = 0; j < stats.length; j++) {
+            if (stats[j].isLoaded()) {
+              if (matchingFilters[i].statMatches(stats[j].getName())) {
+                return true;
               }
             }
           }
@@ -387,6 +409,7 @@ public class StatArchiveFile {
     }
   }
 
+  @GeodeImprovement(reason = "Uses the filters matching the type, computed only once per type name.")
   boolean loadStat(StatArchiveReader.StatDescriptor stat, StatArchiveReader.ResourceInst resource) {
     StatArchiveReader.ResourceType type = resource.getType();
     if (!resource.isLoaded() || !type.isLoaded() || !stat.isLoaded()) {
@@ -397,9 +420,10 @@ public class StatArchiveFile {
     } else {
       String textId = resource.getName();
       long numericId = resource.getId();
-      for (int i = 0; i < filters.length; i++) {
-        if (filters[i].statMatches(stat.getName()) && filters[i].typeMatches(type.getName())
-            && filters[i].instanceMatches(textId, numericId)) {
+      ValueFilter[] matchingFilters = getTypeFilters(type.getName());
+      for (int i = 0; i < matchingFilters.length; i++) {
+        if (matchingFilters[i].statMatches(stat.getName())
+            && matchingFilters[i].instanceMatches(textId, numericId)) {
           return true;
         }
       }
@@ -407,6 +431,7 @@ public class StatArchiveFile {
     }
   }
 
+  @GeodeImprovement(reason = "Tokens are registered once fully read, so a token partially written by a running member can be read again by the next update.")
   @GeodeReplacement(changes = "Replaced org.apache.geode.internal.Assert with org.springframework.util.Assert.")
   private void readResourceTypeToken() throws IOException {
     int resourceTypeId = dataIn.readInt();
@@ -434,7 +459,6 @@ public class StatArchiveFile {
             "Not loading ResourceType id=" + resourceTypeId + " name=" + resourceTypeName);
       }
     }
-    resourceTypeTable[resourceTypeId] = rt;
     for (int i = 0; i < statCount; i++) {
       String statName = dataIn.readUTF();
       byte typeCode = dataIn.readByte();
@@ -451,38 +475,25 @@ public class StatArchiveFile {
             + largerBetter + " typeCode=" + typeCode + " units=" + units + " desc=" + desc);
       }
     }
+    resourceTypeTable[resourceTypeId] = rt;
   }
 
+  @GeodeImprovement(reason = "Tokens are registered once fully read, so a token partially written by a running member can be read again by the next update.")
   @GeodeReplacement(changes = { "Replaced org.apache.geode.internal.Assert with org.springframework.util.Assert" , "Replaced LocalizedStrings" })
   private void readResourceInstanceCreateToken(boolean initialize) throws IOException {
     int resourceInstId = dataIn.readInt();
     String name = dataIn.readUTF();
     long id = dataIn.readLong();
     int resourceTypeId = dataIn.readInt();
-    while (resourceInstId >= resourceInstTable.length) {
-      StatArchiveReader.ResourceInst[] tmp = new StatArchiveReader.ResourceInst[resourceInstTable.length + 128];
-      System.arraycopy(resourceInstTable, 0, tmp, 0, resourceInstTable.length);
-      resourceInstTable = tmp;
-    }
-    Assert.isTrue(resourceInstTable[resourceInstId] == null);
-    if ((resourceInstId + 1) > this.resourceInstSize) {
-      this.resourceInstSize = resourceInstId + 1;
-    }
     StatArchiveReader.ResourceType type = resourceTypeTable[resourceTypeId];
     if (type == null) {
       throw new IllegalStateException("ResourceType is missing for resourceTypeId "
           + resourceTypeId + ", resourceName " + name);
     }
-    boolean loadInstance = loadInstance(name, id, resourceTypeTable[resourceTypeId]);
-    resourceInstTable[resourceInstId] = new StatArchiveReader.ResourceInst(this, resourceInstId, name, id,
-        resourceTypeTable[resourceTypeId], loadInstance);
-    if (dump) {
-      System.out.println(
-          (loadInstance ? "Loaded" : "Did not load") + " resource instance " + resourceInstId);
-      System.out.println("  name=" + name + " id=" + id + " typeId=" + resourceTypeId);
-    }
+    long[] initialValues = null;
     if (initialize) {
-      StatArchiveReader.StatDescriptor[] stats = resourceInstTable[resourceInstId].getType().getStats();
+      StatArchiveReader.StatDescriptor[] stats = type.getStats();
+      initialValues = new long[stats.length];
       for (int i = 0; i < stats.length; i++) {
         long v;
         switch (stats[i].getTypeCode()) {
@@ -510,7 +521,29 @@ public class StatArchiveFile {
 //                .toLocalizedString(Byte.valueOf(stats[i].getTypeCode())));
             throw new IOException(String.format("Unexpected typeCode value %s", Byte.valueOf(stats[i].getTypeCode())));
         }
-        resourceInstTable[resourceInstId].initialValue(i, v);
+        initialValues[i] = v;
+      }
+    }
+    while (resourceInstId >= resourceInstTable.length) {
+      StatArchiveReader.ResourceInst[] tmp = new StatArchiveReader.ResourceInst[resourceInstTable.length + 128];
+      System.arraycopy(resourceInstTable, 0, tmp, 0, resourceInstTable.length);
+      resourceInstTable = tmp;
+    }
+    Assert.isTrue(resourceInstTable[resourceInstId] == null);
+    if ((resourceInstId + 1) > this.resourceInstSize) {
+      this.resourceInstSize = resourceInstId + 1;
+    }
+    boolean loadInstance = loadInstance(name, id, type);
+    resourceInstTable[resourceInstId] = new StatArchiveReader.ResourceInst(this, resourceInstId, name, id,
+        type, loadInstance);
+    if (dump) {
+      System.out.println(
+          (loadInstance ? "Loaded" : "Did not load") + " resource instance " + resourceInstId);
+      System.out.println("  name=" + name + " id=" + id + " typeId=" + resourceTypeId);
+    }
+    if (initialize) {
+      for (int i = 0; i < initialValues.length; i++) {
+        resourceInstTable[resourceInstId].initialValue(i, initialValues[i]);
       }
     }
   }
@@ -713,6 +746,530 @@ public class StatArchiveFile {
     this.updateOK = this.dataIn.markSupported();
   }
 
+  @GeodeExtension
+  private static final ValueFilter[] NO_VALUES_FILTER = new ValueFilter[] {
+      new ValueFilter() {
+        @Override
+        public boolean archiveMatches(File archive) {
+          return true;
+        }
+
+        @Override
+        public boolean typeMatches(String typeName) {
+          return false;
+        }
+
+        @Override
+        public boolean statMatches(String statName) {
+          return false;
+        }
+
+        @Override
+        public boolean instanceMatches(String textId, long numericId) {
+          return false;
+        }
+      }
+  };
+
+  @GeodeExtension
+  private final byte[] skipBuffer = new byte[8];
+
+  @GeodeExtension
+  private void skipCompactValue() throws IOException {
+    byte v = dataIn.readByte();
+    if (v < StatArchiveFormat.MIN_1BYTE_COMPACT_VALUE) {
+      int bytesToSkip = (v == StatArchiveFormat.COMPACT_VALUE_2_TOKEN) ? 2 : (v - StatArchiveFormat.COMPACT_VALUE_2_TOKEN) + 2;
+      dataIn.readFully(skipBuffer, 0, bytesToSkip);
+    }
+  }
+
+  /**
+   * Same as {@link #readSampleToken()}, but only the time delta is decoded, the bytes of the sampled values are skipped.
+   */
+  @GeodeExtension
+  private void skipSampleToken() throws IOException {
+    int millisSinceLastSample = readTimeDelta();
+    int resourceInstId = readResourceInstId();
+    while (resourceInstId != StatArchiveFormat.ILLEGAL_RESOURCE_INST_ID) {
+      StatArchiveReader.StatDescriptor[] stats = resourceInstTable[resourceInstId].getType().getStats();
+      int statOffset = dataIn.readUnsignedByte();
+      while (statOffset != StatArchiveFormat.ILLEGAL_STAT_OFFSET) {
+        switch (stats[statOffset].getTypeCode()) {
+          case StatArchiveFormat.BOOLEAN_CODE:
+          case StatArchiveFormat.BYTE_CODE:
+          case StatArchiveFormat.CHAR_CODE:
+            dataIn.readByte();
+            break;
+          case StatArchiveFormat.WCHAR_CODE:
+          case StatArchiveFormat.SHORT_CODE:
+            dataIn.readShort();
+            break;
+          case StatArchiveFormat.INT_CODE:
+          case StatArchiveFormat.FLOAT_CODE:
+          case StatArchiveFormat.LONG_CODE:
+          case StatArchiveFormat.DOUBLE_CODE:
+            skipCompactValue();
+            break;
+          default:
+            throw new IOException(String.format("Unexpected typeCode value %s", Byte.valueOf(stats[statOffset].getTypeCode())));
+        }
+        statOffset = dataIn.readUnsignedByte();
+      }
+      resourceInstId = readResourceInstId();
+    }
+    timeSeries.addTimeStamp(millisSinceLastSample);
+  }
+
+  /**
+   * Reads the whole archive decoding only the structure (resource types and instances) and the time stamps of the samples, the
+   * sampled values are skipped and no statistic is loaded, regardless of the filters used when creating the instance. Meant to be
+   * used instead of {@link #update(boolean)}, on a newly created instance.
+   *
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension(reason = "Types, instances and time stamps can be retrieved without decoding nor storing the sampled values.")
+  public void readStructure() throws IOException {
+    if (this.closed) throw new IllegalStateException("Archive is already closed.");
+    this.filters = NO_VALUES_FILTER;
+
+    while (readStructureToken()) {
+      // Keep reading until the end of the archive.
+    }
+  }
+
+  /**
+   * Same as {@link #readToken()}, but the bytes of the sampled values are skipped.
+   *
+   * @return true if token read, false if eof.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension
+  private boolean readStructureToken() throws IOException {
+    try {
+      byte token = this.dataIn.readByte();
+      switch (token) {
+        case StatArchiveFormat.HEADER_TOKEN:
+          readHeaderToken();
+          break;
+        case StatArchiveFormat.RESOURCE_TYPE_TOKEN:
+          readResourceTypeToken();
+          break;
+        case StatArchiveFormat.RESOURCE_INSTANCE_CREATE_TOKEN:
+          readResourceInstanceCreateToken(false);
+          break;
+        case StatArchiveFormat.RESOURCE_INSTANCE_INITIALIZE_TOKEN:
+          readResourceInstanceCreateToken(true);
+          break;
+        case StatArchiveFormat.RESOURCE_INSTANCE_DELETE_TOKEN:
+          readResourceInstanceDeleteToken();
+          break;
+        case StatArchiveFormat.SAMPLE_TOKEN:
+          skipSampleToken();
+          break;
+        default:
+          throw new IOException(String.format("Unexpected token byte value: %s", Byte.valueOf(token)));
+      }
+      return true;
+    } catch (EOFException ignore) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads only the header of the archive, the rest of the tokens are not touched. Meant to be used instead of
+   * {@link #update(boolean)}, on a newly created instance.
+   *
+   * @return The information about the archive and the system that recorded it.
+   * @throws IOException If the archive could not be read, or if it doesn't start with a header.
+   */
+  @GeodeExtension(reason = "Archives can be grouped by the system that recorded them without reading the samples.")
+  public ArchiveInfo readArchiveInfo() throws IOException {
+    if (this.closed) throw new IllegalStateException("Archive is already closed.");
+
+    byte token = this.dataIn.readByte();
+    if (token != StatArchiveFormat.HEADER_TOKEN) throw new IOException(String.format("Unexpected token byte value: %s", Byte.valueOf(token)));
+    readHeaderToken();
+
+    return this.info;
+  }
+
+  /**
+   * Reads the whole archive through {@link #readStructure()}.
+   *
+   * @return The time stamps (millis since midnight, Jan 1, 1970 UTC) of all samples found within the archive.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension(reason = "Time stamps can be retrieved without decoding nor storing the sampled values.")
+  public long[] readTimeStamps() throws IOException {
+    readStructure();
+
+    return getMilliTimeStamps();
+  }
+
+  /**
+   * @return The time stamps (millis since midnight, Jan 1, 1970 UTC) of the samples read so far.
+   */
+  @GeodeExtension
+  public long[] getMilliTimeStamps() {
+    long[] timeStamps = new long[timeSeries.getSize()];
+    for (int i = 0; i < timeStamps.length; i++) timeStamps[i] = timeSeries.getMilliTimeStamp(i);
+
+    return timeStamps;
+  }
+
+  /**
+   * Same as {@link #update(boolean)}, but stops reading the archive as soon as a sample taken at or after the given time stamp
+   * is loaded. The archive has no index, so tokens are still read sequentially, but the samples taken after the searched instant
+   * are never decoded.
+   *
+   * @param timeStamp Time stamp (millis since midnight, Jan 1, 1970 UTC) after which no more samples are needed.
+   * @return true if update read some new data.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension(reason = "Point in time queries don't need the samples taken after the searched instant.")
+  public boolean updateUntil(long timeStamp) throws IOException {
+    if (this.closed) return false;
+
+    int updateTokenCount = 0;
+    while (this.readToken()) {
+      updateTokenCount++;
+      if (isSampledAtOrAfter(timeStamp)) break;
+    }
+
+    return updateTokenCount != 0;
+  }
+
+  @GeodeExtension
+  private boolean isSampledAtOrAfter(long timeStamp) {
+    int samples = timeSeries.getSize();
+
+    return (samples != 0) && (timeSeries.getMilliTimeStamp(samples - 1) >= timeStamp);
+  }
+
+  /**
+   * Reads one token, returns true if token read, false if eof.
+   */
+  @GeodeExtension
+  @FunctionalInterface
+  private interface TokenReader {
+    boolean read() throws IOException;
+  }
+
+  /**
+   * Same as {@link #update(boolean)}, but the archive is read as far as possible when damaged. A token that can't be decoded is
+   * discarded, along with the bytes following it up to the next plausible token boundary: a byte holding a token type whose
+   * contents are consistent with the types and instances read so far, and which is followed by the end of the archive or by
+   * another token (also plausible, if the first one is a sample). Truncated archives are read up to the last complete token,
+   * and compressed archives up to the first block that can't be inflated.
+   * <p>
+   * Values and time stamps are written as deltas, so those read after a damaged region are relative to the last sample read
+   * before it.
+   *
+   * @return The amount of bytes skipped while resynchronizing, 0 if no damaged region was found.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension(reason = "Archives left damaged by a crashed member can be read before and after the damaged regions.")
+  public long salvage() throws IOException {
+    if (this.closed) return 0;
+
+    return salvage(this::readToken, () -> false);
+  }
+
+  /**
+   * Same as {@link #updateUntil(long)}, but damaged regions are skipped as in {@link #salvage()}.
+   *
+   * @param timeStamp Time stamp (millis since midnight, Jan 1, 1970 UTC) after which no more samples are needed.
+   * @return The amount of bytes skipped while resynchronizing, 0 if no damaged region was found.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension(reason = "Point in time queries can be answered from damaged archives.")
+  public long salvageUntil(long timeStamp) throws IOException {
+    if (this.closed) return 0;
+
+    return salvage(this::readToken, () -> isSampledAtOrAfter(timeStamp));
+  }
+
+  /**
+   * Same as {@link #readStructure()}, but damaged regions are skipped as in {@link #salvage()}.
+   *
+   * @return The amount of bytes skipped while resynchronizing, 0 if no damaged region was found.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension(reason = "Types, instances and time stamps can be retrieved from damaged archives.")
+  public long salvageStructure() throws IOException {
+    if (this.closed) throw new IllegalStateException("Archive is already closed.");
+    this.filters = NO_VALUES_FILTER;
+
+    return salvage(this::readStructureToken, () -> false);
+  }
+
+  /**
+   * Tokens are decoded directly until the first one that can't be decoded. From then on the contents of every type and instance
+   * token are checked before decoding it, and the contents of every token are checked while resynchronizing.
+   *
+   * @param tokenReader Decodes the next token.
+   * @param finished Whether enough tokens have been read, checked after every token decoded.
+   * @return The amount of bytes skipped while resynchronizing.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension
+  private long salvage(TokenReader tokenReader, BooleanSupplier finished) throws IOException {
+    long skippedBytes = 0;
+    boolean damaged = false;
+    boolean resynchronizing = false;
+
+    try {
+      while (true) {
+        this.dataIn.mark(BUFFER_SIZE);
+        int token = this.dataIn.read();
+        if (token == -1) break;
+
+        // Nothing can be read without the header, errors found before it are not salvaged.
+        if (this.info == null) {
+          this.dataIn.reset();
+          if (!tokenReader.read()) break;
+          continue;
+        }
+
+        // Sample tokens can't grow the tables, so they're decoded directly unless the previous token was damaged.
+        boolean plausible;
+        if (resynchronizing) {
+          plausible = isPlausibleToken(token, 1);
+        } else if (damaged) {
+          plausible = (token == StatArchiveFormat.SAMPLE_TOKEN) || isPlausibleToken(token, 0);
+        } else {
+          plausible = isPlausibleIdentifier(token);
+        }
+        this.dataIn.reset();
+
+        if (plausible) {
+          try {
+            if (!tokenReader.read() || finished.getAsBoolean()) break;
+            resynchronizing = false;
+            continue;
+          } catch (ZipException zipException) {
+            throw zipException;
+          } catch (IOException | RuntimeException exception) {
+            discardValueSamples();
+            this.dataIn.reset();
+          }
+        }
+
+        this.dataIn.read();
+        skippedBytes++;
+        damaged = true;
+        resynchronizing = true;
+      }
+    } catch (EOFException | ZipException exception) {
+      // Truncated token or compressed block, everything read so far is kept.
+    }
+
+    return skippedBytes;
+  }
+
+  @GeodeExtension
+  private void discardValueSamples() {
+    for (int i = 0; i < resourceInstSize; i++) {
+      if (resourceInstTable[i] != null) {
+        resourceInstTable[i].discardValueSamples();
+      }
+    }
+  }
+
+  /**
+   * Reads the contents of a token without registering nor loading anything, along with the type of the token following it.
+   *
+   * @param token Type of the token, already read.
+   * @param followingTokens Amount of tokens following a sample token whose contents should be plausible as well.
+   * @return true if the token is consistent with the types and instances read so far, and followed by another token or by the
+   * end of the archive.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension
+  private boolean isPlausibleToken(int token, int followingTokens) throws IOException {
+    try {
+      boolean plausible;
+      switch (token) {
+        case StatArchiveFormat.RESOURCE_TYPE_TOKEN:
+          plausible = isPlausibleResourceTypeToken();
+          break;
+        case StatArchiveFormat.RESOURCE_INSTANCE_CREATE_TOKEN:
+          plausible = isPlausibleResourceInstanceCreateToken(false);
+          break;
+        case StatArchiveFormat.RESOURCE_INSTANCE_INITIALIZE_TOKEN:
+          plausible = isPlausibleResourceInstanceCreateToken(true);
+          break;
+        case StatArchiveFormat.RESOURCE_INSTANCE_DELETE_TOKEN:
+          plausible = isActiveResourceInstance(dataIn.readInt());
+          break;
+        case StatArchiveFormat.SAMPLE_TOKEN:
+          plausible = isPlausibleSampleToken();
+          break;
+        default:
+          plausible = false;
+      }
+
+      if (!plausible) return false;
+      int nextToken = dataIn.read();
+      if (nextToken == -1) return true;
+      if ((nextToken < StatArchiveFormat.SAMPLE_TOKEN) || (nextToken > StatArchiveFormat.RESOURCE_INSTANCE_INITIALIZE_TOKEN)) return false;
+
+      // Samples don't change the tables, so the tokens following them can be checked as well.
+      return (followingTokens == 0) || (token != StatArchiveFormat.SAMPLE_TOKEN) || isPlausibleToken(nextToken, followingTokens - 1);
+    } catch (EOFException | ZipException exception) {
+      throw exception;
+    } catch (IOException | RuntimeException exception) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads the identifier of a type or instance token without registering anything.
+   *
+   * @param token Type of the token, already read.
+   * @return false if the token would grow the tables by more than one step, true otherwise.
+   * @throws IOException If the archive could not be read.
+   */
+  @GeodeExtension
+  private boolean isPlausibleIdentifier(int token) throws IOException {
+    switch (token) {
+      case StatArchiveFormat.RESOURCE_TYPE_TOKEN:
+        int resourceTypeId = dataIn.readInt();
+        return (resourceTypeId >= 0) && (resourceTypeId < resourceTypeTable.length + 128);
+      case StatArchiveFormat.RESOURCE_INSTANCE_CREATE_TOKEN:
+      case StatArchiveFormat.RESOURCE_INSTANCE_INITIALIZE_TOKEN:
+        int resourceInstId = dataIn.readInt();
+        return (resourceInstId >= 0) && (resourceInstId < resourceInstTable.length + 128);
+      default:
+        return true;
+    }
+  }
+
+  @GeodeExtension
+  private boolean isPlausibleResourceTypeToken() throws IOException {
+    // Identifiers are sequential, tables are never grown by more than one step.
+    int resourceTypeId = dataIn.readInt();
+    if ((resourceTypeId < 0) || (resourceTypeId >= resourceTypeTable.length + 128)) return false;
+    if ((resourceTypeId < resourceTypeTable.length) && (resourceTypeTable[resourceTypeId] != null)) return false;
+
+    dataIn.readUTF();
+    dataIn.readUTF();
+    int statCount = dataIn.readUnsignedShort();
+    for (int i = 0; i < statCount; i++) {
+      dataIn.readUTF();
+      if (!isValidTypeCode(dataIn.readByte())) return false;
+      if (dataIn.readUnsignedByte() > 1) return false;
+      if ((this.archiveVersion >= 4) && (dataIn.readUnsignedByte() > 1)) return false;
+      dataIn.readUTF();
+      dataIn.readUTF();
+    }
+
+    return true;
+  }
+
+  @GeodeExtension
+  private boolean isPlausibleResourceInstanceCreateToken(boolean initialize) throws IOException {
+    int resourceInstId = dataIn.readInt();
+    if ((resourceInstId < 0) || (resourceInstId >= resourceInstTable.length + 128)) return false;
+    if ((resourceInstId < resourceInstTable.length) && (resourceInstTable[resourceInstId] != null)) return false;
+
+    dataIn.readUTF();
+    dataIn.readLong();
+    int resourceTypeId = dataIn.readInt();
+    if ((resourceTypeId < 0) || (resourceTypeId >= resourceTypeTable.length) || (resourceTypeTable[resourceTypeId] == null)) return false;
+
+    if (initialize) {
+      StatArchiveReader.StatDescriptor[] stats = resourceTypeTable[resourceTypeId].getStats();
+      for (int i = 0; i < stats.length; i++) {
+        if (!isPlausibleValue(stats[i].getTypeCode())) return false;
+      }
+    }
+
+    return true;
+  }
+
+  @GeodeExtension
+  private boolean isPlausibleSampleToken() throws IOException {
+    if (readTimeDelta() <= 0) return false;
+
+    int resourceInstId = readResourceInstId();
+    while (resourceInstId != StatArchiveFormat.ILLEGAL_RESOURCE_INST_ID) {
+      if (!isActiveResourceInstance(resourceInstId)) return false;
+
+      // Changed values are written in the same order as the statistics were declared.
+      int previousStatOffset = -1;
+      StatArchiveReader.StatDescriptor[] stats = resourceInstTable[resourceInstId].getType().getStats();
+      int statOffset = dataIn.readUnsignedByte();
+      while (statOffset != StatArchiveFormat.ILLEGAL_STAT_OFFSET) {
+        if ((statOffset <= previousStatOffset) || (statOffset >= stats.length)) return false;
+        if (!isPlausibleValue(stats[statOffset].getTypeCode())) return false;
+        previousStatOffset = statOffset;
+        statOffset = dataIn.readUnsignedByte();
+      }
+
+      resourceInstId = readResourceInstId();
+    }
+
+    return true;
+  }
+
+  @GeodeExtension
+  private boolean isActiveResourceInstance(int resourceInstId) {
+    return (resourceInstId >= 0) && (resourceInstId < resourceInstSize)
+        && (resourceInstTable[resourceInstId] != null) && (resourceInstTable[resourceInstId].isActive());
+  }
+
+  @GeodeExtension
+  private boolean isValidTypeCode(byte typeCode) {
+    switch (typeCode) {
+      case StatArchiveFormat.BOOLEAN_CODE:
+      case StatArchiveFormat.BYTE_CODE:
+      case StatArchiveFormat.CHAR_CODE:
+      case StatArchiveFormat.WCHAR_CODE:
+      case StatArchiveFormat.SHORT_CODE:
+      case StatArchiveFormat.INT_CODE:
+      case StatArchiveFormat.FLOAT_CODE:
+      case StatArchiveFormat.LONG_CODE:
+      case StatArchiveFormat.DOUBLE_CODE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @GeodeExtension
+  private boolean isPlausibleValue(byte typeCode) throws IOException {
+    switch (typeCode) {
+      case StatArchiveFormat.BOOLEAN_CODE:
+      case StatArchiveFormat.BYTE_CODE:
+      case StatArchiveFormat.CHAR_CODE:
+        dataIn.readByte();
+        return true;
+      case StatArchiveFormat.WCHAR_CODE:
+      case StatArchiveFormat.SHORT_CODE:
+        dataIn.readShort();
+        return true;
+      case StatArchiveFormat.INT_CODE:
+      case StatArchiveFormat.FLOAT_CODE:
+      case StatArchiveFormat.LONG_CODE:
+      case StatArchiveFormat.DOUBLE_CODE:
+        skipCompactValue();
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @return The time stamp (millis since midnight, Jan 1, 1970 UTC) of the last sample read so far, or -1 if none was read.
+   */
+  @GeodeExtension(reason = "Archives still being written are summarized over the samples taken before the last one read.")
+  public long getLastTimeStamp() {
+    int samples = timeSeries.getSize();
+
+    return samples == 0 ? -1 : timeSeries.getMilliTimeStamp(samples - 1);
+  }
+
   @GeodeExtension
   public boolean isCompressed() {
     return this.compressed;
@@ -722,4 +1279,9 @@ public class StatArchiveFile {
   public StatArchiveReader.ResourceInst[] getResourceInstancesTable() {
     return this.resourceInstTable;
   }
+
+  @GeodeExtension
+  public StatArchiveReader.ResourceType[] getResourceTypesTable() {
+    return this.resourceTypeTable;
+  }
 }
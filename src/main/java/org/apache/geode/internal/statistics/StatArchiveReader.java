@@ -17,15 +17,18 @@ package org.apache.geode.internal.statistics;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.text.NumberFormat;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.util.Assert;
 
+import org.apache.geode.support.domain.marker.GeodeExtension;
 import org.apache.geode.support.domain.marker.GeodeReplacement;
 
 /**
@@ -43,6 +46,8 @@ public class StatArchiveReader implements StatArchiveFormat {
   private final StatArchiveFile[] archives;
   private boolean dump;
   private boolean closed = false;
+  @GeodeExtension(reason = "Lookups through the ResourceInstList should not scan every archive.")
+  private volatile int[] resourceInstOffsets = new int[] {0};
 
   /**
    * Creates a StatArchiveReader that will read the named archive file.
@@ -106,7 +111,7 @@ public class StatArchiveReader implements StatArchiveFormat {
   /**
    * Checks to see if any archives have changed since the StatArchiverReader instance was created or
    * last updated. If an archive has additional samples then those are read the resource instances
-   * maintained by the reader are updated.
+   * maintained by the reader are updated. Archives are updated in parallel when the reader contains more than one.
    * <p>
    * Once closed a reader can no longer be updated.
    *
@@ -117,24 +122,68 @@ public class StatArchiveReader implements StatArchiveFormat {
     return update(true, false);
   }
 
+  @GeodeReplacement(changes = "Archives are updated in parallel, and the resource instances index is rebuilt afterwards.")
   private boolean update(boolean doReset, boolean autoClose) throws IOException {
     if (this.closed) {
       return false;
     }
     boolean result = false;
     StatArchiveFile[] archives = getArchives();
-    for (int i = 0; i < archives.length; i++) {
-      StatArchiveFile f = archives[i];
-      if (f.update(doReset)) {
-        result = true;
-      }
-      if (autoClose) {
-        f.close();
+
+    try {
+      // Archives don't share any state, dumping is the only thing that must be kept in order.
+      if (archives.length < 2 || this.dump) {
+        for (int i = 0; i < archives.length; i++) {
+          if (updateArchive(archives[i], doReset, autoClose)) {
+            result = true;
+          }
+        }
+      } else {
+        result = Arrays.stream(archives).parallel()
+            .map(f -> {
+              try {
+                return updateArchive(f, doReset, autoClose);
+              } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+              }
+            })
+            .reduce(false, Boolean::logicalOr);
       }
+    } catch (UncheckedIOException uncheckedIOException) {
+      throw uncheckedIOException.getCause();
+    } finally {
+      indexResourceInsts();
+    }
+
+    return result;
+  }
+
+  @GeodeExtension(reason = "Extracted from update(boolean, boolean) so it can be executed in parallel.")
+  private static boolean updateArchive(StatArchiveFile archive, boolean doReset, boolean autoClose) throws IOException {
+    boolean result = archive.update(doReset);
+    if (autoClose) {
+      archive.close();
     }
+
     return result;
   }
 
+  /**
+   * Rebuilds the prefix sums of the resource instances held by each archive, position i contains the index within the
+   * {@link ResourceInstList} of the first resource instance from archive i, and the last position contains the total.
+   * Must be invoked whenever an archive changes its resource instances table (update and close).
+   */
+  @GeodeExtension(reason = "Lookups through the ResourceInstList should not scan every archive.")
+  private void indexResourceInsts() {
+    StatArchiveFile[] archives = getArchives();
+    int[] offsets = new int[archives.length + 1];
+    for (int i = 0; i < archives.length; i++) {
+      offsets[i + 1] = offsets[i] + archives[i].resourceInstSize;
+    }
+
+    this.resourceInstOffsets = offsets;
+  }
+
   /**
    * Returns an unmodifiable list of all the {@link ResourceInst} this reader contains.
    */
@@ -157,6 +206,7 @@ public class StatArchiveReader implements StatArchiveFormat {
         f.close();
       }
       this.closed = true;
+      indexResourceInsts();
     }
   }
 
@@ -221,6 +271,7 @@ public class StatArchiveReader implements StatArchiveFormat {
     reader.close();
   }
 
+  @GeodeReplacement(changes = "Lookups use the resource instances index instead of scanning the archives.")
   private class ResourceInstList extends AbstractList {
     protected ResourceInstList() {
       // nothing needed.
@@ -228,26 +279,28 @@ public class StatArchiveReader implements StatArchiveFormat {
 
     @Override
     public Object get(int idx) {
-      int archiveIdx = 0;
-      StatArchiveFile[] archives = getArchives();
-      for (int i = 0; i < archives.length; i++) {
-        StatArchiveFile f = archives[i];
-        if (idx < (archiveIdx + f.resourceInstSize)) {
-          return f.resourceInstTable[idx - archiveIdx];
+      int[] offsets = resourceInstOffsets;
+      if (idx < 0 || idx >= offsets[offsets.length - 1]) {
+        return null;
+      }
+
+      // Last archive whose first index is lower or equal than idx, empty archives share offsets with the next one.
+      int archiveIdx = Arrays.binarySearch(offsets, idx);
+      if (archiveIdx < 0) {
+        archiveIdx = -archiveIdx - 2;
+      } else {
+        while (archiveIdx + 1 < offsets.length && offsets[archiveIdx + 1] == idx) {
+          archiveIdx++;
         }
-        archiveIdx += f.resourceInstSize;
       }
-      return null;
+
+      return getArchives()[archiveIdx].resourceInstTable[idx - offsets[archiveIdx]];
     }
 
     @Override
     public int size() {
-      int result = 0;
-      StatArchiveFile[] archives = getArchives();
-      for (int i = 0; i < archives.length; i++) {
-        result += archives[i].resourceInstSize;
-      }
-      return result;
+      int[] offsets = resourceInstOffsets;
+      return offsets[offsets.length - 1];
     }
   }
 
@@ -459,10 +512,11 @@ public class StatArchiveReader implements StatArchiveFormat {
     }
 
     @Override
+    @GeodeReplacement(changes = "The first value added must follow the last one of the interval, a run starting at the last value was merged shifted by one interval.")
     boolean attemptAdd(long addBits, long addInterval, int addCount) {
       // addCount >= 2; count >= 2
       if (addInterval == getInterval()) {
-        if (addBits == (getBits() + (addInterval * (count - 1)))) {
+        if (addBits == (getBits() + (addInterval * count))) {
           count += addCount;
           return true;
         }
@@ -1376,6 +1430,20 @@ public class StatArchiveReader implements StatArchiveFormat {
       }
     }
 
+    /**
+     * Discards the values prepared by {@link #addValueSample(int, long)} since the last time stamp was added.
+     */
+    @GeodeExtension(reason = "Sample tokens that couldn't be fully decoded are discarded when salvaging an archive.")
+    protected void discardValueSamples() {
+      if (this.values != null) {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] != null) {
+            values[i].discardNextBits();
+          }
+        }
+      }
+    }
+
     public boolean isLoaded() {
       return this.loaded;
     }
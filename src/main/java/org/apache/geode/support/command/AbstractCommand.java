@@ -75,7 +75,7 @@ public abstract class AbstractCommand<T>  {
    * @param parsingResults The list of parsing results returned by the service layer.
    * @return The errors Table, or null if no errors happened while parsing the files.
    */
-  Table buildErrorsTable(Path sourcePath, List<ParsingResult<T>> parsingResults) {
+  protected Table buildErrorsTable(Path sourcePath, List<ParsingResult<T>> parsingResults) {
     Table errorsTable = null;
     TableModelBuilder<String> errorsModelBuilder = new TableModelBuilder<String>().addRow().addValue("File Name").addValue("Error Description");
 
@@ -96,6 +96,30 @@ public abstract class AbstractCommand<T>  {
     return errorsTable;
   }
 
+  /**
+   * Builds the Warnings Table, containing the files successfully parsed despite being damaged.
+   *
+   * @param sourcePath The original sourcePath used to scan for statistics to parse.
+   * @param parsingResults The list of parsing results returned by the service layer.
+   * @return The warnings Table, or null if every file was parsed without warnings.
+   */
+  protected Table buildWarningsTable(Path sourcePath, List<ParsingResult<T>> parsingResults) {
+    Table warningsTable = null;
+    TableModelBuilder<String> warningsModelBuilder = new TableModelBuilder<String>().addRow().addValue("File Name").addValue("Warning Description");
+
+    parsingResults.stream()
+        .filter(ParsingResult::isSuccess)
+        .filter(ParsingResult::hasWarning)
+        .forEach(parsingResult -> warningsModelBuilder.addRow()
+            .addValue(FormatUtils.relativizePath(sourcePath, parsingResult.getFile()))
+            .addValue(parsingResult.getWarning()));
+
+    TableBuilder warningsTableBuilder = new TableBuilder(warningsModelBuilder.build());
+    if (warningsTableBuilder.getModel().getRowCount() > 1) warningsTable = warningsTableBuilder.addFullBorder(borderStyle).build();
+
+    return warningsTable;
+  }
+
   /**
    * Checks whether a certain time interval contains the specific date and time.
    *
@@ -31,7 +31,7 @@ public abstract class ExportableCommand<T> extends AbstractCommand {
     throw new IllegalArgumentException(String.format("No exporter found for extension %s", fileExtension));
   }
 
-  void exportResultsTable(Table resultTable, File targetFile, List<Object> commandResult) {
+  protected void exportResultsTable(Table resultTable, File targetFile, List<Object> commandResult) {
     // Do nothing.
     if ((targetFile == null) || (resultTable == null)) return;
 
@@ -52,6 +52,8 @@ public abstract class ExportableCommand<T> extends AbstractCommand {
     @SuppressWarnings("unchecked") Table errorsTable = buildErrorsTable(sourcePath, parsingResults);
     if (resultsTable != null) commandResult.add(resultsTable);
     if (errorsTable != null) commandResult.add(errorsTable);
+    @SuppressWarnings("unchecked") Table warningsTable = buildWarningsTable(sourcePath, parsingResults);
+    if (warningsTable != null) commandResult.add(warningsTable);
 
     exportResultsTable(resultsTable, outputFile, commandResult);
   }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.TimeGrid;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+/**
+ * Base class for the commands comparing a target statistic against a (potentially huge) set of candidate statistics, all of them
+ * resampled on the same time grid.
+ */
+abstract class AbstractCorrelationCommand extends ExportableCommand {
+  protected StatisticsService statisticsService;
+
+  /**
+   * Minimum interval, in milliseconds, between two consecutive points of the time grid (default statistic-sample-rate).
+   */
+  static final long MINIMUM_STEP = 1000;
+
+  /**
+   * Maximum amount of points of the time grid, bounds the memory used per resampled statistic.
+   */
+  static final int MAXIMUM_POINTS = 1000;
+
+  /**
+   * Amount of candidates resampled and correlated at once on a time grid of {@link #MAXIMUM_POINTS}, bounds the memory used by the
+   * whole command. Finer time grids use proportionally smaller chunks.
+   */
+  static final int CHUNK_SIZE = 1024;
+
+  /**
+   * Minimum fraction of the time grid a candidate should cover to be taken into account.
+   */
+  static final double MINIMUM_COVERAGE = 0.5;
+
+  /**
+   * Statistic found within a parsed file, to be compared against the target.
+   */
+  static class Candidate {
+    final String filePath;
+    final String statisticId;
+    final Statistic statistic;
+
+    Candidate(String filePath, String statisticId, Statistic statistic) {
+      this.filePath = filePath;
+      this.statisticId = statisticId;
+      this.statistic = statistic;
+    }
+  }
+
+  /**
+   * Receives the resampled values of a chunk of candidates.
+   */
+  @FunctionalInterface
+  interface ChunkConsumer {
+
+    /**
+     * @param indexes Position, within the full list of candidates, of each resampled series.
+     * @param values Resampled values of the candidates covering enough of the time grid.
+     */
+    void accept(int[] indexes, double[][] values);
+  }
+
+  AbstractCorrelationCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService);
+    this.statisticsService = statisticsService;
+  }
+
+  boolean matches(ValueFilter filter, String categoryName, String statisticName) {
+    String typeName = StringUtils.substringBefore(categoryName, "[");
+    String instanceName = StringUtils.substringBetween(categoryName, "[", "]");
+
+    return filter.typeMatches(typeName) && filter.instanceMatches(instanceName == null ? "" : instanceName, -1) && filter.statMatches(statisticName);
+  }
+
+  /**
+   * Estimates the clock skew of every member, using the default cluster-wide events, and applies the correction to all the statistics
+   * parsed from the matching file, so they can be aligned on the same time grid. Members for which the skew can't be estimated are
+   * left untouched.
+   *
+   * @param sourcePath The path used by the user.
+   * @param parsingResults The parsing results to correct.
+   */
+  void alignClocks(Path sourcePath, List<ParsingResult<Sampling>> parsingResults) {
+    RegexValueFilter eventsFilter = new RegexValueFilter(ShowStatisticsClockSkewCommand.DEFAULT_EVENTS_CATEGORY, null, ShowStatisticsClockSkewCommand.DEFAULT_EVENTS_STATISTIC, null);
+    long maximumSkew = FormatUtils.parseDuration(ShowStatisticsClockSkewCommand.DEFAULT_MAXIMUM_SKEW).toMillis();
+    Map<Path, ClockSkew> clockSkews = statisticsService.estimateClockSkews(sourcePath, Collections.singletonList(eventsFilter), maximumSkew).stream()
+        .filter(ParsingResult::isSuccess)
+        .collect(Collectors.toMap(ParsingResult::getFile, ParsingResult::getData));
+
+    parsingResults.stream()
+        .filter(ParsingResult::isSuccess)
+        .forEach(parsingResult -> {
+          ClockSkew clockSkew = clockSkews.get(parsingResult.getFile());
+          if ((clockSkew != null) && (clockSkew.isEstimated())) parsingResult.getData().setTimeOffset(clockSkew.getOffset());
+        });
+  }
+
+  /**
+   * Splits the statistics from the successfully parsed files into targets and candidates, in file order.
+   * Constant statistics can't be correlated, so they're never added as candidates.
+   *
+   * @param sourcePath The path used by the user, file paths are shown relative to it.
+   * @param parsingResults The parsing results.
+   * @param targetFilter Filter matching the target statistics.
+   * @param candidatesFilter Filter matching the candidate statistics.
+   * @param targets List where the target statistics will be added.
+   * @param candidates List where the candidate statistics will be added.
+   */
+  void collectStatistics(Path sourcePath, List<ParsingResult<Sampling>> parsingResults, ValueFilter targetFilter, ValueFilter candidatesFilter, List<Statistic> targets, List<Candidate> candidates) {
+    parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+
+    parsingResults.stream()
+        .filter(ParsingResult::isSuccess)
+        .forEach(parsingResult -> {
+          String filePath = FormatUtils.relativizePath(sourcePath, parsingResult.getFile());
+
+          parsingResult.getData().getCategories().forEach((categoryName, category) ->
+            category.getStatistics().forEach((statisticName, statistic) -> {
+              statistic.setFilter(Statistic.Filter.None);
+
+              if (matches(targetFilter, categoryName, statisticName)) {
+                targets.add(statistic);
+              } else if ((matches(candidatesFilter, categoryName, statisticName)) && (statistic.getMinimum() != statistic.getMaximum())) {
+                candidates.add(new Candidate(filePath, categoryName.concat(".").concat(statisticName), statistic));
+              }
+            })
+          );
+        });
+  }
+
+  /**
+   * Adds together the resampled values of all statistics matching the target, so there's a single (cluster level) series.
+   *
+   * @param resampledTargets Resampled values of the statistics matching the target.
+   * @param points Amount of points of the time grid.
+   * @return The cluster level target series, {@link Double#NaN} is used for grid points not covered by any target.
+   */
+  double[] sumTargets(double[][] resampledTargets, int points) {
+    double[] result = new double[points];
+    Arrays.fill(result, Double.NaN);
+
+    for (double[] values : resampledTargets) {
+      for (int i = 0; i < points; i++) {
+        if (!Double.isNaN(values[i])) result[i] = Double.isNaN(result[i]) ? values[i] : result[i] + values[i];
+      }
+    }
+
+    return result;
+  }
+
+  double[] resampleTargets(List<Statistic> targets, TimeGrid timeGrid) {
+    return sumTargets(statisticsService.resample(targets, timeGrid.getStartTime(), timeGrid.getStep(), timeGrid.getPoints()), timeGrid.getPoints());
+  }
+
+  boolean hasEnoughCoverage(double[] values) {
+    long validPoints = Arrays.stream(values).filter(value -> !Double.isNaN(value)).count();
+
+    return validPoints >= (values.length * MINIMUM_COVERAGE);
+  }
+
+  /**
+   * @param timeGrid The time grid on which the candidates are resampled.
+   * @return Amount of candidates to resample at once, so no more than {@link #CHUNK_SIZE} series of {@link #MAXIMUM_POINTS} points are
+   *         kept in memory.
+   */
+  int getChunkSize(TimeGrid timeGrid) {
+    return (int) Math.max(1, ((long) CHUNK_SIZE * MAXIMUM_POINTS) / Math.max(MAXIMUM_POINTS, timeGrid.getPoints()));
+  }
+
+  /**
+   * Resamples the candidates chunk by chunk, so only {@link #getChunkSize(TimeGrid)} resampled series are kept in memory at any
+   * given time.
+   *
+   * @param timeGrid The time grid on which the candidates should be resampled.
+   * @param candidates The candidates to resample.
+   * @param consumer Invoked once per chunk, with the candidates covering enough of the time grid.
+   */
+  void resampleCandidates(TimeGrid timeGrid, List<Candidate> candidates, ChunkConsumer consumer) {
+    int chunkSize = getChunkSize(timeGrid);
+
+    for (int chunkStart = 0; chunkStart < candidates.size(); chunkStart += chunkSize) {
+      int offset = chunkStart;
+      List<Candidate> chunk = candidates.subList(chunkStart, Math.min(candidates.size(), chunkStart + chunkSize));
+      List<Statistic> statistics = chunk.stream().map(candidate -> candidate.statistic).collect(Collectors.toList());
+      double[][] resampled = statisticsService.resample(statistics, timeGrid.getStartTime(), timeGrid.getStep(), timeGrid.getPoints());
+
+      int[] covered = IntStream.range(0, chunk.size()).filter(index -> hasEnoughCoverage(resampled[index])).toArray();
+      double[][] coveredValues = Arrays.stream(covered).mapToObj(index -> resampled[index]).toArray(double[][]::new);
+      consumer.accept(Arrays.stream(covered).map(index -> index + offset).toArray(), coveredValues);
+    }
+  }
+}
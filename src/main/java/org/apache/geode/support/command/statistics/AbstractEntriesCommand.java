@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+/**
+ * Base class for the commands showing, within a single table, the entries found by the service layer on every parsed file.
+ */
+abstract class AbstractEntriesCommand extends ExportableCommand {
+  protected StatisticsService statisticsService;
+
+  /**
+   * Entry found within a parsed file.
+   */
+  static class Entry<T> {
+    final String filePath;
+    final T data;
+
+    Entry(String filePath, T data) {
+      this.filePath = filePath;
+      this.data = data;
+    }
+  }
+
+  /**
+   * Adds the values of an entry to its row within the results table.
+   */
+  @FunctionalInterface
+  interface RowWriter<T> {
+
+    /**
+     * @param row The results table, with the row for the entry already added.
+     * @param entry The entry to write.
+     */
+    void write(TableModelBuilder<String> row, Entry<T> entry);
+  }
+
+  AbstractEntriesCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService);
+    this.statisticsService = statisticsService;
+  }
+
+  List<ValueFilter> buildFilters(String categoryId, String instanceId, String statisticId) {
+    return Collections.singletonList(new RegexValueFilter(categoryId, instanceId, statisticId, null));
+  }
+
+  String formatTimeStamp(long timeStamp, ZoneId zoneId) {
+    ZoneId formattingZoneId = zoneId != null ? zoneId : ZoneId.systemDefault();
+
+    return ZonedDateTime.ofInstant(Instant.ofEpochMilli(timeStamp), formattingZoneId).format(FormatUtils.getDateTimeFormatter());
+  }
+
+  /**
+   * Collects the entries from the successfully parsed files, in file order, and builds the command result.
+   *
+   * @param sourcePath The path used by the user, file paths are shown relative to it.
+   * @param parsingResults The parsing results returned by the service layer.
+   * @param headers The name of each column.
+   * @param order The order in which the entries are shown.
+   * @param limit Maximum amount of entries to show.
+   * @param rowWriter Adds the values of each entry to the results table.
+   * @param outputFile File to which the results table should be exported, or null.
+   * @return The command result: results table, errors table and export message, or a message when there's nothing to show.
+   */
+  <T> List<Object> buildEntriesResult(Path sourcePath, List<ParsingResult<List<T>>> parsingResults, List<String> headers, Comparator<Entry<T>> order, long limit, RowWriter<T> rowWriter, File outputFile) {
+    List<Object> commandResult = new ArrayList<>();
+
+    if (parsingResults.isEmpty()) {
+      commandResult.add("No statistics files found.");
+      return commandResult;
+    }
+
+    List<Entry<T>> entries = new ArrayList<>();
+    parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+
+    parsingResults.stream()
+        .filter(ParsingResult::isSuccess)
+        .forEach(parsingResult -> {
+          String filePath = FormatUtils.relativizePath(sourcePath, parsingResult.getFile());
+          parsingResult.getData().forEach(data -> entries.add(new Entry<>(filePath, data)));
+        });
+
+    TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+    resultsModelBuilder.addRow();
+    headers.forEach(resultsModelBuilder::addValue);
+
+    entries.stream()
+        .sorted(order)
+        .limit(limit)
+        .forEach(entry -> rowWriter.write(resultsModelBuilder.addRow(), entry));
+
+    buildCommandResult(sourcePath, parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+    if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+
+    return commandResult;
+  }
+}
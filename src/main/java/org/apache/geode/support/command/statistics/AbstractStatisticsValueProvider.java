@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.shell.CompletionContext;
+import org.springframework.shell.CompletionProposal;
+import org.springframework.shell.standard.ValueProviderSupport;
+
+import org.apache.geode.support.service.StatisticsCatalogService;
+
+/**
+ * Completes the value of an option with the names found within the statistics files referenced by the --path option.
+ * The names are taken from the catalogs built in the background by the {@link StatisticsCatalogService}.
+ */
+public abstract class AbstractStatisticsValueProvider extends ValueProviderSupport {
+  static final String PATH_OPTION = "--path";
+  private final StatisticsCatalogService.NameType nameType;
+  private final StatisticsCatalogService statisticsCatalogService;
+
+  AbstractStatisticsValueProvider(StatisticsCatalogService.NameType nameType, StatisticsCatalogService statisticsCatalogService) {
+    this.nameType = nameType;
+    this.statisticsCatalogService = statisticsCatalogService;
+  }
+
+  /**
+   * @param completionContext The words typed so far.
+   * @return The value of the --path option, or null if it wasn't typed yet.
+   */
+  Path getPath(CompletionContext completionContext) {
+    List<String> words = completionContext.getWords();
+    int index = (words == null) ? -1 : words.indexOf(PATH_OPTION);
+    if ((index < 0) || (index + 1 >= words.size())) return null;
+
+    String value = words.get(index + 1);
+    if ((StringUtils.isBlank(value)) || (value.startsWith("--"))) return null;
+
+    try {
+      return Paths.get(value);
+    } catch (InvalidPathException invalidPathException) {
+      return null;
+    }
+  }
+
+  @Override
+  public List<CompletionProposal> complete(MethodParameter parameter, CompletionContext completionContext, String[] hints) {
+    return statisticsCatalogService.lookup(getPath(completionContext), nameType, completionContext.currentWordUpToCursor())
+        .stream()
+        .map(CompletionProposal::new)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.StatisticComparison;
+import org.apache.geode.support.domain.statistics.StatisticProfile;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class CompareStatisticsCommand extends ExportableCommand {
+  private StatisticsService statisticsService;
+
+  @Autowired
+  public CompareStatisticsCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService);
+    this.statisticsService = statisticsService;
+  }
+
+  /**
+   * Returns the deepest directory containing both paths, used to show the files from both sets relative to it.
+   */
+  static Path getCommonPath(Path baselinePath, Path candidatePath) {
+    Path commonPath = baselinePath.toAbsolutePath().normalize();
+    Path otherPath = candidatePath.toAbsolutePath().normalize();
+    while ((commonPath != null) && (!otherPath.startsWith(commonPath))) commonPath = commonPath.getParent();
+
+    return commonPath != null ? commonPath : baselinePath;
+  }
+
+  /**
+   * Formats the relative difference between both values, as a percentage of the baseline.
+   */
+  static String formatRelativeDelta(double baseline, double candidate) {
+    if (baseline == 0) return candidate == 0 ? FormatUtils.getNumberFormatter().format(0) + "%" : "N/A";
+
+    return FormatUtils.getNumberFormatter().format((candidate - baseline) * 100 / Math.abs(baseline)) + "%";
+  }
+
+  /**
+   * Adds a row with the baseline value, the candidate value and the difference between them to the result table.
+   */
+  private void addResultRow(TableModelBuilder<String> modelBuilder, String name, double baseline, double candidate) {
+    modelBuilder
+        .addRow()
+        .addValue("└──" + name)
+        .addValue(FormatUtils.getNumberFormatter().format(baseline))
+        .addValue(FormatUtils.getNumberFormatter().format(candidate))
+        .addValue(FormatUtils.getNumberFormatter().format(candidate - baseline))
+        .addValue(formatRelativeDelta(baseline, candidate));
+  }
+
+  /**
+   * Adds the rows comparing a single statistic to the result table, grouped by statistic Id:
+   *
+   * +------------------------------------------------+--------+---------+-----+---------+
+   * |CategoryId[InstanceId].statisticId              |Baseline|Candidate|Delta|Delta (%)|
+   * +------------------------------------------------+--------+---------+-----+---------+
+   * |└──Minimum                                      |value   |value    |value|value    |
+   * +------------------------------------------------+--------+---------+-----+---------+
+   * |└──...                                          |value   |value    |value|value    |
+   * +------------------------------------------------+--------+---------+-----+---------+
+   * |└──99th Percentile                              |value   |value    |value|value    |
+   * +------------------------------------------------+--------+---------+-----+---------+
+   */
+  private void addComparisonRows(TableModelBuilder<String> modelBuilder, StatisticComparison comparison) {
+    StatisticProfile baseline = comparison.getBaseline();
+    StatisticProfile candidate = comparison.getCandidate();
+
+    modelBuilder.addRow().addValue(comparison.getStatisticId()).addValue("Baseline").addValue("Candidate").addValue("Delta").addValue("Delta (%)");
+    addResultRow(modelBuilder, "Minimum", baseline.getMinimum(), candidate.getMinimum());
+    addResultRow(modelBuilder, "Maximum", baseline.getMaximum(), candidate.getMaximum());
+    addResultRow(modelBuilder, "Average", baseline.getAverage(), candidate.getAverage());
+    addResultRow(modelBuilder, "Standard Deviation", baseline.getStandardDeviation(), candidate.getStandardDeviation());
+    addResultRow(modelBuilder, "50th Percentile", baseline.getQuantile(0.50), candidate.getQuantile(0.50));
+    addResultRow(modelBuilder, "95th Percentile", baseline.getQuantile(0.95), candidate.getQuantile(0.95));
+    addResultRow(modelBuilder, "99th Percentile", baseline.getQuantile(0.99), candidate.getQuantile(0.99));
+  }
+
+  private List<Map<String, StatisticProfile>> getProfiles(List<ParsingResult<Map<String, StatisticProfile>>> parsingResults) {
+    return parsingResults.stream().filter(ParsingResult::isSuccess).map(ParsingResult::getData).collect(Collectors.toList());
+  }
+
+  @ShellMethod(key = "compare statistics", value = "Compares the Minimum, Maximum, Average, Standard Deviation and Percentiles of the statistics between a baseline and a candidate set of files.")
+  List<?> compareStatistics(
+      @ShellOption(help = "Path to baseline statistics file, or directory to scan for baseline statistics files.", value = "--baseline") File baseline,
+      @ShellOption(help = "Path to candidate statistics file, or directory to scan for candidate statistics files.", value = "--candidate") File candidate,
+      @ShellOption(help = "Filter to use (none, per second or per sample) when comparing the statistics.", value = "--filter", defaultValue = "None") Statistic.Filter statFilter,
+      @ShellOption(help = "Whether to include statistics for which all sample values are 0 in both sets.", value = "--showEmptyStatistics", arity = 1, defaultValue = "false") boolean showEmptyStatistics,
+      @ShellOption(help = "Category of the statistic to search for (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistic to search for (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistic to search for (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Limit the output, showing everything would be overkilling.
+    if ((StringUtils.isBlank(categoryId)) && (StringUtils.isBlank(instanceId)) && (StringUtils.isBlank(statisticId))) {
+      throw new IllegalArgumentException(String.format("Either '%s', '%s' or '%s' parameter should be specified.", "--category", "--instance", "--statistic"));
+    }
+
+    // Use paths from here.
+    Path baselinePath = baseline.toPath();
+    Path candidatePath = candidate.toPath();
+
+    // Check file permissions.
+    filesService.assertFileReadability(baselinePath);
+    filesService.assertFileReadability(candidatePath);
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    List<ValueFilter> filters = Collections.singletonList(new RegexValueFilter(categoryId, instanceId, statisticId, null));
+    List<ParsingResult<Map<String, StatisticProfile>>> baselineResults = statisticsService.profileStatistics(baselinePath, filters, statFilter);
+    List<ParsingResult<Map<String, StatisticProfile>>> candidateResults = statisticsService.profileStatistics(candidatePath, filters, statFilter);
+
+    if (baselineResults.isEmpty()) {
+      commandResult.add("No baseline statistics files found.");
+    } else if (candidateResults.isEmpty()) {
+      commandResult.add("No candidate statistics files found.");
+    } else {
+      TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+      statisticsService.compareProfiles(getProfiles(baselineResults), getProfiles(candidateResults)).stream()
+          .filter(comparison -> showEmptyStatistics || !comparison.getBaseline().isEmpty() || !comparison.getCandidate().isEmpty())
+          .forEach(comparison -> addComparisonRows(resultsModelBuilder, comparison));
+
+      List<ParsingResult<Map<String, StatisticProfile>>> parsingResults = new ArrayList<>(baselineResults);
+      parsingResults.addAll(candidateResults);
+      parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+      buildCommandResult(getCommonPath(baselinePath, candidatePath), parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+      if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+    }
+
+    return commandResult;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ScanStatisticsAnomaliesCommand extends AbstractEntriesCommand {
+
+  @Autowired
+  public ScanStatisticsAnomaliesCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  double getScore(Anomaly anomaly, StatisticsService.AnomalyScore sortBy) {
+    return StatisticsService.AnomalyScore.ZScore.equals(sortBy) ? anomaly.getZScore() : anomaly.getMadScore();
+  }
+
+  @ShellMethod(key = "scan statistics anomalies", value = "Scans all statistics from all files and shows the samples that deviate the most from the samples preceding them.")
+  List<?> scanStatisticsAnomalies(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Category of the statistics to scan (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to scan (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to scan (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Score (ZScore or MAD) used to detect and sort the anomalies.", value = "--sortBy", defaultValue = "MAD") StatisticsService.AnomalyScore sortBy,
+      @ShellOption(help = "Amount of previous samples against which each sample is compared.", value = "--window", defaultValue = "60") @Min(2) int windowSize,
+      @ShellOption(help = "Minimum score for a sample to be considered an anomaly.", value = "--threshold", defaultValue = "3.5") double threshold,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = "Time Zone Id to use when showing results. If not set, the default from the system will be used.", value = "--timeZone", defaultValue = ShellOption.NULL) ZoneId zoneId,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions.
+    filesService.assertFileReadability(sourcePath);
+
+    // Validations done, start with the command execution.
+    List<ParsingResult<List<Anomaly>>> parsingResults = statisticsService.scanAnomalies(sourcePath, buildFilters(categoryId, instanceId, statisticId), sortBy, windowSize, threshold, limit);
+    List<String> headers = Arrays.asList("Statistic", "File", "Time" + FormatUtils.formatTimeZoneId(zoneId), "Value", "Z-Score", "MAD Score");
+    Comparator<Entry<Anomaly>> order = Comparator.comparingDouble((Entry<Anomaly> entry) -> getScore(entry.data, sortBy)).reversed();
+
+    return buildEntriesResult(sourcePath, parsingResults, headers, order, limit, (row, entry) -> row
+        .addValue(entry.data.getStatisticId())
+        .addValue(entry.filePath)
+        .addValue(formatTimeStamp(entry.data.getTimeStamp(), zoneId))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getValue()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getZScore()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getMadScore())), outputFile);
+  }
+}
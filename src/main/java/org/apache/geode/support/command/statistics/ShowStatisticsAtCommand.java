@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.SampledValue;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsAtCommand extends AbstractEntriesCommand {
+
+  @Autowired
+  public ShowStatisticsAtCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  @ShellMethod(key = "show statistics at", value = "Shows the value of the selected statistics on every member at, or nearest to, a given time. Files are decoded sequentially from the start up to the given time, which is then searched among the samples read.")
+  List<?> showStatisticsAt(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Time at which the values should be retrieved, in ISO format (yyyy-MM-ddTHH:mm[:ss]).", value = "--time") String time,
+      @ShellOption(help = "Category of the statistics to retrieve (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to retrieve (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to retrieve (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Maximum difference between the time and the sample used, as an amount followed by an optional unit (ms, s, m, h or d).", value = "--tolerance", defaultValue = "1m") String tolerance,
+      @ShellOption(help = "Time Zone Id in which the time is expressed, also used when showing results. If not set, the default from the system will be used.", value = "--timeZone", defaultValue = ShellOption.NULL) ZoneId zoneId,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    ZoneId formattingZoneId = zoneId != null ? zoneId : ZoneId.systemDefault();
+    long timeStamp = FormatUtils.parseDateTime(time, formattingZoneId);
+    long toleranceLength = FormatUtils.parseDuration(tolerance).toMillis();
+    if (toleranceLength <= 0) throw new IllegalArgumentException("The '--tolerance' parameter should be positive.");
+
+    // Validations done, start with the command execution.
+    List<ParsingResult<List<SampledValue>>> parsingResults = statisticsService.sampleValuesAt(sourcePath, buildFilters(categoryId, instanceId, statisticId), timeStamp, toleranceLength);
+    List<String> headers = Arrays.asList("Statistic", "File", "Sample Time" + FormatUtils.formatTimeZoneId(zoneId), "Value");
+
+    // Group the values of the same statistic from all members together.
+    Comparator<Entry<SampledValue>> order = Comparator.comparing((Entry<SampledValue> entry) -> entry.data.getStatisticId()).thenComparing(entry -> entry.filePath);
+
+    return buildEntriesResult(sourcePath, parsingResults, headers, order, Long.MAX_VALUE, (row, entry) -> row
+        .addValue(entry.data.getStatisticId())
+        .addValue(entry.filePath)
+        .addValue(formatTimeStamp(entry.data.getTimeStamp(), zoneId))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getValue())), outputFile);
+  }
+}
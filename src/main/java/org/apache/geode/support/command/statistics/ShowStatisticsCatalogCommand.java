@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsCatalogCommand extends ExportableCommand {
+  private StatisticsService statisticsService;
+
+  @Autowired
+  public ShowStatisticsCatalogCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService);
+    this.statisticsService = statisticsService;
+  }
+
+  @ShellMethod(key = "show statistics catalog", value = "Shows the categories, instances and statistics available within the statistics files, without reading the sampled values.")
+  List<?> showStatisticsCatalog(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Category to search for (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance to search for (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Statistic to search for (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Whether to list the ids of the instances found for every category.", value = "--showInstances", arity = 1, defaultValue = "false") boolean showInstances,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions.
+    filesService.assertFileReadability(sourcePath);
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    List<ValueFilter> filters = new ArrayList<>();
+    if ((StringUtils.isNotBlank(categoryId)) || (StringUtils.isNotBlank(instanceId)) || (StringUtils.isNotBlank(statisticId))) {
+      filters.add(new RegexValueFilter(categoryId, instanceId, statisticId, null));
+    }
+
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = statisticsService.catalogStatistics(sourcePath, Collections.unmodifiableList(filters));
+
+    if (parsingResults.isEmpty()) {
+      commandResult.add("No statistics files found.");
+    } else {
+      parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+      TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+      resultsModelBuilder.addRow()
+          .addValue("File")
+          .addValue("Category")
+          .addValue("Instances")
+          .addValue("Statistics");
+
+      parsingResults.stream()
+          .filter(ParsingResult::isSuccess)
+          .forEach(parsingResult -> {
+            String filePath = FormatUtils.relativizePath(sourcePath, parsingResult.getFile());
+
+            parsingResult.getData().forEach(catalogEntry -> {
+              resultsModelBuilder.addRow()
+                  .addValue(filePath)
+                  .addValue(catalogEntry.getCategoryId())
+                  .addValue(String.valueOf(catalogEntry.getInstanceIds().size()))
+                  .addValue(String.valueOf(catalogEntry.getStatisticIds().size()));
+
+              if (showInstances) {
+                catalogEntry.getInstanceIds().forEach(instance -> resultsModelBuilder.addRow()
+                    .addValue(filePath)
+                    .addValue("└──" + instance)
+                    .addValue("")
+                    .addValue(""));
+              }
+            });
+          });
+
+      buildCommandResult(sourcePath, parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+      if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+    }
+
+    return commandResult;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsChangePointsCommand extends AbstractEntriesCommand {
+
+  @Autowired
+  public ShowStatisticsChangePointsCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  @ShellMethod(key = "show statistics change-points", value = "Shows the moments at which the level of the statistics shifted the most, along with the magnitude of the shift.")
+  List<?> showStatisticsChangePoints(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Category of the statistics to evaluate (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to evaluate (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to evaluate (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Minimum amount of samples at each side of the shift.", value = "--minSegment", defaultValue = "30") @Min(1) int minimumSegment,
+      @ShellOption(help = "Minimum fraction (between 0 and 1) of the variance of the statistic that should be explained by the shift.", value = "--threshold", defaultValue = "0.5") double threshold,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = "Time Zone Id to use when showing results. If not set, the default from the system will be used.", value = "--timeZone", defaultValue = ShellOption.NULL) ZoneId zoneId,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions.
+    filesService.assertFileReadability(sourcePath);
+
+    // Validations done, start with the command execution.
+    List<ParsingResult<List<ChangePoint>>> parsingResults = statisticsService.detectChangePoints(sourcePath, buildFilters(categoryId, instanceId, statisticId), minimumSegment, threshold, limit);
+    List<String> headers = Arrays.asList("Statistic", "File", "Time" + FormatUtils.formatTimeZoneId(zoneId), "Before", "After", "Magnitude", "Score");
+    Comparator<Entry<ChangePoint>> order = Comparator.comparingDouble((Entry<ChangePoint> entry) -> entry.data.getScore()).reversed()
+        .thenComparing(entry -> entry.data.getStatisticId())
+        .thenComparing(entry -> entry.filePath);
+
+    return buildEntriesResult(sourcePath, parsingResults, headers, order, limit, (row, entry) -> row
+        .addValue(entry.data.getStatisticId())
+        .addValue(entry.filePath)
+        .addValue(formatTimeStamp(entry.data.getTimeStamp(), zoneId))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getBefore()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getAfter()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getMagnitude()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getScore())), outputFile);
+  }
+}
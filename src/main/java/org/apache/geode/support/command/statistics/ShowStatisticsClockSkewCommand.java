@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsClockSkewCommand extends ExportableCommand {
+  private StatisticsService statisticsService;
+
+  /**
+   * Category of the statistics used, by default, as cluster-wide events.
+   */
+  static final String DEFAULT_EVENTS_CATEGORY = "DistributionStats";
+
+  /**
+   * Statistics used, by default, as cluster-wide events: amount of members and amount of receiving connections, both change when
+   * members join or leave the distributed system.
+   */
+  static final String DEFAULT_EVENTS_STATISTIC = "nodes|receivers";
+
+  /**
+   * Maximum difference expected, by default, between the clocks of two members.
+   */
+  static final String DEFAULT_MAXIMUM_SKEW = "5m";
+
+  @Autowired
+  public ShowStatisticsClockSkewCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService);
+    this.statisticsService = statisticsService;
+  }
+
+  @ShellMethod(key = "show statistics clock-skew", value = "Shows the estimated clock skew of each member, lining up the cluster-wide events seen by all of them.")
+  List<?> showStatisticsClockSkew(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Category of the statistics used as cluster-wide events (DistributionStats, etc.). Can be a regular expression.", value = "--category", defaultValue = DEFAULT_EVENTS_CATEGORY) String categoryId,
+      @ShellOption(help = "Instance of the statistics used as cluster-wide events. Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics used as cluster-wide events, every change of their values is considered an event. Can be a regular expression.", value = "--statistic", defaultValue = DEFAULT_EVENTS_STATISTIC) String statisticId,
+      @ShellOption(help = "Maximum difference expected between the clocks of two members, as an amount followed by an optional unit (ms, s, m, h or d).", value = "--maxSkew", defaultValue = DEFAULT_MAXIMUM_SKEW) String maximumSkew,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    long maximumSkewLength = FormatUtils.parseDuration(maximumSkew).toMillis();
+    if (maximumSkewLength <= 0) throw new IllegalArgumentException("The '--maxSkew' parameter should be positive.");
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    RegexValueFilter filter = new RegexValueFilter(categoryId, instanceId, statisticId, null);
+    List<ParsingResult<ClockSkew>> parsingResults = statisticsService.estimateClockSkews(sourcePath, Collections.singletonList(filter), maximumSkewLength);
+
+    if (parsingResults.isEmpty()) {
+      commandResult.add("No statistics files found.");
+    } else {
+      parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+      TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+      resultsModelBuilder.addRow()
+          .addValue("File")
+          .addValue("Events")
+          .addValue("Matched Events")
+          .addValue("Offset (ms)");
+
+      parsingResults.stream()
+          .filter(ParsingResult::isSuccess)
+          .forEach(parsingResult -> {
+            ClockSkew clockSkew = parsingResult.getData();
+            String offset = clockSkew.isReference() ? "Reference" : (clockSkew.isEstimated() ? String.valueOf(clockSkew.getOffset()) : "N/A");
+
+            resultsModelBuilder.addRow()
+                .addValue(FormatUtils.relativizePath(sourcePath, parsingResult.getFile()))
+                .addValue(String.valueOf(clockSkew.getEvents()))
+                .addValue(String.valueOf(clockSkew.getMatchedEvents()))
+                .addValue(offset);
+          });
+
+      buildCommandResult(sourcePath, parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+      if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+    }
+
+    return commandResult;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.validation.constraints.Min;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.TimeGrid;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsCorrelationCommand extends AbstractCorrelationCommand {
+
+  @Autowired
+  public ShowStatisticsCorrelationCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  /**
+   * Resamples and correlates the candidates against the target, chunk by chunk.
+   *
+   * @param target The resampled target.
+   * @param timeGrid The time grid on which the target was resampled.
+   * @param candidates The candidates to correlate against the target.
+   * @param pearson Array where the Pearson coefficient of each candidate will be stored.
+   * @param spearman Array where the Spearman coefficient of each candidate will be stored.
+   */
+  void correlateCandidates(double[] target, TimeGrid timeGrid, List<Candidate> candidates, double[] pearson, double[] spearman) {
+    Arrays.fill(pearson, Double.NaN);
+    Arrays.fill(spearman, Double.NaN);
+
+    resampleCandidates(timeGrid, candidates, (indexes, values) -> {
+      double[] pearsonChunk = statisticsService.correlate(new double[][] { target }, values, StatisticsService.CorrelationMethod.Pearson)[0];
+      double[] spearmanChunk = statisticsService.correlate(new double[][] { target }, values, StatisticsService.CorrelationMethod.Spearman)[0];
+
+      for (int i = 0; i < indexes.length; i++) {
+        pearson[indexes[i]] = pearsonChunk[i];
+        spearman[indexes[i]] = spearmanChunk[i];
+      }
+    });
+  }
+
+  @ShellMethod(key = "show statistics correlation", value = "Shows the statistics that are most correlated with a target statistic, across all files.")
+  List<?> showStatisticsCorrelation(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Name of the target statistic (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression, matches from all files are added together.", value = "--target") String targetId,
+      @ShellOption(help = "Category of the target statistic (DistributionStats, VMStats, etc.). Can be a regular expression.", value = "--targetCategory", defaultValue = ShellOption.NULL) String targetCategoryId,
+      @ShellOption(help = "Category of the statistics to correlate against the target (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to correlate against the target (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to correlate against the target (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Correlation coefficient (Pearson or Spearman) used to sort the results.", value = "--sortBy", defaultValue = "Pearson") StatisticsService.CorrelationMethod sortBy,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = "Whether to estimate the clock skew of each member, through the cluster-wide events seen by all of them, and correct the time stamps before aligning the statistics.", value = "--alignClocks", arity = 1, defaultValue = "false") boolean alignClocks,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    if (StringUtils.isBlank(targetId)) {
+      throw new IllegalArgumentException(String.format("The '%s' parameter should be specified.", "--target"));
+    }
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions.
+    filesService.assertFileReadability(sourcePath);
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    RegexValueFilter targetFilter = new RegexValueFilter(targetCategoryId, null, targetId, null);
+    RegexValueFilter candidatesFilter = new RegexValueFilter(categoryId, instanceId, statisticId, null);
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(sourcePath, Arrays.asList(targetFilter, candidatesFilter));
+
+    if (parsingResults.isEmpty()) {
+      commandResult.add("No statistics files found.");
+    } else {
+      if (alignClocks) alignClocks(sourcePath, parsingResults);
+      List<Statistic> targets = new ArrayList<>();
+      List<Candidate> candidates = new ArrayList<>();
+      collectStatistics(sourcePath, parsingResults, targetFilter, candidatesFilter, targets, candidates);
+
+      TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+      resultsModelBuilder.addRow().addValue("Statistic").addValue("File").addValue("Pearson").addValue("Spearman");
+
+      if ((!targets.isEmpty()) && (!candidates.isEmpty())) {
+        double[] pearson = new double[candidates.size()];
+        double[] spearman = new double[candidates.size()];
+        TimeGrid timeGrid = TimeGrid.covering(targets, MINIMUM_STEP, MAXIMUM_POINTS);
+        correlateCandidates(resampleTargets(targets, timeGrid), timeGrid, candidates, pearson, spearman);
+        double[] sortingCoefficients = StatisticsService.CorrelationMethod.Spearman.equals(sortBy) ? spearman : pearson;
+
+        IntStream.range(0, candidates.size())
+            .filter(index -> !Double.isNaN(sortingCoefficients[index]))
+            .boxed()
+            .sorted(Comparator.comparingDouble((Integer index) -> Math.abs(sortingCoefficients[index])).reversed())
+            .limit(limit)
+            .forEach(index -> resultsModelBuilder.addRow()
+                .addValue(candidates.get(index).statisticId)
+                .addValue(candidates.get(index).filePath)
+                .addValue(FormatUtils.getNumberFormatter().format(pearson[index]))
+                .addValue(FormatUtils.getNumberFormatter().format(spearman[index])));
+      }
+
+      buildCommandResult(sourcePath, parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+      if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+    }
+
+    return commandResult;
+  }
+}
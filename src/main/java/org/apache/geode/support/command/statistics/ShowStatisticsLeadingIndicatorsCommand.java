@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.validation.constraints.Min;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.LaggedCorrelation;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.TimeGrid;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsLeadingIndicatorsCommand extends AbstractCorrelationCommand {
+
+  /**
+   * Minimum amount of time grid points within the maximum lag, bounds the error of the reported lag.
+   */
+  static final int MINIMUM_LAG_POINTS = 30;
+
+  /**
+   * Maximum amount of points of the time grid when a finer step is needed to honour {@link #MINIMUM_LAG_POINTS}.
+   */
+  static final int MAXIMUM_LAG_GRID_POINTS = 32768;
+
+  @Autowired
+  public ShowStatisticsLeadingIndicatorsCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  /**
+   * The step is sized from the maximum lag rather than from the interval sampled, so there are at least {@link #MINIMUM_LAG_POINTS}
+   * points within the lag; the grid only gets coarser than that when it would have more than {@link #MAXIMUM_LAG_GRID_POINTS}.
+   *
+   * @param targets The statistics to cover.
+   * @param maximumLag Maximum lag, in seconds.
+   * @return The time grid on which the statistics should be resampled.
+   */
+  TimeGrid getTimeGrid(List<Statistic> targets, int maximumLag) {
+    TimeGrid timeGrid = TimeGrid.covering(targets, MINIMUM_STEP, MAXIMUM_POINTS);
+    long maximumStep = Math.max(MINIMUM_STEP, (maximumLag * 1000L) / MINIMUM_LAG_POINTS);
+    if (timeGrid.getStep() <= maximumStep) return timeGrid;
+
+    return TimeGrid.covering(targets, maximumStep, MAXIMUM_LAG_GRID_POINTS);
+  }
+
+  /**
+   * @param maximumLag Maximum lag, in seconds.
+   * @param timeGrid The time grid on which the statistics are resampled.
+   * @return The maximum lag, in time grid points, rounded down so the reported lag never exceeds the requested one.
+   */
+  int getMaximumLagPoints(int maximumLag, TimeGrid timeGrid) {
+    long lagPoints = (maximumLag * 1000L) / timeGrid.getStep();
+
+    return (int) Math.min(lagPoints, Math.max(0, timeGrid.getPoints() - 1));
+  }
+
+  /**
+   * Resamples and cross-correlates the candidates against the target, chunk by chunk.
+   *
+   * @param target The resampled target.
+   * @param timeGrid The time grid on which the target was resampled.
+   * @param maximumLag Maximum lag, in time grid points.
+   * @param candidates The candidates to cross-correlate against the target.
+   * @return The strongest lagged correlation of each candidate, {@link Double#NaN} is used as coefficient for candidates not covering enough of the time grid.
+   */
+  LaggedCorrelation[] crossCorrelateCandidates(double[] target, TimeGrid timeGrid, int maximumLag, List<Candidate> candidates) {
+    LaggedCorrelation[] result = new LaggedCorrelation[candidates.size()];
+    Arrays.fill(result, new LaggedCorrelation(0, Double.NaN));
+
+    resampleCandidates(timeGrid, candidates, (indexes, values) -> {
+      LaggedCorrelation[] chunkResult = statisticsService.crossCorrelate(target, values, maximumLag);
+      for (int i = 0; i < indexes.length; i++) result[indexes[i]] = chunkResult[i];
+    });
+
+    return result;
+  }
+
+  @ShellMethod(key = "show statistics leading-indicators", value = "Shows the statistics that are most correlated with a target statistic when shifted in time, along with the lag.")
+  List<?> showStatisticsLeadingIndicators(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Name of the target statistic (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression, matches from all files are added together.", value = "--target") String targetId,
+      @ShellOption(help = "Category of the target statistic (DistributionStats, VMStats, etc.). Can be a regular expression.", value = "--targetCategory", defaultValue = ShellOption.NULL) String targetCategoryId,
+      @ShellOption(help = "Category of the statistics to correlate against the target (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to correlate against the target (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to correlate against the target (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Maximum time shift, in seconds, to search for (in both directions).", value = "--maxLag", defaultValue = "300") @Min(1) int maximumLag,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = "Whether to estimate the clock skew of each member, through the cluster-wide events seen by all of them, and correct the time stamps before aligning the statistics.", value = "--alignClocks", arity = 1, defaultValue = "false") boolean alignClocks,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    if (StringUtils.isBlank(targetId)) {
+      throw new IllegalArgumentException(String.format("The '%s' parameter should be specified.", "--target"));
+    }
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions.
+    filesService.assertFileReadability(sourcePath);
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    RegexValueFilter targetFilter = new RegexValueFilter(targetCategoryId, null, targetId, null);
+    RegexValueFilter candidatesFilter = new RegexValueFilter(categoryId, instanceId, statisticId, null);
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(sourcePath, Arrays.asList(targetFilter, candidatesFilter));
+
+    if (parsingResults.isEmpty()) {
+      commandResult.add("No statistics files found.");
+    } else {
+      if (alignClocks) alignClocks(sourcePath, parsingResults);
+      List<Statistic> targets = new ArrayList<>();
+      List<Candidate> candidates = new ArrayList<>();
+      collectStatistics(sourcePath, parsingResults, targetFilter, candidatesFilter, targets, candidates);
+
+      TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+      resultsModelBuilder.addRow().addValue("Statistic").addValue("File").addValue("Lag (Seconds)").addValue("Coefficient");
+
+      if ((!targets.isEmpty()) && (!candidates.isEmpty())) {
+        TimeGrid timeGrid = getTimeGrid(targets, maximumLag);
+        int maximumLagPoints = getMaximumLagPoints(maximumLag, timeGrid);
+        LaggedCorrelation[] correlations = crossCorrelateCandidates(resampleTargets(targets, timeGrid), timeGrid, maximumLagPoints, candidates);
+
+        IntStream.range(0, candidates.size())
+            .filter(index -> !Double.isNaN(correlations[index].getCoefficient()))
+            .boxed()
+            .sorted(Comparator.comparingDouble((Integer index) -> Math.abs(correlations[index].getCoefficient())).reversed())
+            .limit(limit)
+            .forEach(index -> resultsModelBuilder.addRow()
+                .addValue(candidates.get(index).statisticId)
+                .addValue(candidates.get(index).filePath)
+                .addValue(FormatUtils.getNumberFormatter().format(correlations[index].getLag() * timeGrid.getStep() / 1000.0))
+                .addValue(FormatUtils.getNumberFormatter().format(correlations[index].getCoefficient())));
+      }
+
+      buildCommandResult(sourcePath, parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+      if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+    }
+
+    return commandResult;
+  }
+}
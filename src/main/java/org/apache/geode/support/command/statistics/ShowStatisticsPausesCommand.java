@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Pause;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsPausesCommand extends ExportableCommand {
+  private StatisticsService statisticsService;
+
+  @Autowired
+  public ShowStatisticsPausesCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService);
+    this.statisticsService = statisticsService;
+  }
+
+  @ShellMethod(key = "show statistics pauses", value = "Shows the gaps between consecutive samples bigger than a threshold, which usually indicate that the member was frozen.")
+  List<?> showStatisticsPauses(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Minimum gap between two consecutive samples to be reported, as an amount followed by an optional unit (ms, s, m, h or d).", value = "--threshold", defaultValue = "2s") String threshold,
+      @ShellOption(help = "Time Zone Id to use when showing results. If not set, the default from the system will be used.", value = "--timeZone", defaultValue = ShellOption.NULL) ZoneId zoneId,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    long thresholdLength = FormatUtils.parseDuration(threshold).toMillis();
+    if (thresholdLength <= 0) throw new IllegalArgumentException("The '--threshold' parameter should be positive.");
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    List<ParsingResult<List<Pause>>> parsingResults = statisticsService.detectPauses(sourcePath, thresholdLength);
+
+    if (parsingResults.isEmpty()) {
+      commandResult.add("No statistics files found.");
+    } else {
+      parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+      ZoneId formattingZoneId = zoneId != null ? zoneId : ZoneId.systemDefault();
+
+      String zoneIdDescription = FormatUtils.formatTimeZoneId(zoneId);
+      TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+      resultsModelBuilder.addRow()
+          .addValue("File")
+          .addValue("Start Time" + zoneIdDescription)
+          .addValue("End Time" + zoneIdDescription)
+          .addValue("Duration (s)");
+
+      parsingResults.stream()
+          .filter(ParsingResult::isSuccess)
+          .forEach(parsingResult -> {
+            String filePath = FormatUtils.relativizePath(sourcePath, parsingResult.getFile());
+
+            parsingResult.getData().stream()
+                .sorted(Comparator.comparingLong(Pause::getStartTimeStamp))
+                .forEach(pause -> resultsModelBuilder.addRow()
+                    .addValue(filePath)
+                    .addValue(ZonedDateTime.ofInstant(Instant.ofEpochMilli(pause.getStartTimeStamp()), formattingZoneId).format(FormatUtils.getDateTimeFormatter()))
+                    .addValue(ZonedDateTime.ofInstant(Instant.ofEpochMilli(pause.getEndTimeStamp()), formattingZoneId).format(FormatUtils.getDateTimeFormatter()))
+                    .addValue(FormatUtils.getNumberFormatter().format(pause.getDuration() / 1000.0)));
+          });
+
+      buildCommandResult(sourcePath, parsingResults, buildResultsTable(resultsModelBuilder), outputFile, commandResult);
+      if (commandResult.isEmpty()) commandResult.add("No matching results found.");
+    }
+
+    return commandResult;
+  }
+}
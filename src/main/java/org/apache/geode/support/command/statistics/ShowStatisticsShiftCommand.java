@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsShiftCommand extends AbstractEntriesCommand {
+
+  @Autowired
+  public ShowStatisticsShiftCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  @ShellMethod(key = "show statistics shift", value = "Shows the statistics whose distribution changed the most between the windows before and after a given time.")
+  List<?> showStatisticsShift(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Time separating both windows, in ISO format (yyyy-MM-ddTHH:mm[:ss]).", value = "--at") String time,
+      @ShellOption(help = "Length of each window, as an amount followed by an optional unit (ms, s, m, h or d).", value = "--window", defaultValue = "10m") String window,
+      @ShellOption(help = "Category of the statistics to evaluate (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to evaluate (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to evaluate (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = "Time Zone Id in which the time is expressed. If not set, the default from the system will be used.", value = "--timeZone", defaultValue = ShellOption.NULL) ZoneId zoneId,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    long timeStamp = FormatUtils.parseDateTime(time, zoneId != null ? zoneId : ZoneId.systemDefault());
+    long windowLength = FormatUtils.parseDuration(window).toMillis();
+    if (windowLength <= 0) throw new IllegalArgumentException("The '--window' parameter should be positive.");
+
+    // Validations done, start with the command execution.
+    List<ParsingResult<List<DistributionShift>>> parsingResults = statisticsService.compareDistributions(sourcePath, buildFilters(categoryId, instanceId, statisticId), timeStamp, windowLength, limit);
+    List<String> headers = Arrays.asList("Statistic", "File", "Mean Before", "Mean After", "Mean Shift", "KS Statistic");
+    Comparator<Entry<DistributionShift>> order = Comparator.comparingDouble((Entry<DistributionShift> entry) -> entry.data.getKolmogorovSmirnov())
+        .thenComparingDouble(entry -> Math.abs(entry.data.getMeanShift())).reversed()
+        .thenComparing(entry -> entry.data.getStatisticId())
+        .thenComparing(entry -> entry.filePath);
+
+    return buildEntriesResult(sourcePath, parsingResults, headers, order, limit, (row, entry) -> row
+        .addValue(entry.data.getStatisticId())
+        .addValue(entry.filePath)
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getBefore()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getAfter()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getMeanShift()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getKolmogorovSmirnov())), outputFile);
+  }
+}
@@ -15,17 +15,19 @@
 package org.apache.geode.support.command.statistics;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.shell.standard.ShellCommandGroup;
@@ -35,11 +37,14 @@ import org.springframework.shell.standard.ShellOption;
 import org.springframework.shell.table.Table;
 import org.springframework.shell.table.TableModelBuilder;
 
+import org.apache.geode.internal.statistics.ValueFilter;
 import org.apache.geode.support.command.ExportableCommand;
 import org.apache.geode.support.domain.ParsingResult;
 import org.apache.geode.support.domain.statistics.Category;
 import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.Series;
 import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
 import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
 import org.apache.geode.support.service.FilesService;
 import org.apache.geode.support.service.StatisticsService;
@@ -51,6 +56,11 @@ import org.apache.geode.support.utils.FormatUtils;
 public class ShowStatisticsSummaryCommand extends ExportableCommand {
   private StatisticsService statisticsService;
 
+  /**
+   * Interval of the common time grid used when aggregating statistics from several members (default statistic-sample-rate).
+   */
+  static final long AGGREGATION_STEP = 1000;
+
   /**
    * Representation about how the results should be grouped.
    */
@@ -65,6 +75,40 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
     this.statisticsService = statisticsService;
   }
 
+  /**
+   * Adds a row with the summary values to the result table.
+   */
+  private void addResultRow(TableModelBuilder<String> modelBuilder, String name, double min, double max, double average, double lastValue, double standardDeviation) {
+    modelBuilder
+        .addRow()
+        .addValue("└──" + name)
+        .addValue(FormatUtils.getNumberFormatter().format(min))
+        .addValue(FormatUtils.getNumberFormatter().format(max))
+        .addValue(FormatUtils.getNumberFormatter().format(average))
+        .addValue(FormatUtils.getNumberFormatter().format(lastValue))
+        .addValue(FormatUtils.getNumberFormatter().format(standardDeviation));
+  }
+
+  /**
+   * Conditionally adds a row with the cluster level aggregate to the result table.
+   *
+   * @param modelBuilder The Table Model where the row should be added.
+   * @param includeEmptyStatistics Whether to add the row if maximum and minimum values are 0.
+   * @param name Name to add as the fist column in the row.
+   * @param aggregation Function used to combine the statistics.
+   * @param statistics Statistics to combine, one per sampling.
+   */
+  private void addAggregateRow(TableModelBuilder<String> modelBuilder, boolean includeEmptyStatistics, String name, StatisticsService.Aggregation aggregation, List<Statistic> statistics) {
+    if ((aggregation == null) || (statistics == null) || (statistics.isEmpty())) return;
+
+    Series series = statisticsService.aggregate(statistics, AGGREGATION_STEP, aggregation);
+    double min = series.getMinimum();
+    double max = series.getMaximum();
+    if ((!includeEmptyStatistics) && (min == 0) && (max == 0)) return;
+
+    addResultRow(modelBuilder, name, min, max, series.getAverage(), series.getLastValue(), series.getStandardDeviation());
+  }
+
   /**
    * Conditionally adds a row to the result table.
    *
@@ -79,17 +123,27 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
       double max = statistic.getMaximum();
       if ((!includeEmptyStatistics) && (statistic.isEmpty())) return;
 
-      modelBuilder
-          .addRow()
-          .addValue("└──" + name)
-          .addValue(FormatUtils.getNumberFormatter().format(min))
-          .addValue(FormatUtils.getNumberFormatter().format(max))
-          .addValue(FormatUtils.getNumberFormatter().format(statistic.getAverage()))
-          .addValue(FormatUtils.getNumberFormatter().format(statistic.getLastValue()))
-          .addValue(FormatUtils.getNumberFormatter().format(statistic.getStandardDeviation()));
+      addResultRow(modelBuilder, name, min, max, statistic.getAverage(), statistic.getLastValue(), statistic.getStandardDeviation());
     }
   }
 
+  /**
+   * Adds every statistic of the sampling to the ones to aggregate, even the empty ones, as the members reporting only zeros are
+   * still part of the cluster.
+   *
+   * @param categoryMap The categories of the parsed sampling.
+   * @param filter Filter to use when aggregating (none, per second or per sample).
+   * @param statisticsByName Statistics to aggregate, by full statistic name.
+   */
+  private void collectStatistics(Map<String, Category> categoryMap, Statistic.Filter filter, Map<String, List<Statistic>> statisticsByName) {
+    categoryMap.forEach((categoryName, category) ->
+        category.getStatistics().forEach((statisticName, statistic) -> {
+          statistic.setFilter(filter);
+          statisticsByName.computeIfAbsent(categoryName.concat(".").concat(statisticName), key -> new ArrayList<>()).add(statistic);
+        })
+    );
+  }
+
   /**
    * Builds the result table grouping the statistical data by file Id.
    * Useful when the user wants to compare the statistical data for a single file all together.
@@ -97,6 +151,7 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
    * @param sourcePath Original path from where the samplings were parsed.
    * @param includeEmptyStatistics Whether to add the statistics for which both maximum and minimum values are 0.
    * @param filter Filter to use when showing results (none, per second or per sample).
+   * @param aggregation Function used to combine each statistic across all samplings, or null if no aggregate should be added.
    * @param parsingResults The parsed samplings.
    * @return A Table with the statistical data, grouped by file Id:
    *
@@ -111,9 +166,15 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
    * +------------------------------------------------+-------+-------+-------+----------+------------------+
    * |└──CategoryId[InstanceId].statisticId           |value  |value  |value  |value     |value             |
    * +------------------------------------------------+-------+-------+-------+----------+------------------+
+   * |Cluster (Aggregation)                           |Minimum|Maximum|Average|Last Value|Standard Deviation|
+   * +------------------------------------------------+-------+-------+-------+----------+------------------+
+   * |└──CategoryId[InstanceId].statisticId           |value  |value  |value  |value     |value             |
+   * +------------------------------------------------+-------+-------+-------+----------+------------------+
    */
-  Table buildTableGroupedBySampling(Path sourcePath, boolean includeEmptyStatistics, Statistic.Filter filter, List<ParsingResult<Sampling>> parsingResults) {
+  Table buildTableGroupedBySampling(Path sourcePath, boolean includeEmptyStatistics, Statistic.Filter filter, StatisticsService.Aggregation aggregation, List<ParsingResult<Sampling>> parsingResults) {
     parsingResults.sort(Comparator.comparing(ParsingResult::getFile));
+    Set<String> shownStatistics = new TreeSet<>();
+    Map<String, List<Statistic>> statisticsByName = new TreeMap<>();
     TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
 
     parsingResults.stream()
@@ -122,6 +183,7 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
           Sampling sampling = parsingResult.getData();
           Map<String, Category> categoryMap = sampling.getCategories();
           String filePath = FormatUtils.relativizePath(sourcePath, parsingResult.getFile());
+          if (aggregation != null) collectStatistics(categoryMap, filter, statisticsByName);
 
           // Continue only if there's data to show.
           if ((sampling.hasAnyStatistic()) && (sampling.hasAnyNonEmptyStatistic() || includeEmptyStatistics)) {
@@ -134,11 +196,19 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
                  Statistic statistic = statisticEntry.getValue();
                  statistic.setFilter(filter);
                  addResultRow(resultsModelBuilder, includeEmptyStatistics, statName, statistic);
+                 if (includeEmptyStatistics || !statistic.isEmpty()) shownStatistics.add(statName);
                 })
              );
           }
         });
 
+    // Cluster level aggregates, only for the statistics shown for at least one file.
+    statisticsByName.keySet().retainAll(shownStatistics);
+    if (!statisticsByName.isEmpty()) {
+      resultsModelBuilder.addRow().addValue(String.format("Cluster (%s)", aggregation)).addValue("Minimum").addValue("Maximum").addValue("Average").addValue("Last Value").addValue("Standard Deviation");
+      statisticsByName.forEach((statName, statistics) -> addAggregateRow(resultsModelBuilder, includeEmptyStatistics, statName, aggregation, statistics));
+    }
+
     return buildResultsTable(resultsModelBuilder);
   }
 
@@ -149,6 +219,7 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
    * @param sourcePath Original path from where the samplings were parsed.
    * @param includeEmptyStatistics Whether to add the statistics for which both maximum and minimum values are 0.
    * @param filter Filter to use when showing results (none, per second or per sample).
+   * @param aggregation Function used to combine each statistic across all samplings, or null if no aggregate should be added.
    * @param parsingResults The parsed samplings.
    * @return A Table with the statistical data, grouped by statistic Id:
    *
@@ -163,9 +234,12 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
    * +------------------------------------------------+-------+-------+-------+----------+------------------+
    * |└──/path/to/fileN                               |value  |value  |value  |value     |value             |
    * +------------------------------------------------+-------+-------+-------+----------+------------------+
+   * |└──Cluster (Aggregation)                        |value  |value  |value  |value     |value             |
+   * +------------------------------------------------+-------+-------+-------+----------+------------------+
    */
-  Table buildTableGroupedByStatistic(Path sourcePath, boolean includeEmptyStatistics, Statistic.Filter filter, List<ParsingResult<Sampling>> parsingResults) {
+  Table buildTableGroupedByStatistic(Path sourcePath, boolean includeEmptyStatistics, Statistic.Filter filter, StatisticsService.Aggregation aggregation, List<ParsingResult<Sampling>> parsingResults) {
     Set<String> statistics = new TreeSet<>();
+    Map<String, List<Statistic>> statisticsByName = new TreeMap<>();
     Map<String, Map<String, Statistic>> fileToStatisticMap = new TreeMap<>();
     TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
 
@@ -176,6 +250,7 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
           Sampling sampling = parsingResult.getData();
           Map<String, Category> categoryMap = sampling.getCategories();
           String filePath = FormatUtils.relativizePath(sourcePath, parsingResult.getFile());
+          if (aggregation != null) collectStatistics(categoryMap, filter, statisticsByName);
 
           // Continue only if there's data to show.
           if ((sampling.hasAnyStatistic()) && (sampling.hasAnyNonEmptyStatistic() || includeEmptyStatistics)) {
@@ -204,45 +279,161 @@ public class ShowStatisticsSummaryCommand extends ExportableCommand {
       // Add intermediate header for the Stat Name
       resultsModelBuilder.addRow().addValue(statName).addValue("Minimum").addValue("Maximum").addValue("Average").addValue("Last Value").addValue("Standard Deviation");
 
-      fileToStatisticMap.forEach((filePath, value) -> {
-        Statistic statistic = value.get(statName);
-        addResultRow(resultsModelBuilder, includeEmptyStatistics, filePath, statistic);
-      });
+      fileToStatisticMap.forEach((filePath, value) -> addResultRow(resultsModelBuilder, includeEmptyStatistics, filePath, value.get(statName)));
+      addAggregateRow(resultsModelBuilder, includeEmptyStatistics, String.format("Cluster (%s)", aggregation), aggregation, statisticsByName.get(statName));
     });
 
     return buildResultsTable(resultsModelBuilder);
   }
 
+  /**
+   * Parses the queries, one per line with the format {@code --category VMStats --instance vmStats --statistic fd.*}; blank lines
+   * and lines starting with '#' are ignored.
+   *
+   * @param lines Lines read from the queries file.
+   * @return The filters to use, one per query, keyed by the query itself.
+   * @throws IllegalArgumentException If any query is invalid, or if there are no queries at all.
+   */
+  static Map<String, ValueFilter> parseQueries(List<String> lines) {
+    Map<String, ValueFilter> queries = new LinkedHashMap<>();
+
+    for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+      String query = lines.get(lineNumber - 1).trim();
+      if ((query.isEmpty()) || (query.startsWith("#"))) continue;
+
+      Map<String, String> options = new HashMap<>();
+      String[] tokens = query.split("\\s+");
+      for (int i = 0; i < tokens.length; i += 2) {
+        if ((!"--category".equals(tokens[i])) && (!"--instance".equals(tokens[i])) && (!"--statistic".equals(tokens[i]))) {
+          throw new IllegalArgumentException(String.format("Invalid query at line %d, unknown option '%s'.", lineNumber, tokens[i]));
+        }
+
+        if (i + 1 >= tokens.length) throw new IllegalArgumentException(String.format("Invalid query at line %d, missing value for option '%s'.", lineNumber, tokens[i]));
+        options.put(tokens[i], tokens[i + 1]);
+      }
+
+      if (queries.containsKey(query)) throw new IllegalArgumentException(String.format("Invalid query at line %d, query '%s' is defined more than once.", lineNumber, query));
+      queries.put(query, new RegexValueFilter(options.get("--category"), options.get("--instance"), options.get("--statistic"), null));
+    }
+
+    if (queries.isEmpty()) throw new IllegalArgumentException("No queries found.");
+
+    return queries;
+  }
+
+  /**
+   * @param outputFile File where the results should be exported to, can be null.
+   * @param queryNumber Number of the query, starting at 1.
+   * @return The file where the results of the query should be exported to, as in {@code /path/to/output-1.csv}.
+   */
+  static File getQueryExportFile(File outputFile, int queryNumber) {
+    if (outputFile == null) return null;
+    String path = outputFile.getPath();
+    String extension = FilenameUtils.getExtension(path);
+
+    return new File(String.format("%s-%d%s", FilenameUtils.removeExtension(path), queryNumber, extension.isEmpty() ? "" : "." + extension));
+  }
+
+  /**
+   * Answers every query through a single pass over each statistics file, showing one results table per query.
+   */
+  private List<Object> showQueriesSummary(Path sourcePath, Path queriesPath, GroupCriteria groupCriteria, Statistic.Filter statFilter, boolean showEmptyStatistics, StatisticsService.Aggregation aggregation, File outputFile) {
+    List<String> lines;
+    List<Object> commandResult = new ArrayList<>();
+
+    try {
+      lines = filesService.readLines(queriesPath);
+    } catch (IOException ioException) {
+      throw new IllegalArgumentException(String.format("Queries file %s can not be read: %s.", queriesPath.toAbsolutePath().toString(), ioException.getMessage()), ioException);
+    }
+
+    Map<String, ValueFilter> queries = parseQueries(lines);
+    List<List<ParsingResult<Sampling>>> queryResults = statisticsService.querySampling(sourcePath, new ArrayList<>(queries.values()));
+
+    if (queryResults.get(0).isEmpty()) {
+      commandResult.add("No statistics files found.");
+    } else {
+      int queryNumber = 0;
+      List<Object> exportMessages = new ArrayList<>();
+
+      for (String query : queries.keySet()) {
+        List<ParsingResult<Sampling>> parsingResults = queryResults.get(queryNumber++);
+        Table resultsTable = GroupCriteria.Sampling.equals(groupCriteria) ? buildTableGroupedBySampling(sourcePath, showEmptyStatistics, statFilter, aggregation, parsingResults) : buildTableGroupedByStatistic(sourcePath, showEmptyStatistics, statFilter, aggregation, parsingResults);
+
+        commandResult.add(String.format("Query %d: %s", queryNumber, query));
+        commandResult.add(resultsTable != null ? resultsTable : "No matching results found.");
+        exportResultsTable(resultsTable, getQueryExportFile(outputFile, queryNumber), exportMessages);
+      }
+
+      // Parsing errors and warnings are the same for every query.
+      Table errorsTable = buildErrorsTable(sourcePath, queryResults.get(0));
+      if (errorsTable != null) commandResult.add(errorsTable);
+      Table warningsTable = buildWarningsTable(sourcePath, queryResults.get(0));
+      if (warningsTable != null) commandResult.add(warningsTable);
+      commandResult.addAll(exportMessages);
+    }
+
+    return commandResult;
+  }
+
   @ShellMethod(key = "show statistics summary", value = "Shows Minimum, Maximum, Average, Last Value and Standard Deviation values for a (set of) defined statistics.")
   List<?> showStatisticsSummary(
       @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
       @ShellOption(help = "Whether to group results by Sampling or Statistic.", value = "--groupBy", defaultValue = "Sampling") GroupCriteria groupCriteria,
       @ShellOption(help = "Filter to use (none, per second or per sample) when showing results.", value = "--filter", defaultValue = "None") Statistic.Filter statFilter,
       @ShellOption(help = "Whether to include statistics for which all sample values are 0.", value = "--showEmptyStatistics", arity = 1, defaultValue = "false") boolean showEmptyStatistics,
-      @ShellOption(help = "Category of the statistic to search for (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
-      @ShellOption(help = "Instance of the statistic to search for (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
-      @ShellOption(help = "Name of the statistic to search for (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Category of the statistic to search for (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL, valueProvider = CategoryValueProvider.class) String categoryId,
+      @ShellOption(help = "Instance of the statistic to search for (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL, valueProvider = InstanceValueProvider.class) String instanceId,
+      @ShellOption(help = "Name of the statistic to search for (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL, valueProvider = StatisticValueProvider.class) String statisticId,
+      @ShellOption(help = "Function (Sum, Avg or Max) used to combine each statistic across all files into a cluster level value.", value = "--aggregate", defaultValue = ShellOption.NULL) StatisticsService.Aggregation aggregation,
+      @ShellOption(help = "Derived statistics to compute, as name=expression (getLatency=delta(CachePerfStats.getTime)/delta(CachePerfStats.gets), for instance). Several definitions can be separated by ';'.", value = "--derived", defaultValue = ShellOption.NULL) String derived,
+      @ShellOption(help = "File with several queries to answer through a single pass over each statistics file, one per line (--category VMStats --statistic fdsOpen, for instance).", value = "--queries", defaultValue = ShellOption.NULL) File queriesFile,
+      @ShellOption(help = "Whether to stitch the archives rolled by each member into a single continuous sampling.", value = "--stitch", arity = 1, defaultValue = "false") boolean stitch,
       @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
 
+    boolean filterSpecified = (StringUtils.isNotBlank(categoryId)) || (StringUtils.isNotBlank(instanceId)) || (StringUtils.isNotBlank(statisticId)) || (StringUtils.isNotBlank(derived));
+
     // Limit the output, showing everything would be overkilling.
-    if ((StringUtils.isBlank(categoryId)) && (StringUtils.isBlank(instanceId)) && (StringUtils.isBlank(statisticId))) {
-      throw new IllegalArgumentException(String.format("Either '%s', '%s' or '%s' parameter should be specified.", "--category", "--instance", "--statistic"));
+    if ((!filterSpecified) && (queriesFile == null)) {
+      throw new IllegalArgumentException(String.format("Either '%s', '%s', '%s', '%s' or '%s' parameter should be specified.", "--category", "--instance", "--statistic", "--derived", "--queries"));
+    }
+
+    if ((filterSpecified) && (queriesFile != null)) {
+      throw new IllegalArgumentException(String.format("Parameter '%s' can not be combined with '%s', '%s', '%s' or '%s'.", "--queries", "--category", "--instance", "--statistic", "--derived"));
+    }
+
+    if ((stitch) && (queriesFile != null)) {
+      throw new IllegalArgumentException(String.format("Parameter '%s' can not be combined with '%s'.", "--queries", "--stitch"));
     }
 
     // Use paths from here.
     Path sourcePath = source.toPath();
 
-    // Check file permissions.
+    // Check file permissions and parameters.
     filesService.assertFileReadability(sourcePath);
+    if (queriesFile != null) {
+      filesService.assertFileReadability(queriesFile.toPath());
+
+      return showQueriesSummary(sourcePath, queriesFile.toPath(), groupCriteria, statFilter, showEmptyStatistics, aggregation, outputFile);
+    }
+
+    List<DerivedStatistic> derivedStatistics = DerivedStatistic.parse(derived);
 
     // Validations done, start with the command execution.
     List<Object> commandResult = new ArrayList<>();
-    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(sourcePath, Collections.singletonList(new RegexValueFilter(categoryId, instanceId, statisticId, null)));
+    List<ValueFilter> filters = new ArrayList<>();
+
+    // When derived statistics are requested, parsed statistics are included only if explicitly selected.
+    if ((derivedStatistics.isEmpty()) || (StringUtils.isNotBlank(categoryId)) || (StringUtils.isNotBlank(instanceId)) || (StringUtils.isNotBlank(statisticId))) {
+      filters.add(new RegexValueFilter(categoryId, instanceId, statisticId, null));
+    }
+
+    List<ParsingResult<Sampling>> parsingResults = stitch ? statisticsService.stitchSampling(sourcePath, filters, derivedStatistics) : statisticsService.parseSampling(sourcePath, filters, derivedStatistics);
 
     if (parsingResults.isEmpty()) {
       commandResult.add("No statistics files found.");
     } else {
-      Table resultsTable = GroupCriteria.Sampling.equals(groupCriteria) ? buildTableGroupedBySampling(sourcePath, showEmptyStatistics, statFilter, parsingResults) : buildTableGroupedByStatistic(sourcePath, showEmptyStatistics, statFilter, parsingResults);
+      Table resultsTable = GroupCriteria.Sampling.equals(groupCriteria) ? buildTableGroupedBySampling(sourcePath, showEmptyStatistics, statFilter, aggregation, parsingResults) : buildTableGroupedByStatistic(sourcePath, showEmptyStatistics, statFilter, aggregation, parsingResults);
       buildCommandResult(sourcePath, parsingResults, resultsTable, outputFile, commandResult);
       if (commandResult.isEmpty()) commandResult.add("No matching results found.");
     }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsTopCommand extends AbstractEntriesCommand {
+
+  @Autowired
+  public ShowStatisticsTopCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  double getValue(RankedStatistic statistic, StatisticsService.Ranking ranking) {
+    switch (ranking) {
+      case StdDev: return statistic.getStandardDeviation();
+      case Rate: return statistic.getRate();
+      default: return statistic.getMaximum();
+    }
+  }
+
+  @ShellMethod(key = "show statistics top", value = "Shows the statistics with the highest maximum, standard deviation or rate across all files.")
+  List<?> showStatisticsTop(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Category of the statistics to rank (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to rank (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to rank (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Criteria (Max, StdDev or Rate) used to rank the statistics.", value = "--by", defaultValue = "Max") StatisticsService.Ranking ranking,
+      @ShellOption(help = "Derived statistics to compute, as name=expression (getLatency=delta(CachePerfStats.getTime)/delta(CachePerfStats.gets), for instance). Several definitions can be separated by ';'.", value = "--derived", defaultValue = ShellOption.NULL) String derived,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "50") @Min(1) int limit,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    List<DerivedStatistic> derivedStatistics = DerivedStatistic.parse(derived);
+
+    // Validations done, start with the command execution.
+    List<ValueFilter> filters = new ArrayList<>();
+
+    // When derived statistics are requested, parsed statistics are included only if explicitly selected.
+    if ((derivedStatistics.isEmpty()) || (StringUtils.isNotBlank(categoryId)) || (StringUtils.isNotBlank(instanceId)) || (StringUtils.isNotBlank(statisticId))) {
+      filters.addAll(buildFilters(categoryId, instanceId, statisticId));
+    }
+
+    // Every file already holds its own top N, keep the global one. Ties are broken by statistic and file.
+    List<ParsingResult<List<RankedStatistic>>> parsingResults = statisticsService.rankStatistics(sourcePath, filters, derivedStatistics, ranking, limit);
+    List<String> headers = Arrays.asList("Statistic", "File", "Units", "Maximum", "Standard Deviation", "Rate (Per Second)");
+    Comparator<Entry<RankedStatistic>> order = Comparator.comparingDouble((Entry<RankedStatistic> entry) -> getValue(entry.data, ranking)).reversed()
+        .thenComparing(entry -> entry.data.getStatisticId())
+        .thenComparing(entry -> entry.filePath);
+
+    return buildEntriesResult(sourcePath, parsingResults, headers, order, limit, (row, entry) -> row
+        .addValue(entry.data.getStatisticId())
+        .addValue(entry.filePath)
+        .addValue(entry.data.getUnits())
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getMaximum()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getStandardDeviation()))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getRate())), outputFile);
+  }
+}
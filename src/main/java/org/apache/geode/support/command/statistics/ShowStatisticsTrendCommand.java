@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Trend;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class ShowStatisticsTrendCommand extends AbstractEntriesCommand {
+  private static final double SECONDS_PER_HOUR = 3600.0;
+
+  /**
+   * Statistics evaluated by default: used heap (and non heap) memory, disk space used by each disk directory and amount of entries.
+   */
+  static final String DEFAULT_STATISTIC = "usedMemory|diskSpace|entries";
+
+  @Autowired
+  public ShowStatisticsTrendCommand(FilesService filesService, TableExportService tableExportService, StatisticsService statisticsService) {
+    super(filesService, tableExportService, statisticsService);
+  }
+
+  @ShellMethod(key = "show statistics trend", value = "Shows the growth trend of the capacity related statistics on every member, along with the estimated time left until exhaustion.")
+  List<?> showStatisticsTrend(
+      @ShellOption(help = "Path to statistics file, or directory to scan for statistics files.", value = "--path") File source,
+      @ShellOption(help = "Category of the statistics to evaluate (VMMemoryUsageStats, DiskDirStatistics, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to evaluate (region name, disk directory, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to evaluate (usedMemory, diskSpace, entries, etc.). Can be a regular expression.", value = "--statistic", defaultValue = DEFAULT_STATISTIC) String statisticId,
+      @ShellOption(help = "Capacity against which the time to exhaustion is estimated. If not set, the maximum heap or disk space is used (when available).", value = "--capacity", defaultValue = ShellOption.NULL) Double capacity,
+      @ShellOption(help = "Maximum amount of points to which each statistic is downsampled before fitting the trend.", value = "--points", defaultValue = "200") @Min(3) int points,
+      @ShellOption(help = "Maximum amount of results to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = EXPORT_OPTION_HELP, value = EXPORT_OPTION, defaultValue = ShellOption.NULL) File outputFile) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    if ((capacity != null) && (capacity <= 0)) throw new IllegalArgumentException("The '--capacity' parameter should be positive.");
+
+    // Validations done, start with the command execution.
+    List<ParsingResult<List<Trend>>> parsingResults = statisticsService.estimateTrends(sourcePath, buildFilters(categoryId, instanceId, statisticId), capacity, points, limit);
+    List<String> headers = Arrays.asList("Statistic", "File", "Last Value", "Capacity", "Slope (/h)", "Robust Slope (/h)", "Exhaustion (h)");
+
+    // Soonest exhaustion first, then the steepest growth.
+    Comparator<Entry<Trend>> order = Comparator.comparing((Entry<Trend> entry) -> entry.data.isExhausting()).reversed()
+        .thenComparingLong(entry -> entry.data.getTimeToExhaustion())
+        .thenComparing(Comparator.comparingDouble((Entry<Trend> entry) -> entry.data.getRobustSlope()).reversed())
+        .thenComparing(entry -> entry.data.getStatisticId())
+        .thenComparing(entry -> entry.filePath);
+
+    return buildEntriesResult(sourcePath, parsingResults, headers, order, limit, (row, entry) -> row
+        .addValue(entry.data.getStatisticId())
+        .addValue(entry.filePath)
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getLastValue()))
+        .addValue(entry.data.hasCapacity() ? FormatUtils.getNumberFormatter().format(entry.data.getCapacity()) : "N/A")
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getSlope() * SECONDS_PER_HOUR))
+        .addValue(FormatUtils.getNumberFormatter().format(entry.data.getRobustSlope() * SECONDS_PER_HOUR))
+        .addValue(entry.data.isExhausting() ? FormatUtils.getNumberFormatter().format(entry.data.getTimeToExhaustion() / (SECONDS_PER_HOUR * 1000)) : "N/A"), outputFile);
+  }
+}
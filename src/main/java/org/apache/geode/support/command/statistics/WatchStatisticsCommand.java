@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.constraints.Min;
+
+import org.jline.terminal.Terminal;
+import org.jline.utils.InfoCmp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import org.springframework.shell.table.Table;
+import org.springframework.shell.table.TableModelBuilder;
+
+import org.apache.geode.support.command.AbstractCommand;
+import org.apache.geode.support.domain.statistics.LiveSummary;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.utils.FormatUtils;
+
+@ShellComponent
+@ShellCommandGroup("Statistics Commands")
+public class WatchStatisticsCommand extends AbstractCommand {
+  private Terminal terminal;
+  private StatisticsService statisticsService;
+
+  @Autowired
+  public WatchStatisticsCommand(FilesService filesService, StatisticsService statisticsService, Terminal terminal) {
+    super(filesService);
+    this.terminal = terminal;
+    this.statisticsService = statisticsService;
+  }
+
+  /**
+   * Builds the table shown after every update, with one row per statistic.
+   *
+   * @param liveSummaries The summaries received from the service layer, sorted by statistic id.
+   * @param limit Maximum amount of statistics to show.
+   * @return The summaries Table, or null if there are no summaries.
+   */
+  Table buildSummariesTable(List<LiveSummary> liveSummaries, int limit) {
+    TableModelBuilder<String> resultsModelBuilder = new TableModelBuilder<>();
+    resultsModelBuilder.addRow()
+        .addValue("Statistic")
+        .addValue("Units")
+        .addValue("Last")
+        .addValue("Minimum")
+        .addValue("Average")
+        .addValue("Maximum");
+
+    liveSummaries.stream()
+        .limit(limit)
+        .forEach(liveSummary -> resultsModelBuilder.addRow()
+            .addValue(liveSummary.getStatisticId())
+            .addValue(liveSummary.getUnits())
+            .addValue(FormatUtils.getNumberFormatter().format(liveSummary.getLastValue()))
+            .addValue(FormatUtils.getNumberFormatter().format(liveSummary.getMinimum()))
+            .addValue(FormatUtils.getNumberFormatter().format(liveSummary.getAverage()))
+            .addValue(FormatUtils.getNumberFormatter().format(liveSummary.getMaximum())));
+
+    return buildResultsTable(resultsModelBuilder);
+  }
+
+  /**
+   * Clears the screen and shows the latest summaries, invoked from the polling thread.
+   */
+  void showUpdate(String header, Table summariesTable) {
+    terminal.puts(InfoCmp.Capability.clear_screen);
+    terminal.writer().println(header);
+    terminal.writer().println(summariesTable != null ? summariesTable.render(terminal.getWidth()) : "No matching results found.");
+    terminal.flush();
+  }
+
+  @ShellMethod(key = "watch statistics", value = "Follows a statistics file still being written by a running member, showing the summaries of the statistics over a trailing time window every time new samples are written.")
+  List<?> watchStatistics(
+      @ShellOption(help = "Path to the statistics file to follow, compressed files are not supported.", value = "--path") File source,
+      @ShellOption(help = "Category of the statistics to show (VMStats, IndexStats, etc.). Can be a regular expression.", value = "--category", defaultValue = ShellOption.NULL) String categoryId,
+      @ShellOption(help = "Instance of the statistics to show (region name, function name, etc.). Can be a regular expression.", value = "--instance", defaultValue = ShellOption.NULL) String instanceId,
+      @ShellOption(help = "Name of the statistics to show (replyWaitsInProgress, delayDuration, etc.). Can be a regular expression.", value = "--statistic", defaultValue = ShellOption.NULL) String statisticId,
+      @ShellOption(help = "Length of the trailing window, as an amount followed by an optional unit (ms, s, m, h or d).", value = "--window", defaultValue = "5m") String window,
+      @ShellOption(help = "Time between checks for new samples, as an amount followed by an optional unit (ms, s, m, h or d).", value = "--interval", defaultValue = "5s") String interval,
+      @ShellOption(help = "Time after which the file stops being followed, as an amount followed by an optional unit (ms, s, m, h or d). Use Ctrl+C to stop before.", value = "--duration", defaultValue = "1h") String duration,
+      @ShellOption(help = "Maximum amount of statistics to show.", value = "--limit", defaultValue = "20") @Min(1) int limit,
+      @ShellOption(help = "Time Zone Id to use when showing results. If not set, the default from the system will be used.", value = "--timeZone", defaultValue = ShellOption.NULL) ZoneId zoneId) {
+
+    // Use paths from here.
+    Path sourcePath = source.toPath();
+
+    // Check file permissions and parameters.
+    filesService.assertFileReadability(sourcePath);
+    long windowLength = FormatUtils.parseDuration(window).toMillis();
+    long intervalLength = FormatUtils.parseDuration(interval).toMillis();
+    long durationLength = FormatUtils.parseDuration(duration).toMillis();
+    if (windowLength <= 0) throw new IllegalArgumentException("The '--window' parameter should be positive.");
+    if (intervalLength < 1000) throw new IllegalArgumentException("The '--interval' parameter should be at least one second.");
+    if (durationLength <= 0) throw new IllegalArgumentException("The '--duration' parameter should be positive.");
+
+    // Validations done, start with the command execution.
+    List<Object> commandResult = new ArrayList<>();
+    AtomicInteger updates = new AtomicInteger();
+    String zoneIdDescription = FormatUtils.formatTimeZoneId(zoneId);
+    ZoneId formattingZoneId = zoneId != null ? zoneId : ZoneId.systemDefault();
+    RegexValueFilter filter = new RegexValueFilter(categoryId, instanceId, statisticId, null);
+
+    CompletableFuture<Void> watch = statisticsService.watchStatistics(sourcePath, Collections.singletonList(filter), windowLength, intervalLength, liveSummaries -> {
+      String lastSample = liveSummaries.isEmpty() ? "-" : ZonedDateTime.ofInstant(Instant.ofEpochMilli(liveSummaries.stream().mapToLong(LiveSummary::getTimeStamp).max().getAsLong()), formattingZoneId).format(FormatUtils.getDateTimeFormatter());
+      String header = String.format("Following %s (update %d, window %s). Last Sample%s: %s.", sourcePath.getFileName(), updates.incrementAndGet(), window, zoneIdDescription, lastSample);
+      showUpdate(header, buildSummariesTable(liveSummaries, limit));
+    });
+
+    try {
+      watch.get(durationLength, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException timeoutException) {
+      // Requested duration elapsed.
+    } catch (InterruptedException interruptedException) {
+      // Stopped by the user (Ctrl+C), the interruption was meant only for this command so the flag is not restored.
+    } catch (ExecutionException executionException) {
+      commandResult.add(String.format("The file could not be read anymore: %s", executionException.getCause().getMessage()));
+    } finally {
+      watch.cancel(false);
+    }
+
+    commandResult.add(String.format("Stopped following %s after %d updates.", sourcePath.getFileName(), updates.get()));
+    return commandResult;
+  }
+}
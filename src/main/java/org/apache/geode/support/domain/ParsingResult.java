@@ -21,6 +21,7 @@ public class ParsingResult<T> {
   private final Path file;
   private final boolean success;
   private final Exception exception;
+  private final String warning;
 
   public boolean isSuccess() {
     return success;
@@ -41,6 +42,17 @@ public class ParsingResult<T> {
     return data;
   }
 
+  public boolean hasWarning() {
+    return warning != null;
+  }
+
+  /**
+   * @return Description of what went wrong while successfully parsing the file (like damaged regions skipped), null if nothing did.
+   */
+  public String getWarning() {
+    return warning;
+  }
+
   public Exception getException() {
     if (success)
       throw new IllegalArgumentException("Parsing succeeded, no data available.");
@@ -49,10 +61,15 @@ public class ParsingResult<T> {
   }
 
   public ParsingResult(Path file, T data) {
+    this(file, data, null);
+  }
+
+  public ParsingResult(Path file, T data, String warning) {
     this.file = file;
     this.data = data;
     this.success = true;
     this.exception = null;
+    this.warning = warning;
   }
 
   public ParsingResult(Path file, Exception exception) {
@@ -60,5 +77,6 @@ public class ParsingResult<T> {
     this.data = null;
     this.success = false;
     this.exception = exception;
+    this.warning = null;
   }
 }
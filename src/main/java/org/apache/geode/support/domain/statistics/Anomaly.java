@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Sample of a statistic that deviates from the rolling window of samples preceding it.
+ */
+public class Anomaly {
+  private final String statisticId;
+  private final long timeStamp;
+  private final double value;
+  private final double zScore;
+  private final double madScore;
+
+  public Anomaly(String statisticId, long timeStamp, double value, double zScore, double madScore) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.timeStamp = timeStamp;
+    this.value = value;
+    this.zScore = zScore;
+    this.madScore = madScore;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public long getTimeStamp() {
+    return timeStamp;
+  }
+
+  public double getValue() {
+    return value;
+  }
+
+  /**
+   * @return Distance to the mean of the window, in standard deviations.
+   */
+  public double getZScore() {
+    return zScore;
+  }
+
+  /**
+   * @return Distance to the median of the window, in (scaled) median absolute deviations.
+   */
+  public double getMadScore() {
+    return madScore;
+  }
+
+  @Override
+  public String toString() {
+    return "Anomaly{" +
+        "statisticId='" + statisticId + '\'' +
+        ", timeStamp=" + timeStamp +
+        ", value=" + value +
+        ", zScore=" + zScore +
+        ", madScore=" + madScore +
+        '}';
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Structure of a single category (resource type) found within a statistics file: the instances created for it and the statistics
+ * it defines, without any sampled value.
+ */
+public class CatalogEntry {
+  private final String categoryId;
+  private final List<String> instanceIds;
+  private final List<String> statisticIds;
+
+  public CatalogEntry(String categoryId, List<String> instanceIds, List<String> statisticIds) {
+    Objects.requireNonNull(categoryId, "CategoryId can not be null.");
+    Objects.requireNonNull(instanceIds, "InstanceIds can not be null.");
+    Objects.requireNonNull(statisticIds, "StatisticIds can not be null.");
+
+    this.categoryId = categoryId;
+    this.instanceIds = instanceIds;
+    this.statisticIds = statisticIds;
+  }
+
+  public String getCategoryId() {
+    return categoryId;
+  }
+
+  /**
+   * @return Text ids of the instances created for the category, sorted and without duplicates.
+   */
+  public List<String> getInstanceIds() {
+    return instanceIds;
+  }
+
+  /**
+   * @return Names of the statistics defined by the category, in archive order.
+   */
+  public List<String> getStatisticIds() {
+    return statisticIds;
+  }
+
+  @Override
+  public String toString() {
+    return "CatalogEntry{" +
+        "categoryId='" + categoryId + '\'' +
+        ", instances=" + instanceIds.size() +
+        ", statistics=" + statisticIds.size() +
+        '}';
+  }
+}
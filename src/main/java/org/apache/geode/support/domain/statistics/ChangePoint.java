@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Point in time at which the level (mean) of a statistic shifts.
+ */
+public class ChangePoint {
+  private final String statisticId;
+  private final long timeStamp;
+  private final double before;
+  private final double after;
+  private final double score;
+
+  public ChangePoint(String statisticId, long timeStamp, double before, double after, double score) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.timeStamp = timeStamp;
+    this.before = before;
+    this.after = after;
+    this.score = score;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  /**
+   * @return Time stamp of the first sample after the shift.
+   */
+  public long getTimeStamp() {
+    return timeStamp;
+  }
+
+  /**
+   * @return Mean of the samples before the shift.
+   */
+  public double getBefore() {
+    return before;
+  }
+
+  /**
+   * @return Mean of the samples after the shift.
+   */
+  public double getAfter() {
+    return after;
+  }
+
+  public double getMagnitude() {
+    return after - before;
+  }
+
+  /**
+   * @return Fraction (between 0 and 1) of the variance of the whole series explained by the shift.
+   */
+  public double getScore() {
+    return score;
+  }
+
+  @Override
+  public String toString() {
+    return "ChangePoint{" +
+        "statisticId='" + statisticId + '\'' +
+        ", timeStamp=" + timeStamp +
+        ", before=" + before +
+        ", after=" + after +
+        ", score=" + score +
+        '}';
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+/**
+ * Estimated difference between the clock of a member and the clock of the member used as reference, computed by lining up
+ * cluster-wide events (membership changes, etc.) seen by both of them.
+ */
+public class ClockSkew {
+  private final long offset;
+  private final int events;
+  private final int matchedEvents;
+  private final boolean reference;
+
+  public ClockSkew(long offset, int events, int matchedEvents, boolean reference) {
+    if (events < 0) throw new IllegalArgumentException("Events should be zero or positive.");
+    if ((matchedEvents < 0) || (matchedEvents > events)) throw new IllegalArgumentException("Matched events should be between zero and the amount of events.");
+
+    this.offset = offset;
+    this.events = events;
+    this.matchedEvents = matchedEvents;
+    this.reference = reference;
+  }
+
+  /**
+   * @return Milliseconds that should be added to the time stamps of the member to align them with the clock of the reference member.
+   */
+  public long getOffset() {
+    return offset;
+  }
+
+  /**
+   * @return Amount of events found within the statistics of the member.
+   */
+  public int getEvents() {
+    return events;
+  }
+
+  /**
+   * @return Amount of events of the member successfully paired with an event of the reference member.
+   */
+  public int getMatchedEvents() {
+    return matchedEvents;
+  }
+
+  /**
+   * @return Whether the member is the one used as reference.
+   */
+  public boolean isReference() {
+    return reference;
+  }
+
+  /**
+   * @return Whether the offset could be estimated, that is, whether at least one event was paired with the reference member.
+   */
+  public boolean isEstimated() {
+    return matchedEvents > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ClockSkew{" +
+        "offset=" + offset +
+        ", events=" + events +
+        ", matchedEvents=" + matchedEvents +
+        ", reference=" + reference +
+        '}';
+  }
+}
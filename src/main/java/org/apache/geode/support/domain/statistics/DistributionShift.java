@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Change in the distribution of the samples of a statistic, between the windows before and after a given time.
+ */
+public class DistributionShift {
+  private final String statisticId;
+  private final double before;
+  private final double after;
+  private final double kolmogorovSmirnov;
+
+  public DistributionShift(String statisticId, double before, double after, double kolmogorovSmirnov) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.before = before;
+    this.after = after;
+    this.kolmogorovSmirnov = kolmogorovSmirnov;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  /**
+   * @return Mean of the samples within the window before the time.
+   */
+  public double getBefore() {
+    return before;
+  }
+
+  /**
+   * @return Mean of the samples within the window after the time.
+   */
+  public double getAfter() {
+    return after;
+  }
+
+  public double getMeanShift() {
+    return after - before;
+  }
+
+  /**
+   * @return Maximum distance (between 0 and 1) between the empirical cumulative distributions of both windows.
+   */
+  public double getKolmogorovSmirnov() {
+    return kolmogorovSmirnov;
+  }
+
+  @Override
+  public String toString() {
+    return "DistributionShift{" +
+        "statisticId='" + statisticId + '\'' +
+        ", before=" + before +
+        ", after=" + after +
+        ", kolmogorovSmirnov=" + kolmogorovSmirnov +
+        '}';
+  }
+}
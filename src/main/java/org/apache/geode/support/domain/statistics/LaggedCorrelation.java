@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+/**
+ * Strongest correlation found between a candidate and a target series when shifting the candidate in time.
+ * A positive lag means that the candidate leads the target (changes in the candidate show up in the target lag points later),
+ * while a negative lag means that the candidate follows the target.
+ */
+public class LaggedCorrelation {
+  private final int lag;
+  private final double coefficient;
+
+  public LaggedCorrelation(int lag, double coefficient) {
+    this.lag = lag;
+    this.coefficient = coefficient;
+  }
+
+  /**
+   * @return The lag, in time grid points, at which the strongest correlation was found.
+   */
+  public int getLag() {
+    return lag;
+  }
+
+  /**
+   * @return The correlation coefficient at the lag, {@link Double#NaN} if it couldn't be computed (constant series, for instance).
+   */
+  public double getCoefficient() {
+    return coefficient;
+  }
+
+  @Override
+  public String toString() {
+    return "LaggedCorrelation{" +
+        "lag=" + lag +
+        ", coefficient=" + coefficient +
+        '}';
+  }
+}
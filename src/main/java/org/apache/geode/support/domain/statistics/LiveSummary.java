@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Values of a statistic over the trailing time window of a statistics file that is still being written, refreshed every time
+ * new samples are read from the file.
+ */
+public class LiveSummary {
+  private final String statisticId;
+  private final String units;
+  private final long timeStamp;
+  private final double lastValue;
+  private final double minimum;
+  private final double average;
+  private final double maximum;
+
+  public LiveSummary(String statisticId, String units, long timeStamp, double lastValue, double minimum, double average, double maximum) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.units = units;
+    this.timeStamp = timeStamp;
+    this.lastValue = lastValue;
+    this.minimum = minimum;
+    this.average = average;
+    this.maximum = maximum;
+  }
+
+  /**
+   * @param statisticId Identifier of the statistic to which the series belongs.
+   * @param units Units of the statistic.
+   * @param series Values sampled within the window, can't be empty.
+   * @return The summary of the series.
+   */
+  public static LiveSummary of(String statisticId, String units, Series series) {
+    Objects.requireNonNull(series, "Series can not be null.");
+    if (series.isEmpty()) throw new IllegalArgumentException("Series can not be empty.");
+
+    long[] timeStamps = series.getTimeStamps();
+    return new LiveSummary(statisticId, units, timeStamps[timeStamps.length - 1], series.getLastValue(), series.getMinimum(), series.getAverage(), series.getMaximum());
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public String getUnits() {
+    return units;
+  }
+
+  /**
+   * @return Time stamp (millis since midnight, Jan 1, 1970 UTC) of the last sample within the window.
+   */
+  public long getTimeStamp() {
+    return timeStamp;
+  }
+
+  public double getLastValue() {
+    return lastValue;
+  }
+
+  public double getMinimum() {
+    return minimum;
+  }
+
+  public double getAverage() {
+    return average;
+  }
+
+  public double getMaximum() {
+    return maximum;
+  }
+
+  @Override
+  public String toString() {
+    return "LiveSummary{" +
+        "statisticId='" + statisticId + '\'' +
+        ", units='" + units + '\'' +
+        ", timeStamp=" + timeStamp +
+        ", lastValue=" + lastValue +
+        ", minimum=" + minimum +
+        ", average=" + average +
+        ", maximum=" + maximum +
+        '}';
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+/**
+ * Gap between two consecutive samples of a statistics file bigger than expected, usually caused by the whole JVM being frozen
+ * (garbage collection, swapping, etc.) and the sampler thread not being able to run. Time stamps are expressed as millis since
+ * midnight, Jan 1, 1970 UTC.
+ */
+public class Pause {
+  private final long startTimeStamp;
+  private final long endTimeStamp;
+
+  public Pause(long startTimeStamp, long endTimeStamp) {
+    if (endTimeStamp < startTimeStamp) throw new IllegalArgumentException("End time stamp should be equal to or greater than start time stamp.");
+
+    this.startTimeStamp = startTimeStamp;
+    this.endTimeStamp = endTimeStamp;
+  }
+
+  /**
+   * @return Time stamp of the last sample taken before the pause.
+   */
+  public long getStartTimeStamp() {
+    return startTimeStamp;
+  }
+
+  /**
+   * @return Time stamp of the first sample taken after the pause.
+   */
+  public long getEndTimeStamp() {
+    return endTimeStamp;
+  }
+
+  /**
+   * @return Length of the pause, in milliseconds.
+   */
+  public long getDuration() {
+    return endTimeStamp - startTimeStamp;
+  }
+
+  @Override
+  public String toString() {
+    return "Pause{" +
+        "startTimeStamp=" + startTimeStamp +
+        ", endTimeStamp=" + endTimeStamp +
+        '}';
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Values used to rank a statistic against the rest, computed in a single pass over its samples.
+ * Counters are evaluated as rates per second, gauges as sampled.
+ */
+public class RankedStatistic {
+  private final String statisticId;
+  private final String units;
+  private final double maximum;
+  private final double standardDeviation;
+  private final double rate;
+
+  public RankedStatistic(String statisticId, String units, double maximum, double standardDeviation, double rate) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.units = units;
+    this.maximum = maximum;
+    this.standardDeviation = standardDeviation;
+    this.rate = rate;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public String getUnits() {
+    return units;
+  }
+
+  public double getMaximum() {
+    return maximum;
+  }
+
+  public double getStandardDeviation() {
+    return standardDeviation;
+  }
+
+  /**
+   * @return Average change per second along the sampled interval.
+   */
+  public double getRate() {
+    return rate;
+  }
+
+  @Override
+  public String toString() {
+    return "RankedStatistic{" +
+        "statisticId='" + statisticId + '\'' +
+        ", units='" + units + '\'' +
+        ", maximum=" + maximum +
+        ", standardDeviation=" + standardDeviation +
+        ", rate=" + rate +
+        '}';
+  }
+}
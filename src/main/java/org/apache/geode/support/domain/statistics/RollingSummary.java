@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Highest and lowest values reached by a rolling function (maximum, minimum or average) of a statistic over a sliding time
+ * window, along with the time stamps (millis since midnight, Jan 1, 1970 UTC) at which the matching windows finished.
+ */
+public class RollingSummary {
+  private final String statisticId;
+  private final long highestTimeStamp;
+  private final double highest;
+  private final long lowestTimeStamp;
+  private final double lowest;
+
+  public RollingSummary(String statisticId, long highestTimeStamp, double highest, long lowestTimeStamp, double lowest) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.highestTimeStamp = highestTimeStamp;
+    this.highest = highest;
+    this.lowestTimeStamp = lowestTimeStamp;
+    this.lowest = lowest;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public long getHighestTimeStamp() {
+    return highestTimeStamp;
+  }
+
+  public double getHighest() {
+    return highest;
+  }
+
+  public long getLowestTimeStamp() {
+    return lowestTimeStamp;
+  }
+
+  public double getLowest() {
+    return lowest;
+  }
+
+  @Override
+  public String toString() {
+    return "RollingSummary{" +
+        "statisticId='" + statisticId + '\'' +
+        ", highestTimeStamp=" + highestTimeStamp +
+        ", highest=" + highest +
+        ", lowestTimeStamp=" + lowestTimeStamp +
+        ", lowest=" + lowest +
+        '}';
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Value of a statistic as sampled at a given time, without any filter applied.
+ */
+public class SampledValue {
+  private final String statisticId;
+  private final String units;
+  private final long timeStamp;
+  private final double value;
+
+  public SampledValue(String statisticId, String units, long timeStamp, double value) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.units = units;
+    this.timeStamp = timeStamp;
+    this.value = value;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public String getUnits() {
+    return units;
+  }
+
+  /**
+   * @return Time stamp (millis since midnight, Jan 1, 1970 UTC) at which the value was sampled.
+   */
+  public long getTimeStamp() {
+    return timeStamp;
+  }
+
+  public double getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "SampledValue{" +
+        "statisticId='" + statisticId + '\'' +
+        ", units='" + units + '\'' +
+        ", timeStamp=" + timeStamp +
+        ", value=" + value +
+        '}';
+  }
+}
@@ -85,6 +85,16 @@ public class Sampling {
     return !empty;
   }
 
+  /**
+   * Sets the time offset of every statistic within the sampling, used to correct the clock skew of the member that generated it.
+   *
+   * @param timeOffset Milliseconds to add to the time stamps of all statistics, can be negative.
+   * @see Statistic#setTimeOffset(long)
+   */
+  public void setTimeOffset(long timeOffset) {
+    this.categories.values().forEach(category -> category.getStatistics().values().forEach(statistic -> statistic.setTimeOffset(timeOffset)));
+  }
+
   @Override
   public String toString() {
     return "Sampling{" +
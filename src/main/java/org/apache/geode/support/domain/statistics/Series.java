@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Sequence of values taken from a single statistic, each one paired with the time stamp (millis since midnight, Jan 1, 1970 UTC) at which it was sampled.
+ */
+public class Series {
+  private final long[] timeStamps;
+  private final double[] values;
+
+  public Series(long[] timeStamps, double[] values) {
+    Objects.requireNonNull(values, "Values can not be null.");
+    Objects.requireNonNull(timeStamps, "TimeStamps can not be null.");
+    if (timeStamps.length != values.length) throw new IllegalArgumentException("TimeStamps and Values should have the same length.");
+
+    this.values = values;
+    this.timeStamps = timeStamps;
+  }
+
+  public long[] getTimeStamps() {
+    return timeStamps;
+  }
+
+  public double[] getValues() {
+    return values;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  public double getMinimum() {
+    return Arrays.stream(values).min().orElse(0.0);
+  }
+
+  public double getMaximum() {
+    return Arrays.stream(values).max().orElse(0.0);
+  }
+
+  public double getAverage() {
+    return Arrays.stream(values).average().orElse(0.0);
+  }
+
+  public double getLastValue() {
+    return values.length == 0 ? 0.0 : values[values.length - 1];
+  }
+
+  /**
+   * Sample standard deviation, calculated the same way as {@link org.apache.geode.internal.statistics.StatValue#getSnapshotsStandardDeviation()}.
+   *
+   * @return The standard deviation of the values, or 0 if there are less than 2 of them.
+   */
+  public double getStandardDeviation() {
+    if (values.length < 2) return 0.0;
+
+    double average = getAverage();
+    double sum = 0.0;
+    for (double value : values) sum += (value - average) * (value - average);
+
+    return Math.sqrt(sum / (values.length - 1));
+  }
+
+  @Override
+  public String toString() {
+    return "Series{" +
+        "size=" + values.length +
+        '}';
+  }
+}
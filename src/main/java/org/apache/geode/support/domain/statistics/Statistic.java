@@ -32,6 +32,7 @@ public class Statistic {
   private final boolean counter;
   private final String description;
   private final StatValue sampling;
+  private long timeOffset = 0;
 
   public enum Filter {
     None(StatValue.FILTER_NONE),
@@ -67,6 +68,43 @@ public class Statistic {
     this.sampling.setFilter(filter.getValue());
   }
 
+  public long getTimeOffset() {
+    return timeOffset;
+  }
+
+  /**
+   * Sets the amount of milliseconds added to every time stamp returned by {@link #getSeries()} and {@link #getRawSeries()}, used to
+   * correct the clock skew of the member that generated the statistic so its samples can be aligned with the ones from other members.
+   *
+   * @param timeOffset Milliseconds to add to the time stamps, can be negative.
+   */
+  public void setTimeOffset(long timeOffset) {
+    this.timeOffset = timeOffset;
+  }
+
+  private long[] applyTimeOffset(long[] timeStamps) {
+    if (timeOffset != 0) {
+      for (int i = 0; i < timeStamps.length; i++) timeStamps[i] += timeOffset;
+    }
+
+    return timeStamps;
+  }
+
+  /**
+   * Returns a view of this statistic restricted to the samples taken within the interval, backed by the same values.
+   * The filter and time offset of the returned statistic are the same as the ones from this statistic.
+   *
+   * @param startTime Time stamp (millis since midnight, Jan 1, 1970 UTC) of the first sample to include, -1 to include from the first one.
+   * @param endTime Time stamp (millis since midnight, Jan 1, 1970 UTC) before which samples are included, -1 to include until the last one.
+   * @return The trimmed statistic.
+   */
+  public Statistic trim(long startTime, long endTime) {
+    Statistic trimmed = new Statistic(sampling.createTrimmed(startTime, endTime));
+    trimmed.setTimeOffset(timeOffset);
+
+    return trimmed;
+  }
+
   public String getName() {
     return name;
   }
@@ -103,6 +141,31 @@ public class Statistic {
     return sampling.getSnapshotsMostRecent();
   }
 
+  /**
+   * Returns the filtered values of the statistic, each one paired with the time stamp at which it was sampled.
+   * Values filtered per second or per sample are computed from two consecutive samples, so the time stamp of the latest one is used.
+   * The time offset, if any, is added to the time stamps.
+   *
+   * @return The Series containing the filtered values and their matching time stamps.
+   */
+  public Series getSeries() {
+    double[] values = sampling.getSnapshots();
+    long[] rawTimeStamps = sampling.getRawAbsoluteTimeStamps();
+    long[] timeStamps = Arrays.copyOfRange(rawTimeStamps, rawTimeStamps.length - values.length, rawTimeStamps.length);
+
+    return new Series(applyTimeOffset(timeStamps), values);
+  }
+
+  /**
+   * Returns the raw values of the statistic, as sampled and without applying any filter, each one paired with the time stamp at which it was sampled.
+   * The time offset, if any, is added to the time stamps.
+   *
+   * @return The Series containing the raw values and their matching time stamps.
+   */
+  public Series getRawSeries() {
+    return new Series(applyTimeOffset(sampling.getRawAbsoluteTimeStamps()), sampling.getRawSnapshots());
+  }
+
   public boolean isEmpty() {
     Set<Double> uniqueValues = Arrays.stream(sampling.getSnapshots()).boxed().collect(Collectors.toSet());
 
@@ -116,6 +179,7 @@ public class Statistic {
         ", units='" + units + '\'' +
         ", counter=" + counter +
         ", description='" + description + '\'' +
+        ", timeOffset=" + timeOffset +
         ", sampling=" + sampling +
         '}';
   }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Pair of profiles for the same statistic, one built from the baseline set of files and the other one from the candidate set.
+ */
+public class StatisticComparison {
+  private final String statisticId;
+  private final StatisticProfile baseline;
+  private final StatisticProfile candidate;
+
+  public StatisticComparison(String statisticId, StatisticProfile baseline, StatisticProfile candidate) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+    Objects.requireNonNull(baseline, "Baseline profile can not be null.");
+    Objects.requireNonNull(candidate, "Candidate profile can not be null.");
+
+    this.statisticId = statisticId;
+    this.baseline = baseline;
+    this.candidate = candidate;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public StatisticProfile getBaseline() {
+    return baseline;
+  }
+
+  public StatisticProfile getCandidate() {
+    return candidate;
+  }
+
+  @Override
+  public String toString() {
+    return "StatisticComparison{" +
+        "statisticId='" + statisticId + '\'' +
+        ", baseline=" + baseline +
+        ", candidate=" + candidate +
+        '}';
+  }
+}
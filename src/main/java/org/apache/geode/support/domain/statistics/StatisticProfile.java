@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Distribution of the values sampled for a single statistic, possibly across several files.
+ * Values are kept sorted so profiles can be merged in linear time and quantiles can be read directly.
+ */
+public class StatisticProfile {
+  private final String units;
+  private final double[] values;
+  private final double average;
+  private final double standardDeviation;
+
+  private StatisticProfile(String units, double[] sortedValues, boolean sorted) {
+    Objects.requireNonNull(sortedValues, "Values can not be null.");
+    if (sortedValues.length == 0) throw new IllegalArgumentException("Values can not be empty.");
+    if (!sorted) Arrays.sort(sortedValues);
+
+    double mean = 0, sumOfSquares = 0;
+    for (int i = 0; i < sortedValues.length; i++) {
+      double delta = sortedValues[i] - mean;
+      mean += delta / (i + 1);
+      sumOfSquares += delta * (sortedValues[i] - mean);
+    }
+
+    this.units = units;
+    this.values = sortedValues;
+    this.average = mean;
+    this.standardDeviation = sortedValues.length < 2 ? 0 : Math.sqrt(sumOfSquares / (sortedValues.length - 1));
+  }
+
+  public StatisticProfile(String units, double[] values) {
+    this(units, Arrays.copyOf(Objects.requireNonNull(values, "Values can not be null."), values.length), false);
+  }
+
+  /**
+   * Merges two sorted arrays into a new sorted array.
+   */
+  static double[] merge(double[] first, double[] second) {
+    double[] result = new double[first.length + second.length];
+    int i = 0, j = 0, k = 0;
+    while (i < first.length && j < second.length) result[k++] = first[i] <= second[j] ? first[i++] : second[j++];
+    while (i < first.length) result[k++] = first[i++];
+    while (j < second.length) result[k++] = second[j++];
+
+    return result;
+  }
+
+  /**
+   * Merges the values of several profiles of the same statistic into a single one, pairwise so the total cost is
+   * proportional to the amount of values times the logarithm of the amount of profiles.
+   *
+   * @param profiles Profiles to merge, usually one per file.
+   * @return The profile containing the values from all profiles.
+   */
+  public static StatisticProfile merge(List<StatisticProfile> profiles) {
+    if ((profiles == null) || (profiles.isEmpty())) throw new IllegalArgumentException("Profiles can not be empty.");
+    if (profiles.size() == 1) return profiles.get(0);
+
+    double[][] pending = profiles.stream().map(profile -> profile.values).toArray(double[][]::new);
+    int length = pending.length;
+    while (length > 1) {
+      int merged = 0;
+      for (int i = 0; i < length; i += 2) pending[merged++] = (i + 1 < length) ? merge(pending[i], pending[i + 1]) : pending[i];
+      length = merged;
+    }
+
+    return new StatisticProfile(profiles.get(0).getUnits(), pending[0], true);
+  }
+
+  public String getUnits() {
+    return units;
+  }
+
+  public int getCount() {
+    return values.length;
+  }
+
+  public double getMinimum() {
+    return values[0];
+  }
+
+  public double getMaximum() {
+    return values[values.length - 1];
+  }
+
+  public double getAverage() {
+    return average;
+  }
+
+  /**
+   * @return Sample standard deviation, or 0 if there are less than 2 values.
+   */
+  public double getStandardDeviation() {
+    return standardDeviation;
+  }
+
+  /**
+   * Quantile estimated through linear interpolation between the closest ranks.
+   *
+   * @param probability Probability of the quantile, between 0 and 1 (both inclusive).
+   * @return The value below which the given fraction of the values fall.
+   */
+  public double getQuantile(double probability) {
+    if ((probability < 0) || (probability > 1)) throw new IllegalArgumentException("Probability should be between 0 and 1.");
+
+    double rank = probability * (values.length - 1);
+    int lower = (int) Math.floor(rank);
+    int upper = Math.min(lower + 1, values.length - 1);
+
+    return values[lower] + (rank - lower) * (values[upper] - values[lower]);
+  }
+
+  public boolean isEmpty() {
+    return (values[0] == 0) && (values[values.length - 1] == 0);
+  }
+
+  @Override
+  public String toString() {
+    return "StatisticProfile{" +
+        "units='" + units + '\'' +
+        ", count=" + values.length +
+        ", average=" + average +
+        ", standardDeviation=" + standardDeviation +
+        '}';
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Collection;
+
+/**
+ * Fixed set of equally spaced time stamps (millis since midnight, Jan 1, 1970 UTC) on which statistics from different members can be
+ * resampled and compared point by point.
+ */
+public class TimeGrid {
+  private final long startTime;
+  private final long step;
+  private final int points;
+
+  public TimeGrid(long startTime, long step, int points) {
+    if (step <= 0) throw new IllegalArgumentException("Step should be positive.");
+    if (points < 0) throw new IllegalArgumentException("Points should be zero or positive.");
+
+    this.startTime = startTime;
+    this.step = step;
+    this.points = points;
+  }
+
+  public long getStartTime() {
+    return startTime;
+  }
+
+  public long getStep() {
+    return step;
+  }
+
+  public int getPoints() {
+    return points;
+  }
+
+  public long getTimeStamp(int index) {
+    return startTime + index * step;
+  }
+
+  public long[] getTimeStamps() {
+    long[] timeStamps = new long[points];
+    for (int i = 0; i < points; i++) timeStamps[i] = getTimeStamp(i);
+
+    return timeStamps;
+  }
+
+  /**
+   * Builds the grid covering the interval sampled by all the statistics (from the earliest to the latest raw sample), with the step
+   * adjusted so the amount of points doesn't exceed the requested maximum. The start is floored to a multiple of the step, so grids
+   * built from different sets of statistics share their points, and the step accounts for the floored amount as well.
+   *
+   * @param statistics The statistics to cover.
+   * @param minimumStep Minimum interval, in milliseconds, between two consecutive grid points.
+   * @param maximumPoints Maximum amount of points of the grid.
+   * @return The TimeGrid covering all samples, or an empty grid if there are no samples at all.
+   */
+  public static TimeGrid covering(Collection<Statistic> statistics, long minimumStep, int maximumPoints) {
+    if (minimumStep <= 0) throw new IllegalArgumentException("Minimum step should be positive.");
+    if (maximumPoints <= 0) throw new IllegalArgumentException("Maximum points should be positive.");
+    long startTime = Long.MAX_VALUE;
+    long finishTime = Long.MIN_VALUE;
+
+    for (Statistic statistic : statistics) {
+      long[] timeStamps = statistic.getRawSeries().getTimeStamps();
+      if (timeStamps.length == 0) continue;
+
+      startTime = Math.min(startTime, timeStamps[0]);
+      finishTime = Math.max(finishTime, timeStamps[timeStamps.length - 1]);
+    }
+
+    if (startTime > finishTime) return new TimeGrid(0, minimumStep, 0);
+    long duration = finishTime - startTime;
+    long intervals = Math.max(1, maximumPoints - 1);
+    long step = Math.max(minimumStep, (duration + intervals - 1) / intervals);
+    long flooredStartTime = Math.floorDiv(startTime, step) * step;
+
+    // Flooring the start extends the interval to cover, the step grows until the finish still fits within the maximum points. A
+    // single interval never catches up with a negative start, which moves away as the step grows.
+    while ((finishTime - flooredStartTime > step * intervals) && ((intervals > 1) || (startTime >= 0))) {
+      step = (finishTime - flooredStartTime + intervals - 1) / intervals;
+      flooredStartTime = Math.floorDiv(startTime, step) * step;
+    }
+
+    return new TimeGrid(flooredStartTime, step, (int) Math.min(maximumPoints, ((finishTime - flooredStartTime) / step) + 1));
+  }
+
+  @Override
+  public String toString() {
+    return "TimeGrid{" +
+        "startTime=" + startTime +
+        ", step=" + step +
+        ", points=" + points +
+        '}';
+  }
+}
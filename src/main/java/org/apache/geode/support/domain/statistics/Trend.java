@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import java.util.Objects;
+
+/**
+ * Linear trend of a statistic, fitted both through ordinary least squares and through the (robust) Theil-Sen estimator, along with
+ * the estimated time left until the robust trend reaches the capacity of the resource measured by the statistic.
+ */
+public class Trend {
+  private final String statisticId;
+  private final String units;
+  private final double lastValue;
+  private final double slope;
+  private final double robustSlope;
+  private final double capacity;
+  private final long timeToExhaustion;
+
+  /**
+   * @param statisticId Statistic identifier.
+   * @param units Units of the statistic.
+   * @param lastValue Last value of the evaluated series.
+   * @param slope Change per second, fitted through ordinary least squares.
+   * @param robustSlope Change per second, fitted through the Theil-Sen estimator.
+   * @param capacity Capacity of the resource measured by the statistic, {@link Double#NaN} if unknown.
+   * @param timeToExhaustion Milliseconds after the last sample at which the robust trend reaches the capacity, -1 if never or unknown.
+   */
+  public Trend(String statisticId, String units, double lastValue, double slope, double robustSlope, double capacity, long timeToExhaustion) {
+    Objects.requireNonNull(statisticId, "Statistic id can not be null.");
+
+    this.statisticId = statisticId;
+    this.units = units;
+    this.lastValue = lastValue;
+    this.slope = slope;
+    this.robustSlope = robustSlope;
+    this.capacity = capacity;
+    this.timeToExhaustion = timeToExhaustion;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  public String getUnits() {
+    return units;
+  }
+
+  public double getLastValue() {
+    return lastValue;
+  }
+
+  public double getSlope() {
+    return slope;
+  }
+
+  public double getRobustSlope() {
+    return robustSlope;
+  }
+
+  public double getCapacity() {
+    return capacity;
+  }
+
+  public boolean hasCapacity() {
+    return !Double.isNaN(capacity);
+  }
+
+  public long getTimeToExhaustion() {
+    return timeToExhaustion;
+  }
+
+  public boolean isExhausting() {
+    return timeToExhaustion >= 0;
+  }
+
+  @Override
+  public String toString() {
+    return "Trend{" +
+        "statisticId='" + statisticId + '\'' +
+        ", units='" + units + '\'' +
+        ", lastValue=" + lastValue +
+        ", slope=" + slope +
+        ", robustSlope=" + robustSlope +
+        ", capacity=" + capacity +
+        ", timeToExhaustion=" + timeToExhaustion +
+        '}';
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.derived;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.domain.statistics.Series;
+
+/**
+ * Statistic computed from other statistics through an arithmetic expression, as in
+ * {@code getLatency=delta(CachePerfStats.getTime)/delta(CachePerfStats.gets)}. The expression is compiled once, when the instance
+ * is created, and can then be evaluated over any set of aligned series.
+ * <p>
+ * Supported elements are numbers, statistic references ({@code Category.statistic} or {@code Category[instance].statistic}),
+ * the {@code + - * /} operators, parentheses and the {@code abs(x)}, {@code delta(x)}, {@code rate(x)}, {@code min(x, y)} and
+ * {@code max(x, y)} functions; {@code delta} and {@code rate} (per second) use the difference between consecutive samples.
+ * <p>
+ * Operands are always evaluated over their raw values, counters included, and the result is a gauge: the ratio of two counters
+ * is the average since the member started, {@code delta} or {@code rate} should be used to get the value per sample.
+ */
+public class DerivedStatistic {
+  private static final Pattern DEFINITION_PATTERN = Pattern.compile("^\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*=(.+)$");
+  private final String name;
+  private final String expression;
+  private final Expression root;
+  private final List<Operand> operands;
+
+  /**
+   * @param definition Definition of the derived statistic, with the format {@code name=expression}.
+   * @throws IllegalArgumentException If the definition or the expression are not valid.
+   */
+  public DerivedStatistic(String definition) {
+    Objects.requireNonNull(definition, "Definition can not be null.");
+    Matcher matcher = DEFINITION_PATTERN.matcher(definition);
+    if (!matcher.matches()) throw new IllegalArgumentException(String.format("Invalid derived statistic '%s', expected format is name=expression.", definition));
+
+    ExpressionParser parser = new ExpressionParser(matcher.group(2).trim());
+    this.name = matcher.group(1);
+    this.expression = matcher.group(2).trim();
+    this.root = parser.parse();
+    this.operands = Collections.unmodifiableList(new ArrayList<>(parser.getOperands()));
+  }
+
+  /**
+   * Parses a list of definitions separated by semicolons.
+   *
+   * @param definitions The definitions, as in {@code ratio=A.x/A.y;total=B.z+C.z}, can be null or blank.
+   * @return The derived statistics, empty if there are no definitions.
+   * @throws IllegalArgumentException If any definition is not valid, or if the same name is used more than once.
+   */
+  public static List<DerivedStatistic> parse(String definitions) {
+    List<DerivedStatistic> derivedStatistics = new ArrayList<>();
+    if (StringUtils.isBlank(definitions)) return derivedStatistics;
+
+    for (String definition : definitions.split(";")) {
+      if (StringUtils.isBlank(definition)) continue;
+      DerivedStatistic derivedStatistic = new DerivedStatistic(definition);
+
+      if (derivedStatistics.stream().anyMatch(existing -> existing.getName().equals(derivedStatistic.getName()))) {
+        throw new IllegalArgumentException(String.format("Derived statistic '%s' is defined more than once.", derivedStatistic.getName()));
+      }
+
+      derivedStatistics.add(derivedStatistic);
+    }
+
+    return derivedStatistics;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  /**
+   * @return The statistics referenced by the expression, the order matches the one expected by {@link #evaluate(long[], double[][])}.
+   */
+  public List<Operand> getOperands() {
+    return operands;
+  }
+
+  /**
+   * @return The filters needed to read all operands from the statistics files.
+   */
+  public List<ValueFilter> getFilters() {
+    return operands.stream().map(Operand::toFilter).collect(Collectors.toList());
+  }
+
+  /**
+   * @param operandUnits Units of each operand.
+   * @return The units of the derived statistic, inferred from the expression.
+   */
+  public String getUnits(String[] operandUnits) {
+    return root.getUnits(operandUnits);
+  }
+
+  /**
+   * Evaluates the compiled expression over the aligned operands. Samples for which the expression is undefined (division by
+   * zero, first sample of a delta or a rate, etc.) are discarded.
+   *
+   * @param timeStamps Time stamps shared by all operands.
+   * @param operands Values of each operand, in the order returned by {@link #getOperands()} and aligned with the time stamps.
+   * @return The derived series.
+   */
+  public Series evaluate(long[] timeStamps, double[][] operands) {
+    if (operands.length != this.operands.size()) throw new IllegalArgumentException(String.format("Expected %d operands but found %d.", this.operands.size(), operands.length));
+    for (double[] values : operands) {
+      if (values.length != timeStamps.length) throw new IllegalArgumentException("TimeStamps and Values should have the same length.");
+    }
+
+    double[] values = root.evaluate(timeStamps, operands);
+    int size = 0;
+    long[] resultTimeStamps = new long[values.length];
+    double[] resultValues = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      if (Double.isFinite(values[i])) {
+        resultTimeStamps[size] = timeStamps[i];
+        resultValues[size++] = values[i];
+      }
+    }
+
+    if (size == values.length) return new Series(resultTimeStamps, resultValues);
+
+    return new Series(Arrays.copyOf(resultTimeStamps, size), Arrays.copyOf(resultValues, size));
+  }
+
+  @Override
+  public String toString() {
+    return "DerivedStatistic{" +
+        "name='" + name + '\'' +
+        ", expression='" + expression + '\'' +
+        '}';
+  }
+}
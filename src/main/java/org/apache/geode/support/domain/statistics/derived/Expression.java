@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.derived;
+
+import java.util.Arrays;
+
+/**
+ * Node of a compiled derived statistic expression. Nodes are evaluated over whole series at once: every operand is an array of
+ * values aligned by index with the time stamps, and each node computes its result array in a single loop, so the tree is walked
+ * once per evaluation instead of once per sample.
+ */
+abstract class Expression {
+
+  /**
+   * @param timeStamps Time stamps of the aligned samples.
+   * @param operands Values of each operand, aligned with the time stamps. Arrays are never modified.
+   * @return The value of the expression for each time stamp; NaN or infinite when undefined.
+   */
+  abstract double[] evaluate(long[] timeStamps, double[][] operands);
+
+  /**
+   * @param operandUnits Units of each operand.
+   * @return The units of the expression result.
+   */
+  abstract String getUnits(String[] operandUnits);
+
+  static class Constant extends Expression {
+    private final double value;
+
+    Constant(double value) {
+      this.value = value;
+    }
+
+    @Override
+    double[] evaluate(long[] timeStamps, double[][] operands) {
+      double[] result = new double[timeStamps.length];
+      Arrays.fill(result, value);
+
+      return result;
+    }
+
+    @Override
+    String getUnits(String[] operandUnits) {
+      return "";
+    }
+  }
+
+  static class Reference extends Expression {
+    private final int index;
+
+    Reference(int index) {
+      this.index = index;
+    }
+
+    @Override
+    double[] evaluate(long[] timeStamps, double[][] operands) {
+      return operands[index];
+    }
+
+    @Override
+    String getUnits(String[] operandUnits) {
+      return operandUnits[index];
+    }
+  }
+
+  static class Negation extends Expression {
+    private final Expression operand;
+
+    Negation(Expression operand) {
+      this.operand = operand;
+    }
+
+    @Override
+    double[] evaluate(long[] timeStamps, double[][] operands) {
+      double[] values = operand.evaluate(timeStamps, operands);
+      double[] result = new double[values.length];
+      for (int i = 0; i < values.length; i++) result[i] = -values[i];
+
+      return result;
+    }
+
+    @Override
+    String getUnits(String[] operandUnits) {
+      return operand.getUnits(operandUnits);
+    }
+  }
+
+  static class BinaryOperation extends Expression {
+    private final char operator;
+    private final Expression left;
+    private final Expression right;
+
+    BinaryOperation(char operator, Expression left, Expression right) {
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    double[] evaluate(long[] timeStamps, double[][] operands) {
+      double[] leftValues = left.evaluate(timeStamps, operands);
+      double[] rightValues = right.evaluate(timeStamps, operands);
+      double[] result = new double[leftValues.length];
+
+      switch (operator) {
+        case '+': for (int i = 0; i < result.length; i++) result[i] = leftValues[i] + rightValues[i]; break;
+        case '-': for (int i = 0; i < result.length; i++) result[i] = leftValues[i] - rightValues[i]; break;
+        case '*': for (int i = 0; i < result.length; i++) result[i] = leftValues[i] * rightValues[i]; break;
+        case '/': for (int i = 0; i < result.length; i++) result[i] = leftValues[i] / rightValues[i]; break;
+        default: throw new IllegalStateException("Execution shouldn't reach this point.");
+      }
+
+      return result;
+    }
+
+    @Override
+    String getUnits(String[] operandUnits) {
+      String leftUnits = left.getUnits(operandUnits);
+      String rightUnits = right.getUnits(operandUnits);
+      if (rightUnits.isEmpty()) return leftUnits;
+
+      switch (operator) {
+        case '*': return leftUnits.isEmpty() ? rightUnits : leftUnits + "*" + rightUnits;
+        case '/': return leftUnits.equals(rightUnits) ? "" : (leftUnits.isEmpty() ? "1" : leftUnits) + "/" + rightUnits;
+        default: return leftUnits.isEmpty() ? rightUnits : leftUnits;
+      }
+    }
+  }
+
+  static class Function extends Expression {
+    private final String name;
+    private final Expression[] arguments;
+
+    Function(String name, Expression[] arguments) {
+      this.name = name;
+      this.arguments = arguments;
+    }
+
+    @Override
+    double[] evaluate(long[] timeStamps, double[][] operands) {
+      double[] values = arguments[0].evaluate(timeStamps, operands);
+      double[] result = new double[values.length];
+
+      switch (name) {
+        case "abs":
+          for (int i = 0; i < result.length; i++) result[i] = Math.abs(values[i]);
+          break;
+
+        case "delta":
+          if (result.length > 0) result[0] = Double.NaN;
+          for (int i = 1; i < result.length; i++) result[i] = values[i] - values[i - 1];
+          break;
+
+        case "rate":
+          if (result.length > 0) result[0] = Double.NaN;
+          for (int i = 1; i < result.length; i++) result[i] = (values[i] - values[i - 1]) / ((timeStamps[i] - timeStamps[i - 1]) / 1000.0);
+          break;
+
+        case "min":
+          double[] minimumValues = arguments[1].evaluate(timeStamps, operands);
+          for (int i = 0; i < result.length; i++) result[i] = Math.min(values[i], minimumValues[i]);
+          break;
+
+        case "max":
+          double[] maximumValues = arguments[1].evaluate(timeStamps, operands);
+          for (int i = 0; i < result.length; i++) result[i] = Math.max(values[i], maximumValues[i]);
+          break;
+
+        default: throw new IllegalStateException("Execution shouldn't reach this point.");
+      }
+
+      return result;
+    }
+
+    @Override
+    String getUnits(String[] operandUnits) {
+      String units = arguments[0].getUnits(operandUnits);
+
+      return "rate".equals(name) ? (units.isEmpty() ? "1" : units) + "/second" : units;
+    }
+  }
+}
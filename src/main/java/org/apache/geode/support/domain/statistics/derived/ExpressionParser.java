@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.derived;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recursive descent parser that compiles a derived statistic expression into a tree of {@link Expression} nodes.
+ *
+ * <pre>
+ * expression := term (('+' | '-') term)*
+ * term       := unary (('*' | '/') unary)*
+ * unary      := '-' unary | primary
+ * primary    := number | function '(' expression (',' expression)* ')' | operand | '(' expression ')'
+ * operand    := type ('[' instance ']')? '.' statistic
+ * </pre>
+ */
+class ExpressionParser {
+  private static final List<String> UNARY_FUNCTIONS = Arrays.asList("abs", "delta", "rate");
+  private static final List<String> BINARY_FUNCTIONS = Arrays.asList("min", "max");
+  private final String source;
+  private final List<Operand> operands = new ArrayList<>();
+  private int position = 0;
+
+  ExpressionParser(String source) {
+    this.source = source;
+  }
+
+  /**
+   * @return The operands referenced by the expression, in order of appearance and without duplicates. Indexes match the ones used by the compiled tree.
+   */
+  List<Operand> getOperands() {
+    return operands;
+  }
+
+  /**
+   * @return The root of the compiled tree.
+   * @throws IllegalArgumentException If the expression is not valid.
+   */
+  Expression parse() {
+    Expression expression = parseExpression();
+    skipWhitespaces();
+    if (position < source.length()) throw error(String.format("unexpected character '%s'", source.charAt(position)));
+    if (operands.isEmpty()) throw new IllegalArgumentException(String.format("Invalid expression '%s', at least one statistic should be referenced.", source));
+
+    return expression;
+  }
+
+  private IllegalArgumentException error(String reason) {
+    return new IllegalArgumentException(String.format("Invalid expression '%s', %s at position %d.", source, reason, position));
+  }
+
+  private void skipWhitespaces() {
+    while ((position < source.length()) && (Character.isWhitespace(source.charAt(position)))) position++;
+  }
+
+  private boolean consume(char character) {
+    skipWhitespaces();
+    if ((position < source.length()) && (source.charAt(position) == character)) {
+      position++;
+      return true;
+    }
+
+    return false;
+  }
+
+  private void expect(char character) {
+    if (!consume(character)) {
+      throw error(position < source.length() ? String.format("expected '%s' but found '%s'", character, source.charAt(position)) : String.format("expected '%s'", character));
+    }
+  }
+
+  private Expression parseExpression() {
+    Expression expression = parseTerm();
+
+    while (true) {
+      if (consume('+')) expression = new Expression.BinaryOperation('+', expression, parseTerm());
+      else if (consume('-')) expression = new Expression.BinaryOperation('-', expression, parseTerm());
+      else return expression;
+    }
+  }
+
+  private Expression parseTerm() {
+    Expression expression = parseUnary();
+
+    while (true) {
+      if (consume('*')) expression = new Expression.BinaryOperation('*', expression, parseUnary());
+      else if (consume('/')) expression = new Expression.BinaryOperation('/', expression, parseUnary());
+      else return expression;
+    }
+  }
+
+  private Expression parseUnary() {
+    if (consume('-')) return new Expression.Negation(parseUnary());
+
+    return parsePrimary();
+  }
+
+  private Expression parsePrimary() {
+    skipWhitespaces();
+    if (position >= source.length()) throw error("unexpected end of expression");
+
+    if (consume('(')) {
+      Expression expression = parseExpression();
+      expect(')');
+
+      return expression;
+    }
+
+    char current = source.charAt(position);
+    if ((Character.isDigit(current)) || (current == '.')) return parseNumber();
+    if (Character.isJavaIdentifierStart(current)) return parseIdentifier();
+
+    throw error(String.format("unexpected character '%s'", current));
+  }
+
+  private Expression parseNumber() {
+    int start = position;
+    while ((position < source.length()) && ((Character.isDigit(source.charAt(position))) || (source.charAt(position) == '.'))) position++;
+
+    String number = source.substring(start, position);
+    try {
+      return new Expression.Constant(Double.parseDouble(number));
+    } catch (NumberFormatException numberFormatException) {
+      position = start;
+      throw error(String.format("invalid number '%s'", number));
+    }
+  }
+
+  private String readName() {
+    skipWhitespaces();
+    int start = position;
+    while ((position < source.length()) && (Character.isJavaIdentifierPart(source.charAt(position)))) position++;
+    if (start == position) throw error(position < source.length() ? String.format("unexpected character '%s'", source.charAt(position)) : "unexpected end of expression");
+
+    return source.substring(start, position);
+  }
+
+  private Expression parseIdentifier() {
+    int start = position;
+    String name = readName();
+
+    // Function call.
+    if (consume('(')) {
+      String function = name.toLowerCase();
+      int arity = UNARY_FUNCTIONS.contains(function) ? 1 : (BINARY_FUNCTIONS.contains(function) ? 2 : 0);
+      if (arity == 0) {
+        position = start;
+        throw error(String.format("unknown function '%s'", name));
+      }
+
+      List<Expression> arguments = new ArrayList<>();
+      arguments.add(parseExpression());
+      while (consume(',')) arguments.add(parseExpression());
+      if (arguments.size() != arity) {
+        position = start;
+        throw error(String.format("function '%s' expects %d argument(s)", name, arity));
+      }
+      expect(')');
+
+      return new Expression.Function(function, arguments.toArray(new Expression[0]));
+    }
+
+    // Statistic reference.
+    String instanceId = null;
+    if ((position < source.length()) && (source.charAt(position) == '[')) {
+      int end = source.indexOf(']', position);
+      if (end < 0) throw error("expected ']'");
+      instanceId = source.substring(position + 1, end);
+      position = end + 1;
+    }
+
+    if ((position >= source.length()) || (source.charAt(position) != '.')) throw error("expected '.' between category and statistic");
+    position++;
+    Operand operand = new Operand(name, instanceId, readName());
+    if (!operands.contains(operand)) operands.add(operand);
+
+    return new Expression.Reference(operands.indexOf(operand));
+  }
+}
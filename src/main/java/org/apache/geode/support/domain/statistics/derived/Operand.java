@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.derived;
+
+import java.util.Objects;
+
+import org.apache.geode.support.domain.statistics.filters.SimpleValueFilter;
+
+/**
+ * Statistic referenced by a derived statistic expression, as in {@code CachePerfStats.gets} or {@code VMMemoryUsageStats[vmHeapMemoryStats].usedMemory}.
+ */
+public class Operand {
+  private final String typeId;
+  private final String instanceId;
+  private final String statisticId;
+
+  Operand(String typeId, String instanceId, String statisticId) {
+    this.typeId = typeId;
+    this.instanceId = instanceId;
+    this.statisticId = statisticId;
+  }
+
+  public String getTypeId() {
+    return typeId;
+  }
+
+  /**
+   * @return The instance explicitly referenced by the expression, or null if any instance can be used.
+   */
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  public String getStatisticId() {
+    return statisticId;
+  }
+
+  /**
+   * @return The filter needed to read the operand from the statistics files.
+   */
+  public SimpleValueFilter toFilter() {
+    return new SimpleValueFilter(typeId, instanceId, statisticId, null);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Operand)) {
+      return false;
+    }
+    Operand that = (Operand) o;
+    return typeId.equalsIgnoreCase(that.typeId) &&
+        statisticId.equalsIgnoreCase(that.statisticId) &&
+        (instanceId == null ? that.instanceId == null : instanceId.equalsIgnoreCase(that.instanceId));
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(typeId.toLowerCase(), instanceId == null ? null : instanceId.toLowerCase(), statisticId.toLowerCase());
+  }
+
+  @Override
+  public String toString() {
+    return typeId + (instanceId == null ? "" : "[" + instanceId + "]") + "." + statisticId;
+  }
+}
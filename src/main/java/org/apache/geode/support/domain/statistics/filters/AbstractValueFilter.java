@@ -47,6 +47,20 @@ public abstract class AbstractValueFilter implements ValueFilter {
     return statisticId;
   }
 
+  /**
+   * @return The name (ignoring case) every type matched by this filter is equal to, or null if different names can be matched.
+   */
+  public String getLiteralTypeId() {
+    return null;
+  }
+
+  /**
+   * @return The text or numeric id (ignoring case) every instance matched by this filter is equal to, or null if different ids can be matched.
+   */
+  public String getLiteralInstanceId() {
+    return null;
+  }
+
   private String getArchiveName() {
     return archiveName;
   }
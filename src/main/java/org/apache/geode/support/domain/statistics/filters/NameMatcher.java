@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.filters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Case insensitive name matcher used by {@link RegexValueFilter}.
+ * Literal and prefix ({@code literal.*}) specs are resolved without going through the regex engine, while the decisions
+ * for any other spec are memoized per distinct name, as the same type, instance and statistic names are checked over and
+ * over again for every archive parsed with the filter.
+ */
+final class NameMatcher {
+  static final int MAXIMUM_CACHED_NAMES = 4096;
+  private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+  private static final NameMatcher ANY = new NameMatcher(Kind.ANY, null, null);
+
+  enum Kind { ANY, LITERAL, PREFIX, REGEX }
+
+  private final Kind kind;
+  private final String literal;
+  private final Pattern pattern;
+  private final Map<String, Boolean> textDecisions;
+  private final Map<Long, Boolean> numericDecisions;
+
+  private NameMatcher(Kind kind, String literal, Pattern pattern) {
+    this.kind = kind;
+    this.literal = literal;
+    this.pattern = pattern;
+    this.textDecisions = (kind == Kind.REGEX) ? new ConcurrentHashMap<>() : null;
+    this.numericDecisions = (kind == Kind.REGEX) ? new ConcurrentHashMap<>() : null;
+  }
+
+  /**
+   * Literals are restricted to ASCII so that {@link String#equalsIgnoreCase(String)} behaves exactly as a
+   * {@link Pattern#CASE_INSENSITIVE} pattern would.
+   */
+  static boolean isLiteral(String spec) {
+    for (int i = 0; i < spec.length(); i++) {
+      char character = spec.charAt(i);
+      if (character > 127 || REGEX_META_CHARACTERS.indexOf(character) >= 0) return false;
+    }
+
+    return true;
+  }
+
+  static NameMatcher compile(String spec) {
+    if (StringUtils.isBlank(spec)) return ANY;
+    if (isLiteral(spec)) return new NameMatcher(Kind.LITERAL, spec, null);
+
+    if (spec.endsWith(".*")) {
+      String prefix = spec.substring(0, spec.length() - 2);
+      if (isLiteral(prefix)) return new NameMatcher(Kind.PREFIX, prefix, null);
+    }
+
+    return new NameMatcher(Kind.REGEX, null, Pattern.compile(spec, Pattern.CASE_INSENSITIVE));
+  }
+
+  Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return The literal every matched name is equal to (ignoring case), or null if the spec can match different names.
+   */
+  String getLiteral() {
+    return (kind == Kind.LITERAL) ? literal : null;
+  }
+
+  int getCachedDecisions() {
+    return (kind == Kind.REGEX) ? textDecisions.size() + numericDecisions.size() : 0;
+  }
+
+  private static <K> boolean memoize(Map<K, Boolean> decisions, K key, boolean decision) {
+    if (decisions.size() < MAXIMUM_CACHED_NAMES) decisions.put(key, decision);
+
+    return decision;
+  }
+
+  boolean matches(String name) {
+    switch (kind) {
+      case ANY: return true;
+      case LITERAL: return literal.equalsIgnoreCase(name);
+      case PREFIX: return name.regionMatches(true, 0, literal, 0, literal.length());
+      default:
+        Boolean decision = textDecisions.get(name);
+        if (decision != null) return decision;
+
+        return memoize(textDecisions, name, pattern.matcher(name).matches());
+    }
+  }
+
+  /**
+   * Matches the decimal representation of the numeric id, only building it when the spec can actually match a number.
+   */
+  boolean matches(long numericId) {
+    switch (kind) {
+      case ANY: return true;
+      case LITERAL:
+      case PREFIX:
+        if (!StringUtils.containsOnly(literal, "-0123456789")) return false;
+        return matches(String.valueOf(numericId));
+      default:
+        Boolean decision = numericDecisions.get(numericId);
+        if (decision != null) return decision;
+
+        return memoize(numericDecisions, numericId, pattern.matcher(String.valueOf(numericId)).matches());
+    }
+  }
+}
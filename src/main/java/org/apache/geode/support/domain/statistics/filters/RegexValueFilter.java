@@ -20,34 +20,21 @@ import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 
 /**
- *
+ * Case insensitive regular expression based filter.
+ * Type, instance and statistic specs are compiled into {@link NameMatcher} instances, so the same filter can be cheaply
+ * reused to parse any number of archives.
  */
 public class RegexValueFilter extends AbstractValueFilter {
-  private final Pattern typeIdPattern;
-  private final Pattern instanceIdPattern;
-  private final Pattern statisticIdPattern;
+  private final NameMatcher typeIdMatcher;
+  private final NameMatcher instanceIdMatcher;
+  private final NameMatcher statisticIdMatcher;
   private final Pattern archiveNamePattern;
 
   public RegexValueFilter(String typeId, String instanceId, String statisticId, String archiveNamePattern) {
     super(typeId, instanceId, statisticId, archiveNamePattern);
-
-    if (StringUtils.isBlank(typeId)) {
-      this.typeIdPattern = null;
-    } else {
-      this.typeIdPattern = Pattern.compile(typeId, Pattern.CASE_INSENSITIVE);
-    }
-
-    if (StringUtils.isBlank(instanceId)) {
-      this.instanceIdPattern = null;
-    } else {
-      this.instanceIdPattern = Pattern.compile(instanceId, Pattern.CASE_INSENSITIVE);
-    }
-
-    if (StringUtils.isBlank(statisticId)) {
-      this.statisticIdPattern = null;
-    } else {
-      this.statisticIdPattern = Pattern.compile(statisticId, Pattern.CASE_INSENSITIVE);
-    }
+    this.typeIdMatcher = NameMatcher.compile(typeId);
+    this.instanceIdMatcher = NameMatcher.compile(instanceId);
+    this.statisticIdMatcher = NameMatcher.compile(statisticId);
 
     if (StringUtils.isBlank(archiveNamePattern)) {
       this.archiveNamePattern = null;
@@ -56,12 +43,14 @@ public class RegexValueFilter extends AbstractValueFilter {
     }
   }
 
-  private boolean matches(Pattern pattern, String actual) {
-    if (pattern == null) {
-      return true;
-    } else {
-      return pattern.matcher(actual).matches();
-    }
+  @Override
+  public String getLiteralTypeId() {
+    return typeIdMatcher.getLiteral();
+  }
+
+  @Override
+  public String getLiteralInstanceId() {
+    return instanceIdMatcher.getLiteral();
   }
 
   @Override
@@ -75,19 +64,16 @@ public class RegexValueFilter extends AbstractValueFilter {
 
   @Override
   public boolean statMatches(String statName) {
-    return matches(statisticIdPattern, statName);
+    return statisticIdMatcher.matches(statName);
   }
 
   @Override
   public boolean typeMatches(String typeName) {
-    return matches(typeIdPattern, typeName);
+    return typeIdMatcher.matches(typeName);
   }
 
   @Override
   public boolean instanceMatches(String textId, long numericId) {
-    boolean matches = matches(instanceIdPattern, textId);
-    matches = matches || matches(instanceIdPattern, String.valueOf(numericId));
-
-    return matches;
+    return instanceIdMatcher.matches(textId) || instanceIdMatcher.matches(numericId);
   }
 }
@@ -35,6 +35,16 @@ public class SimpleValueFilter extends AbstractValueFilter {
     }
   }
 
+  @Override
+  public String getLiteralTypeId() {
+    return StringUtils.isBlank(typeId) ? null : typeId;
+  }
+
+  @Override
+  public String getLiteralInstanceId() {
+    return StringUtils.isBlank(instanceId) ? null : instanceId;
+  }
+
   @Override
   public boolean archiveMatches(File archive) {
     if (StringUtils.isBlank(archiveName)) {
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
@@ -77,6 +78,10 @@ public class FilesService {
     }
   }
 
+  public List<String> readLines(Path file) throws IOException {
+    return Files.readAllLines(file);
+  }
+
   public void createDirectories(Path folder) throws IOException {
     // Create Directory if it doesn't exist.
     if (!Files.exists(folder)) {
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
+
+/**
+ * Names of the categories, instances and statistics available within a path, used to complete the command options.
+ * The catalogs are built in the background and the lookups never parse any file, answering from the last catalog built.
+ */
+@Service
+public class StatisticsCatalogService {
+  private static final Logger logger = LoggerFactory.getLogger(StatisticsCatalogService.class);
+  /* Time after which the files are checked again for changes */
+  static final long REFRESH_INTERVAL = 30000;
+  /* Time to wait for the first catalog of a path, so small paths are completed straight away */
+  static final long FIRST_BUILD_TIMEOUT = 40;
+  private final StatisticsService statisticsService;
+  private final Map<Path, CatalogHolder> catalogs = new ConcurrentHashMap<>();
+  /* Only one catalog built at a time, the parsing itself is already parallel */
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor((Runnable runnable) -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+      }
+  );
+
+  /**
+   * Kind of name to look for.
+   */
+  public enum NameType {
+    Category,
+    Instance,
+    Statistic
+  }
+
+  /**
+   * Immutable set of names, sorted ignoring case, so prefixes can be found through binary search.
+   */
+  static class Catalog {
+    private final String[] categoryIds;
+    private final String[] instanceIds;
+    private final String[] statisticIds;
+
+    Catalog(Set<String> categoryIds, Set<String> instanceIds, Set<String> statisticIds) {
+      this.categoryIds = sort(categoryIds);
+      this.instanceIds = sort(instanceIds);
+      this.statisticIds = sort(statisticIds);
+    }
+
+    private static String[] sort(Set<String> names) {
+      String[] sortedNames = names.toArray(new String[0]);
+      Arrays.sort(sortedNames, String.CASE_INSENSITIVE_ORDER);
+
+      return sortedNames;
+    }
+
+    private String[] getNames(NameType nameType) {
+      switch (nameType) {
+        case Category: return categoryIds;
+        case Instance: return instanceIds;
+        default: return statisticIds;
+      }
+    }
+
+    List<String> lookup(NameType nameType, String prefix) {
+      String[] names = getNames(nameType);
+
+      // First name not lower than the prefix, all matches are contiguous from there.
+      int low = 0;
+      int high = names.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (String.CASE_INSENSITIVE_ORDER.compare(names[middle], prefix) < 0) low = middle + 1;
+        else high = middle;
+      }
+
+      List<String> matches = new ArrayList<>();
+      for (int i = low; (i < names.length) && (names[i].regionMatches(true, 0, prefix, 0, prefix.length())); i++) matches.add(names[i]);
+
+      return matches;
+    }
+  }
+
+  /**
+   * Latest catalog built for a path, along with the state of the files it was built from.
+   */
+  static class CatalogHolder {
+    volatile Catalog catalog;
+    volatile long checkedAt;
+    volatile String signature;
+    volatile CompletableFuture<Void> refreshTask = CompletableFuture.completedFuture(null);
+    final AtomicBoolean refreshing = new AtomicBoolean(false);
+  }
+
+  @Autowired
+  public StatisticsCatalogService(StatisticsService statisticsService) {
+    this.statisticsService = statisticsService;
+  }
+
+  /**
+   * Summarizes the amount, sizes and modification times of the regular files within the path.
+   * The catalog is only rebuilt when this changes.
+   */
+  String getSignature(Path path) throws IOException {
+    long files = 0;
+    long totalSize = 0;
+    long lastModified = 0;
+
+    try (Stream<Path> paths = Files.walk(path)) {
+      for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+        files++;
+        totalSize += Files.size(file);
+        lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+      }
+    }
+
+    return files + ":" + totalSize + ":" + lastModified;
+  }
+
+  Catalog buildCatalog(Path path) {
+    Set<String> categoryIds = new TreeSet<>();
+    Set<String> instanceIds = new TreeSet<>();
+    Set<String> statisticIds = new TreeSet<>();
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = statisticsService.catalogStatistics(path, Collections.emptyList());
+
+    parsingResults.stream()
+        .filter(ParsingResult::isSuccess)
+        .flatMap(parsingResult -> parsingResult.getData().stream())
+        .forEach(catalogEntry -> {
+          categoryIds.add(catalogEntry.getCategoryId());
+          instanceIds.addAll(catalogEntry.getInstanceIds());
+          statisticIds.addAll(catalogEntry.getStatisticIds());
+        });
+
+    return new Catalog(categoryIds, instanceIds, statisticIds);
+  }
+
+  /**
+   * Rebuilds the catalog in the background if the files changed since the last build.
+   * Does nothing if there's already a refresh in progress for the path.
+   */
+  void refresh(Path path, CatalogHolder catalogHolder) {
+    if (!catalogHolder.refreshing.compareAndSet(false, true)) return;
+
+    catalogHolder.refreshTask = CompletableFuture.runAsync(() -> {
+      try {
+        String signature = getSignature(path);
+
+        if ((catalogHolder.catalog == null) || (!signature.equals(catalogHolder.signature))) {
+          if (logger.isDebugEnabled()) logger.debug(String.format("Building catalog for %s...", path.toString()));
+          catalogHolder.catalog = buildCatalog(path);
+          catalogHolder.signature = signature;
+          if (logger.isDebugEnabled()) logger.debug(String.format("Building catalog for %s... Done!.", path.toString()));
+        }
+      } catch (Exception exception) {
+        logger.warn(String.format("Catalog for %s couldn't be built.", path.toString()), exception);
+      } finally {
+        catalogHolder.checkedAt = System.currentTimeMillis();
+        catalogHolder.refreshing.set(false);
+      }
+    }, executorService);
+  }
+
+  /**
+   * Starts building the catalog for the path in the background, if it's not available or not up to date.
+   *
+   * @param path Path to statistics file, or directory containing statistics files.
+   */
+  public void warmUp(Path path) {
+    getCatalogHolder(path);
+  }
+
+  CatalogHolder getCatalogHolder(Path path) {
+    Path normalizedPath = path.toAbsolutePath().normalize();
+    CatalogHolder catalogHolder = catalogs.computeIfAbsent(normalizedPath, key -> new CatalogHolder());
+    if (System.currentTimeMillis() - catalogHolder.checkedAt > REFRESH_INTERVAL) refresh(normalizedPath, catalogHolder);
+
+    return catalogHolder;
+  }
+
+  /**
+   * Looks for the names starting with the prefix, ignoring case, within the latest catalog built for the path.
+   * Lookups wait (shortly) only while the first catalog for the path is being built, they never wait for later refreshes.
+   *
+   * @param path Path to statistics file, or directory containing statistics files.
+   * @param nameType Whether to look for categories, instances or statistics.
+   * @param prefix The beginning of the name, null or empty to get all names.
+   * @return The sorted list of matching names, empty if the path doesn't exist or its catalog is not built yet.
+   */
+  public List<String> lookup(Path path, NameType nameType, String prefix) {
+    if ((path == null) || (!Files.exists(path))) return Collections.emptyList();
+
+    CatalogHolder catalogHolder = getCatalogHolder(path);
+    if (catalogHolder.catalog == null) {
+      try {
+        catalogHolder.refreshTask.get(FIRST_BUILD_TIMEOUT, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException | ExecutionException exception) {
+        // Building is still in progress, the next lookup will use it.
+      } catch (InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    Catalog catalog = catalogHolder.catalog;
+    return (catalog == null) ? Collections.emptyList() : catalog.lookup(nameType, (prefix == null) ? "" : prefix);
+  }
+}
@@ -17,14 +17,90 @@ package org.apache.geode.support.service;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.apache.geode.internal.statistics.ValueFilter;
 import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.domain.statistics.LaggedCorrelation;
+import org.apache.geode.support.domain.statistics.LiveSummary;
+import org.apache.geode.support.domain.statistics.Pause;
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.RollingSummary;
+import org.apache.geode.support.domain.statistics.SampledValue;
 import org.apache.geode.support.domain.statistics.Sampling;
 import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.StatisticComparison;
+import org.apache.geode.support.domain.statistics.StatisticProfile;
+import org.apache.geode.support.domain.statistics.Trend;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
 
 public interface StatisticsService {
 
+  /**
+   * Supported methods to reduce the amount of points within a statistic series: Largest-Triangle-Three-Buckets,
+   * or the minimum, maximum, average or both extremes of each bucket.
+   */
+  enum DownsamplingMethod {
+    LTTB,
+    MINIMUM,
+    MAXIMUM,
+    AVERAGE,
+    MIN_MAX
+  }
+
+  /**
+   * Supported functions to combine the values of the same statistic across several members.
+   */
+  enum Aggregation {
+    Sum,
+    Avg,
+    Max
+  }
+
+  /**
+   * Supported correlation coefficients: Pearson (linear relationship) or Spearman (monotonic relationship, computed over ranks).
+   */
+  enum CorrelationMethod {
+    Pearson,
+    Spearman
+  }
+
+  /**
+   * Supported anomaly scores: classic z-score (distance to the rolling mean, in standard deviations) or MAD (distance to the rolling
+   * median, in scaled median absolute deviations, not skewed by the outliers themselves).
+   */
+  enum AnomalyScore {
+    ZScore,
+    MAD
+  }
+
+  /**
+   * Supported criteria to rank statistics: maximum value, standard deviation, or average change per second.
+   */
+  enum Ranking {
+    Max,
+    StdDev,
+    Rate
+  }
+
+  /**
+   * Supported functions to apply over a sliding time window: maximum, minimum or average of the samples within the window.
+   */
+  enum RollingFunction {
+    Max,
+    Min,
+    Avg
+  }
+
   /**
    * Decompress the source statistics file and write the contents as a regular statistics file to the output path.
    *
@@ -50,4 +126,272 @@ public interface StatisticsService {
    * @return List of ParsingResult instances, containing the parsed Sampling with only the requested statistics, and/or the error occurred while trying to read the file.
    */
   List<ParsingResult<Sampling>> parseSampling(Path path, List<ValueFilter> filter);
+
+  /**
+   * Fully parses the sampling from the source statistics file, or all statistics files contained within the source path if it's a folder,
+   * and adds the derived statistics computed from the parsed values.
+   *
+   * @param path A statistics file, or a directory containing statistics files to scan.
+   * @param filter List of filters that must be applied when parsing the statistics.
+   * @param derivedStatistics Derived statistics to evaluate, the statistics they reference are read even when not matched by the filters.
+   * @return List of ParsingResult instances, containing the parsed Sampling with only the requested and derived statistics, and/or the error occurred while trying to read the file.
+   */
+  List<ParsingResult<Sampling>> parseSampling(Path path, List<ValueFilter> filter, List<DerivedStatistic> derivedStatistics);
+
+  /**
+   * Answers several queries through a single pass over the source statistics file, or all statistics files contained within the
+   * source path if it's a folder. All queries are combined into one filter plan when parsing, and the results are split afterwards.
+   *
+   * @param path A statistics file, or a directory containing statistics files to scan.
+   * @param queries List of filters, one per query.
+   * @return One list of ParsingResult instances per query, in the same order as the queries, containing the parsed Sampling with
+   * only the statistics matched by that query, and/or the error occurred while trying to read the file.
+   */
+  List<List<ParsingResult<Sampling>>> querySampling(Path path, List<ValueFilter> queries);
+
+  /**
+   * Groups the statistics files by member, through the system identity and start time found within the header of each file, and
+   * stitches the archives rolled by each member into a single continuous sampling. The archives of a member are parsed one at a
+   * time and in order, so they're never loaded all at once.
+   *
+   * @param path Path to statistics file, or directory containing statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param derivedStatistics Derived statistics to evaluate over the stitched samplings, empty if none.
+   * @return List of ParsingResult instances, one per member, the file being the first archive rolled by the member.
+   */
+  List<ParsingResult<Sampling>> stitchSampling(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics);
+
+  /**
+   * Reduces the amount of points of the statistic to, at most, the requested amount, using the current filter of the statistic.
+   * Samples are streamed one by one through the selected method, so only the resulting points (and a bounded buffer) are kept in memory.
+   *
+   * @param statistic The statistic to downsample.
+   * @param points Maximum amount of points the result should contain.
+   * @param method Method to use when choosing the points to keep.
+   * @return The downsampled Series, or the full series if it already has less points than requested.
+   */
+  Series downsample(Statistic statistic, int points, DownsamplingMethod method);
+
+  /**
+   * Combines the same statistic from several members into a single, cluster level, series, using the current filter of each statistic.
+   * The samples from all members are placed on a common time grid; at each grid point, the latest value known for every member that
+   * is sampling at that time is combined with the rest through the aggregation function.
+   * The series of each statistic is built and added to the grid one at a time, so only one of them is held in memory at once.
+   *
+   * @param statistics The statistics to combine, usually one per member.
+   * @param step Interval, in milliseconds, between two consecutive points of the time grid.
+   * @param aggregation Function used to combine the values from all members at each point of the time grid.
+   * @return The aggregated Series, with one point for every slot of the time grid on which at least one member has samples.
+   */
+  Series aggregate(List<Statistic> statistics, long step, Aggregation aggregation);
+
+  /**
+   * Maps the raw samples of each statistic onto a common time grid, ignoring the filter currently set on the statistic.
+   * Gauges are resampled through step-hold (latest sampled value at each grid point), while counters are linearly interpolated and
+   * returned as a rate per second. Statistics are resampled in parallel.
+   *
+   * @param statistics The statistics to resample.
+   * @param startTime Time stamp (millis since midnight, Jan 1, 1970 UTC) of the first grid point.
+   * @param step Interval, in milliseconds, between two consecutive grid points.
+   * @param points Amount of grid points.
+   * @return One array per statistic, in the same order, with one value per grid point; {@link Double#NaN} is used for grid points outside the sampled interval.
+   */
+  double[][] resample(List<Statistic> statistics, long startTime, long step, int points);
+
+  /**
+   * Computes the correlation coefficient between every target and every candidate, all of them resampled on the same time grid
+   * (see {@link #resample(List, long, long, int)}). Each coefficient is computed only over the points at which both series have
+   * values, missing values ({@link Double#NaN}) from either of them are ignored, and the matrix is computed by blocks in parallel.
+   *
+   * @param targets Target series.
+   * @param candidates Candidate series.
+   * @param method Correlation coefficient to compute.
+   * @return Matrix with one row per target and one column per candidate; {@link Double#NaN} is used when the coefficient is not defined (constant series, for instance).
+   */
+  double[][] correlate(double[][] targets, double[][] candidates, CorrelationMethod method);
+
+  /**
+   * Finds, for every candidate, the time shift at which it's most correlated (Pearson) with the target, all of them resampled on the
+   * same time grid (see {@link #resample(List, long, long, int)}). The cross-correlation for all lags is computed through the Fast
+   * Fourier Transform, in parallel across candidates.
+   *
+   * @param target Target series.
+   * @param candidates Candidate series, with the same length as the target.
+   * @param maximumLag Maximum shift, in time grid points, to search for (in both directions).
+   * @return One element per candidate, in the same order; a positive lag means that the candidate leads the target.
+   */
+  LaggedCorrelation[] crossCorrelate(double[] target, double[][] candidates, int maximumLag);
+
+  /**
+   * Scans every statistic matching the filters, within every statistics file found under the path, looking for samples that deviate
+   * from the rolling window of samples preceding them. Counters are scanned as rates per second, and gauges as sampled.
+   * Files are scanned in parallel, one task per file, and only the strongest anomalies found are kept in memory.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param score Score used to detect and rank the anomalies.
+   * @param windowSize Amount of previous samples against which each sample is compared.
+   * @param threshold Minimum score for a sample to be considered an anomaly.
+   * @param limit Maximum amount of anomalies to keep per file, only the strongest anomaly of each statistic is taken into account.
+   * @return One ParsingResult per file, with the anomalies sorted by score (strongest first).
+   */
+  List<ParsingResult<List<Anomaly>>> scanAnomalies(Path path, List<ValueFilter> filters, AnomalyScore score, int windowSize, double threshold, int limit);
+
+  /**
+   * Evaluates every statistic matching the filters, within every statistics file found under the path, and keeps only the highest
+   * ones according to the ranking. Values are computed in a single pass over the raw samples; counters are evaluated as rates per
+   * second, and gauges as sampled. Files are evaluated in parallel, one task per file.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param derivedStatistics Derived statistics to evaluate and rank along with the parsed ones.
+   * @param ranking Criteria used to rank the statistics.
+   * @param limit Maximum amount of statistics to keep per file.
+   * @return One ParsingResult per file, with the statistics sorted by ranking (highest first).
+   */
+  List<ParsingResult<List<RankedStatistic>>> rankStatistics(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics, Ranking ranking, int limit);
+
+  /**
+   * Searches for the strongest level shift of every statistic matching the filters, within every statistics file found under the
+   * path. Counters are evaluated as rates per second, and gauges as sampled. Files are evaluated in parallel, one task per file,
+   * and only the strongest change points found are kept in memory.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param minimumSegment Minimum amount of samples at each side of the shift.
+   * @param threshold Minimum fraction of the variance of the series that should be explained by the shift.
+   * @param limit Maximum amount of change points to keep per file, only the strongest shift of each statistic is taken into account.
+   * @return One ParsingResult per file, with the change points sorted by score (strongest first).
+   */
+  List<ParsingResult<List<ChangePoint>>> detectChangePoints(Path path, List<ValueFilter> filters, int minimumSegment, double threshold, int limit);
+
+  /**
+   * Compares the distribution of every statistic matching the filters, within every statistics file found under the path, between
+   * the window before a given time and the window after it, using the mean shift and the two-sample Kolmogorov-Smirnov statistic.
+   * Counters are evaluated as rates per second, and gauges as sampled. Files are evaluated in parallel, one task per file, and only
+   * the biggest shifts found are kept in memory.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param time Time stamp (millis since midnight, Jan 1, 1970 UTC) separating both windows.
+   * @param window Length, in milliseconds, of each window.
+   * @param limit Maximum amount of shifts to keep per file.
+   * @return One ParsingResult per file, with the shifts sorted by Kolmogorov-Smirnov statistic and absolute mean shift (biggest first).
+   */
+  List<ParsingResult<List<DistributionShift>>> compareDistributions(Path path, List<ValueFilter> filters, long time, long window, int limit);
+
+  /**
+   * Builds the profile (sorted values, summary values and quantiles) of every statistic matching the filters, within every
+   * statistics file found under the path. Files are evaluated in parallel, one task per file.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param filter Filter to use (none, per second or per sample) when reading the values of the statistics.
+   * @return One ParsingResult per file, with the profiles of the statistics mapped by statistic id (CategoryId[InstanceId].statisticId).
+   */
+  List<ParsingResult<Map<String, StatisticProfile>>> profileStatistics(Path path, List<ValueFilter> filters, Statistic.Filter filter);
+
+  /**
+   * Pairs the statistics found in both the baseline and the candidate set of profiles, merging the profiles of the same statistic
+   * within each set. Statistics are merged in parallel, one task per statistic.
+   *
+   * @param baseline Profiles built from the baseline set of files, one map per file.
+   * @param candidate Profiles built from the candidate set of files, one map per file.
+   * @return The comparisons for the statistics present in both sets, sorted by statistic id.
+   */
+  List<StatisticComparison> compareProfiles(List<Map<String, StatisticProfile>> baseline, List<Map<String, StatisticProfile>> candidate);
+
+  /**
+   * Applies a rolling function over a sliding time window to every statistic matching the filters, within every statistics file
+   * found under the path, and keeps the highest and lowest windows of each one. Counters are evaluated as rates per second, and
+   * gauges as sampled. Files are evaluated in parallel, one task per file, and only the highest results are kept in memory.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param function Function to apply over the samples within each window.
+   * @param window Length, in milliseconds, of the sliding window.
+   * @param limit Maximum amount of statistics to keep per file.
+   * @return One ParsingResult per file, with the statistics sorted by their highest window (highest first).
+   */
+  List<ParsingResult<List<RollingSummary>>> rollStatistics(Path path, List<ValueFilter> filters, RollingFunction function, long window, int limit);
+
+  /**
+   * Searches every statistics file found under the path for gaps between consecutive samples bigger than the threshold, which
+   * usually mean that the whole member was frozen. Only the time stamps of the samples are decoded, the sampled values are
+   * skipped, and files are scanned in parallel, one task per file.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param threshold Minimum gap, in milliseconds, between two consecutive samples to be reported as a pause.
+   * @return One ParsingResult per file, with all the pauses found sorted by start time.
+   */
+  List<ParsingResult<List<Pause>>> detectPauses(Path path, long threshold);
+
+  /**
+   * Estimates the clock skew of every member (statistics file) found under the path, using the member with more events as reference.
+   * Events are the time stamps at which any of the statistics matching the filters changes its value, usually cluster-wide events
+   * like membership changes, and are lined up across members to estimate the offsets. Files are parsed in parallel.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters matching the statistics from which the events should be extracted.
+   * @param maximumSkew Maximum difference, in milliseconds, expected between the clocks of two members.
+   * @return One ParsingResult per file, with the clock skew estimated for the member.
+   */
+  List<ParsingResult<ClockSkew>> estimateClockSkews(Path path, List<ValueFilter> filters, long maximumSkew);
+
+  /**
+   * Finds the value of every statistic matching the filters, within every statistics file found under the path, sampled at or
+   * nearest to the given time. Files are decoded sequentially from the start, but only up to the first sample taken at or after
+   * the time, the rest of the archive is never decoded; the nearest sample is then located through binary search among the
+   * samples read. Files are read in parallel, one task per file.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param time Time stamp (millis since midnight, Jan 1, 1970 UTC) at which the values should be retrieved.
+   * @param tolerance Maximum difference, in milliseconds, between the time and the sample used.
+   * @return One ParsingResult per file, with the sampled values sorted by statistic id.
+   */
+  List<ParsingResult<List<SampledValue>>> sampleValuesAt(Path path, List<ValueFilter> filters, long time, long tolerance);
+
+  /**
+   * Fits the linear trend of every gauge matching the filters, within every statistics file found under the path, and estimates the
+   * time left until each one reaches the capacity of the resource it measures. Series are downsampled before fitting both an ordinary
+   * least squares and a robust (Theil-Sen) trend, and the robust one is used to estimate the time to exhaustion (only when both are growing). Files are evaluated
+   * in parallel, one task per file, and only the most urgent trends are kept in memory.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters to apply when parsing the files.
+   * @param capacity Capacity to use for all statistics, or null to read it from the capacity statistics (maximum heap, maximum disk space).
+   * @param points Maximum amount of points to which each series is downsampled before fitting the trend.
+   * @param limit Maximum amount of trends to keep per file.
+   * @return One ParsingResult per file, with the trends sorted by time to exhaustion (soonest first) and robust slope (steepest first).
+   */
+  List<ParsingResult<List<Trend>>> estimateTrends(Path path, List<ValueFilter> filters, Double capacity, int points, int limit);
+
+  /**
+   * Lists the categories, instances and statistics defined within every statistics file found under the path. Only the structure
+   * of the files is decoded, the sampled values are skipped, and files are scanned in parallel, one task per file.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters matching the categories, instances and statistics to include, all of them are included if empty.
+   * @return One ParsingResult per file, with the categories found sorted by id.
+   */
+  List<ParsingResult<List<CatalogEntry>>> catalogStatistics(Path path, List<ValueFilter> filters);
+
+  /**
+   * Follows a statistics file that is still being written by a running member. The file is read until the end, and polled every
+   * interval afterwards, decoding only the tokens appended since the previous poll (nothing is decoded when the file didn't grow).
+   * Each time new samples are decoded, the listener receives the summaries of the statistics matching the filters over the
+   * trailing window, with counters as rates per second and gauges as sampled. Every sample read since the file was opened is kept
+   * in memory, so the cost of summarizing the window grows with the amount of samples written by the member while it's followed.
+   * Polls are executed by a single background thread.
+   *
+   * @param path Path to the statistics file, compressed files are not supported.
+   * @param filters Filters to apply when reading the file.
+   * @param window Length, in milliseconds, of the trailing window.
+   * @param interval Time, in milliseconds, between the end of a poll and the start of the next one.
+   * @param listener Consumer of the summaries, sorted by statistic id, invoked from the polling thread.
+   * @return A future that never completes normally. It completes exceptionally when the file can't be read anymore, and cancelling
+   *         it stops following the file.
+   */
+  CompletableFuture<Void> watchStatistics(Path path, List<ValueFilter> filters, long window, long interval, Consumer<List<LiveSummary>> listener);
 }
@@ -19,19 +19,38 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import org.apache.geode.internal.statistics.ArchiveInfo;
@@ -40,13 +59,51 @@ import org.apache.geode.internal.statistics.StatArchiveReader;
 import org.apache.geode.internal.statistics.StatValue;
 import org.apache.geode.internal.statistics.ValueFilter;
 import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
 import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.domain.statistics.LaggedCorrelation;
+import org.apache.geode.support.domain.statistics.LiveSummary;
+import org.apache.geode.support.domain.statistics.Pause;
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.RollingSummary;
+import org.apache.geode.support.domain.statistics.SampledValue;
 import org.apache.geode.support.domain.statistics.Sampling;
 import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
 import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.StatisticComparison;
+import org.apache.geode.support.domain.statistics.StatisticProfile;
+import org.apache.geode.support.domain.statistics.Trend;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
 import org.apache.geode.support.domain.statistics.filters.AbstractValueFilter;
 import org.apache.geode.support.domain.statistics.filters.SimpleValueFilter;
 import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.statistics.internal.AnomalyScanner;
+import org.apache.geode.support.service.statistics.internal.ArchiveIndex;
+import org.apache.geode.support.service.statistics.internal.ArchiveIndexCache;
+import org.apache.geode.support.service.statistics.internal.ArchiveTailer;
+import org.apache.geode.support.service.statistics.internal.BucketDownsampler;
+import org.apache.geode.support.service.statistics.internal.ChangePointDetector;
+import org.apache.geode.support.service.statistics.internal.ClockSkewEstimator;
+import org.apache.geode.support.service.statistics.internal.DerivedStatisticEvaluator;
+import org.apache.geode.support.service.statistics.internal.Correlator;
+import org.apache.geode.support.service.statistics.internal.DistributionShiftDetector;
+import org.apache.geode.support.service.statistics.internal.Downsampler;
+import org.apache.geode.support.service.statistics.internal.LagCorrelator;
+import org.apache.geode.support.service.statistics.internal.LargestTriangleThreeBucketsDownsampler;
+import org.apache.geode.support.service.statistics.internal.PauseDetector;
+import org.apache.geode.support.service.statistics.internal.PointInTimeSampler;
+import org.apache.geode.support.service.statistics.internal.Resampler;
+import org.apache.geode.support.service.statistics.internal.RollingWindow;
+import org.apache.geode.support.service.statistics.internal.SamplingStitcher;
+import org.apache.geode.support.service.statistics.internal.SeriesAggregator;
+import org.apache.geode.support.service.statistics.internal.StatisticRanker;
+import org.apache.geode.support.service.statistics.internal.TaskUtils;
+import org.apache.geode.support.service.statistics.internal.TrendEstimator;
 
 /**
  *
@@ -55,8 +112,66 @@ import org.apache.geode.support.service.StatisticsService;
 class DefaultStatisticsService implements StatisticsService {
   private static final int BUFFER_SIZE = 1024 * 1024;
   private static final Logger logger = LoggerFactory.getLogger(DefaultStatisticsService.class);
+  /* Default statistic-sample-rate, events seen by different members can't be lined up with more precision than this */
+  static final long CLOCK_SKEW_TOLERANCE = 1000;
+  /* Statistics holding the capacity of the resource measured by another statistic of the same category (heap, disk directories) */
+  static final Map<String, String> CAPACITY_STATISTICS;
+  static final List<ValueFilter> CAPACITY_FILTERS;
+
+  static {
+    Map<String, String> capacityStatistics = new HashMap<>();
+    capacityStatistics.put("usedMemory", "maxMemory");
+    capacityStatistics.put("diskSpace", "maximumSpace");
+    CAPACITY_STATISTICS = Collections.unmodifiableMap(capacityStatistics);
+    CAPACITY_FILTERS = Collections.unmodifiableList(Arrays.asList(
+        new SimpleValueFilter("VMMemoryUsageStats", null, "maxMemory", null),
+        new SimpleValueFilter("DiskDirStatistics", null, "maximumSpace", null)));
+  }
+
   /* This Statistic must be present in all files, that's why we use it as the default */
   final AbstractValueFilter defaultValueFilter = new SimpleValueFilter("VMStats", "vmStats", "cpus", null);
+  /* CPU bound tasks only, no need to have more threads than available processors */
+  private final ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), (Runnable runnable) -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+      }
+  );
+
+  /* Polls of the files being followed only decode the tokens appended since the previous one, a single thread is enough */
+  private final ScheduledExecutorService watchExecutorService = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+      }
+  );
+
+  /* Indexes of the types and instances within each file read, null if disabled */
+  ArchiveIndexCache archiveIndexCache;
+
+  @Value("${app.statistics.cache.directory:disabled}")
+  void setCacheDirectory(String cacheDirectory) {
+    this.archiveIndexCache = (StringUtils.isBlank(cacheDirectory) || "disabled".equals(cacheDirectory)) ? null : new ArchiveIndexCache(Paths.get(cacheDirectory));
+  }
+
+  /* Whether damaged files should be read as far as possible instead of failing */
+  boolean salvageEnabled = true;
+
+  @Value("${app.statistics.salvage:enabled}")
+  void setSalvage(String salvage) {
+    this.salvageEnabled = "enabled".equals(salvage);
+  }
+
+  /* Bytes skipped within each damaged file read, until reported through its parsing result */
+  final Map<Path, Long> skippedBytesByFile = new ConcurrentHashMap<>();
+
+  /**
+   * Work executed on a single statistics file.
+   */
+  @FunctionalInterface
+  interface SamplingProcessor<V> {
+    V process(Path path) throws Exception;
+  }
 
   Predicate<Path> isStatisticsFile() {
     return path -> Files.isRegularFile(path) && defaultValueFilter.archiveMatches(path.toFile());
@@ -71,6 +186,7 @@ class DefaultStatisticsService implements StatisticsService {
 
   /**
    * Instantiates and initializes the internal {@link StatArchiveFile} to parse a statistics file.
+   * If salvage is enabled, damaged regions of the file are skipped and everything else is read.
    *
    * @param path Path representing the file to read.
    * @param filters Filters to apply when parsing the file.
@@ -79,11 +195,79 @@ class DefaultStatisticsService implements StatisticsService {
    */
   StatArchiveFile initializeStatArchiveFile(Path path, List<ValueFilter> filters) throws IOException {
     StatArchiveFile statArchiveFile = new StatArchiveFile(path.toFile(), filters.toArray(new ValueFilter[0]));
-    statArchiveFile.update(false);
+
+    if (salvageEnabled) {
+      warnSkippedBytes(path, statArchiveFile.salvage());
+    } else {
+      statArchiveFile.update(false);
+    }
+
+    indexArchive(path, statArchiveFile);
 
     return statArchiveFile;
   }
 
+  /**
+   * Reads the structure (types, instances and time stamps) of a statistics file, without decoding the sampled values.
+   * If salvage is enabled, damaged regions of the file are skipped and everything else is read.
+   *
+   * @param path Path representing the file to read.
+   * @param statArchiveFile The {@link StatArchiveFile}, newly created.
+   * @throws IOException If an exception occurs while reading the file.
+   */
+  void readStructure(Path path, StatArchiveFile statArchiveFile) throws IOException {
+    if (salvageEnabled) {
+      warnSkippedBytes(path, statArchiveFile.salvageStructure());
+    } else {
+      statArchiveFile.readStructure();
+    }
+  }
+
+  void warnSkippedBytes(Path path, long skippedBytes) {
+    if (skippedBytes == 0) return;
+
+    skippedBytesByFile.merge(path, skippedBytes, Long::sum);
+    logger.warn(String.format("File %s is damaged, %d bytes were skipped. Values sampled after the damaged regions are relative to the last sample read before them.", path.toAbsolutePath().toString(), skippedBytes));
+  }
+
+  /**
+   * Collects the bytes skipped while salvaging the files, so they're reported only once.
+   *
+   * @param files Files read to build a single parsing result.
+   * @return The warning to include within the parsing result, or null if no damaged regions were skipped.
+   */
+  String collectSalvageWarning(List<Path> files) {
+    long skippedBytes = files.stream().map(skippedBytesByFile::remove).filter(Objects::nonNull).mapToLong(Long::longValue).sum();
+    if (skippedBytes == 0) return null;
+
+    return String.format("Salvaged, %d damaged bytes were skipped. Values sampled after the damaged regions are relative to the last sample read before them.", skippedBytes);
+  }
+
+  /**
+   * Stores the index of the types and instances found within the file, if not already done, so the file can be skipped next time
+   * it can't match the filters used.
+   *
+   * @param path Path of the sampling file.
+   * @param statArchiveFile The {@link StatArchiveFile}, already read until the end.
+   */
+  void indexArchive(Path path, StatArchiveFile statArchiveFile) {
+    if ((archiveIndexCache != null) && (archiveIndexCache.get(path) == null)) {
+      archiveIndexCache.put(path, ArchiveIndex.of(statArchiveFile));
+    }
+  }
+
+  /**
+   * @param path Path of the sampling file.
+   * @param filters Filters that will be used to read the file.
+   * @return true if the cached index of the file proves that no type and instance within it can match the filters.
+   */
+  boolean canBeSkipped(Path path, List<ValueFilter> filters) {
+    if ((archiveIndexCache == null) || (filters.isEmpty())) return false;
+
+    ArchiveIndex archiveIndex = archiveIndexCache.get(path);
+    return (archiveIndex != null) && (!archiveIndex.mayMatch(path.toFile(), filters));
+  }
+
   /**
    * Parses the sampling metadata from a given {@link StatArchiveFile}.
    * Makes defensive checks for nullity and validity of the received results.
@@ -210,6 +394,581 @@ class DefaultStatisticsService implements StatisticsService {
     return samplingResult;
   }
 
+  /**
+   * Parses a given sampling file using the specified filters, and adds the derived statistics computed from the parsed values.
+   * Statistics read only because they're referenced by a derived statistic, and not matched by any of the filters, are removed
+   * once the derived statistics have been evaluated.
+   *
+   * @param path Path of the sampling file to parse.
+   * @param filters Filters to apply when reading the file.
+   * @param derivedStatistics Derived statistics to evaluate.
+   * @return The Statistic Sampling containing the metadata, the statistical data and the derived statistics, if any.
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  Sampling parseIndividualSampling(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics) throws Exception {
+    if (derivedStatistics.isEmpty()) return parseIndividualSampling(path, filters);
+
+    return evaluateDerivedStatistics(parseIndividualSampling(path, getReadingFilters(filters, derivedStatistics)), filters, derivedStatistics);
+  }
+
+  /**
+   * @param filters Filters explicitly requested.
+   * @param derivedStatistics Derived statistics to evaluate.
+   * @return The filters needed to read both the requested statistics and the operands of the derived statistics.
+   */
+  List<ValueFilter> getReadingFilters(List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics) {
+    List<ValueFilter> clonedFilters = new ArrayList<>(filters);
+    derivedStatistics.forEach(derivedStatistic -> derivedStatistic.getFilters().stream().filter(filter -> !clonedFilters.contains(filter)).forEach(clonedFilters::add));
+
+    // The statistic added by the default filter is removed while parsing, unless the default filter is explicitly included.
+    boolean defaultStatisticReferenced = derivedStatistics.stream().flatMap(derivedStatistic -> derivedStatistic.getOperands().stream())
+        .anyMatch(operand -> operand.getTypeId().equalsIgnoreCase(defaultValueFilter.getTypeId()) && operand.getStatisticId().equalsIgnoreCase(defaultValueFilter.getStatisticId()));
+    if ((defaultStatisticReferenced) && (!clonedFilters.contains(defaultValueFilter))) clonedFilters.add(defaultValueFilter);
+
+    return clonedFilters;
+  }
+
+  /**
+   * Adds the derived statistics to the sampling, read through {@link #getReadingFilters(List, List)}. Statistics read only because
+   * they're referenced by a derived statistic, and not matched by any of the filters, are removed once the derived statistics have
+   * been evaluated.
+   *
+   * @param sampling The parsed sampling.
+   * @param filters Filters explicitly requested.
+   * @param derivedStatistics Derived statistics to evaluate.
+   * @return The same sampling, including the derived statistics.
+   */
+  Sampling evaluateDerivedStatistics(Sampling sampling, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics) {
+    DerivedStatisticEvaluator evaluator = new DerivedStatisticEvaluator();
+    derivedStatistics.forEach(derivedStatistic -> evaluator.evaluate(sampling, derivedStatistic));
+
+    // Remove the operands not explicitly requested.
+    Set<String> derivedNames = derivedStatistics.stream().map(DerivedStatistic::getName).collect(Collectors.toSet());
+    sampling.getCategories().values().removeIf(category -> {
+      String typeName = DerivedStatisticEvaluator.getTypeName(category.getName());
+      String instanceName = DerivedStatisticEvaluator.getInstanceName(category.getName());
+      category.getStatistics().keySet().removeIf(statisticName -> (!derivedNames.contains(statisticName))
+          && (filters.stream().noneMatch(filter -> filter.typeMatches(typeName) && filter.instanceMatches(instanceName, -1) && filter.statMatches(statisticName))));
+
+      return category.isEmpty();
+    });
+
+    return sampling;
+  }
+
+  /**
+   * Reads only the header of a statistics file.
+   *
+   * @param path Path of the sampling file.
+   * @return The information about the file and the system (member) that recorded it.
+   * @throws IOException When an exception occurs while reading the file.
+   */
+  ArchiveInfo readArchiveInfo(Path path) throws IOException {
+    StatArchiveFile statArchiveFile = new StatArchiveFile(path.toFile(), new ValueFilter[0]);
+
+    try {
+      return statArchiveFile.readArchiveInfo();
+    } finally {
+      try {
+        statArchiveFile.close();
+      } catch (IOException ioException) {
+        logger.warn(String.format("File %s wasn't correctly closed.", path.toAbsolutePath().toString()), ioException);
+      }
+    }
+  }
+
+  /**
+   * Parses the archives rolled by a single member, one at a time, and stitches them into a single sampling.
+   *
+   * @param parts Paths of the archives recorded by the member, sorted by start time.
+   * @param filters Filters to apply when reading the files.
+   * @param derivedStatistics Derived statistics to evaluate over the stitched sampling.
+   * @return The stitched Sampling, spanning from the start of the first archive until the end of the last one.
+   * @throws Exception When an exception occurs while parsing any of the files.
+   */
+  Sampling stitchIndividualMember(List<Path> parts, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics) throws Exception {
+    List<ValueFilter> readingFilters = derivedStatistics.isEmpty() ? filters : getReadingFilters(filters, derivedStatistics);
+    SamplingStitcher samplingStitcher = new SamplingStitcher();
+    for (Path part : parts) samplingStitcher.append(parseIndividualSampling(part, readingFilters));
+    Sampling sampling = samplingStitcher.build();
+
+    return derivedStatistics.isEmpty() ? sampling : evaluateDerivedStatistics(sampling, filters, derivedStatistics);
+  }
+
+  /**
+   * Parses a given sampling file and evaluates all of its statistics, keeping only the highest results in a bounded heap.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param evaluator Function receiving the statistic identifier and the statistic itself, returns null to discard the statistic.
+   * @param comparator Order used to select the highest results.
+   * @param limit Maximum amount of results to keep.
+   * @return The highest results, sorted from highest to lowest.
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  <V> List<V> selectIndividualSampling(Path path, List<ValueFilter> filters, BiFunction<String, Statistic, V> evaluator, Comparator<V> comparator, int limit) throws Exception {
+    return selectIndividualSampling(parseIndividualSampling(path, filters), evaluator, comparator, limit);
+  }
+
+  /**
+   * Evaluates all statistics of an already parsed sampling, keeping only the highest results in a bounded heap.
+   *
+   * @param sampling The parsed sampling to evaluate.
+   * @param evaluator Function receiving the statistic identifier and the statistic itself, returns null to discard the statistic.
+   * @param comparator Order used to select the highest results.
+   * @param limit Maximum amount of results to keep.
+   * @return The highest results, sorted from highest to lowest.
+   */
+  <V> List<V> selectIndividualSampling(Sampling sampling, BiFunction<String, Statistic, V> evaluator, Comparator<V> comparator, int limit) {
+    PriorityQueue<V> highestResults = new PriorityQueue<>(limit + 1, comparator);
+
+    sampling.getCategories().forEach((categoryName, category) ->
+      category.getStatistics().forEach((statisticName, statistic) -> {
+        V result = evaluator.apply(categoryName.concat(".").concat(statisticName), statistic);
+        if (result != null) {
+          highestResults.add(result);
+          if (highestResults.size() > limit) highestResults.poll();
+        }
+      })
+    );
+
+    List<V> result = new ArrayList<>(highestResults);
+    result.sort(comparator.reversed());
+
+    return result;
+  }
+
+  /**
+   * Parses a given sampling file and scans all of its statistics, keeping only the strongest anomalies found.
+   * Counters are scanned as rates per second, constant statistics are ignored.
+   *
+   * @param path Path of the sampling file to scan.
+   * @param filters Filters to apply when reading the file.
+   * @param scanner The scanner to use, shouldn't be shared with other threads.
+   * @param limit Maximum amount of anomalies to keep.
+   * @return The strongest anomalies found, sorted by score (strongest first).
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  List<Anomaly> scanIndividualSampling(Path path, List<ValueFilter> filters, AnomalyScanner scanner, int limit) throws Exception {
+    return selectIndividualSampling(path, filters, (statisticId, statistic) -> {
+      statistic.setFilter(statistic.isCounter() ? Statistic.Filter.Second : Statistic.Filter.None);
+      if (statistic.getMinimum() == statistic.getMaximum()) return null;
+
+      return scanner.scan(statisticId, statistic.getSeries());
+    }, Comparator.comparingDouble(scanner::getScore), limit);
+  }
+
+  /**
+   * Parses a given sampling file and evaluates all of its statistics, keeping only the highest ones according to the ranker.
+   * Statistics are evaluated on their raw samples, so no filtered series is built.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param derivedStatistics Derived statistics to evaluate and rank along with the parsed ones.
+   * @param ranker The ranker to use.
+   * @param limit Maximum amount of statistics to keep.
+   * @return The highest statistics found, sorted by ranking (highest first).
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  List<RankedStatistic> rankIndividualSampling(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics, StatisticRanker ranker, int limit) throws Exception {
+    return selectIndividualSampling(parseIndividualSampling(path, filters, derivedStatistics),
+        (statisticId, statistic) -> ranker.rank(statisticId, statistic.getUnits(), statistic.isCounter(), statistic.getRawSeries()),
+        Comparator.comparingDouble(ranker::getValue).thenComparing(RankedStatistic::getStatisticId, Comparator.reverseOrder()), limit);
+  }
+
+  /**
+   * Parses a given sampling file and searches for the strongest level shift of each statistic, keeping only the strongest ones.
+   * Counters are evaluated as rates per second, constant statistics are ignored.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param detector The detector to use.
+   * @param limit Maximum amount of change points to keep.
+   * @return The strongest change points found, sorted by score (strongest first).
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  List<ChangePoint> detectIndividualSampling(Path path, List<ValueFilter> filters, ChangePointDetector detector, int limit) throws Exception {
+    return selectIndividualSampling(path, filters, (statisticId, statistic) -> {
+      statistic.setFilter(statistic.isCounter() ? Statistic.Filter.Second : Statistic.Filter.None);
+      if (statistic.getMinimum() == statistic.getMaximum()) return null;
+
+      return detector.detect(statisticId, statistic.getSeries());
+    }, Comparator.comparingDouble(ChangePoint::getScore).thenComparing(ChangePoint::getStatisticId, Comparator.reverseOrder()), limit);
+  }
+
+  /**
+   * Parses a given sampling file and compares the distribution of every statistic before and after a given time, keeping only
+   * the biggest changes. Counters are evaluated as rates per second, constant statistics are ignored.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param detector The detector to use.
+   * @param limit Maximum amount of shifts to keep.
+   * @return The biggest shifts found, sorted by Kolmogorov-Smirnov statistic and absolute mean shift (biggest first).
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  List<DistributionShift> compareIndividualSampling(Path path, List<ValueFilter> filters, DistributionShiftDetector detector, int limit) throws Exception {
+    return selectIndividualSampling(path, filters, (statisticId, statistic) -> {
+      statistic.setFilter(statistic.isCounter() ? Statistic.Filter.Second : Statistic.Filter.None);
+      if (statistic.getMinimum() == statistic.getMaximum()) return null;
+
+      return detector.compare(statisticId, statistic.getSeries());
+    }, Comparator.comparingDouble(DistributionShift::getKolmogorovSmirnov)
+        .thenComparingDouble(shift -> Math.abs(shift.getMeanShift()))
+        .thenComparing(DistributionShift::getStatisticId, Comparator.reverseOrder()), limit);
+  }
+
+  /**
+   * Parses a given sampling file and applies the rolling window to every statistic, keeping only the highest ones.
+   * Counters are evaluated as rates per second, constant statistics are ignored.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param rollingWindow The rolling window to use.
+   * @param limit Maximum amount of statistics to keep.
+   * @return The statistics with the highest windows, sorted by highest window (highest first).
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  List<RollingSummary> rollIndividualSampling(Path path, List<ValueFilter> filters, RollingWindow rollingWindow, int limit) throws Exception {
+    return selectIndividualSampling(path, filters, (statisticId, statistic) -> {
+      statistic.setFilter(statistic.isCounter() ? Statistic.Filter.Second : Statistic.Filter.None);
+      if (statistic.getMinimum() == statistic.getMaximum()) return null;
+
+      return rollingWindow.summarize(statisticId, statistic.getSeries());
+    }, Comparator.comparingDouble(RollingSummary::getHighest).thenComparing(RollingSummary::getStatisticId, Comparator.reverseOrder()), limit);
+  }
+
+  /**
+   * Parses a given sampling file and builds the profile of every statistic, using the same filter for all of them.
+   * Statistics without values after applying the filter are ignored.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param filter Filter to use (none, per second or per sample) when reading the values of the statistics.
+   * @return The profiles of the statistics, mapped by statistic id.
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  Map<String, StatisticProfile> profileIndividualSampling(Path path, List<ValueFilter> filters, Statistic.Filter filter) throws Exception {
+    Map<String, StatisticProfile> profiles = new HashMap<>();
+    Sampling sampling = parseIndividualSampling(path, filters);
+
+    sampling.getCategories().forEach((categoryName, category) ->
+      category.getStatistics().forEach((statisticName, statistic) -> {
+        statistic.setFilter(filter);
+        double[] values = statistic.getSeries().getValues();
+        if (values.length != 0) profiles.put(categoryName.concat(".").concat(statisticName), new StatisticProfile(statistic.getUnits(), values));
+      })
+    );
+
+    return profiles;
+  }
+
+  /**
+   * Parses a given sampling file and fits the trend of every gauge, keeping only the most urgent ones. The capacity of each
+   * statistic, when not explicitly set, is read from the matching capacity statistic of the same category (see {@link #CAPACITY_STATISTICS}).
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters to apply when reading the file.
+   * @param capacity Capacity to use for all statistics, or null to use the capacity statistics.
+   * @param points Maximum amount of points to which each series is downsampled before fitting the trend.
+   * @param limit Maximum amount of trends to keep.
+   * @return The most urgent trends, sorted by time to exhaustion (soonest first) and robust slope (steepest first).
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  List<Trend> trendIndividualSampling(Path path, List<ValueFilter> filters, Double capacity, int points, int limit) throws Exception {
+    TrendEstimator estimator = new TrendEstimator(points);
+    List<ValueFilter> trendFilters = new ArrayList<>(filters);
+    if (capacity == null) trendFilters.addAll(CAPACITY_FILTERS);
+    Sampling sampling = parseIndividualSampling(path, trendFilters);
+
+    // Resolve the capacity of every statistic before evaluating them.
+    Map<String, Double> capacities = new HashMap<>();
+    sampling.getCategories().forEach((categoryName, category) ->
+      category.getStatistics().forEach((statisticName, statistic) -> {
+        if (capacity != null) {
+          capacities.put(categoryName.concat(".").concat(statisticName), capacity);
+        } else {
+          String capacityName = CAPACITY_STATISTICS.get(statisticName);
+          Statistic capacityStatistic = capacityName != null ? category.getStatistics().get(capacityName) : null;
+          if ((capacityStatistic != null) && (capacityStatistic.getLastValue() > 0)) capacities.put(categoryName.concat(".").concat(statisticName), capacityStatistic.getLastValue());
+        }
+      })
+    );
+
+    return selectIndividualSampling(sampling, (statisticId, statistic) -> {
+      if (statistic.isCounter()) return null;
+      statistic.setFilter(Statistic.Filter.None);
+      if (statistic.getMinimum() == statistic.getMaximum()) return null;
+
+      return estimator.estimate(statisticId, statistic.getUnits(), statistic.getSeries(), capacities.getOrDefault(statisticId, Double.NaN));
+    }, Comparator.comparing(Trend::isExhausting)
+        .thenComparing(Trend::getTimeToExhaustion, Comparator.reverseOrder())
+        .thenComparingDouble(Trend::getRobustSlope)
+        .thenComparing(Trend::getStatisticId, Comparator.reverseOrder()), limit);
+  }
+
+  /**
+   * Parses a given sampling file and extracts the time stamps at which any of the statistics changes its value.
+   *
+   * @param path Path of the sampling file to evaluate.
+   * @param filters Filters matching the statistics from which the events should be extracted.
+   * @return The time stamps of the events, sorted and without duplicates.
+   * @throws Exception When an exception occurs while parsing the file.
+   */
+  long[] extractIndividualEvents(Path path, List<ValueFilter> filters) throws Exception {
+    List<Series> sources = new ArrayList<>();
+    Sampling sampling = parseIndividualSampling(path, filters);
+    sampling.getCategories().values().forEach(category -> category.getStatistics().values().forEach(statistic -> sources.add(statistic.getRawSeries())));
+
+    return ClockSkewEstimator.extractEvents(sources);
+  }
+
+  /**
+   * Reads the time stamps of all samples from a given sampling file, without decoding the sampled values.
+   *
+   * @param path Path of the sampling file to read.
+   * @return The time stamps of the samples, sorted in ascending order.
+   * @throws IOException When an exception occurs while reading the file.
+   */
+  long[] readIndividualTimeStamps(Path path) throws IOException {
+    long[] timeStamps;
+    StatArchiveFile statArchiveFile = null;
+
+    try {
+      if (logger.isDebugEnabled()) logger.debug(String.format("Reading TimeStamps from File %s...", path.toString()));
+      statArchiveFile = new StatArchiveFile(path.toFile(), new ValueFilter[0]);
+      readStructure(path, statArchiveFile);
+      timeStamps = statArchiveFile.getMilliTimeStamps();
+      if (logger.isDebugEnabled()) logger.debug(String.format("Reading TimeStamps from File %s... Done!.", path.toString()));
+    } catch (IOException ioException) {
+      String errorMessage = String.format("There was a problem while parsing file %s.", path.toAbsolutePath().toString());
+      logger.error(errorMessage, ioException);
+      throw ioException;
+    } finally {
+      if (statArchiveFile != null) {
+        try {
+          statArchiveFile.close();
+        } catch (IOException ioException) {
+          logger.warn(String.format("File %s wasn't correctly closed.", path.toAbsolutePath().toString()), ioException);
+        }
+      }
+    }
+
+    // Make sure values are ordered.
+    Arrays.sort(timeStamps);
+    return timeStamps;
+  }
+
+  /**
+   * Reads the structure (categories, instances and statistics) of a given sampling file, without decoding the sampled values.
+   * Categories without matching instances or statistics are not included.
+   *
+   * @param path Path of the sampling file to read.
+   * @param filters Filters matching the categories, instances and statistics to include, all of them are included if empty.
+   * @return The structure of the file, sorted by category id.
+   * @throws IOException When an exception occurs while reading the file.
+   */
+  List<CatalogEntry> catalogIndividualSampling(Path path, List<ValueFilter> filters) throws IOException {
+    StatArchiveFile statArchiveFile = null;
+    List<CatalogEntry> catalogEntries = new ArrayList<>();
+
+    try {
+      if (logger.isDebugEnabled()) logger.debug(String.format("Reading Structure from File %s...", path.toString()));
+      statArchiveFile = new StatArchiveFile(path.toFile(), new ValueFilter[0]);
+      readStructure(path, statArchiveFile);
+      indexArchive(path, statArchiveFile);
+      StatArchiveReader.ResourceType[] resourceTypes = statArchiveFile.getResourceTypesTable();
+      StatArchiveReader.ResourceInst[] resourceInstances = statArchiveFile.getResourceInstancesTable();
+      if (logger.isDebugEnabled()) logger.debug(String.format("Reading Structure from File %s... Done!.", path.toString()));
+
+      if (resourceTypes != null) {
+        for (StatArchiveReader.ResourceType resourceType : resourceTypes) {
+          if (resourceType == null) continue;
+
+          List<ValueFilter> typeFilters = filters.stream().filter(filter -> filter.typeMatches(resourceType.getName())).collect(Collectors.toList());
+          if (!filters.isEmpty() && typeFilters.isEmpty()) continue;
+
+          Set<String> instanceIds = new TreeSet<>();
+          for (StatArchiveReader.ResourceInst resourceInstance : resourceInstances) {
+            if ((resourceInstance == null) || (resourceInstance.getType() != resourceType)) continue;
+
+            if (typeFilters.isEmpty() || typeFilters.stream().anyMatch(filter -> filter.instanceMatches(resourceInstance.getName(), resourceInstance.getId()))) {
+              instanceIds.add(resourceInstance.getName());
+            }
+          }
+
+          List<String> statisticIds = Arrays.stream(resourceType.getStats())
+              .filter(Objects::nonNull)
+              .map(StatArchiveReader.StatDescriptor::getName)
+              .filter(statisticId -> typeFilters.isEmpty() || typeFilters.stream().anyMatch(filter -> filter.statMatches(statisticId)))
+              .collect(Collectors.toList());
+
+          if (!instanceIds.isEmpty() && !statisticIds.isEmpty()) {
+            catalogEntries.add(new CatalogEntry(resourceType.getName(), new ArrayList<>(instanceIds), statisticIds));
+          }
+        }
+      }
+    } catch (IOException ioException) {
+      String errorMessage = String.format("There was a problem while parsing file %s.", path.toAbsolutePath().toString());
+      logger.error(errorMessage, ioException);
+      throw ioException;
+    } finally {
+      if (statArchiveFile != null) {
+        try {
+          statArchiveFile.close();
+        } catch (IOException ioException) {
+          logger.warn(String.format("File %s wasn't correctly closed.", path.toAbsolutePath().toString()), ioException);
+        }
+      }
+    }
+
+    catalogEntries.sort(Comparator.comparing(CatalogEntry::getCategoryId));
+    return catalogEntries;
+  }
+
+  /**
+   * Reads a given sampling file up to the first sample taken at or after the time of the sampler, and retrieves the value of every
+   * statistic nearest to that time. Values are returned as sampled, without any filter applied.
+   *
+   * @param path Path of the sampling file to read.
+   * @param filters Filters to apply when reading the file.
+   * @param sampler The sampler to use.
+   * @return The sampled values within the tolerance of the sampler, sorted by statistic id.
+   * @throws Exception When an exception occurs while reading the file.
+   */
+  List<SampledValue> sampleIndividualValuesAt(Path path, List<ValueFilter> filters, PointInTimeSampler sampler) throws Exception {
+    List<SampledValue> sampledValues = new ArrayList<>();
+    StatArchiveFile statArchiveFile = null;
+
+    try {
+      if (logger.isDebugEnabled()) logger.debug(String.format("Sampling File %s...", path.toString()));
+      statArchiveFile = new StatArchiveFile(path.toFile(), filters.toArray(new ValueFilter[0]));
+      if (salvageEnabled) {
+        warnSkippedBytes(path, statArchiveFile.salvageUntil(sampler.getTime()));
+      } else {
+        statArchiveFile.updateUntil(sampler.getTime());
+      }
+
+      parseSamplingStatisticalData(statArchiveFile).forEach((categoryName, category) ->
+        category.getStatistics().forEach((statisticName, statistic) -> {
+          SampledValue sampledValue = sampler.sample(categoryName.concat(".").concat(statisticName), statistic.getUnits(), statistic.getRawSeries());
+          if (sampledValue != null) sampledValues.add(sampledValue);
+        })
+      );
+
+      if (logger.isDebugEnabled()) logger.debug(String.format("Sampling File %s... Done!.", path.toString()));
+    } catch (Exception exception) {
+      String errorMessage = String.format("There was a problem while parsing file %s.", path.toAbsolutePath().toString());
+      logger.error(errorMessage, exception);
+      throw exception;
+    } finally {
+      if (statArchiveFile != null) {
+        try {
+          statArchiveFile.close();
+        } catch (IOException ioException) {
+          logger.warn(String.format("File %s wasn't correctly closed.", path.toAbsolutePath().toString()), ioException);
+        }
+      }
+    }
+
+    sampledValues.sort(Comparator.comparing(SampledValue::getStatisticId));
+    return sampledValues;
+  }
+
+  /**
+   * Summarizes every statistic read so far from a file that is still being written, over the trailing window that ends at the
+   * last sample read. The file keeps every sample read since it was opened, and the values of each statistic are expanded in full
+   * before being trimmed to the window, so the cost grows with the amount of samples read so far.
+   * Counters are evaluated as rates per second, and gauges as sampled.
+   *
+   * @param statArchiveFile The file being followed.
+   * @param window Length, in milliseconds, of the trailing window.
+   * @return The summaries of the statistics with samples within the window, sorted by statistic id.
+   */
+  List<LiveSummary> summarizeLiveSampling(StatArchiveFile statArchiveFile, long window) {
+    long lastTimeStamp = statArchiveFile.getLastTimeStamp();
+    if (lastTimeStamp == -1) return Collections.emptyList();
+
+    List<LiveSummary> liveSummaries = new ArrayList<>();
+    parseSamplingStatisticalData(statArchiveFile).forEach((categoryName, category) ->
+      category.getStatistics().forEach((statisticName, statistic) -> {
+        Statistic windowStatistic = statistic.trim(lastTimeStamp - window, -1);
+        windowStatistic.setFilter(statistic.isCounter() ? Statistic.Filter.Second : Statistic.Filter.None);
+        Series series = windowStatistic.getSeries();
+        if (!series.isEmpty()) liveSummaries.add(LiveSummary.of(categoryName.concat(".").concat(statisticName), statistic.getUnits(), series));
+      })
+    );
+
+    liveSummaries.sort(Comparator.comparing(LiveSummary::getStatisticId));
+    return liveSummaries;
+  }
+
+  /**
+   * Walks the path and processes every statistics file found in parallel, one task per file, so at most one parsed file per
+   * thread is held in memory.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param processor Function to execute on every statistics file.
+   * @return One ParsingResult per file, containing the result of the processing and/or the error occurred while doing it.
+   */
+  <V> List<ParsingResult<V>> processInParallel(Path path, SamplingProcessor<V> processor) {
+    return processInParallel(path, Collections.emptyList(), null, processor);
+  }
+
+  /**
+   * Same as {@link #processInParallel(Path, SamplingProcessor)}, but the files that can't match the filters, according to their
+   * cached index, are not even opened and get the skipped result instead.
+   *
+   * @param path Path to statistics file, or directory to scan for statistics files.
+   * @param filters Filters the processor uses to read every file.
+   * @param skippedResult Result of the processor for files without matching statistics.
+   * @param processor Function to execute on every statistics file.
+   * @return One ParsingResult per file, containing the result of the processing and/or the error occurred while doing it.
+   */
+  <V> List<ParsingResult<V>> processInParallel(Path path, List<ValueFilter> filters, V skippedResult, SamplingProcessor<V> processor) {
+    List<Path> files;
+    try {
+      files = Files.walk(path).filter(isStatisticsFile()).collect(Collectors.toList());
+    } catch (IOException ioException) {
+      String errorMessage = String.format("There was a problem while parsing file %s.", path.toAbsolutePath().toString());
+      logger.error(errorMessage, ioException);
+      return new ArrayList<>(Collections.singletonList(new ParsingResult<>(path, ioException)));
+    }
+
+    List<Future<ParsingResult<V>>> tasks = files.stream()
+        .map(file -> canBeSkipped(file, filters) ? CompletableFuture.completedFuture(new ParsingResult<>(file, skippedResult)) : executorService.submit(() -> {
+          try {
+            V result = processor.process(file);
+            return new ParsingResult<>(file, result, collectSalvageWarning(Collections.singletonList(file)));
+          } catch (Exception exception) {
+            collectSalvageWarning(Collections.singletonList(file));
+            return new ParsingResult<V>(file, exception);
+          }
+        }))
+        .collect(Collectors.toList());
+
+    return tasks.stream().map(TaskUtils::getResult).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates the {@link Downsampler} implementing the requested method.
+   *
+   * @param size Amount of samples that will be added to the downsampler.
+   * @param points Maximum amount of points the result should contain.
+   * @param method Method to use when choosing the points to keep.
+   * @return The Downsampler, ready for use.
+   */
+  Downsampler createDownsampler(int size, int points, DownsamplingMethod method) {
+    switch (method) {
+      case LTTB: return new LargestTriangleThreeBucketsDownsampler(size, points);
+      case MINIMUM: return new BucketDownsampler(size, points, BucketDownsampler.Aggregation.MINIMUM);
+      case MAXIMUM: return new BucketDownsampler(size, points, BucketDownsampler.Aggregation.MAXIMUM);
+      case AVERAGE: return new BucketDownsampler(size, points, BucketDownsampler.Aggregation.AVERAGE);
+      case MIN_MAX: return new BucketDownsampler(size, points, BucketDownsampler.Aggregation.MIN_MAX);
+      default: throw new IllegalArgumentException(String.format("Unsupported downsampling method %s.", method));
+    }
+  }
+
   @Override
   public void decompress(Path sourcePath, Path targetPath) throws IOException {
     logger.debug(String.format("Decompressing file %s...", sourcePath.toString()));
@@ -266,8 +1025,9 @@ class DefaultStatisticsService implements StatisticsService {
 
             try {
               Sampling sampling = parseIndividualSampling(currentPath, new ArrayList<>());
-              parsingResult = new ParsingResult<>(currentPath, sampling.getMetadata());
+              parsingResult = new ParsingResult<>(currentPath, sampling.getMetadata(), collectSalvageWarning(Collections.singletonList(currentPath)));
             } catch (Exception exception) {
+              collectSalvageWarning(Collections.singletonList(currentPath));
               parsingResult = new ParsingResult<>(currentPath, exception);
             }
 
@@ -284,28 +1044,330 @@ class DefaultStatisticsService implements StatisticsService {
 
   @Override
   public List<ParsingResult<Sampling>> parseSampling(Path path, List<ValueFilter> filters) {
+    return parseSampling(path, filters, Collections.emptyList());
+  }
+
+  /**
+   * Files that can't match the filters, nor the operands of the derived statistics, according to their cached index are not
+   * opened and get an empty sampling, without metadata.
+   */
+  @Override
+  public List<ParsingResult<Sampling>> parseSampling(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics) {
+    Objects.requireNonNull(derivedStatistics, "Derived statistics can not be null.");
+    List<ValueFilter> readingFilters = derivedStatistics.isEmpty() ? filters : getReadingFilters(filters, derivedStatistics);
+
+    return processInParallel(path, readingFilters, new Sampling(null, Collections.emptyMap()), file -> parseIndividualSampling(file, filters, derivedStatistics));
+  }
+
+  /**
+   * Selects the statistics matched by the filter, the original sampling is not modified.
+   *
+   * @param sampling The parsed sampling.
+   * @param filter The filter to apply.
+   * @return A new sampling, sharing metadata and statistics with the original one, containing only the matching statistics.
+   */
+  Sampling selectSampling(Sampling sampling, ValueFilter filter) {
+    Map<String, Category> categories = new HashMap<>();
+
+    sampling.getCategories().forEach((categoryName, category) -> {
+      String typeName = DerivedStatisticEvaluator.getTypeName(categoryName);
+      String instanceName = DerivedStatisticEvaluator.getInstanceName(categoryName);
+      if ((!filter.typeMatches(typeName)) || (!filter.instanceMatches(instanceName, -1))) return;
+
+      Category selectedCategory = new Category(categoryName, category.getDescription());
+      category.getStatistics().forEach((statisticName, statistic) -> {
+        if (filter.statMatches(statisticName)) selectedCategory.addStatistic(statistic);
+      });
+
+      if (!selectedCategory.isEmpty()) categories.put(categoryName, selectedCategory);
+    });
+
+    return new Sampling(sampling.getMetadata(), categories);
+  }
+
+  @Override
+  public List<List<ParsingResult<Sampling>>> querySampling(Path path, List<ValueFilter> queries) {
+    Objects.requireNonNull(queries, "Queries can not be null.");
+    if (queries.isEmpty()) throw new IllegalArgumentException("At least one query should be specified.");
+
+    // Single pass per file, the archive reader includes every statistic matched by any of the queries.
+    List<ParsingResult<Sampling>> parsingResults = parseSampling(path, queries);
+    List<List<ParsingResult<Sampling>>> queryResults = new ArrayList<>(queries.size());
+
+    for (ValueFilter query : queries) {
+      List<ParsingResult<Sampling>> results = new ArrayList<>(parsingResults.size());
+
+      for (ParsingResult<Sampling> parsingResult : parsingResults) {
+        if (parsingResult.isSuccess()) {
+          results.add(new ParsingResult<>(parsingResult.getFile(), selectSampling(parsingResult.getData(), query), parsingResult.getWarning()));
+        } else {
+          results.add(parsingResult);
+        }
+      }
+
+      queryResults.add(results);
+    }
+
+    return queryResults;
+  }
+
+  @Override
+  public Series downsample(Statistic statistic, int points, DownsamplingMethod method) {
+    Objects.requireNonNull(method, "Downsampling method can not be null.");
+    Objects.requireNonNull(statistic, "Statistic can not be null.");
+
+    Series series = statistic.getSeries();
+    long[] timeStamps = series.getTimeStamps();
+    double[] values = series.getValues();
+    Downsampler downsampler = createDownsampler(series.size(), points, method);
+    for (int i = 0; i < values.length; i++) downsampler.add(timeStamps[i], values[i]);
+
+    return downsampler.getResult();
+  }
+
+  @Override
+  public Series aggregate(List<Statistic> statistics, long step, Aggregation aggregation) {
+    Objects.requireNonNull(statistics, "Statistics can not be null.");
+    Objects.requireNonNull(aggregation, "Aggregation can not be null.");
+
+    SeriesAggregator seriesAggregator = new SeriesAggregator(step, aggregation);
+    statistics.forEach(statistic -> seriesAggregator.add(statistic.getSeries()));
+
+    return seriesAggregator.getResult();
+  }
+
+  @Override
+  public double[][] resample(List<Statistic> statistics, long startTime, long step, int points) {
+    Objects.requireNonNull(statistics, "Statistics can not be null.");
+    Resampler resampler = new Resampler(startTime, step, points);
+    List<Future<double[]>> resamplerTasks = new ArrayList<>();
+
+    statistics.forEach(statistic -> resamplerTasks.add(executorService.submit(() -> {
+      Series rawSeries = statistic.getRawSeries();
+      return resampler.resample(rawSeries.getTimeStamps(), rawSeries.getValues(), statistic.isCounter());
+    })));
+
+    double[][] result = new double[resamplerTasks.size()][];
+    for (int i = 0; i < result.length; i++) result[i] = TaskUtils.getResult(resamplerTasks.get(i));
+
+    return result;
+  }
+
+  @Override
+  public double[][] correlate(double[][] targets, double[][] candidates, CorrelationMethod method) {
+    return new Correlator(executorService, method).correlate(targets, candidates);
+  }
+
+  @Override
+  public LaggedCorrelation[] crossCorrelate(double[] target, double[][] candidates, int maximumLag) {
+    return new LagCorrelator(executorService, maximumLag).correlate(target, candidates);
+  }
+
+  @Override
+  public List<ParsingResult<List<Anomaly>>> scanAnomalies(Path path, List<ValueFilter> filters, AnomalyScore score, int windowSize, double threshold, int limit) {
+    Objects.requireNonNull(score, "Anomaly score can not be null.");
+    if (windowSize < 2) throw new IllegalArgumentException("Window size should be at least 2.");
+    if (threshold <= 0) throw new IllegalArgumentException("Threshold should be positive.");
+    if (limit <= 0) throw new IllegalArgumentException("Limit should be positive.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> scanIndividualSampling(file, filters, new AnomalyScanner(windowSize, threshold, score), limit));
+  }
+
+  @Override
+  public List<ParsingResult<List<RankedStatistic>>> rankStatistics(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics, Ranking ranking, int limit) {
+    Objects.requireNonNull(ranking, "Ranking can not be null.");
+    Objects.requireNonNull(derivedStatistics, "Derived statistics can not be null.");
+    if (limit <= 0) throw new IllegalArgumentException("Limit should be positive.");
+
+    // Files are read using the operands of the derived statistics as well.
+    List<ValueFilter> readingFilters = new ArrayList<>(filters);
+    derivedStatistics.forEach(derivedStatistic -> readingFilters.addAll(derivedStatistic.getFilters()));
+
+    return processInParallel(path, readingFilters, Collections.emptyList(), file -> rankIndividualSampling(file, filters, derivedStatistics, new StatisticRanker(ranking), limit));
+  }
+
+  @Override
+  public List<ParsingResult<List<ChangePoint>>> detectChangePoints(Path path, List<ValueFilter> filters, int minimumSegment, double threshold, int limit) {
+    if (minimumSegment < 1) throw new IllegalArgumentException("Minimum segment should be positive.");
+    if ((threshold <= 0) || (threshold > 1)) throw new IllegalArgumentException("Threshold should be between 0 (exclusive) and 1 (inclusive).");
+    if (limit <= 0) throw new IllegalArgumentException("Limit should be positive.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> detectIndividualSampling(file, filters, new ChangePointDetector(minimumSegment, threshold), limit));
+  }
+
+  @Override
+  public List<ParsingResult<List<DistributionShift>>> compareDistributions(Path path, List<ValueFilter> filters, long time, long window, int limit) {
+    if (window <= 0) throw new IllegalArgumentException("Window should be positive.");
+    if (limit <= 0) throw new IllegalArgumentException("Limit should be positive.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> compareIndividualSampling(file, filters, new DistributionShiftDetector(time, window), limit));
+  }
+
+  @Override
+  public List<ParsingResult<Map<String, StatisticProfile>>> profileStatistics(Path path, List<ValueFilter> filters, Statistic.Filter filter) {
+    Objects.requireNonNull(filter, "Filter can not be null.");
+
+    return processInParallel(path, file -> profileIndividualSampling(file, filters, filter));
+  }
+
+  @Override
+  public List<StatisticComparison> compareProfiles(List<Map<String, StatisticProfile>> baseline, List<Map<String, StatisticProfile>> candidate) {
+    Objects.requireNonNull(baseline, "Baseline profiles can not be null.");
+    Objects.requireNonNull(candidate, "Candidate profiles can not be null.");
+
+    Map<String, List<StatisticProfile>> baselineProfiles = new TreeMap<>();
+    Map<String, List<StatisticProfile>> candidateProfiles = new HashMap<>();
+    baseline.forEach(profiles -> profiles.forEach((statisticId, profile) -> baselineProfiles.computeIfAbsent(statisticId, key -> new ArrayList<>()).add(profile)));
+    candidate.forEach(profiles -> profiles.forEach((statisticId, profile) -> candidateProfiles.computeIfAbsent(statisticId, key -> new ArrayList<>()).add(profile)));
+
+    List<Future<StatisticComparison>> comparisonTasks = new ArrayList<>();
+    baselineProfiles.forEach((statisticId, profiles) -> {
+      List<StatisticProfile> pairedProfiles = candidateProfiles.get(statisticId);
+      if (pairedProfiles != null) {
+        comparisonTasks.add(executorService.submit(() -> new StatisticComparison(statisticId, StatisticProfile.merge(profiles), StatisticProfile.merge(pairedProfiles))));
+      }
+    });
+
+    return comparisonTasks.stream().map(TaskUtils::getResult).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<ParsingResult<List<RollingSummary>>> rollStatistics(Path path, List<ValueFilter> filters, RollingFunction function, long window, int limit) {
+    Objects.requireNonNull(function, "Rolling function can not be null.");
+    if (window <= 0) throw new IllegalArgumentException("Window should be positive.");
+    if (limit <= 0) throw new IllegalArgumentException("Limit should be positive.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> rollIndividualSampling(file, filters, new RollingWindow(function, window), limit));
+  }
+
+  @Override
+  public List<ParsingResult<List<Pause>>> detectPauses(Path path, long threshold) {
+    if (threshold <= 0) throw new IllegalArgumentException("Threshold should be positive.");
+
+    PauseDetector detector = new PauseDetector(threshold);
+    return processInParallel(path, file -> detector.detect(readIndividualTimeStamps(file)));
+  }
+
+  @Override
+  public List<ParsingResult<ClockSkew>> estimateClockSkews(Path path, List<ValueFilter> filters, long maximumSkew) {
+    if (maximumSkew <= 0) throw new IllegalArgumentException("Maximum skew should be positive.");
+
+    ClockSkewEstimator estimator = new ClockSkewEstimator(maximumSkew, CLOCK_SKEW_TOLERANCE);
+    List<ParsingResult<long[]>> parsingResults = processInParallel(path, file -> extractIndividualEvents(file, filters));
+
+    // The member with more events is used as reference, most likely the membership coordinator.
+    ParsingResult<long[]> reference = parsingResults.stream()
+        .filter(ParsingResult::isSuccess)
+        .filter(parsingResult -> parsingResult.getData().length != 0)
+        .max(Comparator.comparingInt((ParsingResult<long[]> parsingResult) -> parsingResult.getData().length)
+            .thenComparing(ParsingResult::getFile, Comparator.reverseOrder()))
+        .orElse(null);
+    long[] referenceEvents = reference != null ? reference.getData() : new long[0];
+
+    return parsingResults.stream()
+        .map(parsingResult -> {
+          if (parsingResult.isFailure()) return new ParsingResult<ClockSkew>(parsingResult.getFile(), parsingResult.getException());
+          if (parsingResult == reference) return new ParsingResult<>(parsingResult.getFile(), new ClockSkew(0, referenceEvents.length, referenceEvents.length, true), parsingResult.getWarning());
+
+          return new ParsingResult<>(parsingResult.getFile(), estimator.estimate(referenceEvents, parsingResult.getData()), parsingResult.getWarning());
+        })
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<ParsingResult<List<SampledValue>>> sampleValuesAt(Path path, List<ValueFilter> filters, long time, long tolerance) {
+    if (tolerance <= 0) throw new IllegalArgumentException("Tolerance should be positive.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> sampleIndividualValuesAt(file, filters, new PointInTimeSampler(time, tolerance)));
+  }
+
+  @Override
+  public List<ParsingResult<List<Trend>>> estimateTrends(Path path, List<ValueFilter> filters, Double capacity, int points, int limit) {
+    if ((capacity != null) && (capacity <= 0)) throw new IllegalArgumentException("Capacity should be positive.");
+    if (points < TrendEstimator.MINIMUM_SAMPLES) throw new IllegalArgumentException("Points should be greater than or equal to 3.");
+    if (limit <= 0) throw new IllegalArgumentException("Limit should be positive.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> trendIndividualSampling(file, filters, capacity, points, limit));
+  }
+
+  @Override
+  public List<ParsingResult<Sampling>> stitchSampling(Path path, List<ValueFilter> filters, List<DerivedStatistic> derivedStatistics) {
+    Objects.requireNonNull(filters, "Filters can not be null.");
+    Objects.requireNonNull(derivedStatistics, "Derived statistics can not be null.");
     List<ParsingResult<Sampling>> parsingResults = new ArrayList<>();
 
-    try {
-      Files.walk(path)
-          .filter(isStatisticsFile())
-          .forEach(currentPath -> {
-            ParsingResult<Sampling> parsingResult;
+    // The system id and the system start time uniquely identify the member that recorded the archive.
+    Map<String, List<ParsingResult<ArchiveInfo>>> archivesByMember = new TreeMap<>();
+    processInParallel(path, this::readArchiveInfo).forEach(parsingResult -> {
+      if (parsingResult.isSuccess()) {
+        ArchiveInfo archiveInfo = parsingResult.getData();
+        String memberId = archiveInfo.getSystemId() + "@" + archiveInfo.getSystemStartTimeMillis() + "@" + archiveInfo.getMachine();
+        archivesByMember.computeIfAbsent(memberId, key -> new ArrayList<>()).add(parsingResult);
+      } else {
+        parsingResults.add(new ParsingResult<>(parsingResult.getFile(), parsingResult.getException()));
+      }
+    });
+
+    List<Future<ParsingResult<Sampling>>> tasks = archivesByMember.values().stream()
+        .map(archives -> {
+          List<Path> parts = archives.stream()
+              .sorted(Comparator.comparingLong((ParsingResult<ArchiveInfo> archive) -> archive.getData().getStartTimeMillis()).thenComparing(ParsingResult::getFile))
+              .map(ParsingResult::getFile)
+              .collect(Collectors.toList());
 
+          return executorService.submit(() -> {
             try {
-              parsingResult = new ParsingResult<>(currentPath, parseIndividualSampling(currentPath, filters));
+              Sampling sampling = stitchIndividualMember(parts, filters, derivedStatistics);
+              return new ParsingResult<>(parts.get(0), sampling, collectSalvageWarning(parts));
             } catch (Exception exception) {
-              parsingResult = new ParsingResult<>(currentPath, exception);
+              collectSalvageWarning(parts);
+              return new ParsingResult<Sampling>(parts.get(0), exception);
             }
-
-            parsingResults.add(parsingResult);
           });
-    } catch (IOException ioException) {
-      String errorMessage = String.format("There was a problem while parsing file %s.", path.toAbsolutePath().toString());
-      logger.error(errorMessage, ioException);
-      parsingResults.add(new ParsingResult<>(path, ioException));
-    }
+        })
+        .collect(Collectors.toList());
+
+    tasks.stream().map(TaskUtils::getResult).forEach(parsingResults::add);
 
     return parsingResults;
   }
+
+  @Override
+  public List<ParsingResult<List<CatalogEntry>>> catalogStatistics(Path path, List<ValueFilter> filters) {
+    Objects.requireNonNull(filters, "Filters can not be null.");
+
+    return processInParallel(path, filters, Collections.emptyList(), file -> catalogIndividualSampling(file, filters));
+  }
+
+  @Override
+  public CompletableFuture<Void> watchStatistics(Path path, List<ValueFilter> filters, long window, long interval, Consumer<List<LiveSummary>> listener) {
+    Objects.requireNonNull(listener, "Listener can not be null.");
+    if (window <= 0) throw new IllegalArgumentException("Window should be positive.");
+    if (interval <= 0) throw new IllegalArgumentException("Interval should be positive.");
+
+    ArchiveTailer archiveTailer = new ArchiveTailer(path, filters);
+    CompletableFuture<Void> watch = new CompletableFuture<>();
+    ScheduledFuture<?> polls = watchExecutorService.scheduleWithFixedDelay(() -> {
+      try {
+        if (archiveTailer.poll()) listener.accept(summarizeLiveSampling(archiveTailer.getStatArchiveFile(), window));
+      } catch (Exception exception) {
+        logger.error(String.format("There was a problem while following file %s.", path.toAbsolutePath().toString()), exception);
+        watch.completeExceptionally(exception);
+      }
+    }, 0, interval, TimeUnit.MILLISECONDS);
+
+    // Release the file from the polling thread, so it's never closed while a poll is still running.
+    watch.whenComplete((result, throwable) -> {
+      polls.cancel(false);
+      watchExecutorService.execute(() -> {
+        try {
+          archiveTailer.close();
+        } catch (IOException ioException) {
+          logger.warn(String.format("File %s wasn't correctly closed.", path.toAbsolutePath().toString()), ioException);
+        }
+      });
+    });
+
+    return watch;
+  }
 }
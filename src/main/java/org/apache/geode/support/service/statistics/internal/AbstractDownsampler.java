@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+
+import org.apache.geode.support.domain.statistics.Series;
+
+public abstract class AbstractDownsampler implements Downsampler {
+  final int size;
+  final int points;
+  private int count;
+  private final long[] timeStamps;
+  private final double[] values;
+  private boolean flushed = false;
+
+  /**
+   * @param size Amount of samples that will be added to the downsampler.
+   * @param points Maximum amount of points the result should contain.
+   */
+  AbstractDownsampler(int size, int points) {
+    if (size < 0) throw new IllegalArgumentException("Size should be zero or positive.");
+    if (points <= 0) throw new IllegalArgumentException("Points should be positive.");
+
+    this.size = size;
+    this.points = points;
+    this.timeStamps = new long[Math.min(size, points)];
+    this.values = new double[Math.min(size, points)];
+  }
+
+  void emit(long timeStamp, double value) {
+    timeStamps[count] = timeStamp;
+    values[count] = value;
+    count++;
+  }
+
+  abstract void flush();
+
+  @Override
+  public Series getResult() {
+    // Pending buckets are selected only once, later calls return the same points.
+    if (!flushed) {
+      flush();
+      flushed = true;
+    }
+
+    return new Series(Arrays.copyOf(timeStamps, count), Arrays.copyOf(values, count));
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * Scores how unusual each sample is when compared against a rolling window of the previous samples.
+ * Samples are received one at a time and in chronological order, and only the window is held in memory.
+ */
+public interface AnomalyDetector {
+
+  /**
+   * Scores the value against the current window and then adds it to the window, evicting the oldest sample if the window is full.
+   *
+   * @param value Value of the sample.
+   * @return How many (robust) standard deviations the value is away from the center of the window, or {@link Double#NaN} if the window
+   * is not full yet or has no dispersion at all.
+   */
+  double score(double value);
+
+  /**
+   * Clears the window, so the detector can be reused for another series.
+   */
+  void reset();
+}
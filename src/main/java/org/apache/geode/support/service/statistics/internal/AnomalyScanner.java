@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Objects;
+
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+/**
+ * Streams the samples of a series through both the rolling z-score and the rolling MAD detectors, keeping only the strongest
+ * anomaly found. Detectors are reused between series, so a single scanner should be used by one thread at a time.
+ */
+public class AnomalyScanner {
+  private final double threshold;
+  private final StatisticsService.AnomalyScore score;
+  private final RollingZScoreDetector zScoreDetector;
+  private final RollingMadDetector madDetector;
+
+  public AnomalyScanner(int windowSize, double threshold, StatisticsService.AnomalyScore score) {
+    Objects.requireNonNull(score, "Anomaly score can not be null.");
+    if (threshold <= 0) throw new IllegalArgumentException("Threshold should be positive.");
+
+    this.score = score;
+    this.threshold = threshold;
+    this.zScoreDetector = new RollingZScoreDetector(windowSize);
+    this.madDetector = new RollingMadDetector(windowSize);
+  }
+
+  public double getScore(Anomaly anomaly) {
+    return StatisticsService.AnomalyScore.ZScore.equals(score) ? anomaly.getZScore() : anomaly.getMadScore();
+  }
+
+  /**
+   * Scans the series, missing values ({@link Double#NaN}) are skipped.
+   *
+   * @param statisticId Identifier of the statistic to which the series belongs.
+   * @param series The series to scan.
+   * @return The sample with the highest score, or null if no sample reached the threshold.
+   */
+  public Anomaly scan(String statisticId, Series series) {
+    Anomaly strongest = null;
+    double strongestScore = threshold;
+    long[] timeStamps = series.getTimeStamps();
+    double[] values = series.getValues();
+    zScoreDetector.reset();
+    madDetector.reset();
+
+    for (int i = 0; i < values.length; i++) {
+      if (Double.isNaN(values[i])) continue;
+
+      double zScore = zScoreDetector.score(values[i]);
+      double madScore = madDetector.score(values[i]);
+      double currentScore = StatisticsService.AnomalyScore.ZScore.equals(score) ? zScore : madScore;
+
+      if (currentScore >= strongestScore) {
+        strongestScore = currentScore;
+        strongest = new Anomaly(statisticId, timeStamps[i], values[i], zScore, madScore);
+      }
+    }
+
+    return strongest;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apache.geode.internal.statistics.StatArchiveFile;
+import org.apache.geode.internal.statistics.StatArchiveReader;
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.domain.statistics.filters.AbstractValueFilter;
+
+/**
+ * Bloom filters of the type names and instance ids (text and numeric) found within a single statistics file, used to discard the
+ * files that can't match the literal parts of a set of filters without even opening them. Names are stored in lower case, as
+ * filters match them ignoring case.
+ */
+public class ArchiveIndex {
+  static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+  private final BloomFilter typeNames;
+  private final BloomFilter instanceIds;
+
+  ArchiveIndex(BloomFilter typeNames, BloomFilter instanceIds) {
+    this.typeNames = typeNames;
+    this.instanceIds = instanceIds;
+  }
+
+  private static <T> List<T> nonNull(T[] table) {
+    return (table == null) ? Collections.emptyList() : Arrays.stream(table).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  private static String normalize(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @param statArchiveFile An already read statistics file, the tables of types and instances should be complete.
+   * @return The index of the types and instances found within the file.
+   */
+  public static ArchiveIndex of(StatArchiveFile statArchiveFile) {
+    List<StatArchiveReader.ResourceType> resourceTypes = nonNull(statArchiveFile.getResourceTypesTable());
+    List<StatArchiveReader.ResourceInst> resourceInstances = nonNull(statArchiveFile.getResourceInstancesTable());
+
+    BloomFilter typeNames = BloomFilter.create(resourceTypes.size(), FALSE_POSITIVE_PROBABILITY);
+    resourceTypes.forEach(resourceType -> typeNames.put(normalize(resourceType.getName())));
+
+    BloomFilter instanceIds = BloomFilter.create(resourceInstances.size() * 2, FALSE_POSITIVE_PROBABILITY);
+    resourceInstances.forEach(resourceInstance -> {
+      instanceIds.put(normalize(resourceInstance.getName()));
+      instanceIds.put(String.valueOf(resourceInstance.getId()));
+    });
+
+    return new ArchiveIndex(typeNames, instanceIds);
+  }
+
+  /**
+   * Filters not extending {@link AbstractValueFilter}, or without literal type and instance ids, can match any file.
+   *
+   * @param archive The statistics file indexed.
+   * @param filters Filters that will be used to read the file.
+   * @return false if the file certainly has no type and instance matching any of the filters, true otherwise.
+   */
+  public boolean mayMatch(File archive, List<ValueFilter> filters) {
+    // Files read without filters, or without filters applicable to the archive, are fully loaded.
+    List<ValueFilter> archiveFilters = filters.stream().filter(filter -> filter.archiveMatches(archive)).collect(Collectors.toList());
+    if (archiveFilters.isEmpty()) return true;
+
+    for (ValueFilter filter : archiveFilters) {
+      if (!(filter instanceof AbstractValueFilter)) return true;
+
+      String typeId = ((AbstractValueFilter) filter).getLiteralTypeId();
+      String instanceId = ((AbstractValueFilter) filter).getLiteralInstanceId();
+      boolean typeMayMatch = (typeId == null) || typeNames.mightContain(normalize(typeId));
+      boolean instanceMayMatch = (instanceId == null) || instanceIds.mightContain(normalize(instanceId));
+      if (typeMayMatch && instanceMayMatch) return true;
+    }
+
+    return false;
+  }
+
+  public void writeTo(DataOutput output) throws IOException {
+    typeNames.writeTo(output);
+    instanceIds.writeTo(output);
+  }
+
+  public static ArchiveIndex readFrom(DataInput input) throws IOException {
+    return new ArchiveIndex(BloomFilter.readFrom(input), BloomFilter.readFrom(input));
+  }
+}
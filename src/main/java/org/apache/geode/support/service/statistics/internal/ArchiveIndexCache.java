@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the {@link ArchiveIndex} of every statistics file read, both in memory and within a directory, so the indexes survive
+ * restarts. Entries are keyed by the absolute path, size and last modification time of the file, so a modified file is never
+ * pruned using a stale index. Problems while reading or writing the directory are logged and otherwise ignored, the cache is
+ * just an optimization.
+ * <p>
+ * Both the indexes held in memory and the ones stored within the directory are bounded: the least recently used indexes are
+ * dropped from memory, and the oldest index files are deleted from the directory, once there are more than the maximum allowed
+ * (indexes of files that were modified or deleted are never used again, so they're eventually removed this way).
+ */
+public class ArchiveIndexCache {
+  private static final Logger logger = LoggerFactory.getLogger(ArchiveIndexCache.class);
+  static final int FORMAT_VERSION = 1;
+  static final String FILE_EXTENSION = ".idx";
+  static final int DEFAULT_MAXIMUM_ENTRIES = 1000;
+  private final Path directory;
+  private final int maximumEntries;
+  private final Map<String, ArchiveIndex> indexes;
+
+  public ArchiveIndexCache(Path directory) {
+    this(directory, DEFAULT_MAXIMUM_ENTRIES);
+  }
+
+  ArchiveIndexCache(Path directory, int maximumEntries) {
+    if (maximumEntries <= 0) throw new IllegalArgumentException("Maximum entries should be positive.");
+
+    this.directory = directory;
+    this.maximumEntries = maximumEntries;
+    this.indexes = Collections.synchronizedMap(new LinkedHashMap<String, ArchiveIndex>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ArchiveIndex> eldest) {
+        return size() > ArchiveIndexCache.this.maximumEntries;
+      }
+    });
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  String getKey(Path archive) throws IOException {
+    String identity = archive.toAbsolutePath().normalize().toString() + "|" + Files.size(archive) + "|" + Files.getLastModifiedTime(archive).toMillis();
+
+    try {
+      StringBuilder key = new StringBuilder();
+      for (byte digestByte : MessageDigest.getInstance("SHA-1").digest(identity.getBytes(StandardCharsets.UTF_8))) key.append(String.format("%02x", digestByte));
+
+      return key.toString();
+    } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+      throw new IllegalStateException("SHA-1 is not available.", noSuchAlgorithmException);
+    }
+  }
+
+  /**
+   * @param archive The statistics file.
+   * @return The index of the current version of the file, or null if it was never stored or can't be read.
+   */
+  public ArchiveIndex get(Path archive) {
+    try {
+      String key = getKey(archive);
+      ArchiveIndex index = indexes.get(key);
+      if (index != null) return index;
+
+      Path indexFile = directory.resolve(key + FILE_EXTENSION);
+      if (!Files.isRegularFile(indexFile)) return null;
+
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+        int version = input.readInt();
+        if (version != FORMAT_VERSION) return null;
+        index = ArchiveIndex.readFrom(input);
+      }
+
+      indexes.put(key, index);
+      return index;
+    } catch (IOException ioException) {
+      logger.warn(String.format("Index for file %s couldn't be read.", archive.toAbsolutePath().toString()), ioException);
+      return null;
+    }
+  }
+
+  /**
+   * @param archive The statistics file.
+   * @param index The index built from the current version of the file.
+   */
+  public void put(Path archive, ArchiveIndex index) {
+    try {
+      String key = getKey(archive);
+      indexes.put(key, index);
+      Files.createDirectories(directory);
+
+      // Write to a temporary file first, so concurrent readers never see a partially written index.
+      Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+      try {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+          output.writeInt(FORMAT_VERSION);
+          index.writeTo(output);
+        }
+
+        Files.move(temporaryFile, directory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporaryFile);
+      }
+
+      evictIndexFiles();
+    } catch (IOException ioException) {
+      logger.warn(String.format("Index for file %s couldn't be written.", archive.toAbsolutePath().toString()), ioException);
+    }
+  }
+
+  /**
+   * Deletes the oldest index files from the directory, until there are no more than the maximum allowed.
+   */
+  void evictIndexFiles() throws IOException {
+    List<Path> indexFiles;
+    try (Stream<Path> paths = Files.list(directory)) {
+      indexFiles = paths.filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION)).collect(Collectors.toList());
+    }
+
+    if (indexFiles.size() <= maximumEntries) return;
+    Map<Path, Long> lastModifiedTimes = new LinkedHashMap<>();
+
+    // Another instance might be evicting at the same time, files already deleted are just skipped.
+    for (Path indexFile : indexFiles) {
+      try {
+        lastModifiedTimes.put(indexFile, Files.getLastModifiedTime(indexFile).toMillis());
+      } catch (NoSuchFileException noSuchFileException) {
+        logger.debug(String.format("Index file %s was already deleted.", indexFile.toString()));
+      }
+    }
+
+    List<Path> oldestFirst = new ArrayList<>(lastModifiedTimes.keySet());
+    oldestFirst.sort(Comparator.comparing(lastModifiedTimes::get));
+    for (Path indexFile : oldestFirst.subList(0, Math.max(0, oldestFirst.size() - maximumEntries))) Files.deleteIfExists(indexFile);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.geode.internal.statistics.StatArchiveFile;
+import org.apache.geode.internal.statistics.ValueFilter;
+
+/**
+ * Follows a statistics file that is still being written by a running member. The file is kept open between polls, and each poll
+ * decodes only the tokens appended since the previous one: the {@link StatArchiveFile} marks its input before every token, so a
+ * token partially written when the end of the file was reached is read again, from the mark, by the next poll. Nothing is decoded
+ * when the file didn't grow. When the member rolls the archive (the file is replaced, or gets smaller), the new one is read from
+ * the beginning.
+ */
+public class ArchiveTailer implements Closeable {
+  private final Path path;
+  private final ValueFilter[] filters;
+  private StatArchiveFile statArchiveFile;
+  private Object fileKey;
+  private long size;
+  private int rolls;
+
+  public ArchiveTailer(Path path, List<ValueFilter> filters) {
+    Objects.requireNonNull(path, "Path can not be null.");
+    Objects.requireNonNull(filters, "Filters can not be null.");
+    if (path.toString().endsWith(".gz")) throw new IllegalArgumentException("Compressed statistics files can not be followed.");
+
+    this.path = path;
+    this.filters = filters.toArray(new ValueFilter[0]);
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The file being followed, or null if it wasn't polled yet.
+   */
+  public StatArchiveFile getStatArchiveFile() {
+    return statArchiveFile;
+  }
+
+  /**
+   * @return Amount of times the file was replaced by a new one since the first poll.
+   */
+  public int getRolls() {
+    return rolls;
+  }
+
+  /**
+   * Reads the tokens appended to the file since the last poll, or the whole file if it's the first poll or the file was rolled.
+   *
+   * @return true if new tokens were decoded.
+   * @throws IOException If the file can't be read, or contains an invalid token.
+   */
+  public boolean poll() throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    boolean replaced = (attributes.size() < size) || ((fileKey != null) && (!fileKey.equals(attributes.fileKey())));
+
+    if ((statArchiveFile == null) || (replaced)) {
+      if (statArchiveFile != null) {
+        statArchiveFile.close();
+        rolls++;
+      }
+
+      statArchiveFile = new StatArchiveFile(path.toFile(), filters);
+      fileKey = attributes.fileKey();
+      size = attributes.size();
+
+      return statArchiveFile.update(false);
+    }
+
+    if (attributes.size() == size) return false;
+    size = attributes.size();
+
+    return statArchiveFile.update(true);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (statArchiveFile != null) statArchiveFile.close();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Fixed size Bloom filter of strings: {@link #mightContain(String)} never returns false for a string previously added, and returns
+ * true for a string never added with a probability close to the one used when creating the filter. Bit indexes are derived from
+ * two independent hashes of the string through double hashing.
+ */
+public class BloomFilter {
+  /* Sanity limit when reading persisted filters, 128MB of bits */
+  static final int MAXIMUM_WORDS = 1 << 24;
+  private final int hashes;
+  private final long[] words;
+
+  BloomFilter(int hashes, long[] words) {
+    if (hashes <= 0) throw new IllegalArgumentException("Hashes should be positive.");
+    if (words.length == 0) throw new IllegalArgumentException("Words should not be empty.");
+
+    this.hashes = hashes;
+    this.words = words;
+  }
+
+  /**
+   * @param expectedEntries Amount of strings expected to be added.
+   * @param falsePositiveProbability Desired probability of {@link #mightContain(String)} returning true for a string never added.
+   * @return An empty filter, sized for the expected entries.
+   */
+  public static BloomFilter create(int expectedEntries, double falsePositiveProbability) {
+    if (expectedEntries < 0) throw new IllegalArgumentException("Expected entries should be zero or positive.");
+    if ((falsePositiveProbability <= 0) || (falsePositiveProbability >= 1)) throw new IllegalArgumentException("False positive probability should be between 0 and 1.");
+
+    int entries = Math.max(expectedEntries, 1);
+    long bits = Math.max(64, (long) Math.ceil(-entries * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+    int hashes = Math.max(1, (int) Math.round((double) bits / entries * Math.log(2)));
+
+    return new BloomFilter(hashes, new long[(int) ((bits + 63) / 64)]);
+  }
+
+  private static int secondaryHash(String value) {
+    // FNV-1a, independent from String.hashCode.
+    int hash = 0x811C9DC5;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x01000193;
+    }
+
+    return hash;
+  }
+
+  private int index(int primary, int secondary, int i) {
+    long bits = (long) words.length * 64;
+
+    return (int) (((primary + (long) i * secondary) & Long.MAX_VALUE) % bits);
+  }
+
+  public void put(String value) {
+    int primary = value.hashCode();
+    int secondary = secondaryHash(value);
+
+    for (int i = 0; i < hashes; i++) {
+      int index = index(primary, secondary, i);
+      words[index >>> 6] |= 1L << index;
+    }
+  }
+
+  public boolean mightContain(String value) {
+    int primary = value.hashCode();
+    int secondary = secondaryHash(value);
+
+    for (int i = 0; i < hashes; i++) {
+      int index = index(primary, secondary, i);
+      if ((words[index >>> 6] & (1L << index)) == 0) return false;
+    }
+
+    return true;
+  }
+
+  public void writeTo(DataOutput output) throws IOException {
+    output.writeInt(hashes);
+    output.writeInt(words.length);
+    for (long word : words) output.writeLong(word);
+  }
+
+  public static BloomFilter readFrom(DataInput input) throws IOException {
+    int hashes = input.readInt();
+    int length = input.readInt();
+    if ((hashes <= 0) || (length <= 0) || (length > MAXIMUM_WORDS)) throw new IOException(String.format("Invalid bloom filter, %d hashes and %d words.", hashes, length));
+
+    long[] words = new long[length];
+    for (int i = 0; i < length; i++) words[i] = input.readLong();
+
+    return new BloomFilter(hashes, words);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * Splits the samples into buckets of (roughly) the same size and keeps, for each one of them, the
+ * minimum, maximum, average or both extremes (in chronological order) of the values.
+ */
+public class BucketDownsampler extends AbstractDownsampler {
+  private final int buckets;
+  private final Aggregation aggregation;
+
+  private int index = 0;
+  private int currentBucket = -1;
+  private int bucketCount;
+  private double bucketSum;
+  private long bucketStart;
+  private double bucketMin;
+  private long bucketMinTimeStamp;
+  private double bucketMax;
+  private long bucketMaxTimeStamp;
+
+  /**
+   * Value(s) to keep from each bucket.
+   */
+  public enum Aggregation {
+    MINIMUM,
+    MAXIMUM,
+    AVERAGE,
+    MIN_MAX
+  }
+
+  public BucketDownsampler(int size, int points, Aggregation aggregation) {
+    super(size, points);
+    this.aggregation = aggregation;
+
+    if (size <= points) {
+      this.buckets = size;
+    } else {
+      // Two points are emitted per bucket when preserving both extremes.
+      this.buckets = Aggregation.MIN_MAX.equals(aggregation) ? Math.max(1, points / 2) : points;
+    }
+  }
+
+  @Override
+  public void add(long timeStamp, double value) {
+    if (index >= size) throw new IllegalStateException(String.format("Downsampler was created for %d samples only.", size));
+    int bucket = (int) (((long) index * buckets) / size);
+    index++;
+
+    if (bucket != currentBucket) {
+      flush();
+      currentBucket = bucket;
+      bucketCount = 0;
+      bucketSum = 0;
+      bucketStart = timeStamp;
+      bucketMin = value;
+      bucketMinTimeStamp = timeStamp;
+      bucketMax = value;
+      bucketMaxTimeStamp = timeStamp;
+    }
+
+    bucketCount++;
+    bucketSum += value;
+
+    if (value < bucketMin) {
+      bucketMin = value;
+      bucketMinTimeStamp = timeStamp;
+    }
+
+    if (value > bucketMax) {
+      bucketMax = value;
+      bucketMaxTimeStamp = timeStamp;
+    }
+  }
+
+  @Override
+  void flush() {
+    if (bucketCount == 0) return;
+
+    switch (aggregation) {
+      case MINIMUM:
+        emit(bucketMinTimeStamp, bucketMin);
+        break;
+
+      case MAXIMUM:
+        emit(bucketMaxTimeStamp, bucketMax);
+        break;
+
+      case AVERAGE:
+        emit(bucketStart, bucketSum / bucketCount);
+        break;
+
+      case MIN_MAX:
+        if (bucketMinTimeStamp == bucketMaxTimeStamp) {
+          emit(bucketMinTimeStamp, bucketMin);
+        } else if (bucketMinTimeStamp < bucketMaxTimeStamp) {
+          emit(bucketMinTimeStamp, bucketMin);
+          emit(bucketMaxTimeStamp, bucketMax);
+        } else {
+          emit(bucketMaxTimeStamp, bucketMax);
+          emit(bucketMinTimeStamp, bucketMin);
+        }
+        break;
+    }
+
+    bucketCount = 0;
+  }
+}
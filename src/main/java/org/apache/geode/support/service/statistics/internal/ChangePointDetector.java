@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.domain.statistics.Series;
+
+/**
+ * Finds the single strongest level shift of a series through the CUSUM statistic, in two passes and without extra memory.
+ * For a series with mean m, and C(k) being the cumulative sum of (x(i) - m) up to the k-th sample, splitting the series after the
+ * k-th sample explains C(k)^2 * n / (k * (n - k)) of the total sum of squares; the split maximizing it is the most likely level
+ * shift, and the explained fraction of the total sum of squares is used as its score.
+ */
+public class ChangePointDetector {
+  private final int minimumSegment;
+  private final double threshold;
+
+  public ChangePointDetector(int minimumSegment, double threshold) {
+    if (minimumSegment < 1) throw new IllegalArgumentException("Minimum segment should be positive.");
+    if ((threshold <= 0) || (threshold > 1)) throw new IllegalArgumentException("Threshold should be between 0 (exclusive) and 1 (inclusive).");
+
+    this.threshold = threshold;
+    this.minimumSegment = minimumSegment;
+  }
+
+  /**
+   * Searches for the strongest level shift within the series, both segments must contain at least the minimum amount of samples.
+   *
+   * @param statisticId Identifier of the statistic to which the series belongs.
+   * @param series The series to evaluate.
+   * @return The strongest level shift, or null if the series is too short or no shift reached the threshold.
+   */
+  public ChangePoint detect(String statisticId, Series series) {
+    double[] values = series.getValues();
+    int size = values.length;
+    if (size < 2 * minimumSegment) return null;
+
+    double sum = 0;
+    for (double value : values) sum += value;
+    double mean = sum / size;
+
+    double total = 0;
+    double cumulative = 0;
+    double strongest = 0;
+    double strongestCumulative = 0;
+    int split = -1;
+
+    for (int k = 1; k < size; k++) {
+      double deviation = values[k - 1] - mean;
+      total += deviation * deviation;
+      cumulative += deviation;
+
+      if ((k >= minimumSegment) && (size - k >= minimumSegment)) {
+        double explained = cumulative * cumulative * size / ((double) k * (size - k));
+
+        if (explained > strongest) {
+          split = k;
+          strongest = explained;
+          strongestCumulative = cumulative;
+        }
+      }
+    }
+
+    double lastDeviation = values[size - 1] - mean;
+    total += lastDeviation * lastDeviation;
+    if ((split < 0) || (total <= 0)) return null;
+
+    double score = Math.min(1, strongest / total);
+    if (score < threshold) return null;
+
+    double before = mean + strongestCumulative / split;
+    double after = mean - strongestCumulative / (size - split);
+
+    return new ChangePoint(statisticId, series.getTimeStamps()[split], before, after, score);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.Series;
+
+/**
+ * Estimates the clock skew between two members by lining up the cluster-wide events (membership changes, etc.) seen by both.
+ * Every pair of events closer than the maximum skew votes for its time difference, the most voted difference is used to pair each
+ * event with the nearest one from the reference member, and the median of the paired differences is used as the final offset, so
+ * events seen only by one of the members don't affect the estimation.
+ */
+public class ClockSkewEstimator {
+  private final long maximumSkew;
+  private final long tolerance;
+
+  /**
+   * @param maximumSkew Maximum difference, in milliseconds, expected between the clocks of two members.
+   * @param tolerance Maximum difference, in milliseconds, between the time stamps of the same event once the skew is corrected; usually
+   *                  the sample rate, as members don't take their samples at the same time.
+   */
+  public ClockSkewEstimator(long maximumSkew, long tolerance) {
+    if (maximumSkew <= 0) throw new IllegalArgumentException("Maximum skew should be positive.");
+    if (tolerance <= 0) throw new IllegalArgumentException("Tolerance should be positive.");
+
+    this.maximumSkew = maximumSkew;
+    this.tolerance = tolerance;
+  }
+
+  /**
+   * @param sources Series to search for events.
+   * @return Time stamps at which any of the series changes its value, sorted and without duplicates.
+   */
+  public static long[] extractEvents(Collection<Series> sources) {
+    return sources.stream()
+        .flatMapToLong(series -> {
+          long[] timeStamps = series.getTimeStamps();
+          double[] values = series.getValues();
+
+          return IntStream.range(1, values.length).filter(i -> values[i] != values[i - 1]).mapToLong(i -> timeStamps[i]);
+        })
+        .sorted()
+        .distinct()
+        .toArray();
+  }
+
+  /**
+   * @param reference Sorted time stamps of the events seen by the reference member.
+   * @param events Sorted time stamps of the events seen by the member to evaluate.
+   * @return The estimated clock skew, not estimated (no matched events) if the members don't share any event.
+   */
+  public ClockSkew estimate(long[] reference, long[] events) {
+    if ((reference.length == 0) || (events.length == 0)) return new ClockSkew(0, events.length, 0, false);
+
+    // Every pair of events close enough votes for the bucket containing their difference.
+    Map<Long, Integer> votes = new TreeMap<>();
+    for (long event : events) {
+      int start = TimeStampUtils.lowerBound(reference, event - maximumSkew);
+      for (int i = start; (i < reference.length) && (reference[i] <= event + maximumSkew); i++) {
+        votes.merge(Math.floorDiv(reference[i] - event, tolerance), 1, Integer::sum);
+      }
+    }
+
+    if (votes.isEmpty()) return new ClockSkew(0, events.length, 0, false);
+
+    // Two consecutive buckets are evaluated together, so differences at both sides of a bucket boundary still add up.
+    int bestScore = 0;
+    long bestCenter = 0;
+    for (long votedBucket : votes.keySet()) {
+      for (long bucket = votedBucket - 1; bucket <= votedBucket; bucket++) {
+        int score = votes.getOrDefault(bucket, 0) + votes.getOrDefault(bucket + 1, 0);
+        long center = (bucket + 1) * tolerance;
+
+        if ((score > bestScore) || ((score == bestScore) && (Math.abs(center) < Math.abs(bestCenter)))) {
+          bestScore = score;
+          bestCenter = center;
+        }
+      }
+    }
+
+    // Pair every event with the closest one from the reference, once shifted.
+    int matched = 0;
+    long[] differences = new long[events.length];
+    for (long event : events) {
+      long expected = event + bestCenter;
+      long closest = reference[TimeStampUtils.nearest(reference, expected)];
+      if (Math.abs(closest - expected) <= tolerance) differences[matched++] = closest - event;
+    }
+
+    Arrays.sort(differences, 0, matched);
+    long offset = (matched % 2 == 1) ? differences[matched / 2] : (differences[matched / 2 - 1] + differences[matched / 2]) / 2;
+
+    return new ClockSkew(offset, events.length, matched, false);
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.geode.support.service.StatisticsService;
+
+/**
+ * Computes the correlation coefficients between every target and every candidate series, all of them sampled on the same time grid.
+ * Series are centered once (ranked first when using Spearman), and the sums needed by each coefficient are accumulated only over the
+ * points at which both series have values, so the means and variances of every pair are computed over their pairwise-complete
+ * points and missing values ({@link Double#NaN}) from either series don't contribute. When using Spearman, each series is ranked
+ * over all its own values. The matrix is computed by blocks of candidates (and tiles of grid points) submitted in parallel to the
+ * executor.
+ */
+public class Correlator {
+  static final int BLOCK_SIZE = 64;
+  static final int TILE_SIZE = 1024;
+  static final double RELATIVE_TOLERANCE = 1e-12;
+  private static final int COUNT = 0;
+  private static final int SUM_X = 1;
+  private static final int SUM_Y = 2;
+  private static final int SUM_XX = 3;
+  private static final int SUM_YY = 4;
+  private static final int SUM_XY = 5;
+  private final ExecutorService executorService;
+  private final StatisticsService.CorrelationMethod method;
+
+  public Correlator(ExecutorService executorService, StatisticsService.CorrelationMethod method) {
+    Objects.requireNonNull(method, "Correlation method can not be null.");
+    Objects.requireNonNull(executorService, "ExecutorService can not be null.");
+
+    this.method = method;
+    this.executorService = executorService;
+  }
+
+  /**
+   * Replaces each value by its rank (starting at 1), using the average rank for ties. Missing values are kept as they are.
+   *
+   * @param values Values to rank.
+   * @return The ranks.
+   */
+  static double[] rank(double[] values) {
+    double[] ranks = new double[values.length];
+    Integer[] indexes = new Integer[values.length];
+    int validCount = 0;
+
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Double.NaN;
+      if (!Double.isNaN(values[i])) indexes[validCount++] = i;
+    }
+
+    Arrays.sort(indexes, 0, validCount, (a, b) -> Double.compare(values[a], values[b]));
+    for (int start = 0; start < validCount; ) {
+      int end = start;
+      while ((end + 1 < validCount) && (values[indexes[end + 1]] == values[indexes[start]])) end++;
+
+      double averageRank = ((start + end) / 2.0) + 1;
+      for (int i = start; i <= end; i++) ranks[indexes[i]] = averageRank;
+      start = end + 1;
+    }
+
+    return ranks;
+  }
+
+  /**
+   * Subtracts the mean of the valid values from every value, so the sums accumulated per pair don't lose precision on large values.
+   *
+   * @param values Values to center.
+   * @return The centered values, with missing values kept as they are, or null if the series has less than two valid values or no
+   *         variance at all.
+   */
+  static double[] center(double[] values) {
+    int count = 0;
+    double sum = 0;
+    double minimum = Double.POSITIVE_INFINITY;
+    double maximum = Double.NEGATIVE_INFINITY;
+    for (double value : values) {
+      if (!Double.isNaN(value)) {
+        count++;
+        sum += value;
+        minimum = Math.min(minimum, value);
+        maximum = Math.max(maximum, value);
+      }
+    }
+
+    if ((count < 2) || (minimum == maximum)) return null;
+    double mean = sum / count;
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) result[i] = values[i] - mean;
+
+    return result;
+  }
+
+  /**
+   * Centers and scales the values over the valid values of the series alone, so that the dot product of two standardized series is
+   * their Pearson coefficient when neither of them has missing values. Missing values are replaced by 0, so they don't contribute to
+   * the dot product, but the mean and variance of each series still include the points missing from the other one. Used when the
+   * series are shifted against each other, where computing the moments per pair and shift is not practical.
+   *
+   * @param values Values to standardize.
+   * @return The standardized values, or null if the series has less than two valid values or no variance at all.
+   */
+  static double[] standardize(double[] values) {
+    int count = 0;
+    double sum = 0;
+    for (double value : values) {
+      if (!Double.isNaN(value)) {
+        count++;
+        sum += value;
+      }
+    }
+
+    if (count < 2) return null;
+    double mean = sum / count;
+    double squares = 0;
+    for (double value : values) {
+      if (!Double.isNaN(value)) squares += (value - mean) * (value - mean);
+    }
+
+    if (squares == 0) return null;
+    double norm = Math.sqrt(squares);
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) result[i] = Double.isNaN(values[i]) ? 0 : (values[i] - mean) / norm;
+
+    return result;
+  }
+
+  /**
+   * @param sums Sums accumulated over the pairwise-complete points.
+   * @return The Pearson coefficient, or {@link Double#NaN} if there are less than two points or either series is constant over them.
+   */
+  static double coefficient(double[] sums) {
+    double count = sums[COUNT];
+    if (count < 2) return Double.NaN;
+
+    double covariance = sums[SUM_XY] - (sums[SUM_X] * sums[SUM_Y] / count);
+    double varianceX = sums[SUM_XX] - (sums[SUM_X] * sums[SUM_X] / count);
+    double varianceY = sums[SUM_YY] - (sums[SUM_Y] * sums[SUM_Y] / count);
+    if ((varianceX <= sums[SUM_XX] * RELATIVE_TOLERANCE) || (varianceY <= sums[SUM_YY] * RELATIVE_TOLERANCE)) return Double.NaN;
+
+    return Math.max(-1, Math.min(1, covariance / Math.sqrt(varianceX * varianceY)));
+  }
+
+  double[][] prepare(double[][] series) {
+    List<Future<double[]>> tasks = new ArrayList<>();
+    for (double[] values : series) tasks.add(executorService.submit(() -> center(StatisticsService.CorrelationMethod.Spearman.equals(method) ? rank(values) : values)));
+
+    double[][] result = new double[series.length][];
+    for (int i = 0; i < result.length; i++) result[i] = TaskUtils.getResult(tasks.get(i));
+
+    return result;
+  }
+
+  /**
+   * Computes the coefficients between a block of candidates and all targets, tile by tile, so the rows involved stay in cache.
+   */
+  void computeBlock(double[][] targets, double[][] candidates, int blockStart, int blockEnd, double[][] result) {
+    int length = 0;
+    for (double[] target : targets) if (target != null) length = target.length;
+    double[][][] sums = new double[targets.length][blockEnd - blockStart][6];
+
+    for (int tileStart = 0; tileStart < length; tileStart += TILE_SIZE) {
+      int tileEnd = Math.min(length, tileStart + TILE_SIZE);
+
+      for (int t = 0; t < targets.length; t++) {
+        double[] target = targets[t];
+        if (target == null) continue;
+
+        for (int c = blockStart; c < blockEnd; c++) {
+          double[] candidate = candidates[c];
+          if (candidate == null) continue;
+
+          double[] pairSums = sums[t][c - blockStart];
+          for (int i = tileStart; i < tileEnd; i++) {
+            double x = target[i];
+            double y = candidate[i];
+            if ((Double.isNaN(x)) || (Double.isNaN(y))) continue;
+
+            pairSums[COUNT]++;
+            pairSums[SUM_X] += x;
+            pairSums[SUM_Y] += y;
+            pairSums[SUM_XX] += x * x;
+            pairSums[SUM_YY] += y * y;
+            pairSums[SUM_XY] += x * y;
+          }
+        }
+      }
+    }
+
+    for (int t = 0; t < targets.length; t++) {
+      for (int c = blockStart; c < blockEnd; c++) {
+        result[t][c] = ((targets[t] == null) || (candidates[c] == null)) ? Double.NaN : coefficient(sums[t][c - blockStart]);
+      }
+    }
+  }
+
+  /**
+   * Correlates every target against every candidate.
+   *
+   * @param targets Target series, all of them with the same length.
+   * @param candidates Candidate series, with the same length as the targets.
+   * @return Matrix with one row per target and one column per candidate, {@link Double#NaN} is used when the coefficient is not defined.
+   */
+  public double[][] correlate(double[][] targets, double[][] candidates) {
+    Objects.requireNonNull(targets, "Targets can not be null.");
+    Objects.requireNonNull(candidates, "Candidates can not be null.");
+    double[][] centeredTargets = prepare(targets);
+    double[][] centeredCandidates = prepare(candidates);
+
+    double[][] result = new double[targets.length][candidates.length];
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int blockStart = 0; blockStart < candidates.length; blockStart += BLOCK_SIZE) {
+      int start = blockStart;
+      int end = Math.min(candidates.length, blockStart + BLOCK_SIZE);
+      tasks.add(executorService.submit(() -> computeBlock(centeredTargets, centeredCandidates, start, end, result)));
+    }
+    tasks.forEach(TaskUtils::getResult);
+
+    return result;
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.geode.internal.statistics.DerivedValue;
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
+import org.apache.geode.support.domain.statistics.derived.Operand;
+
+/**
+ * Evaluates derived statistics over a parsed sampling, adding the results as regular statistics so they can be summarized, ranked
+ * and exported as any other one. The derived statistic is added to every instance of the category referenced by its first operand;
+ * the remaining operands are resolved from the same instance when they belong to the same category, from the instance with the same
+ * name or from the only instance available otherwise. Raw values are used (counters are not converted into per sample values),
+ * operands are aligned through their time stamps, and the result is always added as a gauge.
+ */
+public class DerivedStatisticEvaluator {
+
+  public static String getTypeName(String categoryName) {
+    int index = categoryName.indexOf('[');
+
+    return index < 0 ? categoryName : categoryName.substring(0, index);
+  }
+
+  public static String getInstanceName(String categoryName) {
+    int index = categoryName.indexOf('[');
+
+    return index < 0 ? "" : categoryName.substring(index + 1, categoryName.length() - 1);
+  }
+
+  private static Statistic findStatistic(Category category, String statisticId) {
+    Statistic statistic = category.getStatistic(statisticId);
+    if (statistic != null) return statistic;
+
+    return category.getStatistics().values().stream().filter(candidate -> candidate.getName().equalsIgnoreCase(statisticId)).findFirst().orElse(null);
+  }
+
+  /**
+   * Keeps only the samples whose time stamp is present in all series. Series read from the same instance share the same time
+   * stamps, so they are returned untouched; otherwise a single merge pass over the sorted time stamps is done.
+   *
+   * @param series Series to align, time stamps should be sorted.
+   * @return The aligned series, all sharing the same time stamps array.
+   */
+  static Series[] align(Series[] series) {
+    long[] base = series[0].getTimeStamps();
+    boolean aligned = true;
+    for (int k = 1; (k < series.length) && (aligned); k++) aligned = Arrays.equals(base, series[k].getTimeStamps());
+    if (aligned) return series;
+
+    int size = 0;
+    int[] positions = new int[series.length];
+    long[] timeStamps = new long[base.length];
+    double[][] values = new double[series.length][base.length];
+
+    candidates:
+    for (int i = 0; i < base.length; i++) {
+      for (int k = 1; k < series.length; k++) {
+        long[] other = series[k].getTimeStamps();
+        while ((positions[k] < other.length) && (other[positions[k]] < base[i])) positions[k]++;
+        if ((positions[k] >= other.length) || (other[positions[k]] != base[i])) continue candidates;
+      }
+
+      timeStamps[size] = base[i];
+      values[0][size] = series[0].getValues()[i];
+      for (int k = 1; k < series.length; k++) values[k][size] = series[k].getValues()[positions[k]];
+      size++;
+    }
+
+    Series[] result = new Series[series.length];
+    long[] alignedTimeStamps = Arrays.copyOf(timeStamps, size);
+    for (int k = 0; k < series.length; k++) result[k] = new Series(alignedTimeStamps, Arrays.copyOf(values[k], size));
+
+    return result;
+  }
+
+  /**
+   * @param categories Categories of the sampling, grouped by type name (lower case).
+   * @param operand Operand to resolve.
+   * @param first Category used for the first operand.
+   * @return The statistic matching the operand, or null if it can't be resolved.
+   */
+  private Statistic resolve(Map<String, List<Category>> categories, Operand operand, Operand firstOperand, Category first) {
+    List<Category> candidates = categories.getOrDefault(operand.getTypeId().toLowerCase(), new ArrayList<>());
+    Category category = null;
+
+    if (operand.getInstanceId() != null) {
+      category = candidates.stream().filter(candidate -> getInstanceName(candidate.getName()).equalsIgnoreCase(operand.getInstanceId())).findFirst().orElse(null);
+    } else if (operand.getTypeId().equalsIgnoreCase(firstOperand.getTypeId())) {
+      category = first;
+    } else {
+      String instanceName = getInstanceName(first.getName());
+      category = candidates.stream().filter(candidate -> getInstanceName(candidate.getName()).equalsIgnoreCase(instanceName)).findFirst().orElse(candidates.size() == 1 ? candidates.get(0) : null);
+    }
+
+    return category == null ? null : findStatistic(category, operand.getStatisticId());
+  }
+
+  /**
+   * Evaluates the derived statistic and adds the results to the sampling.
+   *
+   * @param sampling Sampling containing the operands.
+   * @param derivedStatistic Derived statistic to evaluate.
+   * @return The amount of instances for which the derived statistic was added.
+   */
+  public int evaluate(Sampling sampling, DerivedStatistic derivedStatistic) {
+    int added = 0;
+    List<Operand> operands = derivedStatistic.getOperands();
+    Operand firstOperand = operands.get(0);
+    Map<String, List<Category>> categories = sampling.getCategories().values().stream().collect(Collectors.groupingBy(category -> getTypeName(category.getName()).toLowerCase()));
+
+    for (Category category : categories.getOrDefault(firstOperand.getTypeId().toLowerCase(), new ArrayList<>())) {
+      if ((firstOperand.getInstanceId() != null) && (!getInstanceName(category.getName()).equalsIgnoreCase(firstOperand.getInstanceId()))) continue;
+
+      Series[] series = new Series[operands.size()];
+      String[] units = new String[operands.size()];
+      for (int k = 0; k < operands.size(); k++) {
+        Statistic statistic = resolve(categories, operands.get(k), firstOperand, category);
+        if (statistic == null) break;
+
+        series[k] = statistic.getRawSeries();
+        units[k] = statistic.getUnits();
+      }
+      if (series[series.length - 1] == null) continue;
+
+      Series[] aligned = align(series);
+      double[][] values = new double[aligned.length][];
+      for (int k = 0; k < aligned.length; k++) values[k] = aligned[k].getValues();
+      Series result = derivedStatistic.evaluate(aligned[0].getTimeStamps(), values);
+      if (result.isEmpty()) continue;
+
+      DerivedValue derivedValue = new DerivedValue(derivedStatistic.getName(), derivedStatistic.getUnits(units), derivedStatistic.getExpression(), result.getTimeStamps(), result.getValues());
+      category.addStatistic(new Statistic(derivedValue));
+      added++;
+    }
+
+    return added;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.domain.statistics.Series;
+
+/**
+ * Compares the samples of a series within the window before a given time against the samples within the window after it.
+ * The windows are located through binary search, so only the samples within them are ever read (and sorted, to compute the
+ * two-sample Kolmogorov-Smirnov statistic).
+ */
+public class DistributionShiftDetector {
+  static final int MINIMUM_SAMPLES = 2;
+  private final long time;
+  private final long window;
+
+  public DistributionShiftDetector(long time, long window) {
+    if (window <= 0) throw new IllegalArgumentException("Window should be positive.");
+
+    this.time = time;
+    this.window = window;
+  }
+
+  /**
+   * Computes the two-sample Kolmogorov-Smirnov statistic, both arrays must be sorted.
+   */
+  static double kolmogorovSmirnov(double[] first, double[] second) {
+    int i = 0;
+    int j = 0;
+    double distance = 0;
+
+    while ((i < first.length) && (j < second.length)) {
+      double value = Math.min(first[i], second[j]);
+      while ((i < first.length) && (first[i] <= value)) i++;
+      while ((j < second.length) && (second[j] <= value)) j++;
+
+      distance = Math.max(distance, Math.abs((double) i / first.length - (double) j / second.length));
+    }
+
+    return distance;
+  }
+
+  private static double mean(double[] values) {
+    double sum = 0;
+    for (double value : values) sum += value;
+
+    return sum / values.length;
+  }
+
+  /**
+   * Compares the distribution of the samples before and after the time.
+   *
+   * @param statisticId Identifier of the statistic to which the series belongs.
+   * @param series The series to evaluate.
+   * @return The shift between both windows, or null if any of them doesn't have enough samples or both are identical.
+   */
+  public DistributionShift compare(String statisticId, Series series) {
+    long[] timeStamps = series.getTimeStamps();
+    int start = TimeStampUtils.lowerBound(timeStamps, time - window);
+    int middle = TimeStampUtils.lowerBound(timeStamps, time);
+    int end = TimeStampUtils.lowerBound(timeStamps, time + window);
+    if ((middle - start < MINIMUM_SAMPLES) || (end - middle < MINIMUM_SAMPLES)) return null;
+
+    double[] before = Arrays.copyOfRange(series.getValues(), start, middle);
+    double[] after = Arrays.copyOfRange(series.getValues(), middle, end);
+    Arrays.sort(before);
+    Arrays.sort(after);
+
+    double kolmogorovSmirnov = kolmogorovSmirnov(before, after);
+    if (kolmogorovSmirnov == 0) return null;
+
+    return new DistributionShift(statisticId, mean(before), mean(after), kolmogorovSmirnov);
+  }
+}
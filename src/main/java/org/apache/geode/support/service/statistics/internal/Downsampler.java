@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import org.apache.geode.support.domain.statistics.Series;
+
+/**
+ * Reduces a series of samples to a fixed amount of points.
+ * Samples are received one at a time and in chronological order, so the full series doesn't need to be held in memory.
+ */
+public interface Downsampler {
+
+  /**
+   * Adds the next sample to the downsampler.
+   *
+   * @param timeStamp Time stamp of the sample.
+   * @param value Value of the sample.
+   */
+  void add(long timeStamp, double value);
+
+  /**
+   * Flushes any pending bucket and returns the resulting points. Can be called more than once, pending buckets are flushed only the first time.
+   *
+   * @return The downsampled Series.
+   */
+  Series getResult();
+}
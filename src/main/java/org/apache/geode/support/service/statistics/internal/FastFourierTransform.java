@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * In-place, iterative, radix-2 Cooley-Tukey Fast Fourier Transform.
+ */
+class FastFourierTransform {
+
+  private FastFourierTransform() {
+  }
+
+  /**
+   * @param value Minimum size.
+   * @return The smallest power of two greater than or equal to the value.
+   */
+  static int nextPowerOfTwo(int value) {
+    if (value <= 1) return 1;
+    int result = Integer.highestOneBit(value - 1) << 1;
+    if (result <= 0) throw new IllegalArgumentException("Size is too large to be transformed.");
+
+    return result;
+  }
+
+  /**
+   * Transforms the complex sequence in place. The inverse transform is scaled by 1/n, so transform(inverse(x)) == x.
+   *
+   * @param real Real parts, the length should be a power of two.
+   * @param imaginary Imaginary parts, same length as the real parts.
+   * @param inverse Whether to compute the inverse transform.
+   */
+  static void transform(double[] real, double[] imaginary, boolean inverse) {
+    int n = real.length;
+    if (imaginary.length != n) throw new IllegalArgumentException("Real and Imaginary parts should have the same length.");
+    if (Integer.bitCount(n) > 1) throw new IllegalArgumentException("Length should be a power of two.");
+
+    // Bit reversal permutation.
+    for (int i = 1, j = 0; i < n; i++) {
+      int bit = n >> 1;
+      for (; (j & bit) != 0; bit >>= 1) j ^= bit;
+      j ^= bit;
+
+      if (i < j) {
+        double temporary = real[i]; real[i] = real[j]; real[j] = temporary;
+        temporary = imaginary[i]; imaginary[i] = imaginary[j]; imaginary[j] = temporary;
+      }
+    }
+
+    // Butterflies.
+    for (int length = 2; length <= n; length <<= 1) {
+      double angle = 2 * Math.PI / length * (inverse ? 1 : -1);
+      double stepReal = Math.cos(angle);
+      double stepImaginary = Math.sin(angle);
+
+      for (int start = 0; start < n; start += length) {
+        double twiddleReal = 1;
+        double twiddleImaginary = 0;
+
+        for (int k = 0; k < length / 2; k++) {
+          int even = start + k;
+          int odd = even + length / 2;
+          double oddReal = real[odd] * twiddleReal - imaginary[odd] * twiddleImaginary;
+          double oddImaginary = real[odd] * twiddleImaginary + imaginary[odd] * twiddleReal;
+
+          real[odd] = real[even] - oddReal;
+          imaginary[odd] = imaginary[even] - oddImaginary;
+          real[even] += oddReal;
+          imaginary[even] += oddImaginary;
+
+          double nextReal = twiddleReal * stepReal - twiddleImaginary * stepImaginary;
+          twiddleImaginary = twiddleReal * stepImaginary + twiddleImaginary * stepReal;
+          twiddleReal = nextReal;
+        }
+      }
+    }
+
+    if (inverse) {
+      for (int i = 0; i < n; i++) {
+        real[i] /= n;
+        imaginary[i] /= n;
+      }
+    }
+  }
+}
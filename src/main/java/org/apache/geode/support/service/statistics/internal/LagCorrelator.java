@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.geode.support.domain.statistics.LaggedCorrelation;
+
+/**
+ * Finds, for every candidate series, the lag at which it's most correlated with the target series, all of them sampled on the same
+ * time grid. Series are standardized (see {@link Correlator#standardize(double[])}) and zero padded, so the cross-correlation for
+ * all lags at once is obtained through the Fast Fourier Transform in O(n log n), instead of O(n * lags). The target is transformed
+ * only once, and candidates are processed by blocks submitted in parallel to the executor.
+ */
+public class LagCorrelator {
+  static final int BLOCK_SIZE = 64;
+  private final int maximumLag;
+  private final ExecutorService executorService;
+
+  public LagCorrelator(ExecutorService executorService, int maximumLag) {
+    Objects.requireNonNull(executorService, "ExecutorService can not be null.");
+    if (maximumLag < 0) throw new IllegalArgumentException("Maximum lag should be zero or positive.");
+
+    this.maximumLag = maximumLag;
+    this.executorService = executorService;
+  }
+
+  /**
+   * Searches the strongest (positive or negative) coefficient within [-maximumLag, maximumLag], preferring the smallest lag on ties.
+   *
+   * @param crossCorrelation The circular cross-correlation, negative lags are stored at the end of the array.
+   * @param maximumLag The maximum lag to search for.
+   * @return The strongest lagged correlation.
+   */
+  static LaggedCorrelation findStrongest(double[] crossCorrelation, int maximumLag) {
+    int n = crossCorrelation.length;
+    int bestLag = 0;
+    double bestCoefficient = crossCorrelation[0];
+
+    for (int lag = 1; lag <= maximumLag; lag++) {
+      if (Math.abs(crossCorrelation[lag]) > Math.abs(bestCoefficient)) {
+        bestLag = lag;
+        bestCoefficient = crossCorrelation[lag];
+      }
+
+      if (Math.abs(crossCorrelation[n - lag]) > Math.abs(bestCoefficient)) {
+        bestLag = -lag;
+        bestCoefficient = crossCorrelation[n - lag];
+      }
+    }
+
+    return new LaggedCorrelation(bestLag, Math.max(-1, Math.min(1, bestCoefficient)));
+  }
+
+  void computeBlock(double[] targetReal, double[] targetImaginary, double[][] candidates, int blockStart, int blockEnd, int lagLimit, LaggedCorrelation[] result) {
+    int size = targetReal.length;
+    double[] real = new double[size];
+    double[] imaginary = new double[size];
+
+    for (int c = blockStart; c < blockEnd; c++) {
+      double[] candidate = Correlator.standardize(candidates[c]);
+      if (candidate == null) {
+        result[c] = new LaggedCorrelation(0, Double.NaN);
+        continue;
+      }
+
+      Arrays.fill(real, 0);
+      Arrays.fill(imaginary, 0);
+      System.arraycopy(candidate, 0, real, 0, candidate.length);
+      FastFourierTransform.transform(real, imaginary, false);
+
+      // conjugate(candidate) * target, so that result[lag] = sum(candidate[t] * target[t + lag]).
+      for (int i = 0; i < size; i++) {
+        double productReal = real[i] * targetReal[i] + imaginary[i] * targetImaginary[i];
+        double productImaginary = real[i] * targetImaginary[i] - imaginary[i] * targetReal[i];
+        real[i] = productReal;
+        imaginary[i] = productImaginary;
+      }
+
+      FastFourierTransform.transform(real, imaginary, true);
+      result[c] = findStrongest(real, lagLimit);
+    }
+  }
+
+  /**
+   * Cross-correlates every candidate against the target.
+   *
+   * @param target Target series.
+   * @param candidates Candidate series, with the same length as the target.
+   * @return One element per candidate, in the same order, with the lag (in points) and coefficient of the strongest correlation.
+   */
+  public LaggedCorrelation[] correlate(double[] target, double[][] candidates) {
+    Objects.requireNonNull(target, "Target can not be null.");
+    Objects.requireNonNull(candidates, "Candidates can not be null.");
+    for (double[] candidate : candidates) {
+      if (candidate.length != target.length) throw new IllegalArgumentException("Candidates should have the same length as the target.");
+    }
+
+    LaggedCorrelation[] result = new LaggedCorrelation[candidates.length];
+    double[] standardizedTarget = Correlator.standardize(target);
+    if (standardizedTarget == null) {
+      Arrays.fill(result, new LaggedCorrelation(0, Double.NaN));
+      return result;
+    }
+
+    // Zero padding avoids the circular wrap around for all lags of interest.
+    int lagLimit = Math.min(maximumLag, Math.max(0, target.length - 1));
+    int size = FastFourierTransform.nextPowerOfTwo(target.length + lagLimit);
+    double[] targetReal = Arrays.copyOf(standardizedTarget, size);
+    double[] targetImaginary = new double[size];
+    FastFourierTransform.transform(targetReal, targetImaginary, false);
+
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int blockStart = 0; blockStart < candidates.length; blockStart += BLOCK_SIZE) {
+      int start = blockStart;
+      int end = Math.min(candidates.length, blockStart + BLOCK_SIZE);
+      tasks.add(executorService.submit(() -> computeBlock(targetReal, targetImaginary, candidates, start, end, lagLimit, result)));
+    }
+    tasks.forEach(TaskUtils::getResult);
+
+    return result;
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * Streaming implementation of the Largest-Triangle-Three-Buckets algorithm (Sveinn Steinarsson, 2013).
+ * The first and last samples are always kept; from each bucket in between, the sample forming the
+ * largest triangle with the previously selected point and the average of the next bucket is kept, which
+ * preserves the visual shape (peaks included) of the original series.
+ * Only two buckets are buffered at any given time. Series not larger than the amount of points are returned unchanged.
+ */
+public class LargestTriangleThreeBucketsDownsampler extends AbstractDownsampler {
+  private final double bucketSize;
+  private final int lastBucket;
+  private int index = 0;
+  private int currentBucket = 0;
+  private long previousTimeStamp;
+  private double previousValue;
+  private long lastTimeStamp;
+  private double lastValue;
+  private boolean lastReceived = false;
+  private Bucket current;
+  private Bucket next;
+
+  /**
+   * Samples assigned to a single bucket.
+   */
+  private static class Bucket {
+    private int count;
+    private final long[] timeStamps;
+    private final double[] values;
+
+    Bucket(int capacity) {
+      this.timeStamps = new long[capacity];
+      this.values = new double[capacity];
+    }
+
+    void add(long timeStamp, double value) {
+      timeStamps[count] = timeStamp;
+      values[count] = value;
+      count++;
+    }
+
+    boolean isEmpty() {
+      return count == 0;
+    }
+
+    void clear() {
+      count = 0;
+    }
+
+    double averageTimeStamp() {
+      double total = 0;
+      for (int i = 0; i < count; i++) total += timeStamps[i];
+
+      return total / count;
+    }
+
+    double averageValue() {
+      double total = 0;
+      for (int i = 0; i < count; i++) total += values[i];
+
+      return total / count;
+    }
+  }
+
+  public LargestTriangleThreeBucketsDownsampler(int size, int points) {
+    super(size, points);
+    if ((points < 3) && (size > points)) throw new IllegalArgumentException("At least 3 points are required by the Largest-Triangle-Three-Buckets algorithm.");
+
+    this.lastBucket = points - 3;
+    this.bucketSize = size <= points ? 1 : (double) (size - 2) / (points - 2);
+    int capacity = (int) Math.ceil(bucketSize) + 1;
+    this.current = new Bucket(capacity);
+    this.next = new Bucket(capacity);
+  }
+
+  @Override
+  public void add(long timeStamp, double value) {
+    if (index >= size) throw new IllegalStateException(String.format("Downsampler was created for %d samples only.", size));
+    int sampleIndex = index++;
+
+    // Nothing to reduce.
+    if (size <= points) {
+      emit(timeStamp, value);
+      return;
+    }
+
+    // First point is always kept.
+    if (sampleIndex == 0) {
+      emit(timeStamp, value);
+      previousTimeStamp = timeStamp;
+      previousValue = value;
+      return;
+    }
+
+    // Last point is always kept, selected when flushing.
+    if (sampleIndex == size - 1) {
+      lastTimeStamp = timeStamp;
+      lastValue = value;
+      lastReceived = true;
+      return;
+    }
+
+    int bucket = Math.min((int) ((sampleIndex - 1) / bucketSize), lastBucket);
+    if (bucket == currentBucket) {
+      current.add(timeStamp, value);
+    } else if (bucket == currentBucket + 1) {
+      next.add(timeStamp, value);
+    } else {
+      // Next bucket is complete, select the point from the current one and move forward.
+      select(current, next.averageTimeStamp(), next.averageValue());
+      Bucket swap = current;
+      current = next;
+      next = swap;
+      next.clear();
+      currentBucket++;
+      next.add(timeStamp, value);
+    }
+  }
+
+  private void select(Bucket bucket, double nextTimeStamp, double nextValue) {
+    if (bucket.isEmpty()) return;
+
+    int selected = 0;
+    double maxArea = -1;
+    for (int i = 0; i < bucket.count; i++) {
+      // Twice the area, no need to divide for comparisons.
+      double area = Math.abs((previousTimeStamp - nextTimeStamp) * (bucket.values[i] - previousValue) - (previousTimeStamp - bucket.timeStamps[i]) * (nextValue - previousValue));
+
+      if (area > maxArea) {
+        maxArea = area;
+        selected = i;
+      }
+    }
+
+    previousTimeStamp = bucket.timeStamps[selected];
+    previousValue = bucket.values[selected];
+    emit(previousTimeStamp, previousValue);
+  }
+
+  @Override
+  void flush() {
+    if (size <= points) return;
+
+    if (!next.isEmpty()) {
+      select(current, next.averageTimeStamp(), next.averageValue());
+      select(next, lastTimeStamp, lastValue);
+    } else {
+      select(current, lastTimeStamp, lastValue);
+    }
+
+    current.clear();
+    next.clear();
+
+    if (lastReceived) {
+      emit(lastTimeStamp, lastValue);
+      lastReceived = false;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.support.domain.statistics.Pause;
+
+/**
+ * Searches for gaps between consecutive sample time stamps bigger than a threshold. Only the time stamps are needed, so the
+ * sampled values don't even have to be decoded from the statistics file.
+ */
+public class PauseDetector {
+  private final long threshold;
+
+  public PauseDetector(long threshold) {
+    if (threshold <= 0) throw new IllegalArgumentException("Threshold should be positive.");
+
+    this.threshold = threshold;
+  }
+
+  /**
+   * @param timeStamps Time stamps of the samples, sorted in ascending order.
+   * @return Every gap between consecutive samples bigger than the threshold, sorted by start time.
+   */
+  public List<Pause> detect(long[] timeStamps) {
+    List<Pause> pauses = new ArrayList<>();
+
+    for (int i = 1; i < timeStamps.length; i++) {
+      if (timeStamps[i] - timeStamps[i - 1] > threshold) pauses.add(new Pause(timeStamps[i - 1], timeStamps[i]));
+    }
+
+    return pauses;
+  }
+}
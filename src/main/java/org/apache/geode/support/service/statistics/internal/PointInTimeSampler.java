@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import org.apache.geode.support.domain.statistics.SampledValue;
+import org.apache.geode.support.domain.statistics.Series;
+
+/**
+ * Finds the sample of a series taken at, or nearest to, a given time. The sample is located through binary search, and samples
+ * further away than the tolerance are discarded, so members that weren't running at the given time are not reported.
+ */
+public class PointInTimeSampler {
+  private final long time;
+  private final long tolerance;
+
+  public PointInTimeSampler(long time, long tolerance) {
+    if (tolerance <= 0) throw new IllegalArgumentException("Tolerance should be positive.");
+
+    this.time = time;
+    this.tolerance = tolerance;
+  }
+
+  public long getTime() {
+    return time;
+  }
+
+  /**
+   * @param statisticId Identifier of the statistic owning the series.
+   * @param units Units of the statistic owning the series.
+   * @param series Series to sample, time stamps should be sorted.
+   * @return The sample nearest to the time (the earliest one on ties), or null if there's none within the tolerance.
+   */
+  public SampledValue sample(String statisticId, String units, Series series) {
+    if (series.isEmpty()) return null;
+
+    long[] timeStamps = series.getTimeStamps();
+    int index = TimeStampUtils.nearest(timeStamps, time);
+    if (Math.abs(timeStamps[index] - time) > tolerance) return null;
+
+    return new SampledValue(statisticId, units, timeStamps[index], series.getValues()[index]);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * Maps the raw samples of a statistic onto a fixed time grid, so values from members sampling at different instants and rates
+ * can be compared point by point.
+ * Gauges are resampled through step-hold (the latest sampled value at each grid point), while counters are linearly interpolated at
+ * the grid boundaries and converted into a rate per second.
+ * Grid points outside the sampled interval, or for which the counter was reset, are set as {@link Double#NaN}.
+ */
+public class Resampler {
+  private final long startTime;
+  private final long step;
+  private final int points;
+
+  /**
+   * @param startTime Time stamp (millis since midnight, Jan 1, 1970 UTC) of the first grid point.
+   * @param step Interval, in milliseconds, between two consecutive grid points.
+   * @param points Amount of grid points.
+   */
+  public Resampler(long startTime, long step, int points) {
+    if (step <= 0) throw new IllegalArgumentException("Step should be positive.");
+    if (points < 0) throw new IllegalArgumentException("Points should be zero or positive.");
+
+    this.startTime = startTime;
+    this.step = step;
+    this.points = points;
+  }
+
+  /**
+   * Resamples the raw values.
+   *
+   * @param timeStamps Raw time stamps, sorted in chronological order.
+   * @param values Raw (unfiltered) values, one per time stamp.
+   * @param counter Whether the values belong to a counter (rate per second is returned) or a gauge (step-hold is used).
+   * @return Array with one value per grid point.
+   */
+  public double[] resample(long[] timeStamps, double[] values, boolean counter) {
+    if (timeStamps.length != values.length) throw new IllegalArgumentException("TimeStamps and Values should have the same length.");
+
+    return counter ? resampleCounter(timeStamps, values) : resampleGauge(timeStamps, values);
+  }
+
+  double[] resampleGauge(long[] timeStamps, double[] values) {
+    double[] result = new double[points];
+    int last = timeStamps.length - 1;
+    int index = 0;
+
+    for (int i = 0; i < points; i++) {
+      long gridTime = startTime + i * step;
+
+      if ((last < 0) || (gridTime < timeStamps[0]) || (gridTime > timeStamps[last])) {
+        result[i] = Double.NaN;
+      } else {
+        while ((index < last) && (timeStamps[index + 1] <= gridTime)) index++;
+        result[i] = values[index];
+      }
+    }
+
+    return result;
+  }
+
+  double[] resampleCounter(long[] timeStamps, double[] values) {
+    double[] result = new double[points];
+    int last = timeStamps.length - 1;
+    int index = 0;
+    double previous = Double.NaN;
+
+    // Grid point i holds the rate between (gridTime - step) and gridTime, so one extra boundary is needed.
+    for (int i = -1; i < points; i++) {
+      long gridTime = startTime + i * step;
+      double current;
+
+      if ((last < 0) || (gridTime < timeStamps[0]) || (gridTime > timeStamps[last])) {
+        current = Double.NaN;
+      } else {
+        while ((index < last) && (timeStamps[index + 1] <= gridTime)) index++;
+
+        if ((index == last) || (timeStamps[index] == gridTime)) {
+          current = values[index];
+        } else {
+          double fraction = (double) (gridTime - timeStamps[index]) / (timeStamps[index + 1] - timeStamps[index]);
+          current = values[index] + (values[index + 1] - values[index]) * fraction;
+        }
+      }
+
+      if (i >= 0) {
+        double delta = current - previous;
+        result[i] = (delta >= 0) ? (delta * 1000) / step : Double.NaN;
+      }
+
+      previous = current;
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+
+/**
+ * Robust z-score based on the Median Absolute Deviation (MAD), which is not skewed by the outliers themselves.
+ * The window is kept sorted, so the median is found in O(1) and the MAD through a merge of the deviations at both sides of the
+ * median, in O(window). When more than half of the window has the same value (MAD is 0), the mean absolute deviation is used instead.
+ */
+public class RollingMadDetector implements AnomalyDetector {
+  /**
+   * Scales the MAD so it's a consistent estimator of the standard deviation for normally distributed data.
+   */
+  static final double MAD_SCALE = 1.4826;
+
+  /**
+   * Scales the mean absolute deviation so it's a consistent estimator of the standard deviation for normally distributed data.
+   */
+  static final double MEAN_ABSOLUTE_DEVIATION_SCALE = 1.2533;
+
+  private final double[] window;
+  private final double[] sorted;
+  private int size;
+  private int next;
+
+  public RollingMadDetector(int windowSize) {
+    if (windowSize < 2) throw new IllegalArgumentException("Window size should be at least 2.");
+
+    this.window = new double[windowSize];
+    this.sorted = new double[windowSize];
+  }
+
+  double getMedian() {
+    return (size % 2 == 1) ? sorted[size / 2] : (sorted[size / 2 - 1] + sorted[size / 2]) / 2;
+  }
+
+  /**
+   * Deviations from the median are increasing when walking from the median outwards, so the k-th smallest deviation is found by
+   * merging both sides.
+   */
+  double getMedianAbsoluteDeviation(double median) {
+    int right = 0;
+    while ((right < size) && (sorted[right] < median)) right++;
+    int left = right - 1;
+
+    double previous = 0;
+    double current = 0;
+    for (int i = 0; i <= size / 2; i++) {
+      previous = current;
+
+      if ((left >= 0) && ((right >= size) || (median - sorted[left] <= sorted[right] - median))) {
+        current = median - sorted[left--];
+      } else {
+        current = sorted[right++] - median;
+      }
+    }
+
+    return (size % 2 == 1) ? current : (previous + current) / 2;
+  }
+
+  double getMeanAbsoluteDeviation(double median) {
+    double sum = 0;
+    for (int i = 0; i < size; i++) sum += Math.abs(sorted[i] - median);
+
+    return sum / size;
+  }
+
+  private void insertSorted(double value) {
+    int position = Arrays.binarySearch(sorted, 0, size, value);
+    if (position < 0) position = -position - 1;
+
+    System.arraycopy(sorted, position, sorted, position + 1, size - position);
+    sorted[position] = value;
+    size++;
+  }
+
+  private void removeSorted(double value) {
+    int position = Arrays.binarySearch(sorted, 0, size, value);
+
+    System.arraycopy(sorted, position + 1, sorted, position, size - position - 1);
+    size--;
+  }
+
+  @Override
+  public double score(double value) {
+    double score = Double.NaN;
+
+    if (size == window.length) {
+      double median = getMedian();
+      double dispersion = MAD_SCALE * getMedianAbsoluteDeviation(median);
+      if (dispersion == 0) dispersion = MEAN_ABSOLUTE_DEVIATION_SCALE * getMeanAbsoluteDeviation(median);
+      if (dispersion > 0) score = Math.abs(value - median) / dispersion;
+
+      // Evict the oldest sample.
+      removeSorted(window[next]);
+    }
+
+    window[next] = value;
+    next = (next + 1) % window.length;
+    insertSorted(value);
+
+    return score;
+  }
+
+  @Override
+  public void reset() {
+    size = 0;
+    next = 0;
+  }
+}
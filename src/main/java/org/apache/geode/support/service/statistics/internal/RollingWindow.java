@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Objects;
+
+import org.apache.geode.support.domain.statistics.RollingSummary;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+/**
+ * Applies a rolling function (maximum, minimum or average) over a sliding time window in linear time: maximum and minimum keep
+ * a monotonic deque of sample indexes (each sample is added and removed at most once), while the average keeps a running sum.
+ * The window ending at each sample includes all samples taken within the previous window length, and only windows fully covered
+ * by the series (those ending at least one window length after the first sample) are emitted.
+ */
+public class RollingWindow {
+  private final long window;
+  private final StatisticsService.RollingFunction function;
+
+  public RollingWindow(StatisticsService.RollingFunction function, long window) {
+    Objects.requireNonNull(function, "Rolling function can not be null.");
+    if (window <= 0) throw new IllegalArgumentException("Window should be positive.");
+
+    this.window = window;
+    this.function = function;
+  }
+
+  /**
+   * @return Whether the value at the candidate index should evict the value at the last index of the deque.
+   */
+  private boolean evicts(double candidate, double last) {
+    return function == StatisticsService.RollingFunction.Max ? candidate >= last : candidate <= last;
+  }
+
+  /**
+   * Computes the rolling function over the series.
+   *
+   * @param series Series to evaluate, time stamps should be sorted.
+   * @return A new Series with one value per full window, time stamped at the end of the window.
+   */
+  public Series roll(Series series) {
+    long[] timeStamps = series.getTimeStamps();
+    double[] values = series.getValues();
+    int size = values.length;
+    int first = 0;
+    while ((first < size) && (timeStamps[first] - timeStamps[0] < window)) first++;
+    if (first == size) return new Series(new long[0], new double[0]);
+
+    long[] resultTimeStamps = new long[size - first];
+    double[] resultValues = new double[size - first];
+    int[] deque = new int[size];
+    int head = 0, tail = 0, start = 0;
+    double sum = 0;
+
+    for (int i = 0; i < size; i++) {
+      // Add the new sample, then evict those that fell out of the window.
+      if (function == StatisticsService.RollingFunction.Avg) {
+        sum += values[i];
+        while (timeStamps[i] - timeStamps[start] >= window) sum -= values[start++];
+      } else {
+        while ((tail > head) && (evicts(values[i], values[deque[tail - 1]]))) tail--;
+        deque[tail++] = i;
+        while (timeStamps[i] - timeStamps[deque[head]] >= window) head++;
+      }
+
+      if (i >= first) {
+        resultTimeStamps[i - first] = timeStamps[i];
+        resultValues[i - first] = function == StatisticsService.RollingFunction.Avg ? sum / (i - start + 1) : values[deque[head]];
+      }
+    }
+
+    return new Series(resultTimeStamps, resultValues);
+  }
+
+  /**
+   * Computes the rolling function over the series and keeps only the highest and lowest windows.
+   *
+   * @param statisticId Identifier of the statistic to which the series belongs.
+   * @param series Series to evaluate, time stamps should be sorted.
+   * @return The highest and lowest windows (the earliest ones on ties), or null if the series doesn't cover a full window.
+   */
+  public RollingSummary summarize(String statisticId, Series series) {
+    Series rolled = roll(series);
+    if (rolled.isEmpty()) return null;
+
+    long[] timeStamps = rolled.getTimeStamps();
+    double[] values = rolled.getValues();
+    int highest = 0, lowest = 0;
+    for (int i = 1; i < values.length; i++) {
+      if (values[i] > values[highest]) highest = i;
+      if (values[i] < values[lowest]) lowest = i;
+    }
+
+    return new RollingSummary(statisticId, timeStamps[highest], values[highest], timeStamps[lowest], values[lowest]);
+  }
+}
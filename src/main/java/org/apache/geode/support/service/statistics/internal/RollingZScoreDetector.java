@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * Classic z-score, the mean and standard deviation of the window are updated incrementally (Welford) on every add and eviction,
+ * so scoring a sample is O(1). Rounding errors are discarded by recomputing both values from the window every time it wraps around,
+ * and windows holding a single repeated value are detected explicitly, so they're never scored against a residual deviation.
+ */
+public class RollingZScoreDetector implements AnomalyDetector {
+  private final double[] window;
+  private int size;
+  private int next;
+  private double mean;
+  private double squares;
+  private int repeated;
+
+  public RollingZScoreDetector(int windowSize) {
+    if (windowSize < 2) throw new IllegalArgumentException("Window size should be at least 2.");
+
+    this.window = new double[windowSize];
+  }
+
+  double getMean() {
+    return mean;
+  }
+
+  double getStandardDeviation() {
+    if ((size < 2) || (repeated >= size)) return 0;
+
+    return Math.sqrt(Math.max(0, squares) / (size - 1));
+  }
+
+  private void recompute() {
+    double sum = 0;
+    for (int i = 0; i < size; i++) sum += window[i];
+    mean = sum / size;
+
+    squares = 0;
+    for (int i = 0; i < size; i++) squares += (window[i] - mean) * (window[i] - mean);
+  }
+
+  @Override
+  public double score(double value) {
+    double score = Double.NaN;
+
+    if (size == window.length) {
+      double standardDeviation = getStandardDeviation();
+      if (standardDeviation > 0) score = Math.abs(value - mean) / standardDeviation;
+
+      // Evict the oldest sample.
+      double oldest = window[next];
+      double delta = oldest - mean;
+      size--;
+      mean -= delta / size;
+      squares -= delta * (oldest - mean);
+    }
+
+    int previous = (next + window.length - 1) % window.length;
+    repeated = ((size > 0) && (window[previous] == value)) ? repeated + 1 : 1;
+    window[next] = value;
+    next = (next + 1) % window.length;
+    size++;
+    double delta = value - mean;
+    mean += delta / size;
+    squares += delta * (value - mean);
+    if (next == 0) recompute();
+
+    return score;
+  }
+
+  @Override
+  public void reset() {
+    size = 0;
+    next = 0;
+    mean = 0;
+    squares = 0;
+    repeated = 0;
+  }
+}
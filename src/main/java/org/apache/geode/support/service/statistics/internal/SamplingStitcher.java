@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.geode.internal.statistics.DerivedValue;
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Statistic;
+
+/**
+ * Stitches the samplings parsed from the archives rolled by a single member into one continuous sampling.
+ * Parts should be appended in order, as soon as they're parsed; only the raw values are copied, so the parsed part can be discarded
+ * before the next one is read. Samples already covered by a previous part are ignored, and counters are stitched using their raw
+ * values, so rates are also computed across the boundaries between parts.
+ */
+public class SamplingStitcher {
+  private int parts = 0;
+  private SamplingMetadata firstMetadata;
+  private SamplingMetadata lastMetadata;
+  private final Map<String, StitchedCategory> categories = new LinkedHashMap<>();
+
+  /**
+   * Raw samples of a statistic, appended part by part.
+   */
+  static class StitchedStatistic {
+    private final String name;
+    private final String units;
+    private final boolean counter;
+    private final String description;
+    private int size = 0;
+    private long[] timeStamps = new long[0];
+    private double[] values = new double[0];
+
+    StitchedStatistic(Statistic statistic) {
+      this.name = statistic.getName();
+      this.units = statistic.getUnits();
+      this.counter = statistic.isCounter();
+      this.description = statistic.getDescription();
+    }
+
+    void append(Series series) {
+      long[] partTimeStamps = series.getTimeStamps();
+      double[] partValues = series.getValues();
+
+      // Parts might overlap, only samples taken after the last one stitched are kept.
+      int start = 0;
+      if (size > 0) {
+        long lastTimeStamp = timeStamps[size - 1];
+        while ((start < partTimeStamps.length) && (partTimeStamps[start] <= lastTimeStamp)) start++;
+      }
+
+      int added = partTimeStamps.length - start;
+      if (added <= 0) return;
+
+      if (size + added > timeStamps.length) {
+        int capacity = Math.max(size + added, timeStamps.length * 2);
+        timeStamps = Arrays.copyOf(timeStamps, capacity);
+        values = Arrays.copyOf(values, capacity);
+      }
+
+      System.arraycopy(partTimeStamps, start, timeStamps, size, added);
+      System.arraycopy(partValues, start, values, size, added);
+      size += added;
+    }
+
+    Statistic build() {
+      return new Statistic(new DerivedValue(name, units, description, counter, Arrays.copyOf(timeStamps, size), Arrays.copyOf(values, size)));
+    }
+  }
+
+  /**
+   * Statistics of a category, appended part by part.
+   */
+  static class StitchedCategory {
+    private final String name;
+    private final String description;
+    private final Map<String, StitchedStatistic> statistics = new LinkedHashMap<>();
+
+    StitchedCategory(Category category) {
+      this.name = category.getName();
+      this.description = category.getDescription();
+    }
+
+    Category build() {
+      Category category = new Category(name, description);
+      statistics.values().forEach(stitchedStatistic -> category.addStatistic(stitchedStatistic.build()));
+
+      return category;
+    }
+  }
+
+  public int getParts() {
+    return parts;
+  }
+
+  /**
+   * Appends the next part of the member archives, should be called in order (by start time).
+   *
+   * @param part The sampling parsed from the part.
+   */
+  public void append(Sampling part) {
+    if (firstMetadata == null) firstMetadata = part.getMetadata();
+    lastMetadata = part.getMetadata();
+    parts++;
+
+    part.getCategories().values().forEach(category -> {
+      StitchedCategory stitchedCategory = categories.computeIfAbsent(category.getName(), key -> new StitchedCategory(category));
+      category.getStatistics().values().forEach(statistic ->
+          stitchedCategory.statistics.computeIfAbsent(statistic.getName(), key -> new StitchedStatistic(statistic)).append(statistic.getRawSeries()));
+    });
+  }
+
+  /**
+   * @return A sampling with the metadata of the first part, spanning until the end of the last one, and a continuous statistic
+   * for every statistic found within any of the parts.
+   */
+  public Sampling build() {
+    if (firstMetadata == null) throw new IllegalStateException("At least one part should be appended.");
+
+    SamplingMetadata metadata = new SamplingMetadata(firstMetadata.getFileName(), firstMetadata.getVersion(), firstMetadata.isCompressed(),
+        firstMetadata.getTimeZoneId(), firstMetadata.getStartTimeStamp(), Math.max(firstMetadata.getFinishTimeStamp(), lastMetadata.getFinishTimeStamp()),
+        lastMetadata.getProductVersion(), lastMetadata.getOperatingSystem());
+
+    Map<String, Category> categoryMap = new HashMap<>();
+    categories.forEach((name, stitchedCategory) -> categoryMap.put(name, stitchedCategory.build()));
+
+    return new Sampling(metadata, categoryMap);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+/**
+ * Combines several series into a single one, adding the sources one at a time.
+ * Only the time grid is kept between sources, so the series of a source can be discarded as soon as it has been added.
+ * Each sample is assigned to the slot of the time grid that contains its time stamp, and the latest value of every source is held
+ * (step-hold) from its first slot until its last one.
+ */
+public class SeriesAggregator {
+  private final long step;
+  private final StatisticsService.Aggregation aggregation;
+  private long firstSlot = 0;
+  private int size = 0;
+  private double[] values = new double[0];
+  private int[] counts = new int[0];
+  private boolean[] sampled = new boolean[0];
+
+  public SeriesAggregator(long step, StatisticsService.Aggregation aggregation) {
+    Objects.requireNonNull(aggregation, "Aggregation can not be null.");
+    if (step <= 0) throw new IllegalArgumentException("Step should be positive.");
+
+    this.step = step;
+    this.aggregation = aggregation;
+  }
+
+  private long getSlot(long timeStamp) {
+    return Math.floorDiv(timeStamp, step);
+  }
+
+  /**
+   * Grows the grid, if needed, so it covers the slots between from and to (both inclusive).
+   */
+  private void ensureRange(long from, long to) {
+    if (size == 0) firstSlot = from;
+    long newFirstSlot = Math.min(firstSlot, from);
+    int newSize = Math.toIntExact(Math.max(firstSlot + size - 1, to) - newFirstSlot + 1);
+    int shift = (int) (firstSlot - newFirstSlot);
+
+    if ((shift != 0) || (newSize > values.length)) {
+      int capacity = Math.max(newSize, values.length * 2);
+      double[] newValues = new double[capacity];
+      int[] newCounts = new int[capacity];
+      boolean[] newSampled = new boolean[capacity];
+      System.arraycopy(values, 0, newValues, shift, size);
+      System.arraycopy(counts, 0, newCounts, shift, size);
+      System.arraycopy(sampled, 0, newSampled, shift, size);
+      values = newValues;
+      counts = newCounts;
+      sampled = newSampled;
+    }
+
+    firstSlot = newFirstSlot;
+    size = newSize;
+  }
+
+  private void accumulate(long slot, double value, boolean sampledSlot) {
+    int index = (int) (slot - firstSlot);
+    boolean maximum = StatisticsService.Aggregation.Max.equals(aggregation);
+
+    values[index] = (maximum && counts[index] > 0) ? Math.max(values[index], value) : (maximum ? value : values[index] + value);
+    counts[index]++;
+    sampled[index] |= sampledSlot;
+  }
+
+  /**
+   * Adds the values of a source to every slot from its first sample until its last one.
+   *
+   * @param source The series to add, sorted by time stamp.
+   */
+  public void add(Series source) {
+    Objects.requireNonNull(source, "Source can not be null.");
+    if (source.isEmpty()) return;
+
+    long[] sourceTimeStamps = source.getTimeStamps();
+    double[] sourceValues = source.getValues();
+    ensureRange(getSlot(sourceTimeStamps[0]), getSlot(sourceTimeStamps[sourceTimeStamps.length - 1]));
+
+    long currentSlot = getSlot(sourceTimeStamps[0]);
+    double currentValue = sourceValues[0];
+    for (int i = 1; i < sourceTimeStamps.length; i++) {
+      long slot = getSlot(sourceTimeStamps[i]);
+
+      // The latest value within the slot is used for it, and held until the next sampled slot.
+      if (slot > currentSlot) {
+        accumulate(currentSlot, currentValue, true);
+        for (long heldSlot = currentSlot + 1; heldSlot < slot; heldSlot++) accumulate(heldSlot, currentValue, false);
+        currentSlot = slot;
+      }
+
+      currentValue = sourceValues[i];
+    }
+
+    accumulate(currentSlot, currentValue, true);
+  }
+
+  /**
+   * @return The aggregated series, with one point per grid slot on which at least one source has samples.
+   */
+  public Series getResult() {
+    int resultSize = 0;
+    for (int i = 0; i < size; i++) if (sampled[i]) resultSize++;
+
+    int resultIndex = 0;
+    long[] resultTimeStamps = new long[resultSize];
+    double[] resultValues = new double[resultSize];
+    for (int i = 0; i < size; i++) {
+      if (!sampled[i]) continue;
+
+      resultTimeStamps[resultIndex] = (firstSlot + i) * step;
+      resultValues[resultIndex] = StatisticsService.Aggregation.Avg.equals(aggregation) ? values[i] / counts[i] : values[i];
+      resultIndex++;
+    }
+
+    return new Series(resultTimeStamps, resultValues);
+  }
+}
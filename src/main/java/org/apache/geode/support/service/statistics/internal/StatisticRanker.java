@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Objects;
+
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+/**
+ * Computes the values used to rank a statistic in a single pass over its raw samples, without materializing the filtered series.
+ * Counters are evaluated as rates per second (intervals on which the counter goes backwards are considered resets and ignored),
+ * while gauges are evaluated as sampled.
+ */
+public class StatisticRanker {
+  private final StatisticsService.Ranking ranking;
+
+  public StatisticRanker(StatisticsService.Ranking ranking) {
+    Objects.requireNonNull(ranking, "Ranking can not be null.");
+
+    this.ranking = ranking;
+  }
+
+  public double getValue(RankedStatistic rankedStatistic) {
+    switch (ranking) {
+      case StdDev: return rankedStatistic.getStandardDeviation();
+      case Rate: return rankedStatistic.getRate();
+      default: return rankedStatistic.getMaximum();
+    }
+  }
+
+  /**
+   * Evaluates the raw samples of a statistic.
+   *
+   * @param statisticId Identifier of the statistic to which the series belongs.
+   * @param units Units of the statistic.
+   * @param counter Whether the statistic is a counter.
+   * @param rawSeries The raw (unfiltered) samples of the statistic.
+   * @return The evaluated statistic, or null if there are not enough samples to evaluate it.
+   */
+  public RankedStatistic rank(String statisticId, String units, boolean counter, Series rawSeries) {
+    long[] timeStamps = rawSeries.getTimeStamps();
+    double[] rawValues = rawSeries.getValues();
+
+    int count = 0;
+    double mean = 0;
+    double squares = 0;
+    double maximum = Double.NEGATIVE_INFINITY;
+    double increase = 0;
+    long elapsed = 0;
+
+    for (int i = counter ? 1 : 0; i < rawValues.length; i++) {
+      double value = rawValues[i];
+
+      if (counter) {
+        long interval = timeStamps[i] - timeStamps[i - 1];
+        double delta = rawValues[i] - rawValues[i - 1];
+        if ((interval <= 0) || (delta < 0)) continue;
+
+        increase += delta;
+        elapsed += interval;
+        value = delta * 1000 / interval;
+      }
+
+      count++;
+      double difference = value - mean;
+      mean += difference / count;
+      squares += difference * (value - mean);
+      maximum = Math.max(maximum, value);
+    }
+
+    if (count == 0) return null;
+
+    if (!counter) {
+      increase = rawValues[rawValues.length - 1] - rawValues[0];
+      elapsed = timeStamps[timeStamps.length - 1] - timeStamps[0];
+    }
+
+    double standardDeviation = count < 2 ? 0 : Math.sqrt(squares / (count - 1));
+    double rate = elapsed <= 0 ? 0 : increase * 1000 / elapsed;
+
+    return new RankedStatistic(statisticId, units, maximum, standardDeviation, rate);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+/**
+ * Searches over sorted arrays of time stamps, shared by the components locating samples around a given time.
+ */
+public class TimeStampUtils {
+
+  /**
+   * @param timeStamps Sorted time stamps.
+   * @param timeStamp Time stamp to search for.
+   * @return Index of the first time stamp equal to or greater than the given one, the array length if there's none.
+   */
+  public static int lowerBound(long[] timeStamps, long timeStamp) {
+    int low = 0;
+    int high = timeStamps.length;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (timeStamps[middle] < timeStamp) low = middle + 1;
+      else high = middle;
+    }
+
+    return low;
+  }
+
+  /**
+   * @param timeStamps Sorted time stamps, the array should not be empty.
+   * @param timeStamp Time stamp to search for.
+   * @return Index of the time stamp closest to the given one, the earliest one on ties.
+   */
+  public static int nearest(long[] timeStamps, long timeStamp) {
+    int index = lowerBound(timeStamps, timeStamp);
+    if (index == timeStamps.length) return index - 1;
+    if ((index > 0) && (timeStamp - timeStamps[index - 1] <= timeStamps[index] - timeStamp)) return index - 1;
+
+    return index;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import java.util.Arrays;
+
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Trend;
+
+/**
+ * Fits the linear trend of a series through ordinary least squares and through the Theil-Sen estimator (median of the slopes
+ * between every pair of samples), which ignores isolated spikes. The Theil-Sen estimator is quadratic on the amount of samples, so
+ * the series is first downsampled (averaging buckets) and the least squares sums are accumulated in the same streaming pass.
+ * The time to exhaustion is estimated through the robust trend, and only when both trends agree that the statistic is growing: the
+ * sawtooth pattern of garbage collected heaps can fool any of them on its own.
+ */
+public class TrendEstimator {
+  public static final int MINIMUM_SAMPLES = 3;
+  private final int points;
+
+  public TrendEstimator(int points) {
+    if (points < MINIMUM_SAMPLES) throw new IllegalArgumentException("Points should be greater than or equal to 3.");
+
+    this.points = points;
+  }
+
+  static double median(double[] values, int length) {
+    Arrays.sort(values, 0, length);
+
+    return (length % 2 == 1) ? values[length / 2] : (values[length / 2 - 1] + values[length / 2]) / 2;
+  }
+
+  /**
+   * @param statisticId Identifier of the statistic owning the series.
+   * @param units Units of the statistic owning the series.
+   * @param series Series to evaluate, time stamps should be sorted.
+   * @param capacity Capacity of the resource measured by the statistic, {@link Double#NaN} if unknown.
+   * @return The trend, or null if the series has less than 3 samples or all of them were taken at the same time.
+   */
+  public Trend estimate(String statisticId, String units, Series series, double capacity) {
+    if (series.size() < MINIMUM_SAMPLES) return null;
+
+    long[] rawTimeStamps = series.getTimeStamps();
+    double[] rawValues = series.getValues();
+    long origin = rawTimeStamps[0];
+    Downsampler downsampler = new BucketDownsampler(series.size(), points, BucketDownsampler.Aggregation.AVERAGE);
+    for (int i = 0; i < rawValues.length; i++) downsampler.add(rawTimeStamps[i], rawValues[i]);
+    Series downsampled = downsampler.getResult();
+
+    // Ordinary least squares.
+    int size = downsampled.size();
+    double[] values = downsampled.getValues();
+    double[] seconds = new double[size];
+    double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+    for (int i = 0; i < size; i++) {
+      double x = (downsampled.getTimeStamps()[i] - origin) / 1000.0;
+      double y = values[i];
+      seconds[i] = x;
+      sumX += x;
+      sumY += y;
+      sumXX += x * x;
+      sumXY += x * y;
+    }
+
+    double denominator = size * sumXX - sumX * sumX;
+    if ((size < MINIMUM_SAMPLES) || (denominator == 0)) return null;
+    double slope = (size * sumXY - sumX * sumY) / denominator;
+
+    // Theil-Sen.
+    int pairs = 0;
+    double[] slopes = new double[size * (size - 1) / 2];
+    for (int i = 0; i < size; i++) {
+      for (int j = i + 1; j < size; j++) {
+        if (seconds[j] != seconds[i]) slopes[pairs++] = (values[j] - values[i]) / (seconds[j] - seconds[i]);
+      }
+    }
+
+    double robustSlope = median(slopes, pairs);
+    double[] intercepts = new double[size];
+    for (int i = 0; i < size; i++) intercepts[i] = values[i] - robustSlope * seconds[i];
+    double robustIntercept = median(intercepts, size);
+
+    // Time left, from the last sample, until the robust trend reaches the capacity.
+    long timeToExhaustion = -1;
+    if ((!Double.isNaN(capacity)) && (slope > 0) && (robustSlope > 0)) {
+      double lastSecond = (rawTimeStamps[rawTimeStamps.length - 1] - origin) / 1000.0;
+      double remaining = capacity - (robustIntercept + robustSlope * lastSecond);
+      timeToExhaustion = remaining <= 0 ? 0 : (long) Math.ceil(remaining / robustSlope * 1000);
+    }
+
+    return new Trend(statisticId, units, rawValues[rawValues.length - 1], slope, robustSlope, capacity, timeToExhaustion);
+  }
+}
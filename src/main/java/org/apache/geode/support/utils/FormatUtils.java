@@ -17,15 +17,21 @@ package org.apache.geode.support.utils;
 import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
 import java.time.format.FormatStyle;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class FormatUtils {
   private static final DateTimeFormatter defaultDateTimeFormatter;
+  private static final Pattern durationPattern = Pattern.compile("^(\\d+)(ms|s|m|h|d)?$");
   private static final ThreadLocal<NumberFormat>
       defaultNumberFormatter =
       ThreadLocal.withInitial(() -> new DecimalFormat("#0.00"));
@@ -90,4 +96,40 @@ public class FormatUtils {
   public static String formatTimeZoneId(ZoneId zoneId) {
     return zoneId != null ? "[" + zoneId.toString() + "]" : "";
   }
+
+  /**
+   * Parses a duration expressed as an amount followed by an optional unit (ms, s, m, h or d), like "500ms" or "10m".
+   * The amount is interpreted as seconds when there's no unit.
+   * @param text The duration to parse.
+   * @return The parsed Duration.
+   */
+  public static Duration parseDuration(String text) {
+    Matcher matcher = durationPattern.matcher(text != null ? text.trim() : "");
+    if (!matcher.matches()) throw new IllegalArgumentException(String.format("Invalid duration '%s', expected an amount followed by an optional unit (ms, s, m, h or d).", text));
+
+    long amount = Long.parseLong(matcher.group(1));
+    String unit = matcher.group(2) != null ? matcher.group(2) : "s";
+
+    switch (unit) {
+      case "ms": return Duration.ofMillis(amount);
+      case "m": return Duration.ofMinutes(amount);
+      case "h": return Duration.ofHours(amount);
+      case "d": return Duration.ofDays(amount);
+      default: return Duration.ofSeconds(amount);
+    }
+  }
+
+  /**
+   * Parses a local date time in ISO format (yyyy-MM-ddTHH:mm[:ss]), like "2018-03-22T14:30:00".
+   * @param text The date time to parse.
+   * @param zoneId Time Zone Id in which the date time is expressed.
+   * @return The parsed time stamp, in milliseconds since midnight, Jan 1, 1970 UTC.
+   */
+  public static long parseDateTime(String text, ZoneId zoneId) {
+    try {
+      return LocalDateTime.parse(text != null ? text.trim() : "").atZone(zoneId).toInstant().toEpochMilli();
+    } catch (DateTimeParseException dateTimeParseException) {
+      throw new IllegalArgumentException(String.format("Invalid date time '%s', expected format is yyyy-MM-ddTHH:mm[:ss].", text));
+    }
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.support.test.StatisticsSampleDataUtils;
+
+public class StatArchiveReaderIntegrationTest {
+  private File emptyArchive;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void setUp() throws Exception {
+    emptyArchive = temporaryFolder.newFile("empty.gfs");
+  }
+
+  private void assertResourceInstList(StatArchiveReader reader, int... expectedSizes) {
+    List resourceInstList = reader.getResourceInstList();
+    StatArchiveFile[] archives = reader.getArchives();
+    assertThat(archives.length).isEqualTo(expectedSizes.length);
+
+    int offset = 0;
+    for (int i = 0; i < archives.length; i++) {
+      assertThat(archives[i].resourceInstSize).isEqualTo(expectedSizes[i]);
+
+      for (int j = 0; j < archives[i].resourceInstSize; j++) {
+        assertThat(resourceInstList.get(offset + j)).isSameAs(archives[i].resourceInstTable[j]);
+      }
+
+      offset += archives[i].resourceInstSize;
+    }
+
+    assertThat(resourceInstList.size()).isEqualTo(offset);
+    assertThat(resourceInstList.get(-1)).isNull();
+    assertThat(resourceInstList.get(offset)).isNull();
+    assertThat(resourceInstList.get(offset + 128)).isNull();
+  }
+
+  @Test
+  public void getResourceInstListShouldReturnTheResourceInstancesOfEveryArchiveInOrder() throws Exception {
+    File[] archiveNames = new File[] {
+        new File(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()),
+        emptyArchive,
+        new File(StatisticsSampleDataUtils.SampleType.CLUSTER1_LOCATOR.getFilePath()),
+        emptyArchive,
+        new File(StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getFilePath())
+    };
+
+    StatArchiveReader reader = new StatArchiveReader(archiveNames, null, false);
+    assertResourceInstList(reader, 39, 0, 34, 0, 35);
+
+    // Boundaries between archives, including the ones shared by the empty archives.
+    List resourceInstList = reader.getResourceInstList();
+    assertThat(resourceInstList.get(38)).isSameAs(reader.getArchives()[0].resourceInstTable[38]);
+    assertThat(resourceInstList.get(39)).isSameAs(reader.getArchives()[2].resourceInstTable[0]);
+    assertThat(resourceInstList.get(72)).isSameAs(reader.getArchives()[2].resourceInstTable[33]);
+    assertThat(resourceInstList.get(73)).isSameAs(reader.getArchives()[4].resourceInstTable[0]);
+
+    // Nothing new to read, the index is kept.
+    assertThat(reader.update()).isFalse();
+    assertResourceInstList(reader, 39, 0, 34, 0, 35);
+
+    reader.close();
+    assertResourceInstList(reader, 39, 0, 34, 0, 35);
+  }
+
+  @Test
+  public void getResourceInstListShouldBeEmptyWhenAllArchivesAreEmpty() throws Exception {
+    StatArchiveReader reader = new StatArchiveReader(new File[] { emptyArchive, emptyArchive }, null, false);
+
+    assertResourceInstList(reader, 0, 0);
+    assertThat(reader.getResourceInstList().get(0)).isNull();
+    assertThat(reader.getResourceInstList()).isEmpty();
+    reader.close();
+  }
+
+  @Test
+  public void constructorShouldRethrowExceptionsFromParallelUpdatesUnchanged() {
+    File[] archiveNames = new File[] {
+        new File(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()),
+        new File(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getFilePath()),
+        new File(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getFilePath())
+    };
+
+    assertThatThrownBy(() -> new StatArchiveReader(archiveNames, null, false)).isExactlyInstanceOf(IOException.class).hasMessage("Unexpected token byte value: 67");
+  }
+}
@@ -15,6 +15,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +29,7 @@ import org.springframework.shell.table.Table;
 
 import org.apache.geode.support.service.TableExportService;
 import org.apache.geode.support.test.mockito.MockUtils;
+import org.apache.geode.support.utils.FormatUtils;
 
 public abstract class AbstractExportableCommandTest {
   protected File mockedExportFile;
@@ -49,6 +52,10 @@ public abstract class AbstractExportableCommandTest {
     when(mockedExportPath.toAbsolutePath().toString()).thenReturn("/export.txt");
   }
 
+  protected String formatTime(int hour, int minutes, int seconds) {
+    return ZonedDateTime.of(2018, 1, 1, hour, minutes, seconds, 0, ZoneId.of("UTC")).format(FormatUtils.getDateTimeFormatter());
+  }
+
   protected void setExportServiceAnswer(boolean exportSucceeds) throws IOException {
     doAnswer(invocation -> {
       if (!exportSucceeds) throw new IOException("Mock IOException");
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.shell.MethodTarget;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.InteractiveShellApplicationRunner;
+import org.springframework.shell.jline.ScriptShellApplicationRunner;
+import org.springframework.shell.table.Table;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.test.StatisticsSampleDataUtils;
+import org.apache.geode.support.test.assertj.TableAssert;
+
+/**
+ * Currently there's no easy way of doing proper integration tests with spring-boot + spring-shell.
+ * See https://github.com/spring-projects/spring-shell/issues/204.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+    ScriptShellApplicationRunner.SPRING_SHELL_SCRIPT_ENABLED + "=false",
+    InteractiveShellApplicationRunner.SPRING_SHELL_INTERACTIVE_ENABLED + "=false",
+})
+public class CompareStatisticsCommandIntegrationTest {
+  @Autowired
+  public Shell shell;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+  @ClassRule
+  public static final SpringClassRule SPRING_CLASS_RULE = new SpringClassRule();
+
+  @Test
+  public void compareStatisticsShouldGracefullyIntegrateWithSpringShell() {
+    MethodTarget methodTarget = shell.listCommands().get("compare statistics");
+
+    assertThat(methodTarget).isNotNull();
+    assertThat(methodTarget.getAvailability().isAvailable()).isTrue();
+    assertThat(methodTarget.getGroup()).isEqualTo("Statistics Commands");
+    assertThat(methodTarget.getHelp()).isEqualTo("Compares the Minimum, Maximum, Average, Standard Deviation and Percentiles of the statistics between a baseline and a candidate set of files.");
+    assertThat(methodTarget.getMethod()).isEqualTo(ReflectionUtils.findMethod(CompareStatisticsCommand.class, "compareStatistics", File.class, File.class, Statistic.Filter.class, boolean.class, String.class, String.class, String.class, File.class));
+  }
+
+  @Test
+  public void compareStatisticsShouldThrowExceptionWhenSourcePathDoesNotExist() {
+    String command = "compare statistics --baseline /temp/mock --candidate " + StatisticsSampleDataUtils.uncorruptedFolder.getAbsolutePath() + " --category VMStats";
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(IllegalArgumentException.class);
+    assertThat(((IllegalArgumentException) commandResult).getMessage()).isEqualTo("File /temp/mock does not exist.");
+  }
+
+  @Test
+  public void compareStatisticsShouldReturnCorrectlyWhenNoFilesAreFound() throws IOException {
+    String command = "compare statistics --category VMStats"
+        + " --baseline " + temporaryFolder.newFolder("emptyFolder").getAbsolutePath()
+        + " --candidate " + StatisticsSampleDataUtils.uncorruptedFolder.getAbsolutePath();
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<String> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+    assertThat(resultList.get(0)).isEqualTo("No baseline statistics files found.");
+  }
+
+  @Test
+  public void compareStatisticsShouldReturnOnlyErrorsTableWhenParsingFailsForAllCandidateFiles() {
+    Path basePath = StatisticsSampleDataUtils.rootFolder.toPath();
+    String command = "compare statistics --category VMStats --statistic fdsOpen"
+        + " --baseline " + StatisticsSampleDataUtils.uncorruptedFolder.getAbsolutePath()
+        + " --candidate " + StatisticsSampleDataUtils.corruptedFolder.getAbsolutePath();
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Errors Table.
+    Table errorsTable = resultList.get(0);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getRelativeFilePath(basePath), "Unexpected token byte value: 67");
+    TableAssert.assertThat(errorsTable).row(2).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getRelativeFilePath(basePath), "Not in GZIP format");
+  }
+
+  @Test
+  public void compareStatisticsShouldReturnTheDifferencesBetweenBaselineAndCandidate() {
+    String command = "compare statistics --category VMStats --statistic fdsOpen"
+        + " --baseline " + StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()
+        + " --candidate " + StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getFilePath();
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table.
+    Table resultsTable = resultList.get(0);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(8).columnCountIsEqualsTo(5);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("VMStats[vmStats].fdsOpen", "Baseline", "Candidate", "Delta", "Delta (%)");
+    TableAssert.assertThat(resultsTable).row(1).isEqualTo("└──Minimum", "91.00", "91.00", "0.00", "0.00%");
+    TableAssert.assertThat(resultsTable).row(2).isEqualTo("└──Maximum", "113.00", "114.00", "1.00", "0.88%");
+    TableAssert.assertThat(resultsTable).row(3).isEqualTo("└──Average", "112.76", "113.76", "0.99", "0.88%");
+    TableAssert.assertThat(resultsTable).row(4).isEqualTo("└──Standard Deviation", "1.08", "1.13", "0.06", "5.36%");
+    TableAssert.assertThat(resultsTable).row(5).isEqualTo("└──50th Percentile", "113.00", "114.00", "1.00", "0.88%");
+    TableAssert.assertThat(resultsTable).row(6).isEqualTo("└──95th Percentile", "113.00", "114.00", "1.00", "0.88%");
+    TableAssert.assertThat(resultsTable).row(7).isEqualTo("└──99th Percentile", "113.00", "114.00", "1.00", "0.88%");
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.StatisticComparison;
+import org.apache.geode.support.domain.statistics.StatisticProfile;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class CompareStatisticsCommandTest extends AbstractExportableCommandTest {
+  private File baselineFile;
+  private File candidateFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private CompareStatisticsCommand compareStatisticsCommand;
+  private Map<String, StatisticProfile> baselineProfiles;
+  private Map<String, StatisticProfile> candidateProfiles;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return compareStatisticsCommand;
+  }
+
+  @Before
+  public void setUp() {
+    baselineFile = new File("/samples/baseline");
+    candidateFile = new File("/samples/candidate");
+    baselineProfiles = Collections.singletonMap("VMStats[vmStats].fdsOpen", new StatisticProfile("fds", new double[] { 100, 110, 120 }));
+    candidateProfiles = Collections.singletonMap("VMStats[vmStats].fdsOpen", new StatisticProfile("fds", new double[] { 100, 130, 160 }));
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    compareStatisticsCommand = new CompareStatisticsCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  private void mockParsingResults() {
+    List<ParsingResult<Map<String, StatisticProfile>>> baselineResults = new ArrayList<>();
+    baselineResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/baseline/server.gfs", false), baselineProfiles));
+    baselineResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/baseline/corrupted.gfs", false), new IOException("Mocked IOException.")));
+    List<ParsingResult<Map<String, StatisticProfile>>> candidateResults = new ArrayList<>();
+    candidateResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/candidate/server.gfs", false), candidateProfiles));
+
+    when(statisticsService.profileStatistics(eq(baselineFile.toPath()), any(), any())).thenReturn(baselineResults);
+    when(statisticsService.profileStatistics(eq(candidateFile.toPath()), any(), any())).thenReturn(candidateResults);
+  }
+
+  @Test
+  public void getCommonPathShouldReturnTheDeepestDirectoryContainingBothPaths() {
+    assertThat(CompareStatisticsCommand.getCommonPath(Paths.get("/samples/baseline"), Paths.get("/samples/candidate"))).isEqualTo(Paths.get("/samples"));
+    assertThat(CompareStatisticsCommand.getCommonPath(Paths.get("/samples"), Paths.get("/samples/candidate/server.gfs"))).isEqualTo(Paths.get("/samples"));
+    assertThat(CompareStatisticsCommand.getCommonPath(Paths.get("/samples/baseline"), Paths.get("/samples/baseline"))).isEqualTo(Paths.get("/samples/baseline"));
+    assertThat(CompareStatisticsCommand.getCommonPath(Paths.get("/baseline"), Paths.get("/candidate"))).isEqualTo(Paths.get("/"));
+  }
+
+  @Test
+  public void formatRelativeDeltaShouldUseTheBaselineAsReference() {
+    assertThat(CompareStatisticsCommand.formatRelativeDelta(0, 0)).isEqualTo("0.00%");
+    assertThat(CompareStatisticsCommand.formatRelativeDelta(0, 5)).isEqualTo("N/A");
+    assertThat(CompareStatisticsCommand.formatRelativeDelta(200, 250)).isEqualTo("25.00%");
+    assertThat(CompareStatisticsCommand.formatRelativeDelta(-200, -250)).isEqualTo("-25.00%");
+  }
+
+  @Test
+  public void compareStatisticsShouldThrowExceptionWhenCategoryInstanceAndStatisticAreAllEmpty() {
+    assertThatThrownBy(() -> compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, null, null, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Either '--category', '--instance' or '--statistic' parameter should be specified.");
+    assertThatThrownBy(() -> compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, " ", "", " ", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Either '--category', '--instance' or '--statistic' parameter should be specified.");
+  }
+
+  @Test
+  public void compareStatisticsShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(candidateFile.toPath());
+    assertThatThrownBy(() -> compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, "VMStats", null, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void compareStatisticsShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.profileStatistics(eq(baselineFile.toPath()), any(), any())).thenReturn(new ArrayList<>());
+    when(statisticsService.profileStatistics(eq(candidateFile.toPath()), any(), any())).thenReturn(new ArrayList<>());
+    Object resultObject = compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, "VMStats", null, null, null);
+    assertThat((List<String>) resultObject).containsExactly("No baseline statistics files found.");
+
+    List<ParsingResult<Map<String, StatisticProfile>>> baselineResults = Collections.singletonList(new ParsingResult<>(MockUtils.mockPath("/samples/baseline/server.gfs", false), baselineProfiles));
+    when(statisticsService.profileStatistics(eq(baselineFile.toPath()), any(), any())).thenReturn(baselineResults);
+    resultObject = compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, "VMStats", null, null, null);
+    assertThat((List<String>) resultObject).containsExactly("No candidate statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void compareStatisticsShouldReturnNoMatchingResultsWhenNoStatisticsArePaired() {
+    List<ParsingResult<Map<String, StatisticProfile>>> parsingResults = Collections.singletonList(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyMap()));
+    when(statisticsService.profileStatistics(any(), any(), any())).thenReturn(parsingResults);
+    when(statisticsService.compareProfiles(any(), any())).thenReturn(Collections.emptyList());
+
+    Object resultObject = compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, "VMStats", null, null, null);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void compareStatisticsShouldReturnResultsAndErrorsTablesFromBothSets() {
+    mockParsingResults();
+    StatisticComparison comparison = new StatisticComparison("VMStats[vmStats].fdsOpen", baselineProfiles.get("VMStats[vmStats].fdsOpen"), candidateProfiles.get("VMStats[vmStats].fdsOpen"));
+    when(statisticsService.compareProfiles(any(), any())).thenReturn(Collections.singletonList(comparison));
+
+    List<Object> resultList = (List<Object>) compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.Second, false, "VMStats", null, "fdsOpen", null);
+    verify(statisticsService).profileStatistics(eq(baselineFile.toPath()), any(), eq(Statistic.Filter.Second));
+    verify(statisticsService).profileStatistics(eq(candidateFile.toPath()), any(), eq(Statistic.Filter.Second));
+    verify(statisticsService).compareProfiles(Collections.singletonList(baselineProfiles), Collections.singletonList(candidateProfiles));
+    assertThat(resultList.size()).isEqualTo(2);
+
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(8).columnCountIsEqualsTo(5);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("VMStats[vmStats].fdsOpen", "Baseline", "Candidate", "Delta", "Delta (%)");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("└──Minimum", "100.00", "100.00", "0.00", "0.00%");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("└──Maximum", "120.00", "160.00", "40.00", "33.33%");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("└──Average", "110.00", "130.00", "20.00", "18.18%");
+    TableAssert.assertThat(resultTable).row(4).isEqualTo("└──Standard Deviation", "10.00", "30.00", "20.00", "200.00%");
+    TableAssert.assertThat(resultTable).row(5).isEqualTo("└──50th Percentile", "110.00", "130.00", "20.00", "18.18%");
+    TableAssert.assertThat(resultTable).row(6).isEqualTo("└──95th Percentile", "119.00", "157.00", "38.00", "31.93%");
+    TableAssert.assertThat(resultTable).row(7).isEqualTo("└──99th Percentile", "119.80", "159.40", "39.60", "33.06%");
+
+    Table errorsTable = (Table) resultList.get(1);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo("/baseline/corrupted.gfs", "Mocked IOException.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void compareStatisticsShouldIgnoreEmptyStatisticsUnlessConfigured() {
+    mockParsingResults();
+    StatisticProfile emptyProfile = new StatisticProfile("", new double[] { 0, 0 });
+    StatisticComparison emptyComparison = new StatisticComparison("VMStats[vmStats].cpus", emptyProfile, emptyProfile);
+    StatisticComparison appearingComparison = new StatisticComparison("VMStats[vmStats].fdsOpen", emptyProfile, new StatisticProfile("", new double[] { 0, 5 }));
+    when(statisticsService.compareProfiles(any(), any())).thenReturn(Arrays.asList(emptyComparison, appearingComparison));
+
+    List<Object> resultList = (List<Object>) compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, "VMStats", null, null, null);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(8).columnCountIsEqualsTo(5);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("VMStats[vmStats].fdsOpen", "Baseline", "Candidate", "Delta", "Delta (%)");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("└──Minimum", "0.00", "0.00", "0.00", "0.00%");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("└──Maximum", "0.00", "5.00", "5.00", "N/A");
+
+    resultList = (List<Object>) compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, true, "VMStats", null, null, null);
+    resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(16).columnCountIsEqualsTo(5);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("VMStats[vmStats].cpus", "Baseline", "Candidate", "Delta", "Delta (%)");
+    TableAssert.assertThat(resultTable).row(8).isEqualTo("VMStats[vmStats].fdsOpen", "Baseline", "Candidate", "Delta", "Delta (%)");
+  }
+
+  @Test
+  @Parameters({ "true", "false" })
+  @SuppressWarnings("unchecked")
+  public void compareStatisticsShouldReturnExportResultMessageWhenExportFileIsSet(boolean exportSucceeds) throws IOException {
+    mockParsingResults();
+    StatisticComparison comparison = new StatisticComparison("VMStats[vmStats].fdsOpen", baselineProfiles.get("VMStats[vmStats].fdsOpen"), candidateProfiles.get("VMStats[vmStats].fdsOpen"));
+    when(statisticsService.compareProfiles(any(), any())).thenReturn(Collections.singletonList(comparison));
+    setExportServiceAnswer(exportSucceeds);
+
+    List<Object> resultList = (List<Object>) compareStatisticsCommand.compareStatistics(baselineFile, candidateFile, Statistic.Filter.None, false, "VMStats", null, null, mockedExportFile);
+    assertThat(resultList.size()).isEqualTo(3);
+    assertExportServiceResultMessageAndInvocation(resultList, exportSucceeds);
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ScanStatisticsAnomaliesCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ScanStatisticsAnomaliesCommand scanStatisticsAnomaliesCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return scanStatisticsAnomaliesCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    scanStatisticsAnomaliesCommand = new ScanStatisticsAnomaliesCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void getScoreShouldReturnTheRequestedScore() {
+    Anomaly anomaly = new Anomaly("VMStats[vmStats].threads", 0, 500, 40, 10);
+
+    assertThat(scanStatisticsAnomaliesCommand.getScore(anomaly, StatisticsService.AnomalyScore.ZScore)).isEqualTo(40);
+    assertThat(scanStatisticsAnomaliesCommand.getScore(anomaly, StatisticsService.AnomalyScore.MAD)).isEqualTo(10);
+  }
+
+  @Test
+  public void scanStatisticsAnomaliesShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> scanStatisticsAnomaliesCommand.scanStatisticsAnomalies(mockedFolderFile, null, null, null, StatisticsService.AnomalyScore.MAD, 60, 3.5, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void scanStatisticsAnomaliesShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.scanAnomalies(any(), any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(new ArrayList<>());
+
+    Object resultObject = scanStatisticsAnomaliesCommand.scanStatisticsAnomalies(mockedFolderFile, null, null, null, StatisticsService.AnomalyScore.MAD, 60, 3.5, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void scanStatisticsAnomaliesShouldReturnNoMatchingResultsWhenThereAreNoAnomalies() {
+    List<ParsingResult<List<Anomaly>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.scanAnomalies(any(), any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(parsingResults);
+
+    Object resultObject = scanStatisticsAnomaliesCommand.scanStatisticsAnomalies(mockedFolderFile, null, null, null, StatisticsService.AnomalyScore.MAD, 60, 3.5, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void scanStatisticsAnomaliesShouldSortAnomaliesFromAllFilesByTheRequestedScoreEvenWhenTheOtherOneDisagrees() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<Anomaly>>> parsingResults = new ArrayList<>();
+    // A single spike stands out for the Z-Score, a sustained drift for the MAD Score.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.singletonList(new Anomaly("VMStats[vmStats].threads", timeStamp, 500, 40, 10))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(new Anomaly("VMStats[vmStats].fdsOpen", timeStamp + 1000, 800, 5, 30))));
+    when(statisticsService.scanAnomalies(any(), any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> zScoreResult = (List<Object>) scanStatisticsAnomaliesCommand.scanStatisticsAnomalies(mockedFolderFile, null, null, null, StatisticsService.AnomalyScore.ZScore, 30, 5, 20, ZoneId.of("UTC"), null);
+    verify(statisticsService).scanAnomalies(any(), any(), eq(StatisticsService.AnomalyScore.ZScore), eq(30), eq(5.0), eq(20));
+    assertThat(zScoreResult.size()).isEqualTo(1);
+    Table zScoreTable = (Table) zScoreResult.get(0);
+    TableAssert.assertThat(zScoreTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(zScoreTable).row(0).isEqualTo("Statistic", "File", "Time[UTC]", "Value", "Z-Score", "MAD Score");
+    TableAssert.assertThat(zScoreTable).row(1).isEqualTo("VMStats[vmStats].threads", "/server.gfs", formatTime(10, 0, 0), "500.00", "40.00", "10.00");
+    TableAssert.assertThat(zScoreTable).row(2).isEqualTo("VMStats[vmStats].fdsOpen", "/locator.gfs", formatTime(10, 0, 1), "800.00", "5.00", "30.00");
+
+    List<Object> madResult = (List<Object>) scanStatisticsAnomaliesCommand.scanStatisticsAnomalies(mockedFolderFile, null, null, null, StatisticsService.AnomalyScore.MAD, 30, 5, 1, ZoneId.of("UTC"), null);
+    Table madTable = (Table) madResult.get(0);
+    TableAssert.assertThat(madTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(madTable).row(1).isEqualTo("VMStats[vmStats].fdsOpen", "/locator.gfs", formatTime(10, 0, 1), "800.00", "5.00", "30.00");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void scanStatisticsAnomaliesShouldListSalvagedFilesAfterTheAnomalies() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<Anomaly>>> parsingResults = new ArrayList<>();
+    // Counters decoded right after a damaged region can easily look anomalous.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/salvaged.gfs", false), Collections.singletonList(new Anomaly("VMStats[vmStats].threads", timeStamp, 500, 40, 10)), "Salvaged, 405 damaged bytes were skipped."));
+    when(statisticsService.scanAnomalies(any(), any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) scanStatisticsAnomaliesCommand.scanStatisticsAnomalies(mockedFolderFile, null, null, null, StatisticsService.AnomalyScore.MAD, 60, 3.5, 20, ZoneId.of("UTC"), null);
+    assertThat(resultList.size()).isEqualTo(2);
+    TableAssert.assertThat((Table) resultList.get(0)).rowCountIsEqualsTo(2).columnCountIsEqualsTo(6);
+    Table warningsTable = (Table) resultList.get(1);
+    TableAssert.assertThat(warningsTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(warningsTable).row(0).isEqualTo("File Name", "Warning Description");
+    TableAssert.assertThat(warningsTable).row(1).isEqualTo("/salvaged.gfs", "Salvaged, 405 damaged bytes were skipped.");
+  }
+}
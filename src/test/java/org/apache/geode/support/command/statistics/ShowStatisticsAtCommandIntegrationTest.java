@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.shell.MethodTarget;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.InteractiveShellApplicationRunner;
+import org.springframework.shell.jline.ScriptShellApplicationRunner;
+import org.springframework.shell.table.Table;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.geode.support.test.StatisticsSampleDataUtils;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.utils.FormatUtils;
+
+/**
+ * Currently there's no easy way of doing proper integration tests with spring-boot + spring-shell.
+ * See https://github.com/spring-projects/spring-shell/issues/204.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+    ScriptShellApplicationRunner.SPRING_SHELL_SCRIPT_ENABLED + "=false",
+    InteractiveShellApplicationRunner.SPRING_SHELL_INTERACTIVE_ENABLED + "=false",
+})
+public class ShowStatisticsAtCommandIntegrationTest {
+  @Autowired
+  public Shell shell;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+  @ClassRule
+  public static final SpringClassRule SPRING_CLASS_RULE = new SpringClassRule();
+
+  private String formatTime(int hour, int minutes, int seconds) {
+    return ZonedDateTime.of(2018, 3, 22, hour, minutes, seconds, 0, ZoneId.of("UTC")).format(FormatUtils.getDateTimeFormatter());
+  }
+
+  @Test
+  public void showStatisticsAtShouldGracefullyIntegrateWithSpringShell() {
+    MethodTarget methodTarget = shell.listCommands().get("show statistics at");
+
+    assertThat(methodTarget).isNotNull();
+    assertThat(methodTarget.getAvailability().isAvailable()).isTrue();
+    assertThat(methodTarget.getGroup()).isEqualTo("Statistics Commands");
+    assertThat(methodTarget.getHelp()).isEqualTo("Shows the value of the selected statistics on every member at, or nearest to, a given time. Files are decoded sequentially from the start up to the given time, which is then searched among the samples read.");
+    assertThat(methodTarget.getMethod()).isEqualTo(ReflectionUtils.findMethod(ShowStatisticsAtCommand.class, "showStatisticsAt", File.class, String.class, String.class, String.class, String.class, String.class, ZoneId.class, File.class));
+  }
+
+  @Test
+  public void showStatisticsAtShouldThrowExceptionWhenSourcePathDoesNotExist() {
+    Object commandResult = shell.evaluate(() -> "show statistics at --time 2018-03-22T15:00 --path /temp/mock");
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(IllegalArgumentException.class);
+    assertThat(((IllegalArgumentException) commandResult).getMessage()).isEqualTo("File /temp/mock does not exist.");
+  }
+
+  @Test
+  public void showStatisticsAtShouldReturnCorrectlyWhenNoFilesAreFound() throws IOException {
+    String command = "show statistics at --time 2018-03-22T15:00 --path " + temporaryFolder.newFolder("emptyFolder").getAbsolutePath();
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<String> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+    assertThat(resultList.get(0)).isEqualTo("No statistics files found.");
+  }
+
+  @Test
+  public void showStatisticsAtShouldReturnOnlyErrorsTableWhenParsingFailsForAllFiles() {
+    Path basePath = StatisticsSampleDataUtils.corruptedFolder.toPath();
+    Object commandResult = shell.evaluate(() -> "show statistics at --time 2018-03-22T15:00 --path " + basePath.toString());
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Errors Table.
+    Table errorsTable = resultList.get(0);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getRelativeFilePath(basePath), "Unexpected token byte value: 67");
+    TableAssert.assertThat(errorsTable).row(2).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getRelativeFilePath(basePath), "Not in GZIP format");
+  }
+
+  @Test
+  public void showStatisticsAtShouldReturnTheValuesNearestToTheTimeOnEveryMember() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    String command = "show statistics at"
+        + " --path " + basePath.toString()
+        + " --time 2018-03-22T15:16:59"
+        + " --category VMStats"
+        + " --statistic threads"
+        + " --timeZone UTC";
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table, the client had already finished.
+    Table resultsTable = resultList.get(0);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(7).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("Statistic", "File", "Sample Time[UTC]", "Value");
+    TableAssert.assertThat(resultsTable).row(1).isEqualTo("VMStats[vmStats].threads", StatisticsSampleDataUtils.SampleType.CLUSTER1_LOCATOR.getRelativeFilePath(basePath), formatTime(15, 16, 59), "67.00");
+    TableAssert.assertThat(resultsTable).row(2).isEqualTo("VMStats[vmStats].threads", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getRelativeFilePath(basePath), formatTime(15, 16, 59), "79.00");
+    TableAssert.assertThat(resultsTable).row(3).isEqualTo("VMStats[vmStats].threads", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getRelativeFilePath(basePath), formatTime(15, 16, 59), "83.00");
+    TableAssert.assertThat(resultsTable).row(4).isEqualTo("VMStats[vmStats].threads", StatisticsSampleDataUtils.SampleType.CLUSTER2_LOCATOR.getRelativeFilePath(basePath), formatTime(15, 16, 59), "70.00");
+    TableAssert.assertThat(resultsTable).row(5).isEqualTo("VMStats[vmStats].threads", StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER1.getRelativeFilePath(basePath), formatTime(15, 16, 58), "76.00");
+    TableAssert.assertThat(resultsTable).row(6).isEqualTo("VMStats[vmStats].threads", StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getRelativeFilePath(basePath), formatTime(15, 16, 59), "75.00");
+  }
+
+  @Test
+  public void showStatisticsAtShouldReturnNoMatchingResultsWhenNoMemberWasRunningAtTheTime() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    Object commandResult = shell.evaluate(() -> "show statistics at --path " + basePath.toString() + " --time 2018-03-22T12:00 --timeZone UTC");
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<String> resultList = (List) commandResult;
+    assertThat(resultList).containsExactly("No matching results found.");
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.SampledValue;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsAtCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsAtCommand showStatisticsAtCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsAtCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsAtCommand = new ShowStatisticsAtCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsAtShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "1m", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsAtShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "01/01/2018 10:00", null, null, null, "1m", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid date time '01/01/2018 10:00', expected format is yyyy-MM-ddTHH:mm[:ss].");
+    assertThatThrownBy(() -> showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "one minute", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid duration 'one minute', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "0s", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--tolerance' parameter should be positive.");
+    verify(statisticsService, times(0)).sampleValuesAt(any(), any(), anyLong(), anyLong());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsAtShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.sampleValuesAt(any(), any(), anyLong(), anyLong())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "1m", null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsAtShouldReturnNoMatchingResultsWhenThereAreNoValues() {
+    List<ParsingResult<List<SampledValue>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.sampleValuesAt(any(), any(), anyLong(), anyLong())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "1m", null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsAtShouldGroupValuesByStatisticAndSkipMembersWithoutSamplesWithinTolerance() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<SampledValue>>> parsingResults = new ArrayList<>();
+    // The locator only defines the threads statistic, the stopped member has no sample near the requested time.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new SampledValue("VMStats[vmStats].threads", "threads", timeStamp + 1000, 20))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/stopped.gfs", false), Collections.emptyList()));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new SampledValue("VMStats[vmStats].threads", "threads", timeStamp - 1000, 80),
+        new SampledValue("VMMemoryUsageStats[vmHeapMemoryStats].usedMemory", "bytes", timeStamp - 1000, 2048))));
+    when(statisticsService.sampleValuesAt(any(), any(), anyLong(), anyLong())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "30s", ZoneId.of("UTC"), null);
+    verify(statisticsService).sampleValuesAt(any(), any(), eq(timeStamp), eq(30000L));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Sample Time[UTC]", "Value");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMMemoryUsageStats[vmHeapMemoryStats].usedMemory", "/server.gfs", formatTime(9, 59, 59), "2048.00");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/locator.gfs", formatTime(10, 0, 1), "20.00");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMStats[vmStats].threads", "/server.gfs", formatTime(9, 59, 59), "80.00");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsAtShouldParseAndShowTimesInTheRequestedTimeZone() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 1, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<SampledValue>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.singletonList(
+        new SampledValue("VMStats[vmStats].threads", "threads", timeStamp + 500, 80))));
+    when(statisticsService.sampleValuesAt(any(), any(), anyLong(), anyLong())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsAtCommand.showStatisticsAt(mockedFolderFile, "2018-01-01T10:00", null, null, null, "500ms", ZoneId.of("Asia/Tokyo"), null);
+    verify(statisticsService).sampleValuesAt(any(), any(), eq(timeStamp), eq(500L));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Sample Time[Asia/Tokyo]", "Value");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].threads", "/server.gfs", formatTime(10, 0, 0), "80.00");
+  }
+}
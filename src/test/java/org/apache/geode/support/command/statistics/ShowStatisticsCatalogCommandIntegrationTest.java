@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.shell.MethodTarget;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.InteractiveShellApplicationRunner;
+import org.springframework.shell.jline.ScriptShellApplicationRunner;
+import org.springframework.shell.table.Table;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.geode.support.test.StatisticsSampleDataUtils;
+import org.apache.geode.support.test.assertj.TableAssert;
+
+/**
+ * Currently there's no easy way of doing proper integration tests with spring-boot + spring-shell.
+ * See https://github.com/spring-projects/spring-shell/issues/204.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+    ScriptShellApplicationRunner.SPRING_SHELL_SCRIPT_ENABLED + "=false",
+    InteractiveShellApplicationRunner.SPRING_SHELL_INTERACTIVE_ENABLED + "=false",
+})
+public class ShowStatisticsCatalogCommandIntegrationTest {
+  @Autowired
+  public Shell shell;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+  @ClassRule
+  public static final SpringClassRule SPRING_CLASS_RULE = new SpringClassRule();
+
+  @Test
+  public void showStatisticsCatalogShouldGracefullyIntegrateWithSpringShell() {
+    MethodTarget methodTarget = shell.listCommands().get("show statistics catalog");
+
+    assertThat(methodTarget).isNotNull();
+    assertThat(methodTarget.getAvailability().isAvailable()).isTrue();
+    assertThat(methodTarget.getGroup()).isEqualTo("Statistics Commands");
+    assertThat(methodTarget.getHelp()).isEqualTo("Shows the categories, instances and statistics available within the statistics files, without reading the sampled values.");
+    assertThat(methodTarget.getMethod()).isEqualTo(ReflectionUtils.findMethod(ShowStatisticsCatalogCommand.class, "showStatisticsCatalog", File.class, String.class, String.class, String.class, boolean.class, File.class));
+  }
+
+  @Test
+  public void showStatisticsCatalogShouldThrowExceptionWhenSourcePathDoesNotExist() {
+    Object commandResult = shell.evaluate(() -> "show statistics catalog --path /temp/mock");
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(IllegalArgumentException.class);
+    assertThat(((IllegalArgumentException) commandResult).getMessage()).isEqualTo("File /temp/mock does not exist.");
+  }
+
+  @Test
+  public void showStatisticsCatalogShouldReturnCorrectlyWhenNoFilesAreFound() throws IOException {
+    String command = "show statistics catalog --path " + temporaryFolder.newFolder("emptyFolder").getAbsolutePath();
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<String> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+    assertThat(resultList.get(0)).isEqualTo("No statistics files found.");
+  }
+
+  @Test
+  public void showStatisticsCatalogShouldReturnOnlyErrorsTableWhenParsingFailsForAllFiles() {
+    Path basePath = StatisticsSampleDataUtils.corruptedFolder.toPath();
+    Object commandResult = shell.evaluate(() -> "show statistics catalog --path " + basePath.toString());
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Errors Table.
+    Table errorsTable = resultList.get(0);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getRelativeFilePath(basePath), "Unexpected token byte value: 67");
+    TableAssert.assertThat(errorsTable).row(2).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getRelativeFilePath(basePath), "Not in GZIP format");
+  }
+
+  @Test
+  public void showStatisticsCatalogShouldReturnTheInstancesOfTheMatchingCategories() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    String command = "show statistics catalog"
+        + " --path " + basePath.toString()
+        + " --category GatewaySenderStatistics"
+        + " --showInstances true";
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table.
+    Table resultsTable = resultList.get(0);
+    String clusterOneServerOne = StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getRelativeFilePath(basePath);
+    String clusterTwoServerTwo = StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getRelativeFilePath(basePath);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(9).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("File", "Category", "Instances", "Statistics");
+    TableAssert.assertThat(resultsTable).row(1).isEqualTo(clusterOneServerOne, "GatewaySenderStatistics", "1", "29");
+    TableAssert.assertThat(resultsTable).row(2).isEqualTo(clusterOneServerOne, "└──gatewaySenderStats-DC1", "", "");
+    TableAssert.assertThat(resultsTable).row(7).isEqualTo(clusterTwoServerTwo, "GatewaySenderStatistics", "1", "28");
+    TableAssert.assertThat(resultsTable).row(8).isEqualTo(clusterTwoServerTwo, "└──gatewaySenderStats-DC2", "", "");
+  }
+
+  @Test
+  public void showStatisticsCatalogShouldReturnNoMatchingResultsWhenNoCategoryMatches() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    Object commandResult = shell.evaluate(() -> "show statistics catalog --path " + basePath.toString() + " --category UnknownStats");
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<String> resultList = (List) commandResult;
+    assertThat(resultList).containsExactly("No matching results found.");
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsCatalogCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsCatalogCommand showStatisticsCatalogCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsCatalogCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsCatalogCommand = new ShowStatisticsCatalogCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsCatalogShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, null, null, null, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCatalogShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.catalogStatistics(any(), anyList())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, null, null, null, false, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCatalogShouldReturnNoMatchingResultsWhenNoCategoriesAreFound() {
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.catalogStatistics(any(), anyList())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, "VMStats", null, null, false, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCatalogShouldUseFiltersOnlyWhenExplicitlySpecified() {
+    ArgumentCaptor<List<ValueFilter>> filtersCaptor = ArgumentCaptor.forClass(List.class);
+    when(statisticsService.catalogStatistics(any(), filtersCaptor.capture())).thenReturn(new ArrayList<>());
+
+    showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, null, null, null, false, null);
+    showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, "VMStats", null, "fds.*", false, null);
+    assertThat(filtersCaptor.getAllValues().get(0)).isEmpty();
+    assertThat(filtersCaptor.getAllValues().get(1).size()).isEqualTo(1);
+    assertThat(filtersCaptor.getAllValues().get(1).get(0)).isEqualTo(new RegexValueFilter("VMStats", null, "fds.*", null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCatalogShouldReturnCountsPerFileAndCategorySkippingFilesWithoutMatches() {
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new CatalogEntry("CachePerfStats", Arrays.asList("RegionStats-test", "cachePerfStats"), Arrays.asList("gets", "puts", "misses")),
+        new CatalogEntry("VMStats", Collections.singletonList("vmStats"), Arrays.asList("cpus", "fdsOpen")))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/client.gfs", false), Collections.emptyList()));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new CatalogEntry("VMStats", Collections.singletonList("vmStats"), Collections.singletonList("fdsOpen")))));
+    when(statisticsService.catalogStatistics(any(), anyList())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, null, null, null, false, null);
+    verify(statisticsService).catalogStatistics(any(), anyList());
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("File", "Category", "Instances", "Statistics");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("/server.gfs", "CachePerfStats", "2", "3");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("/server.gfs", "VMStats", "1", "2");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("/locator.gfs", "VMStats", "1", "1");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCatalogShouldListInstancesRightBelowTheirCategoryWhenRequested() {
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new CatalogEntry("CachePerfStats", Arrays.asList("RegionStats-test", "cachePerfStats"), Arrays.asList("gets", "puts", "misses")),
+        new CatalogEntry("VMStats", Collections.singletonList("vmStats"), Arrays.asList("cpus", "fdsOpen")))));
+    when(statisticsService.catalogStatistics(any(), anyList())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsCatalogCommand.showStatisticsCatalog(mockedFolderFile, null, null, null, true, null);
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(6).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("/server.gfs", "CachePerfStats", "2", "3");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("/server.gfs", "└──RegionStats-test", "", "");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("/server.gfs", "└──cachePerfStats", "", "");
+    TableAssert.assertThat(resultTable).row(4).isEqualTo("/server.gfs", "VMStats", "1", "2");
+    TableAssert.assertThat(resultTable).row(5).isEqualTo("/server.gfs", "└──vmStats", "", "");
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.shell.MethodTarget;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.InteractiveShellApplicationRunner;
+import org.springframework.shell.jline.ScriptShellApplicationRunner;
+import org.springframework.shell.table.Table;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.geode.support.test.StatisticsSampleDataUtils;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.utils.FormatUtils;
+
+/**
+ * Currently there's no easy way of doing proper integration tests with spring-boot + spring-shell.
+ * See https://github.com/spring-projects/spring-shell/issues/204.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+    ScriptShellApplicationRunner.SPRING_SHELL_SCRIPT_ENABLED + "=false",
+    InteractiveShellApplicationRunner.SPRING_SHELL_INTERACTIVE_ENABLED + "=false",
+})
+public class ShowStatisticsChangePointsCommandIntegrationTest {
+  @Autowired
+  public Shell shell;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+  @ClassRule
+  public static final SpringClassRule SPRING_CLASS_RULE = new SpringClassRule();
+
+  private String formatTime(int hour, int minutes, int seconds) {
+    return ZonedDateTime.of(2018, 3, 22, hour, minutes, seconds, 0, ZoneId.of("UTC")).format(FormatUtils.getDateTimeFormatter());
+  }
+
+  @Test
+  public void showStatisticsChangePointsShouldGracefullyIntegrateWithSpringShell() {
+    MethodTarget methodTarget = shell.listCommands().get("show statistics change-points");
+
+    assertThat(methodTarget).isNotNull();
+    assertThat(methodTarget.getAvailability().isAvailable()).isTrue();
+    assertThat(methodTarget.getGroup()).isEqualTo("Statistics Commands");
+    assertThat(methodTarget.getHelp()).isEqualTo("Shows the moments at which the level of the statistics shifted the most, along with the magnitude of the shift.");
+    assertThat(methodTarget.getMethod()).isEqualTo(ReflectionUtils.findMethod(ShowStatisticsChangePointsCommand.class, "showStatisticsChangePoints", File.class, String.class, String.class, String.class, int.class, double.class, int.class, ZoneId.class, File.class));
+  }
+
+  @Test
+  public void showStatisticsChangePointsShouldThrowExceptionWhenSourcePathDoesNotExist() {
+    Object commandResult = shell.evaluate(() -> "show statistics change-points --path /temp/mock");
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(IllegalArgumentException.class);
+    assertThat(((IllegalArgumentException) commandResult).getMessage()).isEqualTo("File /temp/mock does not exist.");
+  }
+
+  @Test
+  public void showStatisticsChangePointsShouldReturnCorrectlyWhenNoFilesAreFound() throws IOException {
+    String command = "show statistics change-points --path " + temporaryFolder.newFolder("emptyFolder").getAbsolutePath();
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isNotNull();
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<String> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+    assertThat(resultList.get(0)).isEqualTo("No statistics files found.");
+  }
+
+  @Test
+  public void showStatisticsChangePointsShouldReturnOnlyErrorsTableWhenParsingFailsForAllFiles() {
+    Path basePath = StatisticsSampleDataUtils.corruptedFolder.toPath();
+    Object commandResult = shell.evaluate(() -> "show statistics change-points --path " + basePath.toString());
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Errors Table.
+    Table errorsTable = resultList.get(0);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getRelativeFilePath(basePath), "Unexpected token byte value: 67");
+    TableAssert.assertThat(errorsTable).row(2).isEqualTo(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getRelativeFilePath(basePath), "Not in GZIP format");
+  }
+
+  @Test
+  public void showStatisticsChangePointsShouldReturnStrongestChangePointsSortedByScore() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    String command = "show statistics change-points"
+        + " --path " + basePath.toString()
+        + " --category VMStats"
+        + " --limit 5"
+        + " --timeZone UTC";
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table.
+    Table resultsTable = resultList.get(0);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(6).columnCountIsEqualsTo(7);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("Statistic", "File", "Time[UTC]", "Before", "After", "Magnitude", "Score");
+    TableAssert.assertThat(resultsTable).row(1).isEqualTo("VMStats[vmStats].peakThreads", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getRelativeFilePath(basePath), formatTime(14, 6, 52), "73.17", "89.99", "16.82", "0.77");
+    TableAssert.assertThat(resultsTable).row(2).isEqualTo("VMStats[vmStats].daemonThreads", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getRelativeFilePath(basePath), formatTime(14, 37, 0), "73.26", "69.52", "-3.74", "0.76");
+    TableAssert.assertThat(resultsTable).row(3).isEqualTo("VMStats[vmStats].fdsOpen", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getRelativeFilePath(basePath), formatTime(14, 6, 55), "102.82", "113.84", "11.02", "0.73");
+    TableAssert.assertThat(resultsTable).row(4).isEqualTo("VMStats[vmStats].peakThreads", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getRelativeFilePath(basePath), formatTime(14, 6, 52), "70.33", "84.00", "13.66", "0.70");
+    TableAssert.assertThat(resultsTable).row(5).isEqualTo("VMStats[vmStats].fdsOpen", StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getRelativeFilePath(basePath), formatTime(14, 6, 52), "102.43", "112.84", "10.40", "0.66");
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsChangePointsCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsChangePointsCommand showStatisticsChangePointsCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsChangePointsCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsChangePointsCommand = new ShowStatisticsChangePointsCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsChangePointsShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsChangePointsCommand.showStatisticsChangePoints(mockedFolderFile, null, null, null, 30, 0.5, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsChangePointsShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.detectChangePoints(any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsChangePointsCommand.showStatisticsChangePoints(mockedFolderFile, null, null, null, 30, 0.5, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsChangePointsShouldReturnNoMatchingResultsWhenThereAreNoChangePoints() {
+    List<ParsingResult<List<ChangePoint>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.detectChangePoints(any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsChangePointsCommand.showStatisticsChangePoints(mockedFolderFile, null, null, null, 30, 0.5, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsChangePointsShouldListEveryShiftOfTheSameStatisticWithSignedMagnitudes() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<ChangePoint>>> parsingResults = new ArrayList<>();
+    // Threads ramp up and later drop back, both shifts belong to the same statistic and file.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new ChangePoint("VMStats[vmStats].threads", timeStamp, 50, 80, 0.8),
+        new ChangePoint("VMStats[vmStats].threads", timeStamp + 60000, 80, 50, 0.9))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new ChangePoint("VMStats[vmStats].threads", timeStamp + 2000, 20, 10, 0.8))));
+    when(statisticsService.detectChangePoints(any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsChangePointsCommand.showStatisticsChangePoints(mockedFolderFile, null, null, null, 10, 0.6, 20, ZoneId.of("UTC"), null);
+    verify(statisticsService).detectChangePoints(any(), any(), eq(10), eq(0.6), eq(20));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(7);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Time[UTC]", "Before", "After", "Magnitude", "Score");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].threads", "/server.gfs", formatTime(10, 1, 0), "80.00", "50.00", "-30.00", "0.90");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/locator.gfs", formatTime(10, 0, 2), "20.00", "10.00", "-10.00", "0.80");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMStats[vmStats].threads", "/server.gfs", formatTime(10, 0, 0), "50.00", "80.00", "30.00", "0.80");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsChangePointsShouldFormatTimeStampsInTheRequestedTimeZone() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<ChangePoint>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.singletonList(
+        new ChangePoint("DistributionStats[distributionStats].replyWaitsInProgress", timeStamp, 0, 12, 0.7))));
+    when(statisticsService.detectChangePoints(any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsChangePointsCommand.showStatisticsChangePoints(mockedFolderFile, null, null, null, 30, 0.5, 1, ZoneId.of("Asia/Tokyo"), null);
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(7);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Time[Asia/Tokyo]", "Before", "After", "Magnitude", "Score");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("DistributionStats[distributionStats].replyWaitsInProgress", "/server.gfs", formatTime(19, 0, 0), "0.00", "12.00", "12.00", "0.70");
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsClockSkewCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsClockSkewCommand showStatisticsClockSkewCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsClockSkewCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsClockSkewCommand = new ShowStatisticsClockSkewCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsClockSkewShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsClockSkewCommand.showStatisticsClockSkew(mockedFolderFile, "DistributionStats", null, "nodes", "5m", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsClockSkewShouldThrowExceptionWhenMaximumSkewIsInvalid() {
+    assertThatThrownBy(() -> showStatisticsClockSkewCommand.showStatisticsClockSkew(mockedFolderFile, "DistributionStats", null, "nodes", "five minutes", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid duration 'five minutes', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> showStatisticsClockSkewCommand.showStatisticsClockSkew(mockedFolderFile, "DistributionStats", null, "nodes", "0s", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--maxSkew' parameter should be positive.");
+    verify(statisticsService, times(0)).estimateClockSkews(any(), any(), anyLong());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsClockSkewShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.estimateClockSkews(any(), any(), anyLong())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsClockSkewCommand.showStatisticsClockSkew(mockedFolderFile, "DistributionStats", null, "nodes", "5m", null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsClockSkewShouldReturnOneRowPerFile() {
+    List<ParsingResult<ClockSkew>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/client.gfs", false), new ClockSkew(0, 0, 0, false)));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/corrupted.gfs", false), new IOException("Mocked IOException.")));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), new ClockSkew(0, 4, 4, true)));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), new ClockSkew(-1250, 3, 2, false)));
+    when(statisticsService.estimateClockSkews(any(), anyList(), anyLong())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsClockSkewCommand.showStatisticsClockSkew(mockedFolderFile, "DistributionStats", null, "nodes", "2m", null);
+    verify(statisticsService).estimateClockSkews(any(), anyList(), eq(120000L));
+    assertThat(resultList.size()).isEqualTo(2);
+
+    // Results Table.
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("File", "Events", "Matched Events", "Offset (ms)");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("/client.gfs", "0", "0", "N/A");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("/locator.gfs", "4", "4", "Reference");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("/server.gfs", "3", "2", "-1250");
+
+    // Errors Table.
+    Table errorsTable = (Table) resultList.get(1);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo("/corrupted.gfs", "Mocked IOException.");
+  }
+}
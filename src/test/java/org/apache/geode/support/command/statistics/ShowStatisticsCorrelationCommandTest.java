@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.service.statistics.internal.Correlator;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsCorrelationCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private ExecutorService executorService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsCorrelationCommand showStatisticsCorrelationCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsCorrelationCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    executorService = Executors.newSingleThreadExecutor();
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsCorrelationCommand = new ShowStatisticsCorrelationCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private Statistic mockStatistic(String name, double... values) {
+    long[] timeStamps = new long[values.length];
+    for (int i = 0; i < values.length; i++) timeStamps[i] = (i + 1) * 1000;
+
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getName()).thenReturn(name);
+    when(statistic.getRawSeries()).thenReturn(new Series(timeStamps, values));
+    when(statistic.getMinimum()).thenReturn(Arrays.stream(values).min().orElse(0));
+    when(statistic.getMaximum()).thenReturn(Arrays.stream(values).max().orElse(0));
+
+    return statistic;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ParsingResult<Sampling>> mockParsingResults(Map<Statistic, double[]> resampledValues, Statistic target, Statistic... candidates) {
+    Category targetCategory = new Category("DistributionStats[distributionStats]", "Statistics on the distribution manager.");
+    targetCategory.addStatistic(target);
+    Category candidatesCategory = new Category("VMStats[vmStats]", "Stats available on a 1.5 java virtual machine.");
+    Arrays.stream(candidates).forEach(candidatesCategory::addStatistic);
+
+    Map<String, Category> categories = new HashMap<>();
+    categories.put(targetCategory.getName(), targetCategory);
+    categories.put(candidatesCategory.getName(), candidatesCategory);
+
+    // The resampled values are the raw ones, the time grid is tested elsewhere.
+    resampledValues.put(target, target.getRawSeries().getValues());
+    Arrays.stream(candidates).forEach(candidate -> resampledValues.put(candidate, candidate.getRawSeries().getValues()));
+    when(statisticsService.resample(any(), anyLong(), anyLong(), anyInt())).thenAnswer(invocation ->
+        ((List<Statistic>) invocation.getArgument(0)).stream().map(resampledValues::get).toArray(double[][]::new));
+    when(statisticsService.correlate(any(), any(), any())).thenAnswer(invocation ->
+        new Correlator(executorService, invocation.getArgument(2)).correlate(invocation.getArgument(0), invocation.getArgument(1)));
+
+    Sampling sampling = new Sampling(mock(SamplingMetadata.class), categories);
+    return new ArrayList<>(Collections.singletonList(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), sampling)));
+  }
+
+  @Test
+  public void matchesShouldUseTypeAndInstanceFromCategoryName() {
+    ValueFilter filter = new RegexValueFilter("VMStats", "vmStats", "fds.*", null);
+
+    assertThat(showStatisticsCorrelationCommand.matches(filter, "VMStats[vmStats]", "fdsOpen")).isTrue();
+    assertThat(showStatisticsCorrelationCommand.matches(filter, "VMStats[vmStats]", "threads")).isFalse();
+    assertThat(showStatisticsCorrelationCommand.matches(filter, "VMStats[other]", "fdsOpen")).isFalse();
+    assertThat(showStatisticsCorrelationCommand.matches(filter, "StatSampler[statSampler]", "fdsOpen")).isFalse();
+    assertThat(showStatisticsCorrelationCommand.matches(new RegexValueFilter(null, null, "fdsOpen", null), "VMStats", "fdsOpen")).isTrue();
+  }
+
+  @Test
+  public void sumTargetsShouldIgnoreMissingValues() {
+    double[][] targets = new double[][] { { 1, Double.NaN, 3, Double.NaN }, { 10, 20, Double.NaN, Double.NaN } };
+
+    assertThat(showStatisticsCorrelationCommand.sumTargets(targets, 4)).containsExactly(11, 20, 3, Double.NaN);
+  }
+
+  @Test
+  public void hasEnoughCoverageShouldReturnFalseWhenMostValuesAreMissing() {
+    assertThat(showStatisticsCorrelationCommand.hasEnoughCoverage(new double[] { 1, 2, Double.NaN, Double.NaN })).isTrue();
+    assertThat(showStatisticsCorrelationCommand.hasEnoughCoverage(new double[] { 1, Double.NaN, Double.NaN, Double.NaN })).isFalse();
+  }
+
+  @Test
+  @Parameters({ "", " " })
+  public void showStatisticsCorrelationShouldThrowExceptionWhenTargetIsBlank(String targetId) {
+    assertThatThrownBy(() -> showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, targetId, null, null, null, null, StatisticsService.CorrelationMethod.Pearson, 10, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--target' parameter should be specified.");
+  }
+
+  @Test
+  public void showStatisticsCorrelationShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, StatisticsService.CorrelationMethod.Pearson, 10, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCorrelationShouldParseTargetsAndCandidatesInASinglePass() {
+    when(statisticsService.parseSampling(any(), any())).thenReturn(Collections.emptyList());
+
+    Object resultObject = showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", "DistributionStats", "VMStats", "vmStats", "threads", StatisticsService.CorrelationMethod.Pearson, 10, false, null);
+    ArgumentCaptor<List> filtersCaptor = ArgumentCaptor.forClass(List.class);
+    verify(statisticsService).parseSampling(any(), filtersCaptor.capture());
+    List<ValueFilter> filters = filtersCaptor.getValue();
+    assertThat(filters.size()).isEqualTo(2);
+    assertThat(filters.get(0).typeMatches("DistributionStats")).isTrue();
+    assertThat(filters.get(0).statMatches("replyWaitsInProgress")).isTrue();
+    assertThat(filters.get(1).typeMatches("VMStats")).isTrue();
+    assertThat(filters.get(1).statMatches("threads")).isTrue();
+
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCorrelationShouldReturnNoMatchingResultsWhenThereAreNoCandidates() {
+    Statistic target = mockStatistic("replyWaitsInProgress", 1, 2, 3, 4);
+    Statistic constant = mockStatistic("fdLimit", 5, 5, 5, 5);
+    List<ParsingResult<Sampling>> parsingResults = mockParsingResults(new IdentityHashMap<>(), target, constant);
+    when(statisticsService.parseSampling(any(), any())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, StatisticsService.CorrelationMethod.Pearson, 10, false, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsCorrelationShouldSortResultsByTheRequestedCoefficient() {
+    Statistic target = mockStatistic("replyWaitsInProgress", 1, 2, 3, 4);
+    Statistic outlier = mockStatistic("threads", 1, 2, 3, 100);
+    Statistic linear = mockStatistic("fdsOpen", 1, 2, 4, 3.5);
+    Statistic sparse = mockStatistic("processCpuTime", Double.NaN, Double.NaN, Double.NaN, 1);
+    List<ParsingResult<Sampling>> parsingResults = mockParsingResults(new IdentityHashMap<>(), target, outlier, linear, sparse);
+    when(statisticsService.parseSampling(any(), any())).thenReturn(parsingResults);
+
+    List<Table> pearsonResults = (List<Table>) showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, StatisticsService.CorrelationMethod.Pearson, 10, false, null);
+    assertThat(pearsonResults.size()).isEqualTo(1);
+    TableAssert.assertThat(pearsonResults.get(0)).rowCountIsEqualsTo(3).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(pearsonResults.get(0)).row(0).isEqualTo("Statistic", "File", "Pearson", "Spearman");
+    TableAssert.assertThat(pearsonResults.get(0)).row(1).isEqualTo("VMStats[vmStats].fdsOpen", "/server.gfs", "0.89", "0.80");
+    TableAssert.assertThat(pearsonResults.get(0)).row(2).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "0.79", "1.00");
+
+    List<Table> spearmanResults = (List<Table>) showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, StatisticsService.CorrelationMethod.Spearman, 1, false, null);
+    assertThat(spearmanResults.size()).isEqualTo(1);
+    TableAssert.assertThat(spearmanResults.get(0)).rowCountIsEqualsTo(2).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(spearmanResults.get(0)).row(1).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "0.79", "1.00");
+  }
+
+  @Test
+  public void alignClocksShouldApplyTheEstimatedOffsetsToTheMatchingSamplings() {
+    Path referencePath = MockUtils.mockPath("/samples/locator.gfs", false);
+    Path skewedPath = MockUtils.mockPath("/samples/server1.gfs", false);
+    Path unmatchedPath = MockUtils.mockPath("/samples/server2.gfs", false);
+    Sampling referenceSampling = mock(Sampling.class);
+    Sampling skewedSampling = mock(Sampling.class);
+    Sampling unmatchedSampling = mock(Sampling.class);
+    List<ParsingResult<Sampling>> parsingResults = Arrays.asList(new ParsingResult<>(referencePath, referenceSampling), new ParsingResult<>(skewedPath, skewedSampling), new ParsingResult<>(unmatchedPath, unmatchedSampling));
+    List<ParsingResult<ClockSkew>> clockSkews = Arrays.asList(
+        new ParsingResult<>(referencePath, new ClockSkew(0, 3, 3, true)),
+        new ParsingResult<>(skewedPath, new ClockSkew(-250, 2, 2, false)),
+        new ParsingResult<>(unmatchedPath, new ClockSkew(0, 1, 0, false)));
+    when(statisticsService.estimateClockSkews(any(), any(), anyLong())).thenReturn(clockSkews);
+
+    showStatisticsCorrelationCommand.alignClocks(mockedFolderFile.toPath(), parsingResults);
+    verify(statisticsService).estimateClockSkews(any(), any(), eq(300000L));
+    verify(referenceSampling).setTimeOffset(0);
+    verify(skewedSampling).setTimeOffset(-250);
+    verify(unmatchedSampling, never()).setTimeOffset(anyLong());
+  }
+
+  @Test
+  public void showStatisticsCorrelationShouldAlignClocksOnlyWhenRequested() {
+    Statistic target = mockStatistic("replyWaitsInProgress", 1, 2, 3, 4);
+    Statistic linear = mockStatistic("fdsOpen", 1, 2, 4, 3.5);
+    List<ParsingResult<Sampling>> parsingResults = mockParsingResults(new IdentityHashMap<>(), target, linear);
+    when(statisticsService.parseSampling(any(), any())).thenReturn(parsingResults);
+    when(statisticsService.estimateClockSkews(any(), any(), anyLong())).thenReturn(new ArrayList<>());
+
+    showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, StatisticsService.CorrelationMethod.Pearson, 10, false, null);
+    verify(statisticsService, never()).estimateClockSkews(any(), any(), anyLong());
+
+    showStatisticsCorrelationCommand.showStatisticsCorrelation(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, StatisticsService.CorrelationMethod.Pearson, 10, true, null);
+    verify(statisticsService).estimateClockSkews(any(), any(), anyLong());
+  }
+}
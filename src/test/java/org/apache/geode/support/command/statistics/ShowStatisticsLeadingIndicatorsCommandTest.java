@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.TimeGrid;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.service.statistics.internal.LagCorrelator;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsLeadingIndicatorsCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private ExecutorService executorService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsLeadingIndicatorsCommand showStatisticsLeadingIndicatorsCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsLeadingIndicatorsCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    executorService = Executors.newSingleThreadExecutor();
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsLeadingIndicatorsCommand = new ShowStatisticsLeadingIndicatorsCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private Statistic mockStatistic(String name, double... values) {
+    long[] timeStamps = new long[values.length];
+    for (int i = 0; i < values.length; i++) timeStamps[i] = (i + 1) * 1000;
+
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getName()).thenReturn(name);
+    when(statistic.getRawSeries()).thenReturn(new Series(timeStamps, values));
+    when(statistic.getMinimum()).thenReturn(Arrays.stream(values).min().orElse(0));
+    when(statistic.getMaximum()).thenReturn(Arrays.stream(values).max().orElse(0));
+
+    return statistic;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ParsingResult<Sampling>> mockParsingResults(Statistic target, Statistic... candidates) {
+    Category targetCategory = new Category("DistributionStats[distributionStats]", "Statistics on the distribution manager.");
+    targetCategory.addStatistic(target);
+    Category candidatesCategory = new Category("VMStats[vmStats]", "Stats available on a 1.5 java virtual machine.");
+    Arrays.stream(candidates).forEach(candidatesCategory::addStatistic);
+
+    Map<String, Category> categories = new HashMap<>();
+    categories.put(targetCategory.getName(), targetCategory);
+    categories.put(candidatesCategory.getName(), candidatesCategory);
+
+    // The resampled values are the raw ones, the time grid is tested elsewhere.
+    Map<Statistic, double[]> resampledValues = new IdentityHashMap<>();
+    resampledValues.put(target, target.getRawSeries().getValues());
+    Arrays.stream(candidates).forEach(candidate -> resampledValues.put(candidate, candidate.getRawSeries().getValues()));
+    when(statisticsService.resample(any(), anyLong(), anyLong(), anyInt())).thenAnswer(invocation ->
+        ((List<Statistic>) invocation.getArgument(0)).stream().map(resampledValues::get).toArray(double[][]::new));
+    when(statisticsService.crossCorrelate(any(), any(), anyInt())).thenAnswer(invocation ->
+        new LagCorrelator(executorService, invocation.getArgument(2)).correlate(invocation.getArgument(0), invocation.getArgument(1)));
+
+    Sampling sampling = new Sampling(mock(SamplingMetadata.class), categories);
+    return new ArrayList<>(Collections.singletonList(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), sampling)));
+  }
+
+  @Test
+  public void getTimeGridShouldKeepEnoughPointsWithinTheMaximumLag() {
+    // One day sampled every second.
+    Statistic target = mock(Statistic.class);
+    when(target.getRawSeries()).thenReturn(new Series(new long[] { 0, 86_400_000 }, new double[] { 0, 1 }));
+
+    // Coarse enough already.
+    TimeGrid timeGrid = showStatisticsLeadingIndicatorsCommand.getTimeGrid(Collections.singletonList(target), 3600);
+    assertThat(timeGrid.getStep()).isEqualTo(86_487);
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(3600, timeGrid)).isEqualTo(41);
+
+    // Step sized from the maximum lag.
+    timeGrid = showStatisticsLeadingIndicatorsCommand.getTimeGrid(Collections.singletonList(target), 300);
+    assertThat(timeGrid.getStep()).isEqualTo(10_000);
+    assertThat(timeGrid.getPoints()).isEqualTo(8641);
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(300, timeGrid)).isEqualTo(30);
+
+    // Bounded amount of points.
+    timeGrid = showStatisticsLeadingIndicatorsCommand.getTimeGrid(Collections.singletonList(target), 30);
+    assertThat(timeGrid.getStep()).isEqualTo(2637);
+    assertThat(timeGrid.getPoints()).isLessThanOrEqualTo(ShowStatisticsLeadingIndicatorsCommand.MAXIMUM_LAG_GRID_POINTS);
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(30, timeGrid)).isEqualTo(11);
+  }
+
+  @Test
+  public void getMaximumLagPointsShouldRoundDownAndHonourTimeGridSize() {
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(10, new TimeGrid(0, 1000, 100))).isEqualTo(10);
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(10, new TimeGrid(0, 3000, 100))).isEqualTo(3);
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(300, new TimeGrid(0, 1000, 100))).isEqualTo(99);
+    assertThat(showStatisticsLeadingIndicatorsCommand.getMaximumLagPoints(300, new TimeGrid(0, 1000, 0))).isEqualTo(0);
+  }
+
+  @Test
+  @Parameters({ "", " " })
+  public void showStatisticsLeadingIndicatorsShouldThrowExceptionWhenTargetIsBlank(String targetId) {
+    assertThatThrownBy(() -> showStatisticsLeadingIndicatorsCommand.showStatisticsLeadingIndicators(mockedFolderFile, targetId, null, null, null, null, 300, 10, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--target' parameter should be specified.");
+  }
+
+  @Test
+  public void showStatisticsLeadingIndicatorsShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsLeadingIndicatorsCommand.showStatisticsLeadingIndicators(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, 300, 10, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsLeadingIndicatorsShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.parseSampling(any(), any())).thenReturn(Collections.emptyList());
+
+    Object resultObject = showStatisticsLeadingIndicatorsCommand.showStatisticsLeadingIndicators(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, 300, 10, false, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsLeadingIndicatorsShouldReturnNoMatchingResultsWhenThereAreNoCandidates() {
+    Statistic target = mockStatistic("replyWaitsInProgress", 0, 0, 0, 1, 0, 0, 0, 0);
+    Statistic constant = mockStatistic("fdLimit", 5, 5, 5, 5, 5, 5, 5, 5);
+    when(statisticsService.parseSampling(any(), any())).thenReturn(mockParsingResults(target, constant));
+
+    Object resultObject = showStatisticsLeadingIndicatorsCommand.showStatisticsLeadingIndicators(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, 300, 10, false, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsLeadingIndicatorsShouldReturnStrongestLagSortedByCoefficient() {
+    Statistic target = mockStatistic("replyWaitsInProgress", 0, 0, 0, 1, 0, 0, 0, 0);
+    Statistic leader = mockStatistic("threads", 0, 1, 0, 0, 0, 0, 0, 0);
+    Statistic follower = mockStatistic("fdsOpen", 0, 0, 0, 0, 1, 0, 0, 0);
+    Statistic unrelated = mockStatistic("processCpuTime", 0, 0, 0, 0, 0, 0, 0, 1);
+    when(statisticsService.parseSampling(any(), any())).thenReturn(mockParsingResults(target, leader, follower, unrelated));
+
+    List<Table> resultList = (List<Table>) showStatisticsLeadingIndicatorsCommand.showStatisticsLeadingIndicators(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, 3, 10, false, null);
+    verify(statisticsService).crossCorrelate(any(), any(), eq(3));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Lag (Seconds)", "Coefficient");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].fdsOpen", "/server.gfs", "-1.00", "0.98");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "2.00", "0.96");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMStats[vmStats].processCpuTime", "/server.gfs", "-3.00", "-0.20");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsLeadingIndicatorsShouldNotReportLagsBeyondTheMaximumLag() {
+    Statistic target = mockStatistic("replyWaitsInProgress", 0, 0, 0, 1, 0, 0, 0, 0);
+    Statistic leader = mockStatistic("threads", 0, 1, 0, 0, 0, 0, 0, 0);
+    Statistic follower = mockStatistic("fdsOpen", 0, 0, 0, 0, 1, 0, 0, 0);
+    when(statisticsService.parseSampling(any(), any())).thenReturn(mockParsingResults(target, leader, follower));
+
+    // The leader is two seconds ahead, out of reach when lagging one second at most.
+    List<Table> resultList = (List<Table>) showStatisticsLeadingIndicatorsCommand.showStatisticsLeadingIndicators(mockedFolderFile, "replyWaitsInProgress", null, null, null, null, 1, 10, false, null);
+    verify(statisticsService).crossCorrelate(any(), any(), eq(1));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].fdsOpen", "/server.gfs", "-1.00", "0.98");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "-1.00", "-0.16");
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Pause;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsPausesCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsPausesCommand showStatisticsPausesCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsPausesCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsPausesCommand = new ShowStatisticsPausesCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsPausesShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "2s", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsPausesShouldThrowExceptionWhenThresholdIsInvalid() {
+    assertThatThrownBy(() -> showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "two seconds", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid duration 'two seconds', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "0ms", null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--threshold' parameter should be positive.");
+    verify(statisticsService, times(0)).detectPauses(any(), anyLong());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsPausesShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.detectPauses(any(), anyLong())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "2s", null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsPausesShouldReturnNoMatchingResultsWhenThereAreNoPauses() {
+    List<ParsingResult<List<Pause>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.detectPauses(any(), anyLong())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "2s", null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsPausesShouldGroupPausesByFileAndSortThemByStartTime() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<Pause>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(new Pause(timeStamp + 60000, timeStamp + 65500), new Pause(timeStamp, timeStamp + 1500))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/idle.gfs", false), Collections.emptyList()));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(new Pause(timeStamp + 30000, timeStamp + 32250))));
+    when(statisticsService.detectPauses(any(), anyLong())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "1500ms", ZoneId.of("UTC"), null);
+    verify(statisticsService).detectPauses(any(), eq(1500L));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(4);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("File", "Start Time[UTC]", "End Time[UTC]", "Duration (s)");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("/server.gfs", formatTime(10, 0, 0), formatTime(10, 0, 1), "1.50");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("/server.gfs", formatTime(10, 1, 0), formatTime(10, 1, 5), "5.50");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("/locator.gfs", formatTime(10, 0, 30), formatTime(10, 0, 32), "2.25");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsPausesShouldReportSalvagedFilesEvenWhenNoPausesAreFound() {
+    List<ParsingResult<List<Pause>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/salvaged.gfs", false), Collections.emptyList(), "Salvaged, 405 damaged bytes were skipped."));
+    when(statisticsService.detectPauses(any(), anyLong())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsPausesCommand.showStatisticsPauses(mockedFolderFile, "2s", ZoneId.of("UTC"), null);
+    assertThat(resultList.size()).isEqualTo(1);
+    Table warningsTable = (Table) resultList.get(0);
+    TableAssert.assertThat(warningsTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(warningsTable).row(0).isEqualTo("File Name", "Warning Description");
+    TableAssert.assertThat(warningsTable).row(1).isEqualTo("/salvaged.gfs", "Salvaged, 405 damaged bytes were skipped.");
+  }
+}
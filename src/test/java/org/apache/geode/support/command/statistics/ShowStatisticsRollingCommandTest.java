@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.RollingSummary;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsRollingCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsRollingCommand showStatisticsRollingCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsRollingCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsRollingCommand = new ShowStatisticsRollingCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsRollingShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Avg, "1m", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsRollingShouldThrowExceptionWhenWindowIsInvalid() {
+    assertThatThrownBy(() -> showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Avg, "one minute", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid duration 'one minute', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Avg, "0s", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--window' parameter should be positive.");
+    verify(statisticsService, times(0)).rollStatistics(any(), any(), any(), anyLong(), anyInt());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsRollingShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.rollStatistics(any(), any(), any(), anyLong(), anyInt())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Avg, "1m", null, null, null, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsRollingShouldReturnNoMatchingResultsWhenThereAreNoFullWindows() {
+    List<ParsingResult<List<RollingSummary>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.rollStatistics(any(), any(), any(), anyLong(), anyInt())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Avg, "1m", null, null, null, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsRollingShouldSortResultsByHighestWindowIncludingNegativeAndFlatOnes() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<RollingSummary>>> parsingResults = new ArrayList<>();
+    // A constant statistic has a single window value, reached first at the same time stamp.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new RollingSummary("VMStats[vmStats].threads", timeStamp, 80, timeStamp, 80),
+        new RollingSummary("VMStats[vmStats].freeMemory", timeStamp + 3000, -5, timeStamp + 2000, -40))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new RollingSummary("VMStats[vmStats].threads", timeStamp + 4000, 80, timeStamp + 5000, 20))));
+    when(statisticsService.rollStatistics(any(), any(), any(), anyLong(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Min, "5m", null, null, null, 20, ZoneId.of("UTC"), null);
+    verify(statisticsService).rollStatistics(any(), any(), eq(StatisticsService.RollingFunction.Min), eq(300000L), eq(20));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Highest", "Highest Time[UTC]", "Lowest", "Lowest Time[UTC]");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].threads", "/locator.gfs", "80.00", formatTime(10, 0, 4), "20.00", formatTime(10, 0, 5));
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "80.00", formatTime(10, 0, 0), "80.00", formatTime(10, 0, 0));
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMStats[vmStats].freeMemory", "/server.gfs", "-5.00", formatTime(10, 0, 3), "-40.00", formatTime(10, 0, 2));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsRollingShouldConvertTheWindowToMillisecondsAndFormatTimeStampsInTheRequestedTimeZone() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+    List<ParsingResult<List<RollingSummary>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.singletonList(
+        new RollingSummary("DistributionStats[distributionStats].replyWaitsInProgress", timeStamp, 12, timeStamp + 90000, 0))));
+    when(statisticsService.rollStatistics(any(), any(), any(), anyLong(), anyInt())).thenReturn(parsingResults);
+
+    // Window lengths without unit are expressed in seconds.
+    List<Object> resultList = (List<Object>) showStatisticsRollingCommand.showStatisticsRolling(mockedFolderFile, StatisticsService.RollingFunction.Avg, "90", null, null, null, 1, ZoneId.of("Asia/Tokyo"), null);
+    verify(statisticsService).rollStatistics(any(), any(), eq(StatisticsService.RollingFunction.Avg), eq(90000L), eq(1));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Highest", "Highest Time[Asia/Tokyo]", "Lowest", "Lowest Time[Asia/Tokyo]");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("DistributionStats[distributionStats].replyWaitsInProgress", "/server.gfs", "12.00", formatTime(19, 0, 0), "0.00", formatTime(19, 1, 30));
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsShiftCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsShiftCommand showStatisticsShiftCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsShiftCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsShiftCommand = new ShowStatisticsShiftCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsShiftShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00", "10m", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsShiftShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "01/01/2018 10:00", "10m", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid date time '01/01/2018 10:00', expected format is yyyy-MM-ddTHH:mm[:ss].");
+    assertThatThrownBy(() -> showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00", "ten minutes", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid duration 'ten minutes', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00", "0m", null, null, null, 20, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--window' parameter should be positive.");
+    verify(statisticsService, times(0)).compareDistributions(any(), any(), anyLong(), anyLong(), anyInt());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsShiftShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.compareDistributions(any(), any(), anyLong(), anyLong(), anyInt())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00", "10m", null, null, null, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsShiftShouldReturnNoMatchingResultsWhenThereAreNoShifts() {
+    List<ParsingResult<List<DistributionShift>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.compareDistributions(any(), any(), anyLong(), anyLong(), anyInt())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00", "10m", null, null, null, 20, null, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsShiftShouldBreakKolmogorovSmirnovTiesByTheAbsoluteMeanShift() {
+    List<ParsingResult<List<DistributionShift>>> parsingResults = new ArrayList<>();
+    // Fully separated windows always score 1, the size of the shift is what tells them apart.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new DistributionShift("VMStats[vmStats].threads", 50, 60, 1.0),
+        new DistributionShift("VMStats[vmStats].fdsOpen", 100, 90, 0.6))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new DistributionShift("VMStats[vmStats].threads", 80, 20, 1.0))));
+    when(statisticsService.compareDistributions(any(), any(), anyLong(), anyLong(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00", "5m", null, null, null, 20, ZoneId.of("UTC"), null);
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Mean Before", "Mean After", "Mean Shift", "KS Statistic");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].threads", "/locator.gfs", "80.00", "20.00", "-60.00", "1.00");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "50.00", "60.00", "10.00", "1.00");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMStats[vmStats].fdsOpen", "/server.gfs", "100.00", "90.00", "-10.00", "0.60");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsShiftShouldParseTheTimeInTheRequestedTimeZoneAndTheWindowInMilliseconds() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 1, 0, 30, ZoneId.of("UTC"));
+    List<ParsingResult<List<DistributionShift>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.singletonList(
+        new DistributionShift("VMStats[vmStats].threads", 50, 80, 1.0))));
+    when(statisticsService.compareDistributions(any(), any(), anyLong(), anyLong(), anyInt())).thenReturn(parsingResults);
+
+    showStatisticsShiftCommand.showStatisticsShift(mockedFolderFile, "2018-01-01T10:00:30", "1500ms", null, null, null, 1, ZoneId.of("Asia/Tokyo"), null);
+    verify(statisticsService).compareDistributions(any(), any(), eq(timeStamp), eq(1500L), eq(1));
+  }
+}
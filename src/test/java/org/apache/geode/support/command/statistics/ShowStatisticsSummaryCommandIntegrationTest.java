@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 
 import junitparams.JUnitParamsRunner;
@@ -45,6 +46,7 @@ import org.springframework.test.context.junit4.rules.SpringMethodRule;
 import org.springframework.util.ReflectionUtils;
 
 import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.service.StatisticsService;
 import org.apache.geode.support.service.TableExportService;
 import org.apache.geode.support.test.StatisticsSampleDataUtils;
 import org.apache.geode.support.test.assertj.TableAssert;
@@ -101,7 +103,7 @@ public class ShowStatisticsSummaryCommandIntegrationTest {
     assertThat(methodTarget.getAvailability().isAvailable()).isTrue();
     assertThat(methodTarget.getGroup()).isEqualTo("Statistics Commands");
     assertThat(methodTarget.getHelp()).isEqualTo("Shows Minimum, Maximum, Average, Last Value and Standard Deviation values for a (set of) defined statistics.");
-    assertThat(methodTarget.getMethod()).isEqualTo(ReflectionUtils.findMethod(ShowStatisticsSummaryCommand.class, "showStatisticsSummary", File.class, ShowStatisticsSummaryCommand.GroupCriteria.class, Statistic.Filter.class, boolean.class, String.class, String.class, String.class, File.class));
+    assertThat(methodTarget.getMethod()).isEqualTo(ReflectionUtils.findMethod(ShowStatisticsSummaryCommand.class, "showStatisticsSummary", File.class, ShowStatisticsSummaryCommand.GroupCriteria.class, Statistic.Filter.class, boolean.class, String.class, String.class, String.class, StatisticsService.Aggregation.class, String.class, File.class, boolean.class, File.class));
   }
 
   @Test
@@ -109,7 +111,7 @@ public class ShowStatisticsSummaryCommandIntegrationTest {
     Object commandResult = shell.evaluate(() -> "show statistics summary --path " + StatisticsSampleDataUtils.rootFolder.getAbsolutePath());
     assertThat(commandResult).isNotNull();
     assertThat(commandResult).isInstanceOf(IllegalArgumentException.class);
-    assertThat(((IllegalArgumentException) commandResult).getMessage()).isEqualTo("Either '--category', '--instance' or '--statistic' parameter should be specified.");
+    assertThat(((IllegalArgumentException) commandResult).getMessage()).isEqualTo("Either '--category', '--instance', '--statistic', '--derived' or '--queries' parameter should be specified.");
   }
 
   @Test
@@ -240,6 +242,81 @@ public class ShowStatisticsSummaryCommandIntegrationTest {
     TableAssert.assertThat(resultsTable).row(13).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getRelativeFilePath(basePath), "69.00", "90.00", "86.11", "86.00", "0.78");
   }
 
+  @Test
+  public void showStatisticsSummaryShouldIncludeClusterAggregateWhenRequested() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    String command = "show statistics summary"
+        + " --path " + basePath.toString()
+        + " --category VMStats"
+        + " --instance vmStats"
+        + " --statistic fdLimit"
+        + " --groupBy Statistic"
+        + " --aggregate Max";
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table.
+    Table resultsTable = resultList.get(0);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(8).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("VMStats[vmStats].fdLimit", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultsTable).row(7).isEqualTo("└──Cluster (Max)", "10240.00", "10240.00", "10240.00", "10240.00", "0.00");
+  }
+
+  @Test
+  public void showStatisticsSummaryShouldShowOneRowPerMemberWhenStitchingRolledArchives() throws IOException {
+    Path basePath = temporaryFolder.newFolder("rolled").toPath();
+    Files.copy(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), basePath.resolve("server1-01-01.gfs"));
+    Files.copy(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), basePath.resolve("server1-01-02.gfs"));
+    Files.copy(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getFilePath()), basePath.resolve("server2.gfs"));
+    String command = "show statistics summary"
+        + " --path " + basePath.toString()
+        + " --category VMStats"
+        + " --instance vmStats"
+        + " --statistic fdsOpen"
+        + " --groupBy Statistic"
+        + " --stitch true";
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table, both parts of server1 are shown as a single member.
+    Table resultsTable = resultList.get(0);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("VMStats[vmStats].fdsOpen", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultsTable).row(1).isEqualTo("└──/server1-01-01.gfs", "91.00", "113.00", "112.76", "96.00", "1.08");
+    TableAssert.assertThat(resultsTable).row(2).isEqualTo("└──/server2.gfs", "91.00", "114.00", "113.76", "99.00", "1.13");
+  }
+
+  @Test
+  public void showStatisticsSummaryShouldIncludeOnlyDerivedStatisticsWhenNoOtherFilterIsSpecified() {
+    Path basePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath();
+    String command = "show statistics summary"
+        + " --path " + basePath.toString()
+        + " --derived fdUsage=VMStats.fdsOpen*100/VMStats.fdLimit"
+        + " --groupBy Statistic";
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Table> resultList = (List) commandResult;
+    assertThat(resultList.size()).isEqualTo(1);
+
+    // Results Table.
+    Table resultsTable = resultList.get(0);
+    TableAssert.assertThat(resultsTable).rowCountIsEqualsTo(7).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultsTable).row(0).isEqualTo("VMStats[vmStats].fdUsage", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultsTable).row(1).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER1_LOCATOR.getRelativeFilePath(basePath), "0.86", "1.61", "1.58", "1.58", "0.02");
+    TableAssert.assertThat(resultsTable).row(2).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getRelativeFilePath(basePath), "0.89", "1.10", "1.10", "0.94", "0.01");
+    TableAssert.assertThat(resultsTable).row(3).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getRelativeFilePath(basePath), "0.89", "1.11", "1.11", "0.97", "0.01");
+    TableAssert.assertThat(resultsTable).row(4).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER2_LOCATOR.getRelativeFilePath(basePath), "0.60", "1.18", "1.15", "1.15", "0.02");
+    TableAssert.assertThat(resultsTable).row(5).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER1.getRelativeFilePath(basePath), "0.67", "0.86", "0.83", "0.83", "0.01");
+    TableAssert.assertThat(resultsTable).row(6).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getRelativeFilePath(basePath), "0.67", "0.88", "0.84", "0.84", "0.01");
+  }
+
   @Test
   @Parameters({ "txt", "pdf", "csv", "tsv" })
   public void showStatisticsSummaryShouldReturnMetadataTableAndExportResultWhenParsingSucceedsForAllFiles(String format) {
@@ -270,6 +347,56 @@ public class ShowStatisticsSummaryCommandIntegrationTest {
     }
   }
 
+  @Test
+  public void showStatisticsSummaryShouldReturnOneTablePerQueryAndExportEachOneWhenQueriesAreUsed() throws IOException {
+    Path basePath = StatisticsSampleDataUtils.rootFolder.toPath();
+    Path queriesFile = temporaryFolder.newFile("queries.txt").toPath();
+    Files.write(queriesFile, Arrays.asList("# Health Check", "--category VMStats --statistic fdsOpen", "", "--category StatSampler --statistic delayDuration", "--category DiskRegionStats --statistic writes"));
+    String outputFile = temporaryFolder.getRoot().getAbsolutePath() + File.separator + "output.csv";
+    String command = "show statistics summary"
+        + " --path " + basePath.toString()
+        + " --queries " + queriesFile.toString()
+        + " --groupBy Statistic"
+        + " --export " + outputFile;
+
+    Object commandResult = shell.evaluate(() -> command);
+    assertThat(commandResult).isInstanceOf(List.class);
+    @SuppressWarnings("unchecked") List<Object> resultList = (List<Object>) commandResult;
+    assertThat(resultList.size()).isEqualTo(9);
+
+    // First Query.
+    assertThat(resultList.get(0)).isEqualTo("Query 1: --category VMStats --statistic fdsOpen");
+    Table fdsOpenTable = (Table) resultList.get(1);
+    TableAssert.assertThat(fdsOpenTable).rowCountIsEqualsTo(7).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(fdsOpenTable).row(0).isEqualTo("VMStats[vmStats].fdsOpen", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(fdsOpenTable).row(1).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER1_LOCATOR.getRelativeFilePath(basePath), "88.00", "165.00", "161.88", "162.00", "1.97");
+
+    // Second Query.
+    assertThat(resultList.get(2)).isEqualTo("Query 2: --category StatSampler --statistic delayDuration");
+    Table delayDurationTable = (Table) resultList.get(3);
+    TableAssert.assertThat(delayDurationTable).rowCountIsEqualsTo(8).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(delayDurationTable).row(0).isEqualTo("StatSampler[statSampler].delayDuration", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(delayDurationTable).row(6).isEqualTo("└──" + StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getRelativeFilePath(basePath), "0.00", "5249.00", "1002.25", "1000.00", "97.48");
+
+    // Third Query.
+    assertThat(resultList.get(4)).isEqualTo("Query 3: --category DiskRegionStats --statistic writes");
+    assertThat(resultList.get(5)).isEqualTo("No matching results found.");
+
+    // Errors Table, only once.
+    Table errorsTable = (Table) resultList.get(6);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(0).isEqualTo("File Name", "Error Description");
+
+    // One export file per query with results.
+    String firstOutputFile = temporaryFolder.getRoot().getAbsolutePath() + File.separator + "output-1.csv";
+    String secondOutputFile = temporaryFolder.getRoot().getAbsolutePath() + File.separator + "output-2.csv";
+    assertThat(resultList.get(7)).isEqualTo("Data successfully exported to " + firstOutputFile + ".");
+    assertThat(resultList.get(8)).isEqualTo("Data successfully exported to " + secondOutputFile + ".");
+    assertThat(Files.exists(Paths.get(firstOutputFile))).isTrue();
+    assertThat(Files.exists(Paths.get(secondOutputFile))).isTrue();
+    assertThat(Files.exists(Paths.get(temporaryFolder.getRoot().getAbsolutePath() + File.separator + "output-3.csv"))).isFalse();
+  }
+
   @Test
   public void showStatisticsSummaryShouldReturnErrorsAndResultsTablesInOrder() {
     Path basePath = StatisticsSampleDataUtils.rootFolder.toPath();
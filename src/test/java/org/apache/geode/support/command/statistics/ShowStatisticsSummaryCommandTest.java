@@ -18,15 +18,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -51,7 +54,9 @@ import org.apache.geode.support.domain.ParsingResult;
 import org.apache.geode.support.domain.statistics.Category;
 import org.apache.geode.support.domain.statistics.Sampling;
 import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
 import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
 import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
 import org.apache.geode.support.service.FilesService;
 import org.apache.geode.support.service.StatisticsService;
@@ -87,7 +92,7 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
   public void buildTableGroupedBySamplingShouldIterateOverSuccessfulParsingResultsOnly() {
     ParsingResult result = mock(ParsingResult.class);
     when(result.isSuccess()).thenReturn(false);
-    @SuppressWarnings("unchecked") Table emptyTableResult = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, Collections.singletonList(result));
+    @SuppressWarnings("unchecked") Table emptyTableResult = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, null, Collections.singletonList(result));
     assertThat(emptyTableResult).isNull();
   }
 
@@ -95,22 +100,22 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
   public void buildTableGroupedByStatisticShouldIterateOverSuccessfulParsingResultsOnly() {
     ParsingResult result = mock(ParsingResult.class);
     when(result.isSuccess()).thenReturn(false);
-    @SuppressWarnings("unchecked") Table emptyTableResult = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, Collections.singletonList(result));
+    @SuppressWarnings("unchecked") Table emptyTableResult = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, null, Collections.singletonList(result));
     assertThat(emptyTableResult).isNull();
   }
 
   @Test
   public void buildTableGroupedBySamplingShouldReturnNullWhenNoDataIsEffectivelyAddedToTheTable() {
     // No Parsing Results.
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, null, Collections.emptyList())).isNull();
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, Collections.emptyList())).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, null, null, Collections.emptyList())).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, null, Collections.emptyList())).isNull();
 
     // No Categories.
     Path mockedFile = MockUtils.mockPath("/samples/file.gfs", false);
     Sampling mockedSampling = new Sampling(mock(SamplingMetadata.class), new HashMap<>());
     ParsingResult<Sampling> mockedParsingResult = new ParsingResult<>(mockedFile, mockedSampling);
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, null, Collections.singletonList(mockedParsingResult))).isNull();
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, null, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, null, Collections.singletonList(mockedParsingResult))).isNull();
 
     // No Statistics.
     Map<String, Category> categoryMap = new HashMap<>();
@@ -118,8 +123,8 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     categoryMap.put(mockedCategory.getName(), mockedCategory);
     mockedSampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     mockedParsingResult = new ParsingResult<>(mockedFile, mockedSampling);
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, null, Collections.singletonList(mockedParsingResult))).isNull();
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, null, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, null, Collections.singletonList(mockedParsingResult))).isNull();
 
     // Statistics with Zero Values only
     Statistic mockedStatistic = mock(Statistic.class);
@@ -128,21 +133,21 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     categoryMap.put(mockedCategory.getName(), mockedCategory);
     mockedSampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     mockedParsingResult = new ParsingResult<>(mockedFile, mockedSampling);
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, null, null, Collections.singletonList(mockedParsingResult))).isNull();
   }
 
   @Test
   public void buildTableGroupedByStatisticShouldReturnNullWhenNoDataIsEffectivelyAddedToTheTable() {
     // No Parsing Results.
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, null, Collections.emptyList())).isNull();
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, Collections.emptyList())).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, null, null, Collections.emptyList())).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, null, Collections.emptyList())).isNull();
 
     // No Categories.
     Path mockedFile = MockUtils.mockPath("/samples/file.gfs", false);
     Sampling mockedSampling = new Sampling(mock(SamplingMetadata.class), new HashMap<>());
     ParsingResult<Sampling> mockedParsingResult = new ParsingResult<>(mockedFile, mockedSampling);
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, null, Collections.singletonList(mockedParsingResult))).isNull();
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, null, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, null, Collections.singletonList(mockedParsingResult))).isNull();
 
     // No Statistics.
     Map<String, Category> categoryMap = new HashMap<>();
@@ -150,8 +155,8 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     categoryMap.put(mockedCategory.getName(), mockedCategory);
     mockedSampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     mockedParsingResult = new ParsingResult<>(mockedFile, mockedSampling);
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, null, Collections.singletonList(mockedParsingResult))).isNull();
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, null, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, null, Collections.singletonList(mockedParsingResult))).isNull();
 
     // Statistics with Zero Values only
     Statistic mockedStatistic = mock(Statistic.class);
@@ -160,7 +165,7 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     categoryMap.put(mockedCategory.getName(), mockedCategory);
     mockedSampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     mockedParsingResult = new ParsingResult<>(mockedFile, mockedSampling);
-    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, Collections.singletonList(mockedParsingResult))).isNull();
+    assertThat(showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, null, null, Collections.singletonList(mockedParsingResult))).isNull();
   }
 
   @Test
@@ -216,7 +221,7 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     List<ParsingResult<Sampling>> parsingResults = Arrays.asList(clientResult, serverResult, locatorResult);
 
     // ############ includeEmptyStatistics = false
-    resultTable = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, parsingResults);
+    resultTable = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, null, parsingResults);
     verify(serversStatistic, times(1)).setFilter(Statistic.Filter.None);
     verify(delayDurationStatistic, times(1)).setFilter(Statistic.Filter.None);
     verify(replyWaitsInProgressStatistic, times(1)).setFilter(Statistic.Filter.None);
@@ -228,7 +233,7 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     TableAssert.assertThat(resultTable).row(4).isEqualTo("└──StatsSampler.delayDuration", "0.00", "10.00", "5.00", "10.00", "0.00");
 
     // ############ includeEmptyStatistics = true
-    resultTable = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, Statistic.Filter.Sample, parsingResults);
+    resultTable = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, true, Statistic.Filter.Sample, null, parsingResults);
     verify(tokensStatistic, times(1)).setFilter(Statistic.Filter.Sample);
     verify(serversStatistic, times(1)).setFilter(Statistic.Filter.Sample);
     verify(jvmPausesStatistic, times(1)).setFilter(Statistic.Filter.Sample);
@@ -304,7 +309,7 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     List<ParsingResult<Sampling>> parsingResults = Arrays.asList(clientResult, serverResult, locatorResult);
 
     // ############ includeEmptyStatistics = false
-    resultTable = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, parsingResults);
+    resultTable = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, null, parsingResults);
     verify(serversStatistic, times(1)).setFilter(Statistic.Filter.None);
     verify(delayDurationStatistic, times(1)).setFilter(Statistic.Filter.None);
     verify(replyWaitsInProgressServerStatistic, times(1)).setFilter(Statistic.Filter.None);
@@ -319,7 +324,7 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     TableAssert.assertThat(resultTable).row(6).isEqualTo("└──/server.gfs", "0.00", "10.00", "5.00", "10.00", "0.00");
 
     // ############ includeEmptyStatistics = true
-    resultTable = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, Statistic.Filter.Second, parsingResults);
+    resultTable = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, true, Statistic.Filter.Second, null, parsingResults);
     verify(tokensStatistic, times(1)).setFilter(Statistic.Filter.Second);
     verify(serversStatistic, times(1)).setFilter(Statistic.Filter.Second);
     verify(jvmPausesStatistic, times(1)).setFilter(Statistic.Filter.Second);
@@ -340,38 +345,103 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     TableAssert.assertThat(resultTable).row(10).isEqualTo("└──/server.gfs", "0.00", "0.00", "0.00", "0.00", "0.00");
   }
 
+  @Test
+  public void buildTablesShouldAddClusterAggregatesWhenRequested() {
+    StatValue replyWaitsInProgressStatValueServer1 = MockUtils.mockStatValue("replyWaitsInProgress", "replyWaitsInProgress", true, "replyWaitsInProgress", 0, 8, 0.67, 0, 0);
+    StatValue replyWaitsInProgressStatValueServer2 = MockUtils.mockStatValue("replyWaitsInProgress", "replyWaitsInProgress", true, "replyWaitsInProgress", 2, 8, 0.67, 0, 0);
+    Statistic replyWaitsInProgressServer1Statistic = new Statistic(replyWaitsInProgressStatValueServer1);
+    Statistic replyWaitsInProgressServer2Statistic = new Statistic(replyWaitsInProgressStatValueServer2);
+
+    Category distributionStatsCategoryServer1 = new Category("DistributionStats", "DistributionStatsCategory");
+    distributionStatsCategoryServer1.addStatistic(replyWaitsInProgressServer1Statistic);
+    Category distributionStatsCategoryServer2 = new Category("DistributionStats", "DistributionStatsCategory");
+    distributionStatsCategoryServer2.addStatistic(replyWaitsInProgressServer2Statistic);
+
+    Sampling server1Sampling = new Sampling(mock(SamplingMetadata.class), Collections.singletonMap(distributionStatsCategoryServer1.getName(), distributionStatsCategoryServer1));
+    Sampling server2Sampling = new Sampling(mock(SamplingMetadata.class), Collections.singletonMap(distributionStatsCategoryServer2.getName(), distributionStatsCategoryServer2));
+    ParsingResult<Sampling> server1Result = new ParsingResult<>(MockUtils.mockPath("/samples/server1.gfs", false), server1Sampling);
+    ParsingResult<Sampling> server2Result = new ParsingResult<>(MockUtils.mockPath("/samples/server2.gfs", false), server2Sampling);
+    List<ParsingResult<Sampling>> parsingResults = Arrays.asList(server1Result, server2Result);
+    when(statisticsService.aggregate(any(), anyLong(), any())).thenReturn(new Series(new long[] { 1000, 2000 }, new double[] { 4, 6 }));
+
+    Table resultTable = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, StatisticsService.Aggregation.Sum, parsingResults);
+    verify(statisticsService, times(1)).aggregate(Arrays.asList(replyWaitsInProgressServer1Statistic, replyWaitsInProgressServer2Statistic), ShowStatisticsSummaryCommand.AGGREGATION_STEP, StatisticsService.Aggregation.Sum);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(6).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(4).isEqualTo("Cluster (Sum)", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultTable).row(5).isEqualTo("└──DistributionStats.replyWaitsInProgress", "4.00", "6.00", "5.00", "6.00", "1.41");
+
+    resultTable = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, StatisticsService.Aggregation.Max, parsingResults);
+    verify(statisticsService, times(1)).aggregate(Arrays.asList(replyWaitsInProgressServer1Statistic, replyWaitsInProgressServer2Statistic), ShowStatisticsSummaryCommand.AGGREGATION_STEP, StatisticsService.Aggregation.Max);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("DistributionStats.replyWaitsInProgress", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("└──Cluster (Max)", "4.00", "6.00", "5.00", "6.00", "1.41");
+  }
+
+  @Test
+  public void buildTablesShouldIncludeEmptyStatisticsInClusterAggregatesEvenWhenTheirRowsAreHidden() {
+    StatValue replyWaitsInProgressStatValueServer1 = MockUtils.mockStatValue("replyWaitsInProgress", "replyWaitsInProgress", true, "replyWaitsInProgress", 2, 8, 5, 8, 3);
+    StatValue replyWaitsInProgressStatValueServer2 = MockUtils.mockStatValue("replyWaitsInProgress", "replyWaitsInProgress", true, "replyWaitsInProgress", 0, 0, 0, 0, 0);
+    Statistic replyWaitsInProgressServer1Statistic = new Statistic(replyWaitsInProgressStatValueServer1);
+    Statistic replyWaitsInProgressServer2Statistic = new Statistic(replyWaitsInProgressStatValueServer2);
+
+    Category distributionStatsCategoryServer1 = new Category("DistributionStats", "DistributionStatsCategory");
+    distributionStatsCategoryServer1.addStatistic(replyWaitsInProgressServer1Statistic);
+    Category distributionStatsCategoryServer2 = new Category("DistributionStats", "DistributionStatsCategory");
+    distributionStatsCategoryServer2.addStatistic(replyWaitsInProgressServer2Statistic);
+
+    Sampling server1Sampling = new Sampling(mock(SamplingMetadata.class), Collections.singletonMap(distributionStatsCategoryServer1.getName(), distributionStatsCategoryServer1));
+    Sampling server2Sampling = new Sampling(mock(SamplingMetadata.class), Collections.singletonMap(distributionStatsCategoryServer2.getName(), distributionStatsCategoryServer2));
+    ParsingResult<Sampling> server1Result = new ParsingResult<>(MockUtils.mockPath("/samples/server1.gfs", false), server1Sampling);
+    ParsingResult<Sampling> server2Result = new ParsingResult<>(MockUtils.mockPath("/samples/server2.gfs", false), server2Sampling);
+    List<ParsingResult<Sampling>> parsingResults = Arrays.asList(server1Result, server2Result);
+    when(statisticsService.aggregate(any(), anyLong(), any())).thenReturn(new Series(new long[] { 1000, 2000 }, new double[] { 1, 4 }));
+
+    Table resultTable = showStatisticsSummaryCommand.buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, StatisticsService.Aggregation.Avg, parsingResults);
+    verify(statisticsService, times(1)).aggregate(Arrays.asList(replyWaitsInProgressServer1Statistic, replyWaitsInProgressServer2Statistic), ShowStatisticsSummaryCommand.AGGREGATION_STEP, StatisticsService.Aggregation.Avg);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("/server1.gfs", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("Cluster (Avg)", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("└──DistributionStats.replyWaitsInProgress", "1.00", "4.00", "2.50", "4.00", "2.12");
+
+    resultTable = showStatisticsSummaryCommand.buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, StatisticsService.Aggregation.Max, parsingResults);
+    verify(statisticsService, times(1)).aggregate(Arrays.asList(replyWaitsInProgressServer1Statistic, replyWaitsInProgressServer2Statistic), ShowStatisticsSummaryCommand.AGGREGATION_STEP, StatisticsService.Aggregation.Max);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("└──/server1.gfs", "2.00", "8.00", "5.00", "8.00", "3.00");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("└──Cluster (Max)", "1.00", "4.00", "2.50", "4.00", "2.12");
+  }
+
   @Test
   public void showStatisticsSummaryShouldThrowExceptionWhenCategoryIdAndStatisticIdAreBothEmpty() {
     assertThatThrownBy(() -> showStatisticsSummaryCommand
-        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.Sample, true, null, null, null, null))
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.Sample, true, null, null, null, null, null, null, false, null))
         .isInstanceOf(IllegalArgumentException.class)
-        .hasMessage("Either '--category', '--instance' or '--statistic' parameter should be specified.");
+        .hasMessage("Either '--category', '--instance', '--statistic', '--derived' or '--queries' parameter should be specified.");
 
     assertThatThrownBy(() -> showStatisticsSummaryCommand
-        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "", "", "", null))
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "", "", "", null, null, null, false, null))
         .isInstanceOf(IllegalArgumentException.class)
-        .hasMessage("Either '--category', '--instance' or '--statistic' parameter should be specified.");
+        .hasMessage("Either '--category', '--instance', '--statistic', '--derived' or '--queries' parameter should be specified.");
 
     assertThatThrownBy(() -> showStatisticsSummaryCommand
-        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "   ", "     ", "    " , null))
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "   ", "     ", "    " , null, null, null, false, null))
         .isInstanceOf(IllegalArgumentException.class)
-        .hasMessage("Either '--category', '--instance' or '--statistic' parameter should be specified.");
+        .hasMessage("Either '--category', '--instance', '--statistic', '--derived' or '--queries' parameter should be specified.");
   }
 
   @Test
   public void showStatisticsSummaryShouldThrowExceptionWhenFileIsNotReadable() {
     doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
     assertThatThrownBy(() -> showStatisticsSummaryCommand
-        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null))
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Mocked IllegalArgumentException.");
   }
 
   @Test
   public void showStatisticsSummaryShouldPropagateExceptionsThrownByTheServiceLayer() {
-    doThrow(new RuntimeException()).when(statisticsService).parseSampling(any(), any());
+    doThrow(new RuntimeException()).when(statisticsService).parseSampling(any(), any(), any());
     assertThatThrownBy(() -> showStatisticsSummaryCommand
-        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null))
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null))
         .isInstanceOf(RuntimeException.class);
   }
 
@@ -379,20 +449,45 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
   @SuppressWarnings("unchecked")
   public void showStatisticsSummaryShouldSetTheProperFilterWhenInvokingTheServiceLayer() {
     ArgumentCaptor<List> argumentCaptor = ArgumentCaptor.forClass(List.class);
-    when(statisticsService.parseSampling(any(), any())).thenReturn(Collections.emptyList());
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(Collections.emptyList());
 
-    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
-    verify(statisticsService, times(1)).parseSampling(any(), argumentCaptor.capture());
+    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
+    verify(statisticsService, times(1)).parseSampling(any(), argumentCaptor.capture(), any());
     List<ValueFilter> filtersUsed = argumentCaptor.getValue();
     assertThat(filtersUsed).isNotNull();
     assertThat(filtersUsed.size()).isEqualTo(1);
     assertThat(filtersUsed.get(0)).isInstanceOf(RegexValueFilter.class);
   }
 
+  @Test
+  public void showStatisticsSummaryShouldStitchTheSamplingsWhenRequested() {
+    when(statisticsService.stitchSampling(any(), any(), any())).thenReturn(Collections.emptyList());
+
+    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, true, null);
+    verify(statisticsService, times(1)).stitchSampling(any(), any(), any());
+    verify(statisticsService, times(0)).parseSampling(any(), any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsSummaryShouldSetOnlyTheDerivedStatisticsWhenNoOtherFilterIsSpecified() {
+    ArgumentCaptor<List> filtersCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List> derivedCaptor = ArgumentCaptor.forClass(List.class);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(Collections.emptyList());
+
+    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, null, null, null, null, "fdUsage=VMStats.fdsOpen/VMStats.fdLimit", null, false, null);
+    verify(statisticsService, times(1)).parseSampling(any(), filtersCaptor.capture(), derivedCaptor.capture());
+    assertThat(filtersCaptor.getValue()).isEmpty();
+    List<DerivedStatistic> derivedUsed = derivedCaptor.getValue();
+    assertThat(derivedUsed.size()).isEqualTo(1);
+    assertThat(derivedUsed.get(0).getName()).isEqualTo("fdUsage");
+    assertThat(derivedUsed.get(0).getOperands()).extracting(Object::toString).containsExactly("VMStats.fdsOpen", "VMStats.fdLimit");
+  }
+
   @Test
   public void showStatisticsSummaryShouldReturnStringWhenNoStatisticsFilesAreFound() {
-    when(statisticsService.parseSampling(any(), any())).thenReturn(Collections.emptyList());
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(Collections.emptyList());
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
 
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
@@ -407,10 +502,10 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
   public void showStatisticsSummaryShouldReturnStringWhenNoMatchingResultsAreFound(String groupingCriteria) {
     ShowStatisticsSummaryCommand.GroupCriteria criteria = ShowStatisticsSummaryCommand.GroupCriteria.valueOf(groupingCriteria);
     List<ParsingResult<Sampling>> mockedResults = Collections.singletonList(new ParsingResult<>(MockUtils.mockPath("/samples/file.gfs", false), mock(Sampling.class)));
-    when(statisticsService.parseSampling(any(), any())).thenReturn(mockedResults);
-    doReturn(null).when(showStatisticsSummaryCommand).buildTableGroupedByStatistic(any(), anyBoolean(), any(), any());
-    doReturn(null).when(showStatisticsSummaryCommand).buildTableGroupedBySampling(any(), anyBoolean(), any(), any());
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), criteria, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(mockedResults);
+    doReturn(null).when(showStatisticsSummaryCommand).buildTableGroupedByStatistic(any(), anyBoolean(), any(), any(), any());
+    doReturn(null).when(showStatisticsSummaryCommand).buildTableGroupedBySampling(any(), anyBoolean(), any(), any(), any());
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), criteria, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
 
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
@@ -423,25 +518,25 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
   @Test
   public void showStatisticsSummaryShouldGroupResultsByTheConfiguredGroupingCriteria() {
     List<ParsingResult<Sampling>> mockedResults = Collections.singletonList(new ParsingResult<>(MockUtils.mockPath("/samples/file.gfs", false), mock(Sampling.class)));
-    when(statisticsService.parseSampling(any(), any())).thenReturn(mockedResults);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(mockedResults);
 
-    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Sampling, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
-    verify(showStatisticsSummaryCommand, times(1)).buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, mockedResults);
-    verify(showStatisticsSummaryCommand, times(0)).buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, mockedResults);
+    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Sampling, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
+    verify(showStatisticsSummaryCommand, times(1)).buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, null, mockedResults);
+    verify(showStatisticsSummaryCommand, times(0)).buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, null, mockedResults);
 
     reset(showStatisticsSummaryCommand);
-    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
-    verify(showStatisticsSummaryCommand, times(0)).buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, mockedResults);
-    verify(showStatisticsSummaryCommand, times(1)).buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, mockedResults);
+    showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
+    verify(showStatisticsSummaryCommand, times(0)).buildTableGroupedBySampling(mockedRootPath, false, Statistic.Filter.None, null, mockedResults);
+    verify(showStatisticsSummaryCommand, times(1)).buildTableGroupedByStatistic(mockedRootPath, false, Statistic.Filter.None, null, mockedResults);
   }
 
   @Test
   public void showStatisticsSummaryShouldReturnOnlyErrorTableWhenParsingFailsForAllFiles() {
     Path mockedUnparseablePath = MockUtils.mockPath("mockedUnparseableFile.gfs", false);
     List<ParsingResult<Sampling>> mockedResults = Collections.singletonList(new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception")));
-    when(statisticsService.parseSampling(any(), any())).thenReturn(mockedResults);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(mockedResults);
 
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
     @SuppressWarnings("unchecked") List<Table> resultList = (List)resultObject;
@@ -456,9 +551,9 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
   public void showStatisticsSummaryShouldReturnErrorTableAndIgnoreExportFileWhenParsingFailsForAllFilesAndExportFileIsSet() throws IOException {
     Path mockedUnparseablePath = MockUtils.mockPath("mockedUnparseableFile.gfs", false);
     List<ParsingResult<Sampling>> mockedResults = Collections.singletonList(new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception")));
-    when(statisticsService.parseSampling(any(), any())).thenReturn(mockedResults);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(mockedResults);
 
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", mockedExportFile);
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, mockedExportFile);
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
     assertThat(((List)resultObject).size()).isEqualTo(1);
@@ -477,9 +572,9 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     Sampling sampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     ParsingResult parsingResult = new ParsingResult<>(mockedPath, sampling);
     @SuppressWarnings("unchecked") List<ParsingResult<Sampling>> mockedResults = Collections.singletonList(parsingResult);
-    when(statisticsService.parseSampling(any(), any())).thenReturn(mockedResults);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(mockedResults);
 
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
     @SuppressWarnings("unchecked") List<Table> resultList = (List)resultObject;
@@ -503,10 +598,10 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     Sampling sampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     ParsingResult parsingResult = new ParsingResult<>(mockedPath, sampling);
     @SuppressWarnings("unchecked") List<ParsingResult<Sampling>> mockedResults = Collections.singletonList(parsingResult);
-    when(statisticsService.parseSampling(any(), any())).thenReturn(mockedResults);
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(mockedResults);
     setExportServiceAnswer(exportSucceeds);
 
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", mockedExportFile);
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, mockedExportFile);
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
     @SuppressWarnings("unchecked") List<Object> resultList = (List)resultObject;
@@ -528,9 +623,9 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     Map<String, Category> categoryMap = new HashMap<>();
     categoryMap.put(distributionStatsCategory.getName(), distributionStatsCategory);
     Sampling sampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
-    when(statisticsService.parseSampling(any(), any())).thenReturn(Arrays.asList(new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception")), new ParsingResult<>(mockedParseableFile, sampling)));
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(Arrays.asList(new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception")), new ParsingResult<>(mockedParseableFile, sampling)));
 
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null);
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, null);
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
     @SuppressWarnings("unchecked") List<Table> resultList = (List)resultObject;
@@ -560,10 +655,10 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     Map<String, Category> categoryMap = new HashMap<>();
     categoryMap.put(distributionStatsCategory.getName(), distributionStatsCategory);
     Sampling sampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
-    when(statisticsService.parseSampling(any(), any())).thenReturn(Arrays.asList(new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception")), new ParsingResult<>(mockedParseableFile, sampling)));
+    when(statisticsService.parseSampling(any(), any(), any())).thenReturn(Arrays.asList(new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception")), new ParsingResult<>(mockedParseableFile, sampling)));
     setExportServiceAnswer(exportSucceeds);
 
-    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", mockedExportFile);
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", "instanceId", "statisticId", null, null, null, false, mockedExportFile);
     assertThat(resultObject).isNotNull();
     assertThat(resultObject).isInstanceOf(List.class);
     @SuppressWarnings("unchecked") List<Object> resultList = (List)resultObject;
@@ -584,4 +679,126 @@ public class ShowStatisticsSummaryCommandTest extends AbstractExportableCommandT
     // Export Message should be the last.
     assertExportServiceResultMessageAndInvocation(resultList, exportSucceeds);
   }
+
+  @Test
+  public void parseQueriesShouldIgnoreCommentsAndBlankLines() {
+    Map<String, ValueFilter> queries = ShowStatisticsSummaryCommand.parseQueries(Arrays.asList("# Health Check", "", "  --category VMStats --statistic fdsOpen  ", "--statistic delayDuration\t--category   StatSampler"));
+
+    assertThat(queries.keySet()).containsExactly("--category VMStats --statistic fdsOpen", "--statistic delayDuration\t--category   StatSampler");
+    ValueFilter first = queries.get("--category VMStats --statistic fdsOpen");
+    assertThat(first).isInstanceOf(RegexValueFilter.class);
+    assertThat(first.typeMatches("VMStats")).isTrue();
+    assertThat(first.statMatches("fdsOpen")).isTrue();
+    assertThat(first.statMatches("fdLimit")).isFalse();
+    ValueFilter second = queries.get("--statistic delayDuration\t--category   StatSampler");
+    assertThat(second.typeMatches("StatSampler")).isTrue();
+    assertThat(second.statMatches("delayDuration")).isTrue();
+  }
+
+  @Test
+  public void parseQueriesShouldThrowExceptionWhenQueriesAreInvalid() {
+    assertThatThrownBy(() -> ShowStatisticsSummaryCommand.parseQueries(Arrays.asList("# Comment", " ")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("No queries found.");
+    assertThatThrownBy(() -> ShowStatisticsSummaryCommand.parseQueries(Arrays.asList("--category VMStats", "--derived fdUsage=VMStats.fdsOpen/VMStats.fdLimit")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid query at line 2, unknown option '--derived'.");
+    assertThatThrownBy(() -> ShowStatisticsSummaryCommand.parseQueries(Collections.singletonList("--category VMStats --statistic")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid query at line 1, missing value for option '--statistic'.");
+    assertThatThrownBy(() -> ShowStatisticsSummaryCommand.parseQueries(Arrays.asList("--category VMStats", "", "--category VMStats")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid query at line 3, query '--category VMStats' is defined more than once.");
+  }
+
+  @Test
+  public void getQueryExportFileShouldAppendTheQueryNumber() {
+    assertThat(ShowStatisticsSummaryCommand.getQueryExportFile(null, 1)).isNull();
+    assertThat(ShowStatisticsSummaryCommand.getQueryExportFile(new File("/tmp/results.csv"), 1)).isEqualTo(new File("/tmp/results-1.csv"));
+    assertThat(ShowStatisticsSummaryCommand.getQueryExportFile(new File("/tmp/results"), 12)).isEqualTo(new File("/tmp/results-12"));
+  }
+
+  @Test
+  public void showStatisticsSummaryShouldThrowExceptionWhenQueriesAreCombinedWithOtherFilters() {
+    File queriesFile = MockUtils.mockPath("/queries.txt", false).toFile();
+
+    assertThatThrownBy(() -> showStatisticsSummaryCommand
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, "categoryId", null, null, null, null, queriesFile, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter '--queries' can not be combined with '--category', '--instance', '--statistic' or '--derived'.");
+
+    assertThatThrownBy(() -> showStatisticsSummaryCommand
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, null, null, null, null, "ratio=A.x/A.y", queriesFile, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter '--queries' can not be combined with '--category', '--instance', '--statistic' or '--derived'.");
+  }
+
+  @Test
+  public void showStatisticsSummaryShouldThrowExceptionWhenQueriesAreCombinedWithStitching() {
+    File queriesFile = MockUtils.mockPath("/queries.txt", false).toFile();
+
+    assertThatThrownBy(() -> showStatisticsSummaryCommand
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, null, null, null, null, null, queriesFile, true, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter '--queries' can not be combined with '--stitch'.");
+  }
+
+  @Test
+  public void showStatisticsSummaryShouldThrowExceptionWhenQueriesFileCanNotBeRead() throws IOException {
+    File queriesFile = MockUtils.mockPath("/queries.txt", false).toFile();
+    when(filesService.readLines(any())).thenThrow(new IOException("Mocked IOException"));
+
+    assertThatThrownBy(() -> showStatisticsSummaryCommand
+        .showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, null, null, null, null, null, queriesFile, false, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Queries file (.*) can not be read: Mocked IOException.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsSummaryShouldReturnStringWhenNoFilesAreFoundForQueries() throws IOException {
+    File queriesFile = MockUtils.mockPath("/queries.txt", false).toFile();
+    when(filesService.readLines(any())).thenReturn(Collections.singletonList("--category VMStats"));
+    when(statisticsService.querySampling(any(), any())).thenReturn(Collections.singletonList(Collections.emptyList()));
+
+    Object resultObject = showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, null, null, null, null, null, queriesFile, false, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsSummaryShouldReturnOneTablePerQueryAndTheErrorsTableOnce() throws IOException {
+    File queriesFile = MockUtils.mockPath("/queries.txt", false).toFile();
+    Path mockedParseableFile = MockUtils.mockPath("/samples/server.gfs", false);
+    Path mockedUnparseablePath = MockUtils.mockPath("mockedUnparseableFile.gfs", false);
+    Statistic replyWaitsInProgressStatistic = spy(new Statistic(MockUtils.mockStatValue("replyWaitsInProgress", "replyWaitsInProgress", true, "replyWaitsInProgress", 2, 8, 0.67, 0, 0)));
+    Category distributionStatsCategory = new Category("DistributionStats", "DistributionStatsCategory");
+    distributionStatsCategory.addStatistic(replyWaitsInProgressStatistic);
+    Map<String, Category> categoryMap = new HashMap<>();
+    categoryMap.put(distributionStatsCategory.getName(), distributionStatsCategory);
+    ParsingResult<Sampling> parsingError = new ParsingResult<>(mockedUnparseablePath, new Exception("Mocked Exception"));
+    List<ParsingResult<Sampling>> firstQueryResults = Arrays.asList(parsingError, new ParsingResult<>(mockedParseableFile, new Sampling(mock(SamplingMetadata.class), categoryMap)));
+    List<ParsingResult<Sampling>> secondQueryResults = Arrays.asList(parsingError, new ParsingResult<>(mockedParseableFile, new Sampling(mock(SamplingMetadata.class), new HashMap<>())));
+    when(filesService.readLines(any())).thenReturn(Arrays.asList("--category DistributionStats", "--category VMStats"));
+    when(statisticsService.querySampling(any(), any())).thenReturn(Arrays.asList(firstQueryResults, secondQueryResults));
+
+    List<Object> resultList = (List<Object>) showStatisticsSummaryCommand.showStatisticsSummary(mockedRootPath.toFile(), ShowStatisticsSummaryCommand.GroupCriteria.Statistic, Statistic.Filter.None, false, null, null, null, null, null, queriesFile, false, null);
+    ArgumentCaptor<List> queriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(statisticsService, times(1)).querySampling(any(), queriesCaptor.capture());
+    verify(statisticsService, never()).parseSampling(any(), any(), any());
+    assertThat(queriesCaptor.getValue().size()).isEqualTo(2);
+
+    assertThat(resultList.size()).isEqualTo(5);
+    assertThat(resultList.get(0)).isEqualTo("Query 1: --category DistributionStats");
+    Table resultTable = (Table) resultList.get(1);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("DistributionStats.replyWaitsInProgress", "Minimum", "Maximum", "Average", "Last Value", "Standard Deviation");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("└──/server.gfs", "2.00", "8.00", "0.67", "0.00", "0.00");
+    assertThat(resultList.get(2)).isEqualTo("Query 2: --category VMStats");
+    assertThat(resultList.get(3)).isEqualTo("No matching results found.");
+    Table errorsTable = (Table) resultList.get(4);
+    TableAssert.assertThat(errorsTable).rowCountIsEqualsTo(2).columnCountIsEqualsTo(2);
+    TableAssert.assertThat(errorsTable).row(1).isEqualTo("mockedUnparseableFile.gfs", "Mocked Exception");
+  }
 }
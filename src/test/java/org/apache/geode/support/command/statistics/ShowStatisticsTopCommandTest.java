@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsTopCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsTopCommand showStatisticsTopCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsTopCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsTopCommand = new ShowStatisticsTopCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void getValueShouldReturnTheRequestedRanking() {
+    RankedStatistic rankedStatistic = new RankedStatistic("VMStats[vmStats].threads", "threads", 10, 20, 30);
+
+    assertThat(showStatisticsTopCommand.getValue(rankedStatistic, StatisticsService.Ranking.Max)).isEqualTo(10);
+    assertThat(showStatisticsTopCommand.getValue(rankedStatistic, StatisticsService.Ranking.StdDev)).isEqualTo(20);
+    assertThat(showStatisticsTopCommand.getValue(rankedStatistic, StatisticsService.Ranking.Rate)).isEqualTo(30);
+  }
+
+  @Test
+  public void showStatisticsTopShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, null, 50, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsTopShouldThrowExceptionWhenDerivedStatisticsAreInvalid() {
+    assertThatThrownBy(() -> showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, "getLatency", 50, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Invalid derived statistic 'getLatency', expected format is name=expression.$");
+    assertThatThrownBy(() -> showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, "getLatency=CachePerfStats.getTime/", 50, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Invalid expression 'CachePerfStats.getTime/', unexpected end of expression at position 23.$");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTopShouldIncludeParsedStatisticsOnlyWhenExplicitlySelectedAlongWithDerivedStatistics() {
+    ArgumentCaptor<List> filtersCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List> derivedCaptor = ArgumentCaptor.forClass(List.class);
+    when(statisticsService.rankStatistics(any(), any(), any(), any(), anyInt())).thenReturn(new ArrayList<>());
+
+    showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, "getLatency=CachePerfStats.getTime/CachePerfStats.gets", 50, null);
+    showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, "VMStats", null, null, StatisticsService.Ranking.Max, "getLatency=CachePerfStats.getTime/CachePerfStats.gets", 50, null);
+    verify(statisticsService, times(2)).rankStatistics(any(), filtersCaptor.capture(), derivedCaptor.capture(), eq(StatisticsService.Ranking.Max), eq(50));
+
+    assertThat(filtersCaptor.getAllValues().get(0)).isEmpty();
+    assertThat(filtersCaptor.getAllValues().get(1).size()).isEqualTo(1);
+    assertThat(filtersCaptor.getAllValues().get(1).get(0)).isInstanceOf(RegexValueFilter.class);
+    derivedCaptor.getAllValues().forEach(derivedStatistics -> {
+      assertThat(derivedStatistics.size()).isEqualTo(1);
+      assertThat(((DerivedStatistic) derivedStatistics.get(0)).getName()).isEqualTo("getLatency");
+    });
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTopShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.rankStatistics(any(), any(), any(), any(), anyInt())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, null, 50, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTopShouldReturnNoMatchingResultsWhenThereAreNoStatistics() {
+    List<ParsingResult<List<RankedStatistic>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.rankStatistics(any(), any(), any(), any(), anyInt())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, null, 50, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTopShouldBreakTiesByStatisticAndFile() {
+    List<ParsingResult<List<RankedStatistic>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new RankedStatistic("VMStats[vmStats].threads", "threads", 80, 5, 0.5),
+        new RankedStatistic("VMStats[vmStats].fdsOpen", "fds", 80, 10, 0.1))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new RankedStatistic("VMStats[vmStats].threads", "threads", 80, 2, 0.2))));
+    when(statisticsService.rankStatistics(any(), any(), any(), any(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Max, null, 50, null);
+    verify(statisticsService).rankStatistics(any(), any(), any(), eq(StatisticsService.Ranking.Max), eq(50));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Units", "Maximum", "Standard Deviation", "Rate (Per Second)");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].fdsOpen", "/server.gfs", "fds", "80.00", "10.00", "0.10");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMStats[vmStats].threads", "/locator.gfs", "threads", "80.00", "2.00", "0.20");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMStats[vmStats].threads", "/server.gfs", "threads", "80.00", "5.00", "0.50");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTopShouldApplyTheLimitAcrossFilesRatherThanPerFile() {
+    // Each file already returns its own top two, the command keeps the global top two only.
+    List<ParsingResult<List<RankedStatistic>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new RankedStatistic("CachePerfStats[cachePerfStats].gets", "operations", 1000, 50, 12.5),
+        new RankedStatistic("CachePerfStats[cachePerfStats].puts", "operations", 800, 40, 9.5))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Arrays.asList(
+        new RankedStatistic("VMStats[vmStats].threads", "threads", 80, 2, 0.5),
+        new RankedStatistic("VMStats[vmStats].fdsOpen", "fds", 40, 1, -15))));
+    when(statisticsService.rankStatistics(any(), any(), any(), any(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsTopCommand.showStatisticsTop(mockedFolderFile, null, null, null, StatisticsService.Ranking.Rate, null, 2, null);
+    verify(statisticsService).rankStatistics(any(), any(), any(), eq(StatisticsService.Ranking.Rate), eq(2));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(6);
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("CachePerfStats[cachePerfStats].gets", "/server.gfs", "operations", "1000.00", "50.00", "12.50");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("CachePerfStats[cachePerfStats].puts", "/server.gfs", "operations", "800.00", "40.00", "9.50");
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.shell.table.Table;
+
+import org.apache.geode.support.command.AbstractExportableCommandTest;
+import org.apache.geode.support.command.ExportableCommand;
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Trend;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.TableExportService;
+import org.apache.geode.support.test.assertj.TableAssert;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+@RunWith(JUnitParamsRunner.class)
+public class ShowStatisticsTrendCommandTest extends AbstractExportableCommandTest {
+  private File mockedFolderFile;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private ShowStatisticsTrendCommand showStatisticsTrendCommand;
+
+  @Override
+  protected ExportableCommand getCommand() {
+    return showStatisticsTrendCommand;
+  }
+
+  @Before
+  public void setUp() {
+    mockedFolderFile = MockUtils.mockPath("/samples", true).toFile();
+
+    filesService = mock(FilesService.class);
+    exportService = mock(TableExportService.class);
+    statisticsService = mock(StatisticsService.class);
+    showStatisticsTrendCommand = new ShowStatisticsTrendCommand(filesService, exportService, statisticsService);
+
+    super.setUp();
+  }
+
+  @Test
+  public void showStatisticsTrendShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, null, 200, 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void showStatisticsTrendShouldThrowExceptionWhenCapacityIsInvalid() {
+    assertThatThrownBy(() -> showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, 0.0, 200, 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--capacity' parameter should be positive.");
+    assertThatThrownBy(() -> showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, -10.0, 200, 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--capacity' parameter should be positive.");
+    verify(statisticsService, times(0)).estimateTrends(any(), any(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTrendShouldReturnStringWhenNoFilesAreFound() {
+    when(statisticsService.estimateTrends(any(), any(), any(), anyInt(), anyInt())).thenReturn(new ArrayList<>());
+
+    Object resultObject = showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, null, 200, 20, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No statistics files found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTrendShouldReturnNoMatchingResultsWhenThereAreNoTrends() {
+    List<ParsingResult<List<Trend>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Collections.emptyList()));
+    when(statisticsService.estimateTrends(any(), any(), any(), anyInt(), anyInt())).thenReturn(parsingResults);
+
+    Object resultObject = showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, null, 200, 20, null);
+    assertThat(resultObject).isInstanceOf(List.class);
+    assertThat((List<String>) resultObject).containsExactly("No matching results found.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTrendShouldListExhaustedStatisticsFirstAndStableOrDecreasingOnesLast() {
+    List<ParsingResult<List<Trend>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new Trend("VMMemoryUsageStats[vmHeapMemoryStats].usedMemory", "bytes", 2048, 1.0, 0.5, 4096, 3600000),
+        new Trend("VMStats[vmStats].fdsOpen", "fds", 4096, 0.1, 0.1, 4096, 0))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new Trend("VMMemoryUsageStats[vmHeapMemoryStats].usedMemory", "bytes", 1024, -0.5, -0.25, 4096, -1))));
+    when(statisticsService.estimateTrends(any(), any(), any(), anyInt(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, 4096.0, 50, 20, null);
+    verify(statisticsService).estimateTrends(any(), any(), eq(4096.0), eq(50), eq(20));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(4).columnCountIsEqualsTo(7);
+    TableAssert.assertThat(resultTable).row(0).isEqualTo("Statistic", "File", "Last Value", "Capacity", "Slope (/h)", "Robust Slope (/h)", "Exhaustion (h)");
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("VMStats[vmStats].fdsOpen", "/server.gfs", "4096.00", "4096.00", "360.00", "360.00", "0.00");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("VMMemoryUsageStats[vmHeapMemoryStats].usedMemory", "/server.gfs", "2048.00", "4096.00", "3600.00", "1800.00", "1.00");
+    TableAssert.assertThat(resultTable).row(3).isEqualTo("VMMemoryUsageStats[vmHeapMemoryStats].usedMemory", "/locator.gfs", "1024.00", "4096.00", "-1800.00", "-900.00", "N/A");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void showStatisticsTrendShouldSortBySteepestRobustSlopeWhenThereIsNoCapacity() {
+    List<ParsingResult<List<Trend>>> parsingResults = new ArrayList<>();
+    // The least squares slope is dominated by a single spike, the robust one is not.
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/server.gfs", false), Arrays.asList(
+        new Trend("CachePerfStats[RegionStats-partition-Region].entries", "entries", 200, 10.0, 0.5, Double.NaN, -1),
+        new Trend("VMStats[vmStats].threads", "threads", 80, 0.0, -0.5, Double.NaN, -1))));
+    parsingResults.add(new ParsingResult<>(MockUtils.mockPath("/samples/locator.gfs", false), Collections.singletonList(
+        new Trend("CachePerfStats[RegionStats-partition-Region].entries", "entries", 100, 1.0, 1.0, Double.NaN, -1))));
+    when(statisticsService.estimateTrends(any(), any(), any(), anyInt(), anyInt())).thenReturn(parsingResults);
+
+    List<Object> resultList = (List<Object>) showStatisticsTrendCommand.showStatisticsTrend(mockedFolderFile, null, null, null, null, 200, 2, null);
+    verify(statisticsService).estimateTrends(any(), any(), isNull(), eq(200), eq(2));
+    assertThat(resultList.size()).isEqualTo(1);
+    Table resultTable = (Table) resultList.get(0);
+    TableAssert.assertThat(resultTable).rowCountIsEqualsTo(3).columnCountIsEqualsTo(7);
+    TableAssert.assertThat(resultTable).row(1).isEqualTo("CachePerfStats[RegionStats-partition-Region].entries", "/locator.gfs", "100.00", "N/A", "3600.00", "3600.00", "N/A");
+    TableAssert.assertThat(resultTable).row(2).isEqualTo("CachePerfStats[RegionStats-partition-Region].entries", "/server.gfs", "200.00", "N/A", "36000.00", "1800.00", "N/A");
+  }
+}
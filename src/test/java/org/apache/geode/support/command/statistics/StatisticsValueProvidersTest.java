@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.shell.CompletionContext;
+import org.springframework.shell.CompletionProposal;
+
+import org.apache.geode.support.service.StatisticsCatalogService;
+
+public class StatisticsValueProvidersTest {
+  private StatisticsCatalogService statisticsCatalogService;
+
+  @Before
+  public void setUp() {
+    statisticsCatalogService = mock(StatisticsCatalogService.class);
+    when(statisticsCatalogService.lookup(any(), any(), any())).thenReturn(Collections.emptyList());
+    when(statisticsCatalogService.lookup(Paths.get("samples"), StatisticsCatalogService.NameType.Category, "VM")).thenReturn(Collections.singletonList("VMStats"));
+    when(statisticsCatalogService.lookup(Paths.get("samples"), StatisticsCatalogService.NameType.Instance, "vm")).thenReturn(Collections.singletonList("vmStats"));
+    when(statisticsCatalogService.lookup(Paths.get("samples"), StatisticsCatalogService.NameType.Statistic, "fd")).thenReturn(Arrays.asList("fdLimit", "fdsOpen"));
+  }
+
+  private CompletionContext mockCompletionContext(String currentWord, String... words) {
+    CompletionContext completionContext = mock(CompletionContext.class);
+    when(completionContext.getWords()).thenReturn(Arrays.asList(words));
+    when(completionContext.currentWordUpToCursor()).thenReturn(currentWord);
+
+    return completionContext;
+  }
+
+  private List<String> complete(AbstractStatisticsValueProvider valueProvider, CompletionContext completionContext) {
+    return valueProvider.complete(null, completionContext, new String[0]).stream().map(CompletionProposal::value).collect(Collectors.toList());
+  }
+
+  @Test
+  public void getPathShouldReturnNullWhenThePathOptionIsMissing() {
+    CategoryValueProvider valueProvider = new CategoryValueProvider(statisticsCatalogService);
+
+    assertThat(valueProvider.getPath(mockCompletionContext("", "show", "statistics", "summary", "--category", ""))).isNull();
+    assertThat(valueProvider.getPath(mockCompletionContext("", "show", "statistics", "summary", "--path"))).isNull();
+    assertThat(valueProvider.getPath(mockCompletionContext("", "show", "statistics", "summary", "--path", "--category", ""))).isNull();
+    assertThat(valueProvider.getPath(mockCompletionContext("", "show", "statistics", "summary", "--category", "", "--path", "samples"))).isEqualTo(Paths.get("samples"));
+  }
+
+  @Test
+  public void completeShouldReturnNoProposalsWhenThePathOptionIsMissing() {
+    assertThat(complete(new CategoryValueProvider(statisticsCatalogService), mockCompletionContext("VM", "show", "statistics", "summary", "--category", "VM"))).isEmpty();
+  }
+
+  @Test
+  public void completeShouldReturnTheNamesFoundWithinTheCatalog() {
+    assertThat(complete(new CategoryValueProvider(statisticsCatalogService), mockCompletionContext("VM", "show", "statistics", "summary", "--path", "samples", "--category", "VM"))).containsExactly("VMStats");
+    assertThat(complete(new InstanceValueProvider(statisticsCatalogService), mockCompletionContext("vm", "show", "statistics", "summary", "--path", "samples", "--instance", "vm"))).containsExactly("vmStats");
+    assertThat(complete(new StatisticValueProvider(statisticsCatalogService), mockCompletionContext("fd", "show", "statistics", "summary", "--path", "samples", "--statistic", "fd"))).containsExactly("fdLimit", "fdsOpen");
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.command.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.jline.terminal.Terminal;
+import org.jline.utils.InfoCmp;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.LiveSummary;
+import org.apache.geode.support.service.FilesService;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+public class WatchStatisticsCommandTest {
+  private File mockedFile;
+  private Path mockedPath;
+  private Terminal terminal;
+  private StringWriter terminalOutput;
+  private FilesService filesService;
+  private StatisticsService statisticsService;
+  private WatchStatisticsCommand watchStatisticsCommand;
+
+  @Before
+  public void setUp() {
+    mockedFile = mock(File.class);
+    mockedPath = MockUtils.mockPath("/samples/live.gfs", false);
+    when(mockedFile.toPath()).thenReturn(mockedPath);
+
+    terminalOutput = new StringWriter();
+    terminal = mock(Terminal.class);
+    when(terminal.getWidth()).thenReturn(200);
+    when(terminal.writer()).thenReturn(new PrintWriter(terminalOutput));
+
+    filesService = mock(FilesService.class);
+    statisticsService = mock(StatisticsService.class);
+    watchStatisticsCommand = new WatchStatisticsCommand(filesService, statisticsService, terminal);
+  }
+
+  private List<LiveSummary> mockLiveSummaries() {
+    long timeStamp = MockUtils.mockTimeStamp(2018, 1, 1, 10, 0, 0, ZoneId.of("UTC"));
+
+    return Arrays.asList(
+        new LiveSummary("VMStats[vmStats].fdsOpen", "files", timeStamp, 100, 90, 95, 100),
+        new LiveSummary("VMStats[vmStats].threads", "threads", timeStamp, 80, 50, 65, 80));
+  }
+
+  @Test
+  public void watchStatisticsShouldThrowExceptionWhenFileIsNotReadable() {
+    doThrow(new IllegalArgumentException("Mocked IllegalArgumentException.")).when(filesService).assertFileReadability(any());
+    assertThatThrownBy(() -> watchStatisticsCommand.watchStatistics(mockedFile, null, null, null, "5m", "5s", "1h", 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageMatching("^Mocked IllegalArgumentException.$");
+  }
+
+  @Test
+  public void watchStatisticsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> watchStatisticsCommand.watchStatistics(mockedFile, null, null, null, "five minutes", "5s", "1h", 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid duration 'five minutes', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> watchStatisticsCommand.watchStatistics(mockedFile, null, null, null, "0m", "5s", "1h", 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--window' parameter should be positive.");
+    assertThatThrownBy(() -> watchStatisticsCommand.watchStatistics(mockedFile, null, null, null, "5m", "500ms", "1h", 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--interval' parameter should be at least one second.");
+    assertThatThrownBy(() -> watchStatisticsCommand.watchStatistics(mockedFile, null, null, null, "5m", "5s", "0h", 20, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The '--duration' parameter should be positive.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void watchStatisticsShouldShowEveryUpdateUntilTheDurationElapses() {
+    CompletableFuture<Void> watch = new CompletableFuture<>();
+    when(statisticsService.watchStatistics(eq(mockedPath), anyList(), eq(300000L), eq(5000L), any())).thenAnswer(invocation -> {
+      Consumer<List<LiveSummary>> listener = invocation.getArgument(4);
+      listener.accept(mockLiveSummaries());
+      listener.accept(Collections.emptyList());
+
+      return watch;
+    });
+
+    List<?> result = watchStatisticsCommand.watchStatistics(mockedFile, "VMStats", null, null, "5m", "5s", "100ms", 1, ZoneId.of("UTC"));
+    assertThat(result).containsExactly("Stopped following live.gfs after 2 updates.");
+    assertThat(watch.isCancelled()).isTrue();
+    verify(terminal, times(2)).puts(InfoCmp.Capability.clear_screen);
+    verify(terminal, times(2)).flush();
+
+    String output = terminalOutput.toString();
+    assertThat(output).contains("Following live.gfs (update 1, window 5m).");
+    assertThat(output).contains("Following live.gfs (update 2, window 5m).");
+    assertThat(output).contains("VMStats[vmStats].fdsOpen");
+    assertThat(output).doesNotContain("VMStats[vmStats].threads");
+    assertThat(output).contains("No matching results found.");
+  }
+
+  @Test
+  public void watchStatisticsShouldShowTheErrorWhenTheFileCanNotBeReadAnymore() {
+    CompletableFuture<Void> watch = new CompletableFuture<>();
+    watch.completeExceptionally(new IOException("Mocked IOException."));
+    when(statisticsService.watchStatistics(any(), anyList(), anyLong(), anyLong(), any())).thenReturn(watch);
+
+    List<?> result = watchStatisticsCommand.watchStatistics(mockedFile, null, null, null, "5m", "5s", "1h", 20, null);
+    assertThat(result).containsExactly("The file could not be read anymore: Mocked IOException.", "Stopped following live.gfs after 0 updates.");
+  }
+}
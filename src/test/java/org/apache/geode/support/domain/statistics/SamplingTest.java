@@ -16,6 +16,7 @@ package org.apache.geode.support.domain.statistics;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
@@ -94,4 +95,23 @@ public class SamplingTest {
     Sampling sampling = new Sampling(mock(SamplingMetadata.class), categoryMap);
     assertThat(sampling.hasAnyNonEmptyStatistic()).isTrue();
   }
+
+  @Test
+  public void setTimeOffsetTest() {
+    Statistic first = mock(Statistic.class);
+    when(first.getName()).thenReturn("first");
+    Statistic second = mock(Statistic.class);
+    when(second.getName()).thenReturn("second");
+    Category firstCategory = new Category("FirstCategory", "Description");
+    firstCategory.addStatistic(first);
+    Category secondCategory = new Category("SecondCategory", "Description");
+    secondCategory.addStatistic(second);
+    Map<String, Category> categoriesMap = new HashMap<>();
+    categoriesMap.put(firstCategory.getName(), firstCategory);
+    categoriesMap.put(secondCategory.getName(), secondCategory);
+
+    new Sampling(mock(SamplingMetadata.class), categoriesMap).setTimeOffset(-1500);
+    verify(first).setTimeOffset(-1500);
+    verify(second).setTimeOffset(-1500);
+  }
 }
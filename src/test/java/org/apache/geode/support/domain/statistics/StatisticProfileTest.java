@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class StatisticProfileTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenValuesAreInvalid() {
+    assertThatThrownBy(() -> new StatisticProfile("units", null)).isInstanceOf(NullPointerException.class).hasMessage("Values can not be null.");
+    assertThatThrownBy(() -> new StatisticProfile("units", new double[0])).isInstanceOf(IllegalArgumentException.class).hasMessage("Values can not be empty.");
+  }
+
+  @Test
+  public void constructorShouldNotModifyTheOriginalValues() {
+    double[] values = new double[] { 4, 1, 3, 2 };
+    new StatisticProfile("units", values);
+
+    assertThat(values).containsExactly(4, 1, 3, 2);
+  }
+
+  @Test
+  public void summaryValuesShouldBeComputedCorrectly() {
+    StatisticProfile profile = new StatisticProfile("units", new double[] { 4, 1, 3, 2 });
+
+    assertThat(profile.getUnits()).isEqualTo("units");
+    assertThat(profile.getCount()).isEqualTo(4);
+    assertThat(profile.getMinimum()).isEqualTo(1);
+    assertThat(profile.getMaximum()).isEqualTo(4);
+    assertThat(profile.getAverage()).isCloseTo(2.5, within(1e-9));
+    assertThat(profile.getStandardDeviation()).isCloseTo(Math.sqrt(5.0 / 3.0), within(1e-9));
+    assertThat(new StatisticProfile("units", new double[] { 7 }).getStandardDeviation()).isEqualTo(0);
+  }
+
+  @Test
+  public void getQuantileShouldInterpolateBetweenClosestRanks() {
+    StatisticProfile profile = new StatisticProfile("units", new double[] { 4, 1, 3, 2 });
+
+    assertThat(profile.getQuantile(0)).isEqualTo(1);
+    assertThat(profile.getQuantile(0.5)).isCloseTo(2.5, within(1e-9));
+    assertThat(profile.getQuantile(0.95)).isCloseTo(3.85, within(1e-9));
+    assertThat(profile.getQuantile(1)).isEqualTo(4);
+    assertThat(new StatisticProfile("units", new double[] { 7 }).getQuantile(0.99)).isEqualTo(7);
+    assertThatThrownBy(() -> profile.getQuantile(1.1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Probability should be between 0 and 1.");
+  }
+
+  @Test
+  public void isEmptyShouldReturnTrueOnlyWhenAllValuesAreZero() {
+    assertThat(new StatisticProfile("units", new double[] { 0, 0, 0 }).isEmpty()).isTrue();
+    assertThat(new StatisticProfile("units", new double[] { 0, 1, 0 }).isEmpty()).isFalse();
+    assertThat(new StatisticProfile("units", new double[] { 0, -1, 0 }).isEmpty()).isFalse();
+  }
+
+  @Test
+  public void mergeShouldThrowExceptionWhenProfilesAreInvalid() {
+    assertThatThrownBy(() -> StatisticProfile.merge(null)).isInstanceOf(IllegalArgumentException.class).hasMessage("Profiles can not be empty.");
+    assertThatThrownBy(() -> StatisticProfile.merge(Collections.emptyList())).isInstanceOf(IllegalArgumentException.class).hasMessage("Profiles can not be empty.");
+  }
+
+  @Test
+  public void mergeShouldCombineTheValuesFromAllProfiles() {
+    StatisticProfile first = new StatisticProfile("units", new double[] { 5, 1, 3 });
+    StatisticProfile second = new StatisticProfile("other", new double[] { 2, 4 });
+    StatisticProfile third = new StatisticProfile("other", new double[] { 6 });
+
+    assertThat(StatisticProfile.merge(Collections.singletonList(first))).isSameAs(first);
+    StatisticProfile merged = StatisticProfile.merge(Arrays.asList(first, second, third));
+    assertThat(merged.getUnits()).isEqualTo("units");
+    assertThat(merged.getCount()).isEqualTo(6);
+    assertThat(merged.getMinimum()).isEqualTo(1);
+    assertThat(merged.getMaximum()).isEqualTo(6);
+    assertThat(merged.getAverage()).isCloseTo(3.5, within(1e-9));
+    assertThat(merged.getStandardDeviation()).isCloseTo(Math.sqrt(3.5), within(1e-9));
+    assertThat(merged.getQuantile(0.5)).isCloseTo(3.5, within(1e-9));
+    assertThat(merged.getQuantile(0.2)).isCloseTo(2, within(1e-9));
+  }
+
+  @Test
+  public void mergeOfSortedArraysShouldReturnSortedArray() {
+    assertThat(StatisticProfile.merge(new double[] { 1, 3, 5 }, new double[] { 2, 2, 6, 7 })).containsExactly(1, 2, 2, 3, 5, 6, 7);
+    assertThat(StatisticProfile.merge(new double[0], new double[] { 2 })).containsExactly(2);
+  }
+}
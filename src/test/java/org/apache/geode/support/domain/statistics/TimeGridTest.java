@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class TimeGridTest {
+
+  private Statistic mockStatistic(long... timeStamps) {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getRawSeries()).thenReturn(new Series(timeStamps, new double[timeStamps.length]));
+
+    return statistic;
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new TimeGrid(0, 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Step should be positive.");
+    assertThatThrownBy(() -> new TimeGrid(0, 1000, -1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Points should be zero or positive.");
+  }
+
+  @Test
+  public void getTimeStampsShouldReturnGridPoints() {
+    assertThat(new TimeGrid(1000, 500, 4).getTimeStamps()).containsExactly(1000, 1500, 2000, 2500);
+  }
+
+  @Test
+  public void coveringShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> TimeGrid.covering(Collections.emptyList(), 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Minimum step should be positive.");
+    assertThatThrownBy(() -> TimeGrid.covering(Collections.emptyList(), 1000, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum points should be positive.");
+  }
+
+  @Test
+  public void coveringShouldReturnEmptyGridWhenThereAreNoSamples() {
+    assertThat(TimeGrid.covering(Collections.emptyList(), 1000, 10).getPoints()).isEqualTo(0);
+    assertThat(TimeGrid.covering(Collections.singletonList(mockStatistic()), 1000, 10).getPoints()).isEqualTo(0);
+  }
+
+  @Test
+  public void coveringShouldUseMinimumStepWhenThereAreEnoughPoints() {
+    TimeGrid timeGrid = TimeGrid.covering(Arrays.asList(mockStatistic(1500, 3000), mockStatistic(2000, 4200)), 1000, 10);
+
+    assertThat(timeGrid.getStartTime()).isEqualTo(1000);
+    assertThat(timeGrid.getStep()).isEqualTo(1000);
+    assertThat(timeGrid.getPoints()).isEqualTo(4);
+  }
+
+  @Test
+  public void coveringShouldIncreaseStepToHonourMaximumPoints() {
+    TimeGrid timeGrid = TimeGrid.covering(Collections.singletonList(mockStatistic(0, 10000, 20000)), 1000, 5);
+
+    assertThat(timeGrid.getStartTime()).isEqualTo(0);
+    assertThat(timeGrid.getStep()).isEqualTo(5000);
+    assertThat(timeGrid.getPoints()).isEqualTo(5);
+  }
+
+  @Test
+  public void coveringShouldIncreaseStepUntilTheFinishIsCoveredFromTheFlooredStart() {
+    TimeGrid timeGrid = TimeGrid.covering(Collections.singletonList(mockStatistic(3000, 23000)), 1000, 5);
+
+    // Step 5000 would floor the start to 0 and end the grid at 20000, before the last sample.
+    assertThat(timeGrid.getStartTime()).isEqualTo(0);
+    assertThat(timeGrid.getStep()).isEqualTo(5750);
+    assertThat(timeGrid.getPoints()).isEqualTo(5);
+    assertThat(timeGrid.getTimeStamp(4)).isEqualTo(23000);
+  }
+}
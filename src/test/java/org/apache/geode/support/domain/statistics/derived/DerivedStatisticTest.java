@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.derived;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.List;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.domain.statistics.Series;
+
+@RunWith(JUnitParamsRunner.class)
+public class DerivedStatisticTest {
+  private static final long[] TIME_STAMPS = new long[] { 0, 1000, 2000, 4000 };
+
+  @Test
+  @Parameters({ "getLatency", "=CachePerfStats.getTime", "1latency=CachePerfStats.getTime", "get Latency=CachePerfStats.getTime" })
+  public void constructorShouldThrowExceptionWhenDefinitionIsInvalid(String definition) {
+    assertThatThrownBy(() -> new DerivedStatistic(definition)).isInstanceOf(IllegalArgumentException.class).hasMessage(String.format("Invalid derived statistic '%s', expected format is name=expression.", definition));
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenExpressionIsInvalid() {
+    assertInvalidExpression("CachePerfStats.getTime/", "Invalid expression 'CachePerfStats.getTime/', unexpected end of expression at position 23.");
+    assertInvalidExpression("CachePerfStats.getTime $ 2", "Invalid expression 'CachePerfStats.getTime $ 2', unexpected character '$' at position 23.");
+    assertInvalidExpression("(CachePerfStats.getTime", "Invalid expression '(CachePerfStats.getTime', expected ')' at position 23.");
+    assertInvalidExpression("CachePerfStats", "Invalid expression 'CachePerfStats', expected '.' between category and statistic at position 14.");
+    assertInvalidExpression("sqrt(CachePerfStats.gets)", "Invalid expression 'sqrt(CachePerfStats.gets)', unknown function 'sqrt' at position 0.");
+    assertInvalidExpression("min(CachePerfStats.gets)", "Invalid expression 'min(CachePerfStats.gets)', function 'min' expects 2 argument(s) at position 0.");
+    assertInvalidExpression("1.2.3", "Invalid expression '1.2.3', invalid number '1.2.3' at position 0.");
+    assertInvalidExpression("2 * 3", "Invalid expression '2 * 3', at least one statistic should be referenced.");
+  }
+
+  @Test
+  public void constructorShouldCollectDistinctOperands() {
+    DerivedStatistic derivedStatistic = new DerivedStatistic(" hitRatio = CachePerfStats.getHits / (CachePerfStats.getHits + cacheperfstats.MISSES) ");
+
+    assertThat(derivedStatistic.getName()).isEqualTo("hitRatio");
+    assertThat(derivedStatistic.getExpression()).isEqualTo("CachePerfStats.getHits / (CachePerfStats.getHits + cacheperfstats.MISSES)");
+    assertThat(derivedStatistic.getOperands()).extracting(Object::toString).containsExactly("CachePerfStats.getHits", "cacheperfstats.MISSES");
+
+    DerivedStatistic instanceStatistic = new DerivedStatistic("heapUsage=VMMemoryUsageStats[vmHeapMemoryStats].usedMemory/VMMemoryUsageStats[vmHeapMemoryStats].maxMemory");
+    assertThat(instanceStatistic.getOperands()).extracting(Operand::getInstanceId).containsExactly("vmHeapMemoryStats", "vmHeapMemoryStats");
+    List<ValueFilter> filters = instanceStatistic.getFilters();
+    assertThat(filters.size()).isEqualTo(2);
+    assertThat(filters.get(0).typeMatches("VMMemoryUsageStats")).isTrue();
+    assertThat(filters.get(0).instanceMatches("vmHeapMemoryStats", -1)).isTrue();
+    assertThat(filters.get(0).instanceMatches("vmNonHeapMemoryStats", -1)).isFalse();
+  }
+
+  @Test
+  public void parseShouldReturnEmptyListWhenThereAreNoDefinitions() {
+    assertThat(DerivedStatistic.parse(null)).isEmpty();
+    assertThat(DerivedStatistic.parse("  ")).isEmpty();
+    assertThat(DerivedStatistic.parse(";;")).isEmpty();
+  }
+
+  @Test
+  public void parseShouldReturnOneDerivedStatisticPerDefinition() {
+    List<DerivedStatistic> derivedStatistics = DerivedStatistic.parse("getLatency=CachePerfStats.getTime/CachePerfStats.gets; fdUsage=VMStats.fdsOpen/VMStats.fdLimit;");
+
+    assertThat(derivedStatistics).extracting(DerivedStatistic::getName).containsExactly("getLatency", "fdUsage");
+  }
+
+  @Test
+  public void parseShouldThrowExceptionWhenNamesAreDuplicated() {
+    assertThatThrownBy(() -> DerivedStatistic.parse("ratio=A.x/A.y;ratio=B.x/B.y")).isInstanceOf(IllegalArgumentException.class).hasMessage("Derived statistic 'ratio' is defined more than once.");
+  }
+
+  @Test
+  public void evaluateShouldThrowExceptionWhenOperandsDoNotMatch() {
+    DerivedStatistic derivedStatistic = new DerivedStatistic("ratio=A.x/A.y");
+
+    assertThatThrownBy(() -> derivedStatistic.evaluate(TIME_STAMPS, new double[][] { { 1, 2, 3, 4 } })).isInstanceOf(IllegalArgumentException.class).hasMessage("Expected 2 operands but found 1.");
+    assertThatThrownBy(() -> derivedStatistic.evaluate(TIME_STAMPS, new double[][] { { 1, 2, 3, 4 }, { 1, 2 } })).isInstanceOf(IllegalArgumentException.class).hasMessage("TimeStamps and Values should have the same length.");
+  }
+
+  @Test
+  public void evaluateShouldHonourPrecedenceAndFunctions() {
+    assertEvaluation("A.x + A.y * 2", 21, 42, 63, 84);
+    assertEvaluation("(A.x + A.y) * 2", 22, 44, 66, 88);
+    assertEvaluation("A.x - A.y - 1", -10, -19, -28, -37);
+    assertEvaluation("-A.x / -2 + 0.5", 1, 1.5, 2, 2.5);
+    assertEvaluation("abs(A.x - A.y)", 9, 18, 27, 36);
+    assertEvaluation("max(A.x * 5, A.y) - min(A.x * 5, A.y)", 5, 10, 15, 20);
+  }
+
+  @Test
+  public void evaluateShouldDiscardUndefinedSamples() {
+    Series ratio = new DerivedStatistic("ratio=A.x/A.y").evaluate(TIME_STAMPS, new double[][] { { 10, 20, 30, 40 }, { 0, 2, 0, 8 } });
+    assertThat(ratio.getTimeStamps()).containsExactly(1000, 4000);
+    assertThat(ratio.getValues()).containsExactly(10, 5);
+
+    Series delta = new DerivedStatistic("delta=delta(A.x)").evaluate(TIME_STAMPS, new double[][] { { 10, 20, 30, 40 } });
+    assertThat(delta.getTimeStamps()).containsExactly(1000, 2000, 4000);
+    assertThat(delta.getValues()).containsExactly(10, 10, 10);
+
+    Series rate = new DerivedStatistic("rate=rate(A.x)").evaluate(TIME_STAMPS, new double[][] { { 10, 20, 30, 40 } });
+    assertThat(rate.getTimeStamps()).containsExactly(1000, 2000, 4000);
+    assertThat(rate.getValues()).containsExactly(10, 10, 5);
+  }
+
+  @Test
+  public void getUnitsShouldInferUnitsFromTheExpression() {
+    assertThat(new DerivedStatistic("derived=A.x / A.y").getUnits(new String[] { "operations", "operations" })).isEqualTo("");
+    assertThat(new DerivedStatistic("derived=A.x / A.y").getUnits(new String[] { "nanoseconds", "operations" })).isEqualTo("nanoseconds/operations");
+    assertThat(new DerivedStatistic("derived=1 / A.y").getUnits(new String[] { "operations" })).isEqualTo("1/operations");
+    assertThat(new DerivedStatistic("derived=A.x * A.y").getUnits(new String[] { "bytes", "operations" })).isEqualTo("bytes*operations");
+    assertThat(new DerivedStatistic("derived=A.x * 100 + A.y").getUnits(new String[] { "bytes", "bytes" })).isEqualTo("bytes");
+    assertThat(new DerivedStatistic("derived=rate(A.x)").getUnits(new String[] { "operations" })).isEqualTo("operations/second");
+    assertThat(new DerivedStatistic("derived=rate(A.x / A.y)").getUnits(new String[] { "operations", "operations" })).isEqualTo("1/second");
+  }
+
+  private void assertInvalidExpression(String expression, String message) {
+    assertThatThrownBy(() -> new DerivedStatistic("derived=" + expression)).isInstanceOf(IllegalArgumentException.class).hasMessage(message);
+  }
+
+  private void assertEvaluation(String expression, double... expectedValues) {
+    DerivedStatistic derivedStatistic = new DerivedStatistic("derived=" + expression);
+    double[][] operands = Arrays.copyOf(new double[][] { { 1, 2, 3, 4 }, { 10, 20, 30, 40 } }, derivedStatistic.getOperands().size());
+    Series series = derivedStatistic.evaluate(TIME_STAMPS, operands);
+
+    assertThat(series.getTimeStamps()).containsExactly(TIME_STAMPS);
+    assertThat(series.getValues().length).isEqualTo(expectedValues.length);
+    for (int i = 0; i < expectedValues.length; i++) assertThat(series.getValues()[i]).isCloseTo(expectedValues[i], within(0.0001));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class NameMatcherTest {
+
+  @Test
+  public void compileShouldChooseTheCheapestStrategy() {
+    assertThat(NameMatcher.compile(null).getKind()).isEqualTo(NameMatcher.Kind.ANY);
+    assertThat(NameMatcher.compile(" ").getKind()).isEqualTo(NameMatcher.Kind.ANY);
+    assertThat(NameMatcher.compile("VMStats").getKind()).isEqualTo(NameMatcher.Kind.LITERAL);
+    assertThat(NameMatcher.compile("RegionStats-partitionMetaData").getKind()).isEqualTo(NameMatcher.Kind.LITERAL);
+    assertThat(NameMatcher.compile("fds.*").getKind()).isEqualTo(NameMatcher.Kind.PREFIX);
+    assertThat(NameMatcher.compile(".*").getKind()).isEqualTo(NameMatcher.Kind.PREFIX);
+    assertThat(NameMatcher.compile("fd.*Open").getKind()).isEqualTo(NameMatcher.Kind.REGEX);
+    assertThat(NameMatcher.compile("fds\\.*").getKind()).isEqualTo(NameMatcher.Kind.REGEX);
+    assertThat(NameMatcher.compile("(fds).*").getKind()).isEqualTo(NameMatcher.Kind.REGEX);
+    assertThat(NameMatcher.compile("vmstäts").getKind()).isEqualTo(NameMatcher.Kind.REGEX);
+  }
+
+  @Test
+  public void matchesShouldBehaveAsCaseInsensitivePatterns() {
+    NameMatcher any = NameMatcher.compile(null);
+    assertThat(any.matches("anything")).isTrue();
+
+    NameMatcher literal = NameMatcher.compile("VMStats");
+    assertThat(literal.matches("VMStats")).isTrue();
+    assertThat(literal.matches("vmstats")).isTrue();
+    assertThat(literal.matches("VMStats2")).isFalse();
+    assertThat(literal.matches("VM")).isFalse();
+
+    NameMatcher prefix = NameMatcher.compile("fds.*");
+    assertThat(prefix.matches("fds")).isTrue();
+    assertThat(prefix.matches("FDSOpen")).isTrue();
+    assertThat(prefix.matches("fdLimit")).isFalse();
+    assertThat(prefix.matches("fd")).isFalse();
+
+    NameMatcher regex = NameMatcher.compile("fd.*Open|fdLimit");
+    assertThat(regex.matches("fdsOPEN")).isTrue();
+    assertThat(regex.matches("FDLIMIT")).isTrue();
+    assertThat(regex.matches("fdsOpened")).isFalse();
+  }
+
+  @Test
+  public void matchesShouldOnlyMatchNumericIdsWhenSpecCanRepresentANumber() {
+    assertThat(NameMatcher.compile(null).matches(1L)).isTrue();
+    assertThat(NameMatcher.compile("vmStats").matches(1L)).isFalse();
+    assertThat(NameMatcher.compile("1").matches(1L)).isTrue();
+    assertThat(NameMatcher.compile("1").matches(10L)).isFalse();
+    assertThat(NameMatcher.compile("-1").matches(-1L)).isTrue();
+    assertThat(NameMatcher.compile("1.*").matches(10L)).isTrue();
+    assertThat(NameMatcher.compile("1.*").matches(20L)).isFalse();
+    assertThat(NameMatcher.compile("vm.*").matches(1L)).isFalse();
+    assertThat(NameMatcher.compile("[12]").matches(2L)).isTrue();
+    assertThat(NameMatcher.compile("[12]").matches(3L)).isFalse();
+  }
+
+  @Test
+  public void matchesShouldMemoizeRegexDecisionsPerDistinctName() {
+    NameMatcher literal = NameMatcher.compile("VMStats");
+    literal.matches("VMStats");
+    assertThat(literal.getCachedDecisions()).isEqualTo(0);
+
+    NameMatcher regex = NameMatcher.compile("fd.*Open");
+    assertThat(regex.matches("fdsOpen")).isTrue();
+    assertThat(regex.matches("fdsOpen")).isTrue();
+    assertThat(regex.matches("fdLimit")).isFalse();
+    assertThat(regex.matches("fdLimit")).isFalse();
+    assertThat(regex.matches(1L)).isFalse();
+    assertThat(regex.getCachedDecisions()).isEqualTo(3);
+  }
+
+  @Test
+  public void matchesShouldStopCachingWhenTheMaximumNumberOfNamesIsReached() {
+    NameMatcher regex = NameMatcher.compile("name[0-9]+");
+    for (int i = 0; i < NameMatcher.MAXIMUM_CACHED_NAMES + 10; i++) {
+      assertThat(regex.matches("name" + i)).isTrue();
+    }
+
+    assertThat(regex.getCachedDecisions()).isEqualTo(NameMatcher.MAXIMUM_CACHED_NAMES);
+    assertThat(regex.matches("other")).isFalse();
+  }
+
+  @Test
+  public void getLiteralShouldOnlyReturnTheSpecForLiteralMatchers() {
+    assertThat(NameMatcher.compile("VMStats").getLiteral()).isEqualTo("VMStats");
+    assertThat(NameMatcher.compile(null).getLiteral()).isNull();
+    assertThat(NameMatcher.compile("VM.*").getLiteral()).isNull();
+    assertThat(NameMatcher.compile("fd.*Open").getLiteral()).isNull();
+  }
+}
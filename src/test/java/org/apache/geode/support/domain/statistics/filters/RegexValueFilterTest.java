@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.domain.statistics.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.Test;
+
+public class RegexValueFilterTest {
+
+  @Test
+  public void archiveMatchesShouldUseTheArchivePatternWhenSpecified() {
+    assertThat(new RegexValueFilter(null, null, null, null).archiveMatches(new File("member.gfs"))).isTrue();
+    assertThat(new RegexValueFilter(null, null, null, null).archiveMatches(new File("member.log"))).isFalse();
+    assertThat(new RegexValueFilter(null, null, null, "cluster1-.*").archiveMatches(new File("CLUSTER1-server1.gfs"))).isTrue();
+    assertThat(new RegexValueFilter(null, null, null, "cluster1-.*").archiveMatches(new File("cluster2-server1.gfs"))).isFalse();
+  }
+
+  @Test
+  public void matchesShouldUseTheConfiguredSpecs() {
+    RegexValueFilter filter = new RegexValueFilter("VMStats", null, "fd.*", null);
+    assertThat(filter.typeMatches("vmStats")).isTrue();
+    assertThat(filter.typeMatches("VMStats2")).isFalse();
+    assertThat(filter.statMatches("fdsOpen")).isTrue();
+    assertThat(filter.statMatches("cpus")).isFalse();
+    assertThat(filter.instanceMatches("vmStats", 1L)).isTrue();
+  }
+
+  @Test
+  public void instanceMatchesShouldCheckBothTextAndNumericIds() {
+    RegexValueFilter textFilter = new RegexValueFilter(null, "RegionStats-.*", null, null);
+    assertThat(textFilter.instanceMatches("RegionStats-partitionMetaData", 1L)).isTrue();
+    assertThat(textFilter.instanceMatches("cachePerfStats", 1L)).isFalse();
+
+    RegexValueFilter numericFilter = new RegexValueFilter(null, "1", null, null);
+    assertThat(numericFilter.instanceMatches("cachePerfStats", 1L)).isTrue();
+    assertThat(numericFilter.instanceMatches("cachePerfStats", 2L)).isFalse();
+  }
+
+  @Test
+  public void getLiteralIdsShouldReturnNullWhenTheSpecsAreNotLiterals() {
+    RegexValueFilter literalFilter = new RegexValueFilter("VMStats", "vmStats", null, null);
+    assertThat(literalFilter.getLiteralTypeId()).isEqualTo("VMStats");
+    assertThat(literalFilter.getLiteralInstanceId()).isEqualTo("vmStats");
+
+    RegexValueFilter regexFilter = new RegexValueFilter("VM.*", "RegionStats-.*", null, null);
+    assertThat(regexFilter.getLiteralTypeId()).isNull();
+    assertThat(regexFilter.getLiteralInstanceId()).isNull();
+    assertThat(new RegexValueFilter(null, " ", null, null).getLiteralInstanceId()).isNull();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
+
+public class StatisticsCatalogServiceTest {
+  private Path samplesPath;
+  private StatisticsService statisticsService;
+  private StatisticsCatalogService statisticsCatalogService;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void setUp() throws IOException {
+    samplesPath = temporaryFolder.getRoot().toPath();
+    Path regularPath = temporaryFolder.newFile("cluster1-server1.gfs").toPath();
+    Path corruptedPath = temporaryFolder.newFile("cluster1-server2.gfs").toPath();
+
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = new ArrayList<>();
+    parsingResults.add(new ParsingResult<>(regularPath, Arrays.asList(
+        new CatalogEntry("VMStats", Collections.singletonList("vmStats"), Arrays.asList("cpus", "fdsOpen")),
+        new CatalogEntry("CachePerfStats", Arrays.asList("cachePerfStats", "RegionStats-managementRegionStats"), Arrays.asList("gets", "getTime")))));
+    parsingResults.add(new ParsingResult<>(corruptedPath, new IOException("Mocked Exception While Parsing File.")));
+
+    statisticsService = mock(StatisticsService.class);
+    when(statisticsService.catalogStatistics(any(), any())).thenReturn(parsingResults);
+    statisticsCatalogService = new StatisticsCatalogService(statisticsService);
+  }
+
+  @Test
+  public void catalogLookupShouldReturnTheNamesStartingWithThePrefixIgnoringCase() {
+    StatisticsCatalogService.Catalog catalog = statisticsCatalogService.buildCatalog(samplesPath);
+
+    assertThat(catalog.lookup(StatisticsCatalogService.NameType.Category, "")).containsExactly("CachePerfStats", "VMStats");
+    assertThat(catalog.lookup(StatisticsCatalogService.NameType.Category, "vm")).containsExactly("VMStats");
+    assertThat(catalog.lookup(StatisticsCatalogService.NameType.Category, "Disk")).isEmpty();
+    assertThat(catalog.lookup(StatisticsCatalogService.NameType.Instance, "regionStats-")).containsExactly("RegionStats-managementRegionStats");
+    assertThat(catalog.lookup(StatisticsCatalogService.NameType.Statistic, "GET")).containsExactly("gets", "getTime");
+    assertThat(catalog.lookup(StatisticsCatalogService.NameType.Statistic, "z")).isEmpty();
+  }
+
+  @Test
+  public void lookupShouldReturnEmptyListWhenThePathDoesNotExist() {
+    assertThat(statisticsCatalogService.lookup(null, StatisticsCatalogService.NameType.Category, "")).isEmpty();
+    assertThat(statisticsCatalogService.lookup(samplesPath.resolve("nonExisting"), StatisticsCatalogService.NameType.Category, "")).isEmpty();
+    verify(statisticsService, times(0)).catalogStatistics(any(), any());
+  }
+
+  @Test
+  public void lookupShouldUseTheCatalogBuiltInTheBackground() throws Exception {
+    statisticsCatalogService.warmUp(samplesPath);
+    statisticsCatalogService.getCatalogHolder(samplesPath).refreshTask.get();
+
+    assertThat(statisticsCatalogService.lookup(samplesPath, StatisticsCatalogService.NameType.Category, "Cache")).containsExactly("CachePerfStats");
+    assertThat(statisticsCatalogService.lookup(samplesPath, StatisticsCatalogService.NameType.Instance, null)).containsExactly("cachePerfStats", "RegionStats-managementRegionStats", "vmStats");
+    verify(statisticsService, times(1)).catalogStatistics(samplesPath.toAbsolutePath().normalize(), Collections.emptyList());
+  }
+
+  @Test
+  public void refreshShouldOnlyRebuildTheCatalogWhenFilesChange() throws Exception {
+    StatisticsCatalogService.CatalogHolder catalogHolder = statisticsCatalogService.getCatalogHolder(samplesPath);
+    catalogHolder.refreshTask.get();
+    StatisticsCatalogService.Catalog catalog = catalogHolder.catalog;
+    assertThat(catalog).isNotNull();
+
+    // Files unchanged.
+    catalogHolder.checkedAt = 0;
+    statisticsCatalogService.getCatalogHolder(samplesPath).refreshTask.get();
+    assertThat(catalogHolder.catalog).isSameAs(catalog);
+
+    // File modified.
+    Path modifiedPath = samplesPath.resolve("cluster1-server1.gfs");
+    Files.write(modifiedPath, new byte[] { 1, 2, 3 });
+    Files.setLastModifiedTime(modifiedPath, FileTime.fromMillis(Files.getLastModifiedTime(modifiedPath).toMillis() + 60000));
+    catalogHolder.checkedAt = 0;
+    statisticsCatalogService.getCatalogHolder(samplesPath).refreshTask.get();
+    assertThat(catalogHolder.catalog).isNotSameAs(catalog);
+    verify(statisticsService, times(2)).catalogStatistics(any(), any());
+  }
+}
@@ -16,8 +16,11 @@ package org.apache.geode.support.service.statistics;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -29,9 +32,12 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
@@ -40,6 +46,7 @@ import java.util.stream.Stream;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -50,12 +57,36 @@ import org.apache.geode.internal.statistics.StatArchiveReader;
 import org.apache.geode.internal.statistics.StatValue;
 import org.apache.geode.internal.statistics.ValueFilter;
 import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
 import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.domain.statistics.LaggedCorrelation;
+import org.apache.geode.support.domain.statistics.LiveSummary;
+import org.apache.geode.support.domain.statistics.Pause;
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.RollingSummary;
+import org.apache.geode.support.domain.statistics.SampledValue;
 import org.apache.geode.support.domain.statistics.Sampling;
 import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
 import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.StatisticComparison;
+import org.apache.geode.support.domain.statistics.StatisticProfile;
+import org.apache.geode.support.domain.statistics.Trend;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
 import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
 import org.apache.geode.support.domain.statistics.filters.SimpleValueFilter;
+import org.apache.geode.support.service.StatisticsService;
+import org.apache.geode.support.service.statistics.internal.AnomalyScanner;
+import org.apache.geode.support.service.statistics.internal.ArchiveIndex;
+import org.apache.geode.support.service.statistics.internal.ArchiveIndexCache;
+import org.apache.geode.support.service.statistics.internal.ChangePointDetector;
+import org.apache.geode.support.service.statistics.internal.DistributionShiftDetector;
+import org.apache.geode.support.service.statistics.internal.RollingWindow;
+import org.apache.geode.support.service.statistics.internal.StatisticRanker;
 import org.apache.geode.support.test.mockito.MockUtils;
 
 @RunWith(PowerMockRunner.class)
@@ -366,6 +397,47 @@ public class DefaultStatisticsServicesTest {
     verify(statisticsService, times(1)).parseSamplingStatisticalData(any());
   }
 
+  private Statistic mockOperandStatistic(String name, String units, Series series) {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getName()).thenReturn(name);
+    when(statistic.getUnits()).thenReturn(units);
+    when(statistic.getRawSeries()).thenReturn(series);
+
+    return statistic;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void parseIndividualSamplingShouldAddTheDerivedStatisticsAndRemoveTheOperandsNotExplicitlyIncluded() throws Exception {
+    long[] timeStamps = new long[] { 1000, 2000, 3000 };
+    Statistic fdsOpen = mockOperandStatistic("fdsOpen", "fds", new Series(timeStamps, new double[] { 10, 20, 30 }));
+    Statistic fdLimit = mockOperandStatistic("fdLimit", "fds", new Series(timeStamps, new double[] { 100, 100, 100 }));
+    Statistic threads = mockOperandStatistic("threads", "threads", new Series(timeStamps, new double[] { 4, 8, 8 }));
+    Statistic cpus = mockOperandStatistic("cpus", "cpus", new Series(timeStamps, new double[] { 4, 4, 4 }));
+    Statistic gets = mockOperandStatistic("gets", "operations", new Series(timeStamps, new double[] { 0, 10, 20 }));
+    Category vmStats = new Category("VMStats[vmStats]", "VMStats");
+    Arrays.asList(fdsOpen, fdLimit, threads, cpus).forEach(vmStats::addStatistic);
+    Category cachePerfStats = new Category("CachePerfStats[cachePerfStats]", "CachePerfStats");
+    cachePerfStats.addStatistic(gets);
+    Map<String, Category> categories = new HashMap<>();
+    categories.put(vmStats.getName(), vmStats);
+    categories.put(cachePerfStats.getName(), cachePerfStats);
+    doReturn(new Sampling(mock(SamplingMetadata.class), categories)).when(statisticsService).parseIndividualSampling(any(), anyList());
+
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", null, "fdsOpen", null));
+    List<DerivedStatistic> derivedStatistics = DerivedStatistic.parse("fdUsage=VMStats.fdsOpen/VMStats.fdLimit;threadsPerCpu=VMStats.threads/VMStats.cpus");
+    Sampling sampling = statisticsService.parseIndividualSampling(mockedRegularPath, filters, derivedStatistics);
+
+    ArgumentCaptor<List> filtersCaptor = ArgumentCaptor.forClass(List.class);
+    verify(statisticsService).parseIndividualSampling(any(), filtersCaptor.capture());
+    assertThat(filtersCaptor.getValue()).contains(filters.get(0), statisticsService.defaultValueFilter);
+
+    assertThat(sampling.hasCategory("CachePerfStats[cachePerfStats]")).isFalse();
+    assertThat(sampling.getCategory("VMStats[vmStats]").getStatistics().keySet()).containsExactlyInAnyOrder("fdsOpen", "fdUsage", "threadsPerCpu");
+    assertThat(sampling.getCategory("VMStats[vmStats]").getStatistic("fdUsage").getRawSeries().getValues()).containsExactly(0.1, 0.2, 0.3);
+    assertThat(sampling.getCategory("VMStats[vmStats]").getStatistic("threadsPerCpu").getRawSeries().getValues()).containsExactly(1, 2, 2);
+  }
+
   @Test
   public void parseIndividualSamplingShouldPropagateAllExceptionsAndCloseTheStatArchiveFileWhenPossible() throws Exception {
     List<ValueFilter> filters = new ArrayList<>();
@@ -491,6 +563,11 @@ public class DefaultStatisticsServicesTest {
     assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Mocked IOException");
   }
 
+  @Test
+  public void parseSamplingShouldThrowExceptionWhenDerivedStatisticsAreNull() {
+    assertThatThrownBy(() -> statisticsService.parseSampling(mockedDirectoryPath, Collections.emptyList(), null)).isInstanceOf(NullPointerException.class).hasMessage("Derived statistics can not be null.");
+  }
+
   @Test
   public void parseSamplingShouldReturnOnlyParsingErrorsWhenParseIndividualSamplingFailsForAllFiles() throws Exception {
     doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
@@ -557,4 +634,903 @@ public class DefaultStatisticsServicesTest {
     assertThat(failedResult.getException()).isNotNull();
     assertThat(failedResult.getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
   }
+
+  @Test
+  public void parseSamplingShouldSkipFilesWhoseIndexCanNotMatchTheFilters() throws Exception {
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", null, null, null));
+    ArchiveIndex nonMatchingIndex = mock(ArchiveIndex.class);
+    when(nonMatchingIndex.mayMatch(any(), any())).thenReturn(false);
+    statisticsService.archiveIndexCache = mock(ArchiveIndexCache.class);
+    when(statisticsService.archiveIndexCache.get(mockedRegularPath)).thenReturn(nonMatchingIndex);
+    Sampling mockedSampling = mock(Sampling.class);
+    doReturn(mockedSampling).when(statisticsService).parseIndividualSampling(mockedCompressedPath, filters);
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(mockedDirectoryPath, filters);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData().hasAnyStatistic()).isFalse();
+    assertThat(parsingResults.get(1).isSuccess()).isTrue();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getData()).isSameAs(mockedSampling);
+    verify(statisticsService, times(0)).parseIndividualSampling(mockedRegularPath, filters);
+  }
+
+  @Test
+  public void selectSamplingShouldKeepOnlyTheStatisticsMatchedByTheFilter() {
+    Statistic fdsOpen = mockOperandStatistic("fdsOpen", "fds", new Series(new long[0], new double[0]));
+    Statistic fdLimit = mockOperandStatistic("fdLimit", "fds", new Series(new long[0], new double[0]));
+    Statistic delayDuration = mockOperandStatistic("delayDuration", "milliseconds", new Series(new long[0], new double[0]));
+    Category vmStats = new Category("VMStats[vmStats]", "VMStats");
+    vmStats.addStatistic(fdsOpen);
+    vmStats.addStatistic(fdLimit);
+    Category statSampler = new Category("StatSampler[statSampler]", "StatSampler");
+    statSampler.addStatistic(delayDuration);
+    Map<String, Category> categories = new HashMap<>();
+    categories.put(vmStats.getName(), vmStats);
+    categories.put(statSampler.getName(), statSampler);
+    SamplingMetadata metadata = mock(SamplingMetadata.class);
+    Sampling sampling = new Sampling(metadata, categories);
+
+    Sampling selected = statisticsService.selectSampling(sampling, new RegexValueFilter("VMStats", "vmStats", "fds.*", null));
+    assertThat(selected.getMetadata()).isSameAs(metadata);
+    assertThat(selected.getCategories().keySet()).containsExactly("VMStats[vmStats]");
+    assertThat(selected.getCategory("VMStats[vmStats]").getStatistics().values()).containsExactly(fdsOpen);
+    assertThat(statisticsService.selectSampling(sampling, new RegexValueFilter("VMStats", "other", null, null)).getCategories()).isEmpty();
+
+    // Original sampling is not modified.
+    assertThat(sampling.getCategories().keySet()).containsExactlyInAnyOrder("VMStats[vmStats]", "StatSampler[statSampler]");
+    assertThat(vmStats.getStatistics().size()).isEqualTo(2);
+  }
+
+  @Test
+  public void querySamplingShouldThrowExceptionWhenQueriesAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.querySampling(mockedDirectoryPath, null)).isInstanceOf(NullPointerException.class).hasMessage("Queries can not be null.");
+    assertThatThrownBy(() -> statisticsService.querySampling(mockedDirectoryPath, Collections.emptyList())).isInstanceOf(IllegalArgumentException.class).hasMessage("At least one query should be specified.");
+  }
+
+  @Test
+  public void querySamplingShouldParseEachFileOnceAndSplitTheResultsPerQuery() throws Exception {
+    Statistic fdsOpen = mockOperandStatistic("fdsOpen", "fds", new Series(new long[0], new double[0]));
+    Statistic delayDuration = mockOperandStatistic("delayDuration", "milliseconds", new Series(new long[0], new double[0]));
+    Category vmStats = new Category("VMStats[vmStats]", "VMStats");
+    vmStats.addStatistic(fdsOpen);
+    Category statSampler = new Category("StatSampler[statSampler]", "StatSampler");
+    statSampler.addStatistic(delayDuration);
+    Map<String, Category> categories = new HashMap<>();
+    categories.put(vmStats.getName(), vmStats);
+    categories.put(statSampler.getName(), statSampler);
+    doReturn(new Sampling(mock(SamplingMetadata.class), categories)).when(statisticsService).parseIndividualSampling(eq(mockedRegularPath), anyList());
+    doThrow(new IOException("Mocked IOException")).when(statisticsService).parseIndividualSampling(eq(mockedCompressedPath), anyList());
+
+    List<ValueFilter> queries = Arrays.asList(new RegexValueFilter("VMStats", null, "fdsOpen", null), new RegexValueFilter("StatSampler", null, null, null));
+    List<List<ParsingResult<Sampling>>> queryResults = statisticsService.querySampling(mockedDirectoryPath, queries);
+    verify(statisticsService, times(1)).parseIndividualSampling(mockedRegularPath, queries);
+    verify(statisticsService, times(1)).parseIndividualSampling(mockedCompressedPath, queries);
+    assertThat(queryResults.size()).isEqualTo(2);
+
+    List<ParsingResult<Sampling>> vmStatsResults = queryResults.get(0);
+    assertThat(vmStatsResults.size()).isEqualTo(2);
+    assertThat(vmStatsResults.get(0).isSuccess()).isTrue();
+    assertThat(vmStatsResults.get(0).getData().getCategories().keySet()).containsExactly("VMStats[vmStats]");
+    assertThat(vmStatsResults.get(1).isFailure()).isTrue();
+    assertThat(vmStatsResults.get(1).getException()).isInstanceOf(IOException.class).hasMessage("Mocked IOException");
+
+    List<ParsingResult<Sampling>> statSamplerResults = queryResults.get(1);
+    assertThat(statSamplerResults.size()).isEqualTo(2);
+    assertThat(statSamplerResults.get(0).getData().getCategories().keySet()).containsExactly("StatSampler[statSampler]");
+    assertThat(statSamplerResults.get(0).getData().getCategory("StatSampler[statSampler]").getStatistics().values()).containsExactly(delayDuration);
+    assertThat(statSamplerResults.get(1).isFailure()).isTrue();
+  }
+
+  @Test
+  public void downsampleShouldThrowExceptionWhenParametersAreNull() {
+    assertThatThrownBy(() -> statisticsService.downsample(mock(Statistic.class), 10, null)).isInstanceOf(NullPointerException.class).hasMessage("Downsampling method can not be null.");
+    assertThatThrownBy(() -> statisticsService.downsample(null, 10, StatisticsService.DownsamplingMethod.LTTB)).isInstanceOf(NullPointerException.class).hasMessage("Statistic can not be null.");
+  }
+
+  @Test
+  public void downsampleShouldFeedEverySampleIntoTheDownsampler() {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getSeries()).thenReturn(new Series(new long[] { 1, 2, 3, 4 }, new double[] { 10, 40, 20, 30 }));
+
+    Series result = statisticsService.downsample(statistic, 2, StatisticsService.DownsamplingMethod.MAXIMUM);
+    assertThat(result.getValues()).containsExactly(40, 30);
+    assertThat(result.getTimeStamps()).containsExactly(2, 4);
+  }
+
+  @Test
+  public void aggregateShouldThrowExceptionWhenParametersAreNull() {
+    assertThatThrownBy(() -> statisticsService.aggregate(null, 1000, StatisticsService.Aggregation.Sum)).isInstanceOf(NullPointerException.class).hasMessage("Statistics can not be null.");
+    assertThatThrownBy(() -> statisticsService.aggregate(Collections.emptyList(), 1000, null)).isInstanceOf(NullPointerException.class).hasMessage("Aggregation can not be null.");
+  }
+
+  @Test
+  public void aggregateShouldCombineTheSeriesOfAllStatistics() {
+    Statistic statistic1 = mock(Statistic.class);
+    when(statistic1.getSeries()).thenReturn(new Series(new long[] { 1000, 2000 }, new double[] { 10, 20 }));
+    Statistic statistic2 = mock(Statistic.class);
+    when(statistic2.getSeries()).thenReturn(new Series(new long[] { 1100, 2100 }, new double[] { 5, 15 }));
+
+    Series result = statisticsService.aggregate(Arrays.asList(statistic1, statistic2), 1000, StatisticsService.Aggregation.Sum);
+    assertThat(result.getTimeStamps()).containsExactly(1000, 2000);
+    assertThat(result.getValues()).containsExactly(15, 35);
+  }
+
+  @Test
+  public void resampleShouldThrowExceptionWhenStatisticsAreNull() {
+    assertThatThrownBy(() -> statisticsService.resample(null, 0, 1000, 10)).isInstanceOf(NullPointerException.class).hasMessage("Statistics can not be null.");
+  }
+
+  @Test
+  public void resampleShouldPropagateExceptionsThrownWhileResampling() {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getRawSeries()).thenThrow(new IllegalStateException("Mocked IllegalStateException."));
+
+    assertThatThrownBy(() -> statisticsService.resample(Collections.singletonList(statistic), 0, 1000, 10)).isInstanceOf(IllegalStateException.class).hasMessage("Mocked IllegalStateException.");
+  }
+
+  @Test
+  public void resampleShouldUseRawValuesAndStatisticTypeForEveryStatistic() {
+    Statistic gauge = mock(Statistic.class);
+    when(gauge.isCounter()).thenReturn(false);
+    when(gauge.getRawSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000 }, new double[] { 10, 20, 30 }));
+    Statistic counter = mock(Statistic.class);
+    when(counter.isCounter()).thenReturn(true);
+    when(counter.getRawSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000 }, new double[] { 10, 20, 30 }));
+
+    double[][] result = statisticsService.resample(Arrays.asList(gauge, counter), 2000, 1000, 2);
+    assertThat(result.length).isEqualTo(2);
+    assertThat(result[0]).containsExactly(20, 30);
+    assertThat(result[1]).containsExactly(10, 10);
+  }
+
+  @Test
+  public void correlateShouldThrowExceptionWhenParametersAreNull() {
+    assertThatThrownBy(() -> statisticsService.correlate(new double[0][], new double[0][], null)).isInstanceOf(NullPointerException.class).hasMessage("Correlation method can not be null.");
+    assertThatThrownBy(() -> statisticsService.correlate(null, new double[0][], StatisticsService.CorrelationMethod.Pearson)).isInstanceOf(NullPointerException.class).hasMessage("Targets can not be null.");
+    assertThatThrownBy(() -> statisticsService.correlate(new double[0][], null, StatisticsService.CorrelationMethod.Pearson)).isInstanceOf(NullPointerException.class).hasMessage("Candidates can not be null.");
+  }
+
+  @Test
+  public void correlateShouldReturnOneCoefficientPerTargetAndCandidate() {
+    double[][] targets = new double[][] { { 1, 2, 3 }, { 3, 2, 1 } };
+    double[][] candidates = new double[][] { { 10, 20, 30 }, { 1, 1, 1 }, { 1, 4, 9 } };
+
+    double[][] result = statisticsService.correlate(targets, candidates, StatisticsService.CorrelationMethod.Spearman);
+    assertThat(result.length).isEqualTo(2);
+    assertThat(result[0][0]).isCloseTo(1.0, within(1e-9));
+    assertThat(result[0][1]).isNaN();
+    assertThat(result[0][2]).isCloseTo(1.0, within(1e-9));
+    assertThat(result[1][0]).isCloseTo(-1.0, within(1e-9));
+    assertThat(result[1][1]).isNaN();
+    assertThat(result[1][2]).isCloseTo(-1.0, within(1e-9));
+  }
+
+  @Test
+  public void crossCorrelateShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.crossCorrelate(new double[0], new double[0][], -1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum lag should be zero or positive.");
+    assertThatThrownBy(() -> statisticsService.crossCorrelate(null, new double[0][], 10)).isInstanceOf(NullPointerException.class).hasMessage("Target can not be null.");
+    assertThatThrownBy(() -> statisticsService.crossCorrelate(new double[0], null, 10)).isInstanceOf(NullPointerException.class).hasMessage("Candidates can not be null.");
+  }
+
+  @Test
+  public void crossCorrelateShouldReturnTheStrongestLagForEveryCandidate() {
+    double[] target = new double[] { 0, 0, 0, 1, 0, 0, 0, 0, 0, 0 };
+    double[][] candidates = new double[][] { { 1, 0, 0, 0, 0, 0, 0, 0, 0, 0 }, { 0, 0, 0, 0, 0, 1, 0, 0, 0, 0 }, { 1, 1, 1, 1, 1, 1, 1, 1, 1, 1 } };
+
+    LaggedCorrelation[] result = statisticsService.crossCorrelate(target, candidates, 5);
+    assertThat(result.length).isEqualTo(3);
+    assertThat(result[0].getLag()).isEqualTo(3);
+    assertThat(result[0].getCoefficient()).isGreaterThan(0.9);
+    assertThat(result[1].getLag()).isEqualTo(-2);
+    assertThat(result[1].getCoefficient()).isGreaterThan(0.9);
+    assertThat(result[2].getCoefficient()).isNaN();
+  }
+
+  private Statistic mockAnomalyStatistic(String name, boolean counter, double[] values) {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getName()).thenReturn(name);
+    when(statistic.isCounter()).thenReturn(counter);
+    when(statistic.getMinimum()).thenReturn(Arrays.stream(values).min().orElse(0));
+    when(statistic.getMaximum()).thenReturn(Arrays.stream(values).max().orElse(0));
+    when(statistic.getSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000, 4000, 5000, 6000 }, values));
+
+    return statistic;
+  }
+
+  @Test
+  public void scanIndividualSamplingShouldIgnoreConstantStatisticsAndKeepOnlyTheStrongestAnomalies() throws Exception {
+    Statistic gauge = mockAnomalyStatistic("gauge", false, new double[] { 1, 2, 1, 2, 50, 1 });
+    Statistic counter = mockAnomalyStatistic("counter", true, new double[] { 1, 2, 1, 2, 10, 1 });
+    Statistic constant = mockAnomalyStatistic("constant", false, new double[] { 5, 5, 5, 5, 5, 5 });
+    Category category = new Category("VMStats", "");
+    category.addStatistic(gauge);
+    category.addStatistic(counter);
+    category.addStatistic(constant);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    List<Anomaly> anomalies = statisticsService.scanIndividualSampling(mockedRegularPath, Collections.emptyList(), new AnomalyScanner(4, 3, StatisticsService.AnomalyScore.ZScore), 5);
+    verify(gauge).setFilter(Statistic.Filter.None);
+    verify(counter).setFilter(Statistic.Filter.Second);
+    verify(constant, times(0)).getSeries();
+    assertThat(anomalies.size()).isEqualTo(2);
+    assertThat(anomalies.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+    assertThat(anomalies.get(0).getTimeStamp()).isEqualTo(5000);
+    assertThat(anomalies.get(1).getStatisticId()).isEqualTo("VMStats.counter");
+    assertThat(anomalies.get(0).getZScore()).isGreaterThan(anomalies.get(1).getZScore());
+
+    List<Anomaly> limitedAnomalies = statisticsService.scanIndividualSampling(mockedRegularPath, Collections.emptyList(), new AnomalyScanner(4, 3, StatisticsService.AnomalyScore.ZScore), 1);
+    assertThat(limitedAnomalies.size()).isEqualTo(1);
+    assertThat(limitedAnomalies.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+  }
+
+  @Test
+  public void scanAnomaliesShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.scanAnomalies(mockedDirectoryPath, Collections.emptyList(), null, 10, 3, 10)).isInstanceOf(NullPointerException.class).hasMessage("Anomaly score can not be null.");
+    assertThatThrownBy(() -> statisticsService.scanAnomalies(mockedDirectoryPath, Collections.emptyList(), StatisticsService.AnomalyScore.MAD, 1, 3, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window size should be at least 2.");
+    assertThatThrownBy(() -> statisticsService.scanAnomalies(mockedDirectoryPath, Collections.emptyList(), StatisticsService.AnomalyScore.MAD, 10, 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be positive.");
+    assertThatThrownBy(() -> statisticsService.scanAnomalies(mockedDirectoryPath, Collections.emptyList(), StatisticsService.AnomalyScore.MAD, 10, 3, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Limit should be positive.");
+  }
+
+  @Test
+  public void scanAnomaliesShouldReturnParsingErrorWhenSourcePathCanNotBeTraversed() throws Exception {
+    when(Files.walk(mockedDirectoryPath)).thenThrow(new IOException("Mocked IOException"));
+    List<ParsingResult<List<Anomaly>>> parsingResults = statisticsService.scanAnomalies(mockedDirectoryPath, Collections.emptyList(), StatisticsService.AnomalyScore.MAD, 10, 3, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedDirectoryPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked IOException");
+  }
+
+  @Test
+  public void scanAnomaliesShouldReturnOneParsingResultPerFile() throws Exception {
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
+    List<ParsingResult<List<Anomaly>>> parsingResults = statisticsService.scanAnomalies(mockedDirectoryPath, Collections.emptyList(), StatisticsService.AnomalyScore.MAD, 10, 3, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+  }
+
+  @Test
+  public void rankIndividualSamplingShouldEvaluateRawSamplesAndKeepOnlyTheHighestStatistics() throws Exception {
+    Statistic threads = mock(Statistic.class);
+    when(threads.getName()).thenReturn("threads");
+    when(threads.getUnits()).thenReturn("threads");
+    when(threads.getRawSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000 }, new double[] { 10, 30, 20 }));
+    Statistic fdsOpen = mock(Statistic.class);
+    when(fdsOpen.getName()).thenReturn("fdsOpen");
+    when(fdsOpen.getUnits()).thenReturn("fds");
+    when(fdsOpen.getRawSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000 }, new double[] { 50, 60, 70 }));
+    Statistic processCpuTime = mock(Statistic.class);
+    when(processCpuTime.isCounter()).thenReturn(true);
+    when(processCpuTime.getName()).thenReturn("processCpuTime");
+    when(processCpuTime.getUnits()).thenReturn("nanoseconds");
+    when(processCpuTime.getRawSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000 }, new double[] { 0, 100, 140 }));
+    Category category = new Category("VMStats", "");
+    category.addStatistic(threads);
+    category.addStatistic(fdsOpen);
+    category.addStatistic(processCpuTime);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    List<RankedStatistic> highestMaximum = statisticsService.rankIndividualSampling(mockedRegularPath, Collections.emptyList(), Collections.emptyList(), new StatisticRanker(StatisticsService.Ranking.Max), 2);
+    verify(processCpuTime, times(0)).getSeries();
+    assertThat(highestMaximum.size()).isEqualTo(2);
+    assertThat(highestMaximum.get(0).getStatisticId()).isEqualTo("VMStats.processCpuTime");
+    assertThat(highestMaximum.get(0).getUnits()).isEqualTo("nanoseconds");
+    assertThat(highestMaximum.get(0).getMaximum()).isEqualTo(100);
+    assertThat(highestMaximum.get(1).getStatisticId()).isEqualTo("VMStats.fdsOpen");
+    assertThat(highestMaximum.get(1).getMaximum()).isEqualTo(70);
+
+    List<RankedStatistic> highestRate = statisticsService.rankIndividualSampling(mockedRegularPath, Collections.emptyList(), Collections.emptyList(), new StatisticRanker(StatisticsService.Ranking.Rate), 3);
+    assertThat(highestRate.size()).isEqualTo(3);
+    assertThat(highestRate.get(0).getStatisticId()).isEqualTo("VMStats.processCpuTime");
+    assertThat(highestRate.get(0).getRate()).isEqualTo(70);
+    assertThat(highestRate.get(1).getStatisticId()).isEqualTo("VMStats.fdsOpen");
+    assertThat(highestRate.get(1).getRate()).isEqualTo(10);
+    assertThat(highestRate.get(2).getStatisticId()).isEqualTo("VMStats.threads");
+    assertThat(highestRate.get(2).getRate()).isEqualTo(5);
+  }
+
+  @Test
+  public void rankStatisticsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.rankStatistics(mockedDirectoryPath, Collections.emptyList(), Collections.emptyList(), null, 10)).isInstanceOf(NullPointerException.class).hasMessage("Ranking can not be null.");
+    assertThatThrownBy(() -> statisticsService.rankStatistics(mockedDirectoryPath, Collections.emptyList(), Collections.emptyList(), StatisticsService.Ranking.Max, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Limit should be positive.");
+  }
+
+  @Test
+  public void rankStatisticsShouldReturnOneParsingResultPerFile() throws Exception {
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
+    List<ParsingResult<List<RankedStatistic>>> parsingResults = statisticsService.rankStatistics(mockedDirectoryPath, Collections.emptyList(), Collections.emptyList(), StatisticsService.Ranking.StdDev, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+  }
+
+  @Test
+  public void detectIndividualSamplingShouldIgnoreConstantStatisticsAndKeepOnlyTheStrongestChangePoints() throws Exception {
+    Statistic gauge = mockAnomalyStatistic("gauge", false, new double[] { 1, 1, 1, 9, 9, 9 });
+    Statistic counter = mockAnomalyStatistic("counter", true, new double[] { 1, 2, 1, 5, 6, 5 });
+    Statistic constant = mockAnomalyStatistic("constant", false, new double[] { 5, 5, 5, 5, 5, 5 });
+    Category category = new Category("VMStats", "");
+    category.addStatistic(gauge);
+    category.addStatistic(counter);
+    category.addStatistic(constant);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    List<ChangePoint> changePoints = statisticsService.detectIndividualSampling(mockedRegularPath, Collections.emptyList(), new ChangePointDetector(2, 0.5), 5);
+    verify(gauge).setFilter(Statistic.Filter.None);
+    verify(counter).setFilter(Statistic.Filter.Second);
+    verify(constant, times(0)).getSeries();
+    assertThat(changePoints.size()).isEqualTo(2);
+    assertThat(changePoints.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+    assertThat(changePoints.get(0).getTimeStamp()).isEqualTo(4000);
+    assertThat(changePoints.get(0).getMagnitude()).isCloseTo(8, within(1e-9));
+    assertThat(changePoints.get(1).getStatisticId()).isEqualTo("VMStats.counter");
+    assertThat(changePoints.get(1).getTimeStamp()).isEqualTo(4000);
+
+    List<ChangePoint> limitedChangePoints = statisticsService.detectIndividualSampling(mockedRegularPath, Collections.emptyList(), new ChangePointDetector(2, 0.5), 1);
+    assertThat(limitedChangePoints.size()).isEqualTo(1);
+    assertThat(limitedChangePoints.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+  }
+
+  @Test
+  public void detectChangePointsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.detectChangePoints(mockedDirectoryPath, Collections.emptyList(), 0, 0.5, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Minimum segment should be positive.");
+    assertThatThrownBy(() -> statisticsService.detectChangePoints(mockedDirectoryPath, Collections.emptyList(), 10, 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be between 0 (exclusive) and 1 (inclusive).");
+    assertThatThrownBy(() -> statisticsService.detectChangePoints(mockedDirectoryPath, Collections.emptyList(), 10, 1.1, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be between 0 (exclusive) and 1 (inclusive).");
+    assertThatThrownBy(() -> statisticsService.detectChangePoints(mockedDirectoryPath, Collections.emptyList(), 10, 0.5, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Limit should be positive.");
+  }
+
+  @Test
+  public void detectChangePointsShouldReturnOneParsingResultPerFile() throws Exception {
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
+    List<ParsingResult<List<ChangePoint>>> parsingResults = statisticsService.detectChangePoints(mockedDirectoryPath, Collections.emptyList(), 10, 0.5, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+  }
+
+  @Test
+  public void compareIndividualSamplingShouldIgnoreConstantStatisticsAndKeepOnlyTheLargestShifts() throws Exception {
+    Statistic gauge = mockAnomalyStatistic("gauge", false, new double[] { 1, 1, 1, 9, 9, 9 });
+    Statistic counter = mockAnomalyStatistic("counter", true, new double[] { 1, 2, 1, 5, 6, 5 });
+    Statistic constant = mockAnomalyStatistic("constant", false, new double[] { 5, 5, 5, 5, 5, 5 });
+    Category category = new Category("VMStats", "");
+    category.addStatistic(gauge);
+    category.addStatistic(counter);
+    category.addStatistic(constant);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    List<DistributionShift> shifts = statisticsService.compareIndividualSampling(mockedRegularPath, Collections.emptyList(), new DistributionShiftDetector(4000, 2000), 5);
+    verify(gauge).setFilter(Statistic.Filter.None);
+    verify(counter).setFilter(Statistic.Filter.Second);
+    verify(constant, times(0)).getSeries();
+    assertThat(shifts.size()).isEqualTo(2);
+    assertThat(shifts.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+    assertThat(shifts.get(0).getBefore()).isCloseTo(1, within(1e-9));
+    assertThat(shifts.get(0).getAfter()).isCloseTo(9, within(1e-9));
+    assertThat(shifts.get(0).getKolmogorovSmirnov()).isCloseTo(1, within(1e-9));
+    assertThat(shifts.get(1).getStatisticId()).isEqualTo("VMStats.counter");
+    assertThat(shifts.get(1).getMeanShift()).isCloseTo(4, within(1e-9));
+
+    List<DistributionShift> limitedShifts = statisticsService.compareIndividualSampling(mockedRegularPath, Collections.emptyList(), new DistributionShiftDetector(4000, 2000), 1);
+    assertThat(limitedShifts.size()).isEqualTo(1);
+    assertThat(limitedShifts.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+  }
+
+  @Test
+  public void compareDistributionsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.compareDistributions(mockedDirectoryPath, Collections.emptyList(), 4000, 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window should be positive.");
+    assertThatThrownBy(() -> statisticsService.compareDistributions(mockedDirectoryPath, Collections.emptyList(), 4000, 2000, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Limit should be positive.");
+  }
+
+  @Test
+  public void compareDistributionsShouldReturnOneParsingResultPerFile() throws Exception {
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
+    List<ParsingResult<List<DistributionShift>>> parsingResults = statisticsService.compareDistributions(mockedDirectoryPath, Collections.emptyList(), 4000, 2000, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+  }
+
+  @Test
+  public void profileIndividualSamplingShouldUseTheFilterForEveryStatistic() throws Exception {
+    Statistic gauge = mockAnomalyStatistic("gauge", false, new double[] { 4, 1, 3, 2, 6, 5 });
+    Statistic counter = mockAnomalyStatistic("counter", true, new double[] { 1, 2, 3, 4, 5, 6 });
+    Statistic empty = mock(Statistic.class);
+    when(empty.getName()).thenReturn("empty");
+    when(empty.getSeries()).thenReturn(new Series(new long[0], new double[0]));
+    Category category = new Category("VMStats", "");
+    category.addStatistic(gauge);
+    category.addStatistic(counter);
+    category.addStatistic(empty);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    Map<String, StatisticProfile> profiles = statisticsService.profileIndividualSampling(mockedRegularPath, Collections.emptyList(), Statistic.Filter.Sample);
+    verify(gauge).setFilter(Statistic.Filter.Sample);
+    verify(counter).setFilter(Statistic.Filter.Sample);
+    verify(empty).setFilter(Statistic.Filter.Sample);
+    assertThat(profiles.size()).isEqualTo(2);
+    assertThat(profiles.get("VMStats.gauge").getCount()).isEqualTo(6);
+    assertThat(profiles.get("VMStats.gauge").getMinimum()).isEqualTo(1);
+    assertThat(profiles.get("VMStats.gauge").getMaximum()).isEqualTo(6);
+    assertThat(profiles.get("VMStats.counter").getAverage()).isCloseTo(3.5, within(1e-9));
+  }
+
+  @Test
+  public void profileStatisticsShouldThrowExceptionWhenFilterIsNull() {
+    assertThatThrownBy(() -> statisticsService.profileStatistics(mockedDirectoryPath, Collections.emptyList(), null)).isInstanceOf(NullPointerException.class).hasMessage("Filter can not be null.");
+  }
+
+  @Test
+  public void profileStatisticsShouldReturnOneParsingResultPerFile() throws Exception {
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
+    List<ParsingResult<Map<String, StatisticProfile>>> parsingResults = statisticsService.profileStatistics(mockedDirectoryPath, Collections.emptyList(), Statistic.Filter.None);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+  }
+
+  @Test
+  public void compareProfilesShouldThrowExceptionWhenParametersAreNull() {
+    assertThatThrownBy(() -> statisticsService.compareProfiles(null, Collections.emptyList())).isInstanceOf(NullPointerException.class).hasMessage("Baseline profiles can not be null.");
+    assertThatThrownBy(() -> statisticsService.compareProfiles(Collections.emptyList(), null)).isInstanceOf(NullPointerException.class).hasMessage("Candidate profiles can not be null.");
+  }
+
+  @Test
+  public void compareProfilesShouldMergeProfilesWithinEachSetAndPairThemByStatisticId() {
+    Map<String, StatisticProfile> baselineServer1 = new HashMap<>();
+    baselineServer1.put("VMStats.threads", new StatisticProfile("threads", new double[] { 1, 2 }));
+    baselineServer1.put("VMStats.fdsOpen", new StatisticProfile("fds", new double[] { 10, 30 }));
+    baselineServer1.put("VMStats.cpus", new StatisticProfile("cpus", new double[] { 4 }));
+    Map<String, StatisticProfile> baselineServer2 = new HashMap<>();
+    baselineServer2.put("VMStats.threads", new StatisticProfile("threads", new double[] { 3 }));
+    Map<String, StatisticProfile> candidateServer1 = new HashMap<>();
+    candidateServer1.put("VMStats.threads", new StatisticProfile("threads", new double[] { 4, 6 }));
+    candidateServer1.put("VMStats.fdsOpen", new StatisticProfile("fds", new double[] { 20 }));
+    candidateServer1.put("VMStats.processCpuTime", new StatisticProfile("nanoseconds", new double[] { 100 }));
+
+    List<StatisticComparison> comparisons = statisticsService.compareProfiles(Arrays.asList(baselineServer1, baselineServer2), Collections.singletonList(candidateServer1));
+    assertThat(comparisons.size()).isEqualTo(2);
+    assertThat(comparisons.get(0).getStatisticId()).isEqualTo("VMStats.fdsOpen");
+    assertThat(comparisons.get(0).getBaseline().getAverage()).isCloseTo(20, within(1e-9));
+    assertThat(comparisons.get(0).getCandidate().getAverage()).isCloseTo(20, within(1e-9));
+    assertThat(comparisons.get(1).getStatisticId()).isEqualTo("VMStats.threads");
+    assertThat(comparisons.get(1).getBaseline().getCount()).isEqualTo(3);
+    assertThat(comparisons.get(1).getBaseline().getAverage()).isCloseTo(2, within(1e-9));
+    assertThat(comparisons.get(1).getCandidate().getCount()).isEqualTo(2);
+    assertThat(comparisons.get(1).getCandidate().getAverage()).isCloseTo(5, within(1e-9));
+  }
+
+  @Test
+  public void rollIndividualSamplingShouldIgnoreConstantStatisticsAndKeepOnlyTheHighestWindows() throws Exception {
+    Statistic gauge = mockAnomalyStatistic("gauge", false, new double[] { 1, 1, 1, 9, 9, 9 });
+    Statistic counter = mockAnomalyStatistic("counter", true, new double[] { 1, 2, 1, 5, 6, 5 });
+    Statistic constant = mockAnomalyStatistic("constant", false, new double[] { 5, 5, 5, 5, 5, 5 });
+    Category category = new Category("VMStats", "");
+    category.addStatistic(gauge);
+    category.addStatistic(counter);
+    category.addStatistic(constant);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    List<RollingSummary> summaries = statisticsService.rollIndividualSampling(mockedRegularPath, Collections.emptyList(), new RollingWindow(StatisticsService.RollingFunction.Max, 2000), 5);
+    verify(gauge).setFilter(Statistic.Filter.None);
+    verify(counter).setFilter(Statistic.Filter.Second);
+    verify(constant, times(0)).getSeries();
+    assertThat(summaries.size()).isEqualTo(2);
+    assertThat(summaries.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+    assertThat(summaries.get(0).getHighest()).isEqualTo(9);
+    assertThat(summaries.get(0).getHighestTimeStamp()).isEqualTo(4000);
+    assertThat(summaries.get(0).getLowest()).isEqualTo(1);
+    assertThat(summaries.get(0).getLowestTimeStamp()).isEqualTo(3000);
+    assertThat(summaries.get(1).getStatisticId()).isEqualTo("VMStats.counter");
+    assertThat(summaries.get(1).getHighest()).isEqualTo(6);
+    assertThat(summaries.get(1).getHighestTimeStamp()).isEqualTo(5000);
+
+    List<RollingSummary> limitedSummaries = statisticsService.rollIndividualSampling(mockedRegularPath, Collections.emptyList(), new RollingWindow(StatisticsService.RollingFunction.Max, 2000), 1);
+    assertThat(limitedSummaries.size()).isEqualTo(1);
+    assertThat(limitedSummaries.get(0).getStatisticId()).isEqualTo("VMStats.gauge");
+  }
+
+  @Test
+  public void rollStatisticsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.rollStatistics(mockedDirectoryPath, Collections.emptyList(), null, 2000, 10)).isInstanceOf(NullPointerException.class).hasMessage("Rolling function can not be null.");
+    assertThatThrownBy(() -> statisticsService.rollStatistics(mockedDirectoryPath, Collections.emptyList(), StatisticsService.RollingFunction.Avg, 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window should be positive.");
+    assertThatThrownBy(() -> statisticsService.rollStatistics(mockedDirectoryPath, Collections.emptyList(), StatisticsService.RollingFunction.Avg, 2000, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Limit should be positive.");
+  }
+
+  @Test
+  public void rollStatisticsShouldReturnOneParsingResultPerFile() throws Exception {
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).parseIndividualSampling(any(), any());
+    List<ParsingResult<List<RollingSummary>>> parsingResults = statisticsService.rollStatistics(mockedDirectoryPath, Collections.emptyList(), StatisticsService.RollingFunction.Avg, 2000, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+  }
+
+  @Test
+  public void detectPausesShouldThrowExceptionWhenThresholdIsInvalid() {
+    assertThatThrownBy(() -> statisticsService.detectPauses(mockedDirectoryPath, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be positive.");
+  }
+
+  @Test
+  public void detectPausesShouldReturnPausesFoundOnEachFile() throws Exception {
+    doReturn(new long[] { 1000, 2000, 3000, 7000, 8000 }).when(statisticsService).readIndividualTimeStamps(mockedRegularPath);
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).readIndividualTimeStamps(mockedCompressedPath);
+    List<ParsingResult<List<Pause>>> parsingResults = statisticsService.detectPauses(mockedDirectoryPath, 2000);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData().size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).getData().get(0).getStartTimeStamp()).isEqualTo(3000);
+    assertThat(parsingResults.get(0).getData().get(0).getEndTimeStamp()).isEqualTo(7000);
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    verify(statisticsService, times(0)).parseIndividualSampling(any(), any());
+  }
+
+  @Test
+  public void estimateClockSkewsShouldThrowExceptionWhenMaximumSkewIsInvalid() {
+    assertThatThrownBy(() -> statisticsService.estimateClockSkews(mockedDirectoryPath, Collections.emptyList(), 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum skew should be positive.");
+  }
+
+  @Test
+  public void estimateClockSkewsShouldUseTheFileWithMoreEventsAsReference() throws Exception {
+    doReturn(new long[] { 7500, 17600, 27400 }).when(statisticsService).extractIndividualEvents(mockedRegularPath, Collections.emptyList());
+    doReturn(new long[] { 10000, 20000, 30000, 40000 }).when(statisticsService).extractIndividualEvents(mockedCompressedPath, Collections.emptyList());
+    List<ParsingResult<ClockSkew>> parsingResults = statisticsService.estimateClockSkews(mockedDirectoryPath, Collections.emptyList(), 5000);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData().isReference()).isFalse();
+    assertThat(parsingResults.get(0).getData().getOffset()).isEqualTo(2500);
+    assertThat(parsingResults.get(0).getData().getEvents()).isEqualTo(3);
+    assertThat(parsingResults.get(0).getData().getMatchedEvents()).isEqualTo(3);
+    assertThat(parsingResults.get(1).isSuccess()).isTrue();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getData().isReference()).isTrue();
+    assertThat(parsingResults.get(1).getData().getOffset()).isEqualTo(0);
+    assertThat(parsingResults.get(1).getData().getEvents()).isEqualTo(4);
+    assertThat(parsingResults.get(1).getData().getMatchedEvents()).isEqualTo(4);
+  }
+
+  @Test
+  public void estimateClockSkewsShouldReturnFailuresAndNonEstimatedSkewsWhenThereIsNoReference() throws Exception {
+    doReturn(new long[0]).when(statisticsService).extractIndividualEvents(mockedRegularPath, Collections.emptyList());
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).extractIndividualEvents(mockedCompressedPath, Collections.emptyList());
+    List<ParsingResult<ClockSkew>> parsingResults = statisticsService.estimateClockSkews(mockedDirectoryPath, Collections.emptyList(), 5000);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData().isReference()).isFalse();
+    assertThat(parsingResults.get(0).getData().isEstimated()).isFalse();
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+  }
+
+  @Test
+  public void sampleValuesAtShouldThrowExceptionWhenToleranceIsInvalid() {
+    assertThatThrownBy(() -> statisticsService.sampleValuesAt(mockedDirectoryPath, Collections.emptyList(), 1000, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Tolerance should be positive.");
+  }
+
+  @Test
+  public void sampleValuesAtShouldReturnValuesFoundOnEachFile() throws Exception {
+    List<SampledValue> sampledValues = Collections.singletonList(new SampledValue("VMStats.threads", "threads", 1500, 42));
+    doReturn(sampledValues).when(statisticsService).sampleIndividualValuesAt(any(), any(), any());
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).sampleIndividualValuesAt(eq(mockedCompressedPath), any(), any());
+    List<ParsingResult<List<SampledValue>>> parsingResults = statisticsService.sampleValuesAt(mockedDirectoryPath, Collections.emptyList(), 1000, 60000);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData()).isSameAs(sampledValues);
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    verify(statisticsService, times(0)).parseIndividualSampling(any(), any());
+  }
+
+  private Statistic mockTrendStatistic(String name, boolean counter, double[] values) {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getName()).thenReturn(name);
+    when(statistic.getUnits()).thenReturn("bytes");
+    when(statistic.isCounter()).thenReturn(counter);
+    when(statistic.getMinimum()).thenReturn(Arrays.stream(values).min().orElse(0));
+    when(statistic.getMaximum()).thenReturn(Arrays.stream(values).max().orElse(0));
+    when(statistic.getLastValue()).thenReturn(values[values.length - 1]);
+    when(statistic.getSeries()).thenReturn(new Series(new long[] { 1000, 2000, 3000, 4000, 5000, 6000 }, values));
+
+    return statistic;
+  }
+
+  @Test
+  public void trendIndividualSamplingShouldIgnoreCountersAndConstantStatisticsAndResolveCapacities() throws Exception {
+    Statistic usedMemory = mockTrendStatistic("usedMemory", false, new double[] { 0, 10, 20, 30, 40, 50 });
+    Statistic maxMemory = mockTrendStatistic("maxMemory", false, new double[] { 100, 100, 100, 100, 100, 100 });
+    Statistic collections = mockTrendStatistic("collections", true, new double[] { 0, 1, 2, 3, 4, 5 });
+    Category category = new Category("VMMemoryUsageStats", "");
+    category.addStatistic(usedMemory);
+    category.addStatistic(maxMemory);
+    category.addStatistic(collections);
+    doReturn(new Sampling(mock(SamplingMetadata.class), Collections.singletonMap("VMMemoryUsageStats", category))).when(statisticsService).parseIndividualSampling(any(), any());
+
+    List<Trend> trends = statisticsService.trendIndividualSampling(mockedRegularPath, Collections.emptyList(), null, 10, 10);
+    verify(usedMemory).setFilter(Statistic.Filter.None);
+    verify(maxMemory, times(0)).getSeries();
+    verify(collections, times(0)).getSeries();
+    assertThat(trends.size()).isEqualTo(1);
+    assertThat(trends.get(0).getStatisticId()).isEqualTo("VMMemoryUsageStats.usedMemory");
+    assertThat(trends.get(0).getCapacity()).isEqualTo(100);
+    assertThat(trends.get(0).getTimeToExhaustion()).isEqualTo(5000);
+
+    List<Trend> fixedCapacityTrends = statisticsService.trendIndividualSampling(mockedRegularPath, Collections.emptyList(), 200.0, 10, 10);
+    assertThat(fixedCapacityTrends.size()).isEqualTo(1);
+    assertThat(fixedCapacityTrends.get(0).getCapacity()).isEqualTo(200);
+    assertThat(fixedCapacityTrends.get(0).getTimeToExhaustion()).isEqualTo(15000);
+  }
+
+  @Test
+  public void estimateTrendsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.estimateTrends(mockedDirectoryPath, Collections.emptyList(), 0.0, 10, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Capacity should be positive.");
+    assertThatThrownBy(() -> statisticsService.estimateTrends(mockedDirectoryPath, Collections.emptyList(), null, 2, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Points should be greater than or equal to 3.");
+    assertThatThrownBy(() -> statisticsService.estimateTrends(mockedDirectoryPath, Collections.emptyList(), null, 10, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Limit should be positive.");
+  }
+
+  @Test
+  public void estimateTrendsShouldReturnOneParsingResultPerFile() throws Exception {
+    List<Trend> trends = Collections.singletonList(new Trend("VMStats.fdsOpen", "fds", 50, 0.1, 0.1, Double.NaN, -1));
+    doReturn(trends).when(statisticsService).trendIndividualSampling(any(), any(), any(), anyInt(), anyInt());
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).trendIndividualSampling(eq(mockedCompressedPath), any(), any(), anyInt(), anyInt());
+    List<ParsingResult<List<Trend>>> parsingResults = statisticsService.estimateTrends(mockedDirectoryPath, Collections.emptyList(), null, 10, 10);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData()).isSameAs(trends);
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+  }
+
+  @Test
+  public void catalogStatisticsShouldThrowExceptionWhenFiltersAreNull() {
+    assertThatThrownBy(() -> statisticsService.catalogStatistics(mockedDirectoryPath, null)).isInstanceOf(NullPointerException.class).hasMessage("Filters can not be null.");
+  }
+
+  @Test
+  public void catalogStatisticsShouldReturnTheStructureOfEachFile() throws Exception {
+    List<CatalogEntry> catalogEntries = Collections.singletonList(new CatalogEntry("VMStats", Collections.singletonList("vmStats"), Arrays.asList("cpus", "fdsOpen")));
+    doReturn(catalogEntries).when(statisticsService).catalogIndividualSampling(mockedRegularPath, Collections.emptyList());
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).catalogIndividualSampling(mockedCompressedPath, Collections.emptyList());
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = statisticsService.catalogStatistics(mockedDirectoryPath, Collections.emptyList());
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData()).isSameAs(catalogEntries);
+    assertThat(parsingResults.get(1).isSuccess()).isFalse();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    verify(statisticsService, times(0)).parseIndividualSampling(any(), any());
+  }
+
+  @Test
+  public void setCacheDirectoryShouldDisableTheCacheWhenRequested() {
+    statisticsService.setCacheDirectory("disabled");
+    assertThat(statisticsService.archiveIndexCache).isNull();
+    statisticsService.setCacheDirectory(" ");
+    assertThat(statisticsService.archiveIndexCache).isNull();
+    statisticsService.setCacheDirectory(".cache");
+    assertThat(statisticsService.archiveIndexCache).isNotNull();
+    assertThat(statisticsService.archiveIndexCache.getDirectory().toString()).isEqualTo(".cache");
+  }
+
+  @Test
+  public void setSalvageShouldOnlyEnableTheSalvageWhenRequested() {
+    assertThat(statisticsService.salvageEnabled).isTrue();
+    statisticsService.setSalvage("disabled");
+    assertThat(statisticsService.salvageEnabled).isFalse();
+    statisticsService.setSalvage("enabled");
+    assertThat(statisticsService.salvageEnabled).isTrue();
+    statisticsService.setSalvage("disabled");
+    assertThat(statisticsService.salvageEnabled).isFalse();
+    statisticsService.setSalvage("");
+    assertThat(statisticsService.salvageEnabled).isFalse();
+  }
+
+  @Test
+  public void collectSalvageWarningShouldReportTheBytesSkippedOnlyOnce() {
+    Path firstPart = Paths.get("part1.gfs");
+    Path secondPart = Paths.get("part2.gfs");
+    statisticsService.warnSkippedBytes(firstPart, 0);
+    assertThat(statisticsService.collectSalvageWarning(Collections.singletonList(firstPart))).isNull();
+
+    statisticsService.warnSkippedBytes(firstPart, 100);
+    statisticsService.warnSkippedBytes(firstPart, 20);
+    statisticsService.warnSkippedBytes(secondPart, 3);
+    assertThat(statisticsService.collectSalvageWarning(Arrays.asList(firstPart, secondPart))).startsWith("Salvaged, 123 damaged bytes were skipped.");
+    assertThat(statisticsService.collectSalvageWarning(Arrays.asList(firstPart, secondPart))).isNull();
+    assertThat(statisticsService.skippedBytesByFile).isEmpty();
+  }
+
+  @Test
+  public void canBeSkippedShouldReturnFalseWhenTheIndexIsNotAvailable() {
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", null, null, null));
+    assertThat(statisticsService.canBeSkipped(mockedRegularPath, filters)).isFalse();
+
+    statisticsService.archiveIndexCache = mock(ArchiveIndexCache.class);
+    assertThat(statisticsService.canBeSkipped(mockedRegularPath, filters)).isFalse();
+    assertThat(statisticsService.canBeSkipped(mockedRegularPath, Collections.emptyList())).isFalse();
+    verify(statisticsService.archiveIndexCache, times(1)).get(mockedRegularPath);
+  }
+
+  @Test
+  public void catalogStatisticsShouldSkipFilesWhoseIndexCanNotMatchTheFilters() throws Exception {
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", null, null, null));
+    ArchiveIndex nonMatchingIndex = mock(ArchiveIndex.class);
+    when(nonMatchingIndex.mayMatch(any(), any())).thenReturn(false);
+    statisticsService.archiveIndexCache = mock(ArchiveIndexCache.class);
+    when(statisticsService.archiveIndexCache.get(mockedRegularPath)).thenReturn(nonMatchingIndex);
+    List<CatalogEntry> catalogEntries = Collections.singletonList(new CatalogEntry("VMStats", Collections.singletonList("vmStats"), Arrays.asList("cpus", "fdsOpen")));
+    doReturn(catalogEntries).when(statisticsService).catalogIndividualSampling(mockedCompressedPath, filters);
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = statisticsService.catalogStatistics(mockedDirectoryPath, filters);
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(0).getData()).isEmpty();
+    assertThat(parsingResults.get(1).isSuccess()).isTrue();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(1).getData()).isSameAs(catalogEntries);
+    verify(statisticsService, times(0)).catalogIndividualSampling(mockedRegularPath, filters);
+  }
+
+  private ArchiveInfo mockArchiveInfo(long systemId, long systemStartTime, long startTime) {
+    ArchiveInfo archiveInfo = mock(ArchiveInfo.class);
+    when(archiveInfo.getSystemId()).thenReturn(systemId);
+    when(archiveInfo.getSystemStartTimeMillis()).thenReturn(systemStartTime);
+    when(archiveInfo.getStartTimeMillis()).thenReturn(startTime);
+    when(archiveInfo.getMachine()).thenReturn("Linux 4.4.0 amd64");
+
+    return archiveInfo;
+  }
+
+  @Test
+  public void stitchSamplingShouldThrowExceptionWhenParametersAreNull() {
+    assertThatThrownBy(() -> statisticsService.stitchSampling(mockedDirectoryPath, null, Collections.emptyList())).isInstanceOf(NullPointerException.class).hasMessage("Filters can not be null.");
+    assertThatThrownBy(() -> statisticsService.stitchSampling(mockedDirectoryPath, Collections.emptyList(), null)).isInstanceOf(NullPointerException.class).hasMessage("Derived statistics can not be null.");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void stitchSamplingShouldGroupTheFilesByMemberAndSortThemByStartTime() throws Exception {
+    Sampling mockedSampling = mock(Sampling.class);
+    doReturn(mockArchiveInfo(1, 1000, 5000)).when(statisticsService).readArchiveInfo(mockedRegularPath);
+    doReturn(mockArchiveInfo(1, 1000, 2000)).when(statisticsService).readArchiveInfo(mockedCompressedPath);
+    doReturn(mockedSampling).when(statisticsService).stitchIndividualMember(anyList(), any(), any());
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.stitchSampling(mockedDirectoryPath, Collections.emptyList(), Collections.emptyList());
+
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(0).getData()).isSameAs(mockedSampling);
+    ArgumentCaptor<List> partsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(statisticsService, times(1)).stitchIndividualMember(partsCaptor.capture(), any(), any());
+    assertThat(partsCaptor.getValue()).containsExactly(mockedCompressedPath, mockedRegularPath);
+  }
+
+  @Test
+  public void stitchSamplingShouldReturnParsingErrorsForFilesWithoutValidHeader() throws Exception {
+    Sampling mockedSampling = mock(Sampling.class);
+    doReturn(mockArchiveInfo(1, 1000, 5000)).when(statisticsService).readArchiveInfo(mockedRegularPath);
+    doThrow(new IOException("Mocked Exception While Parsing File.")).when(statisticsService).readArchiveInfo(mockedCompressedPath);
+    doReturn(mockedSampling).when(statisticsService).stitchIndividualMember(Collections.singletonList(mockedRegularPath), Collections.emptyList(), Collections.emptyList());
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.stitchSampling(mockedDirectoryPath, Collections.emptyList(), Collections.emptyList());
+
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+    assertThat(parsingResults.get(0).getFile()).isEqualTo(mockedCompressedPath);
+    assertThat(parsingResults.get(0).getException()).isInstanceOf(IOException.class).hasMessage("Mocked Exception While Parsing File.");
+    assertThat(parsingResults.get(1).isSuccess()).isTrue();
+    assertThat(parsingResults.get(1).getFile()).isEqualTo(mockedRegularPath);
+    assertThat(parsingResults.get(1).getData()).isSameAs(mockedSampling);
+  }
+
+  @Test
+  public void stitchIndividualMemberShouldParseThePartsInOrder() throws Exception {
+    Sampling firstPart = new Sampling(new SamplingMetadata("first.gfs", 4, false, ZoneId.of("UTC"), 1000, 2000, "GemFire 9.3.0", "Linux"), new HashMap<>());
+    Sampling secondPart = new Sampling(new SamplingMetadata("second.gfs", 4, false, ZoneId.of("UTC"), 3000, 4000, "GemFire 9.3.0", "Linux"), new HashMap<>());
+    doReturn(firstPart).when(statisticsService).parseIndividualSampling(mockedCompressedPath, Collections.emptyList());
+    doReturn(secondPart).when(statisticsService).parseIndividualSampling(mockedRegularPath, Collections.emptyList());
+    Sampling sampling = statisticsService.stitchIndividualMember(Arrays.asList(mockedCompressedPath, mockedRegularPath), Collections.emptyList(), Collections.emptyList());
+
+    assertThat(sampling.getMetadata().getFileName()).isEqualTo("first.gfs");
+    assertThat(sampling.getMetadata().getStartTimeStamp()).isEqualTo(1000);
+    assertThat(sampling.getMetadata().getFinishTimeStamp()).isEqualTo(4000);
+  }
+
+  @Test
+  public void watchStatisticsShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> statisticsService.watchStatistics(mockedRegularPath, null, 1000, 1000, summaries -> {})).isInstanceOf(NullPointerException.class).hasMessage("Filters can not be null.");
+    assertThatThrownBy(() -> statisticsService.watchStatistics(mockedRegularPath, Collections.emptyList(), 1000, 1000, null)).isInstanceOf(NullPointerException.class).hasMessage("Listener can not be null.");
+    assertThatThrownBy(() -> statisticsService.watchStatistics(mockedRegularPath, Collections.emptyList(), 0, 1000, summaries -> {})).isInstanceOf(IllegalArgumentException.class).hasMessage("Window should be positive.");
+    assertThatThrownBy(() -> statisticsService.watchStatistics(mockedRegularPath, Collections.emptyList(), 1000, 0, summaries -> {})).isInstanceOf(IllegalArgumentException.class).hasMessage("Interval should be positive.");
+    assertThatThrownBy(() -> statisticsService.watchStatistics(mockedCompressedPath, Collections.emptyList(), 1000, 1000, summaries -> {})).isInstanceOf(IllegalArgumentException.class).hasMessage("Compressed statistics files can not be followed.");
+  }
+
+  @Test
+  public void summarizeLiveSamplingShouldReturnEmptyWhenNoSamplesWereRead() {
+    StatArchiveFile mockedStatArchiveFile = mock(StatArchiveFile.class);
+    when(mockedStatArchiveFile.getLastTimeStamp()).thenReturn(-1L);
+
+    assertThat(statisticsService.summarizeLiveSampling(mockedStatArchiveFile, 1000)).isEmpty();
+    verify(statisticsService, times(0)).parseSamplingStatisticalData(any());
+  }
+
+  @Test
+  public void summarizeLiveSamplingShouldSummarizeTheTrailingWindowOfEveryStatistic() {
+    StatArchiveFile mockedStatArchiveFile = mock(StatArchiveFile.class);
+    when(mockedStatArchiveFile.getLastTimeStamp()).thenReturn(10000L);
+    Statistic mockedCounter = mock(Statistic.class);
+    Statistic mockedTrimmedCounter = mock(Statistic.class);
+    when(mockedCounter.getName()).thenReturn("cpuTime");
+    when(mockedCounter.getUnits()).thenReturn("nanoseconds");
+    when(mockedCounter.isCounter()).thenReturn(true);
+    when(mockedCounter.trim(9000, -1)).thenReturn(mockedTrimmedCounter);
+    when(mockedTrimmedCounter.getSeries()).thenReturn(new Series(new long[] { 9500, 10000 }, new double[] { 4, 2 }));
+    Statistic mockedGauge = mock(Statistic.class);
+    Statistic mockedTrimmedGauge = mock(Statistic.class);
+    when(mockedGauge.getName()).thenReturn("threads");
+    when(mockedGauge.getUnits()).thenReturn("threads");
+    when(mockedGauge.trim(9000, -1)).thenReturn(mockedTrimmedGauge);
+    when(mockedTrimmedGauge.getSeries()).thenReturn(new Series(new long[0], new double[0]));
+    Category category = new Category("VMStats[vmStats]", "");
+    category.addStatistic(mockedCounter);
+    category.addStatistic(mockedGauge);
+    doReturn(Collections.singletonMap(category.getName(), category)).when(statisticsService).parseSamplingStatisticalData(mockedStatArchiveFile);
+
+    List<LiveSummary> liveSummaries = statisticsService.summarizeLiveSampling(mockedStatArchiveFile, 1000);
+    verify(mockedTrimmedCounter).setFilter(Statistic.Filter.Second);
+    verify(mockedTrimmedGauge).setFilter(Statistic.Filter.None);
+    assertThat(liveSummaries).hasSize(1);
+    LiveSummary liveSummary = liveSummaries.get(0);
+    assertThat(liveSummary.getStatisticId()).isEqualTo("VMStats[vmStats].cpuTime");
+    assertThat(liveSummary.getUnits()).isEqualTo("nanoseconds");
+    assertThat(liveSummary.getTimeStamp()).isEqualTo(10000);
+    assertThat(liveSummary.getLastValue()).isEqualTo(2);
+    assertThat(liveSummary.getMinimum()).isEqualTo(2);
+    assertThat(liveSummary.getAverage()).isEqualTo(3);
+    assertThat(liveSummary.getMaximum()).isEqualTo(4);
+  }
 }
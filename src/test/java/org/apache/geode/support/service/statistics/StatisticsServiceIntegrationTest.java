@@ -22,18 +22,36 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import org.apache.geode.internal.statistics.ValueFilter;
 import org.apache.geode.support.domain.ParsingResult;
+import org.apache.geode.support.domain.statistics.CatalogEntry;
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.LiveSummary;
+import org.apache.geode.support.domain.statistics.Pause;
+import org.apache.geode.support.domain.statistics.SampledValue;
 import org.apache.geode.support.domain.statistics.Sampling;
 import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.filters.SimpleValueFilter;
 import org.apache.geode.support.service.StatisticsService;
 import org.apache.geode.support.test.StatisticsSampleDataUtils;
 
@@ -300,4 +318,304 @@ public class StatisticsServiceIntegrationTest {
     StatisticsSampleDataUtils.assertClusterTwoServerTwoMetadata(clusterTwoServerTwoResult.getData().getMetadata());
     StatisticsSampleDataUtils.assertServerSampling(clusterTwoServerTwoResult.getData(), 2, 2);
   }
+
+  @Test
+  public void detectPausesShouldReturnBothParsingErrorsAndPausesFoundWithinEachFile() {
+    List<ParsingResult<List<Pause>>> parsingResults = statisticsService.detectPauses(StatisticsSampleDataUtils.rootFolder.toPath(), 2000);
+    assertThat(parsingResults).isNotNull();
+    assertThat(parsingResults.size()).isEqualTo(9);
+
+    parsingResults.forEach(parsingResult -> {
+      String filePath = parsingResult.getFile().toAbsolutePath().toString();
+
+      if (filePath.equals(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isFalse();
+        assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Unexpected token byte value: 67");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isFalse();
+        assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Not in GZIP format");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isTrue();
+        List<Pause> pauses = parsingResult.getData();
+        assertThat(pauses.size()).isEqualTo(3);
+        assertThat(pauses.get(0).getStartTimeStamp()).isEqualTo(1521727630094L);
+        assertThat(pauses.get(0).getEndTimeStamp()).isEqualTo(1521727633869L);
+        assertThat(pauses.get(1).getStartTimeStamp()).isEqualTo(1521727649890L);
+        assertThat(pauses.get(1).getEndTimeStamp()).isEqualTo(1521727655141L);
+        assertThat(pauses.get(2).getStartTimeStamp()).isEqualTo(1521727713247L);
+        assertThat(pauses.get(2).getEndTimeStamp()).isEqualTo(1521727717758L);
+      } else {
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData()).isEmpty();
+      }
+    });
+  }
+
+  @Test
+  public void sampleValuesAtShouldReturnBothParsingErrorsAndValuesNearestToTheTime() {
+    long time = 1521731819000L;
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", null, "threads", null));
+    List<ParsingResult<List<SampledValue>>> parsingResults = statisticsService.sampleValuesAt(StatisticsSampleDataUtils.rootFolder.toPath(), filters, time, 60000);
+    assertThat(parsingResults).isNotNull();
+    assertThat(parsingResults.size()).isEqualTo(9);
+
+    parsingResults.forEach(parsingResult -> {
+      String filePath = parsingResult.getFile().toAbsolutePath().toString();
+
+      if (filePath.equals(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isFalse();
+        assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Unexpected token byte value: 67");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isFalse();
+        assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Not in GZIP format");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.CLIENT.getFilePath())) {
+        // The client finished before the time.
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData()).isEmpty();
+      } else {
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData().size()).isEqualTo(1);
+        SampledValue sampledValue = parsingResult.getData().get(0);
+        assertThat(sampledValue.getStatisticId()).isEqualTo("VMStats[vmStats].threads");
+        assertThat(Math.abs(sampledValue.getTimeStamp() - time)).isLessThanOrEqualTo(1000);
+
+        if (filePath.equals(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath())) {
+          assertThat(sampledValue.getTimeStamp()).isEqualTo(1521731819111L);
+          assertThat(sampledValue.getValue()).isEqualTo(79);
+        }
+      }
+    });
+  }
+
+  @Test
+  public void catalogStatisticsShouldReturnBothParsingErrorsAndTheStructureOfEachFile() {
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("PartitionedRegionStats", null, "bucketCount", null));
+    List<ParsingResult<List<CatalogEntry>>> parsingResults = statisticsService.catalogStatistics(StatisticsSampleDataUtils.rootFolder.toPath(), filters);
+    assertThat(parsingResults).isNotNull();
+    assertThat(parsingResults.size()).isEqualTo(9);
+
+    parsingResults.forEach(parsingResult -> {
+      String filePath = parsingResult.getFile().toAbsolutePath().toString();
+
+      if (filePath.equals(StatisticsSampleDataUtils.SampleType.UNPARSEABLE.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isFalse();
+        assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Unexpected token byte value: 67");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.UNPARSEABLE_COMPRESSED.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isFalse();
+        assertThat(parsingResult.getException()).isInstanceOf(IOException.class).hasMessage("Not in GZIP format");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData().size()).isEqualTo(1);
+        CatalogEntry catalogEntry = parsingResult.getData().get(0);
+        assertThat(catalogEntry.getCategoryId()).isEqualTo("PartitionedRegionStats");
+        assertThat(catalogEntry.getInstanceIds()).containsExactly("/DC1_PARALLEL_GATEWAY_SENDER_QUEUE", "/test");
+        assertThat(catalogEntry.getStatisticIds()).containsExactly("bucketCount");
+      } else if (filePath.equals(StatisticsSampleDataUtils.SampleType.CLUSTER2_SERVER2.getFilePath())) {
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData().size()).isEqualTo(1);
+        assertThat(parsingResult.getData().get(0).getInstanceIds()).containsExactly("/DC2_PARALLEL_GATEWAY_SENDER_QUEUE", "/test");
+      } else if (filePath.contains("locator") || filePath.equals(StatisticsSampleDataUtils.SampleType.CLIENT.getFilePath())) {
+        // No partitioned regions hosted.
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData()).isEmpty();
+      } else {
+        assertThat(parsingResult.isSuccess()).isTrue();
+        assertThat(parsingResult.getData().size()).isEqualTo(1);
+      }
+    });
+  }
+
+  @Test
+  public void stitchSamplingShouldReturnOneResultPerMember() throws Exception {
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", "vmStats", "fdsOpen", null));
+    File rolledFolder = temporaryFolder.newFolder("rolled");
+    Files.copy(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), rolledFolder.toPath().resolve("server1-01-01.gfs"));
+    Files.copy(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), rolledFolder.toPath().resolve("server1-01-02.gfs"));
+    Files.copy(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER2.getFilePath()), rolledFolder.toPath().resolve("server2.gfs"));
+
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.stitchSampling(rolledFolder.toPath(), filters, Collections.emptyList());
+    assertThat(parsingResults.size()).isEqualTo(2);
+    assertThat(parsingResults.stream().allMatch(ParsingResult::isSuccess)).isTrue();
+
+    // Overlapping parts are stitched only once.
+    Sampling expectedSampling = statisticsService.parseSampling(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), filters).get(0).getData();
+    Sampling stitchedSampling = parsingResults.stream().filter(parsingResult -> parsingResult.getFile().getFileName().toString().equals("server1-01-01.gfs")).findAny().get().getData();
+    assertThat(stitchedSampling.getMetadata().getStartTimeStamp()).isEqualTo(expectedSampling.getMetadata().getStartTimeStamp());
+    assertThat(stitchedSampling.getMetadata().getFinishTimeStamp()).isEqualTo(expectedSampling.getMetadata().getFinishTimeStamp());
+    assertThat(stitchedSampling.getCategory("VMStats[vmStats]").getStatistic("fdsOpen").getRawSeries().getValues())
+        .containsExactly(expectedSampling.getCategory("VMStats[vmStats]").getStatistic("fdsOpen").getRawSeries().getValues());
+  }
+
+  @Test
+  public void stitchSamplingShouldReturnParsingErrorsForFilesWithoutValidHeader() {
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.stitchSampling(StatisticsSampleDataUtils.rootFolder.toPath(), Collections.emptyList(), Collections.emptyList());
+    assertThat(parsingResults.size()).isEqualTo(9);
+    assertThat(parsingResults.stream().filter(ParsingResult::isSuccess).count()).isEqualTo(7);
+  }
+
+  @Test
+  public void parseSamplingShouldDecodeCountersPausedForASingleSample() {
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("CachePerfStats", "cachePerfStats", null, null));
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), filters);
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+
+    // Entries are only added through creates.
+    Category category = parsingResults.get(0).getData().getCategory("CachePerfStats[cachePerfStats]");
+    assertThat(category.getStatistic("creates").getRawSeries().getMaximum()).isEqualTo(3600);
+    assertThat(category.getStatistic("entries").getRawSeries().getMaximum()).isEqualTo(3600);
+  }
+
+  @Test
+  public void parseSamplingShouldReadTruncatedFilesUntilTheLastCompleteToken() throws Exception {
+    byte[] archiveBytes = Files.readAllBytes(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()));
+    Path truncatedPath = temporaryFolder.newFile("truncated.gfs").toPath();
+    Files.write(truncatedPath, Arrays.copyOf(archiveBytes, archiveBytes.length / 2));
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", "vmStats", "threads", null));
+
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(truncatedPath, filters);
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    Series truncatedSeries = parsingResults.get(0).getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries();
+    Series expectedSeries = statisticsService.parseSampling(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), filters).get(0).getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries();
+    assertThat(truncatedSeries.size()).isEqualTo(1668);
+    assertThat(truncatedSeries.getValues()).containsExactly(Arrays.copyOf(expectedSeries.getValues(), 1668));
+    assertThat(truncatedSeries.getTimeStamps()).containsExactly(Arrays.copyOf(expectedSeries.getTimeStamps(), 1668));
+  }
+
+  @Test
+  public void parseSamplingShouldSkipTheDamagedRegionsOfCorruptedFilesWhenSalvageIsEnabled() throws Exception {
+    Path corruptedPath = temporaryFolder.newFile("corrupted.gfs").toPath();
+    Files.write(corruptedPath, corrupt(Files.readAllBytes(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()))));
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", "vmStats", "threads", null));
+    ((DefaultStatisticsService) statisticsService).setSalvage("enabled");
+
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(corruptedPath, filters);
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    assertThat(parsingResults.get(0).getWarning()).startsWith("Salvaged, 405 damaged bytes were skipped.");
+    Series salvagedSeries = parsingResults.get(0).getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries();
+    ParsingResult<Sampling> expectedResult = statisticsService.parseSampling(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), filters).get(0);
+    assertThat(expectedResult.hasWarning()).isFalse();
+    Series expectedSeries = expectedResult.getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries();
+    assertThat(expectedSeries.size()).isEqualTo(4238);
+    assertThat(salvagedSeries.size()).isEqualTo(4236);
+    assertThat(salvagedSeries.getTimeStamps()).isSortedAccordingTo(Long::compare).doesNotHaveDuplicates();
+
+    // Samples before the damaged region are read as written.
+    assertThat(Arrays.copyOf(salvagedSeries.getValues(), 1668)).containsExactly(Arrays.copyOf(expectedSeries.getValues(), 1668));
+    assertThat(Arrays.copyOf(salvagedSeries.getTimeStamps(), 1668)).containsExactly(Arrays.copyOf(expectedSeries.getTimeStamps(), 1668));
+
+    // Two samples are lost, the ones read after the damaged region keep the intervals and the changes between them.
+    assertThat(differences(salvagedSeries.getTimeStamps(), 1668)).containsExactly(differences(expectedSeries.getTimeStamps(), 1670));
+    assertThat(differences(salvagedSeries.getValues(), 1668)).containsExactly(differences(expectedSeries.getValues(), 1670));
+  }
+
+  @Test
+  public void parseSamplingShouldReadCorruptedCompressedFilesUntilTheDamagedBlockWhenSalvageIsEnabled() throws Exception {
+    Path corruptedPath = temporaryFolder.newFile("corrupted.gz").toPath();
+    Files.write(corruptedPath, corrupt(Files.readAllBytes(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_LOCATOR.getFilePath()))));
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", "vmStats", "threads", null));
+    ((DefaultStatisticsService) statisticsService).setSalvage("enabled");
+
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(corruptedPath, filters);
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isTrue();
+    Series salvagedSeries = parsingResults.get(0).getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries();
+    Series expectedSeries = statisticsService.parseSampling(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_LOCATOR.getFilePath()), filters).get(0).getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries();
+    assertThat(expectedSeries.size()).isEqualTo(4251);
+    assertThat(salvagedSeries.size()).isEqualTo(1856);
+    assertThat(salvagedSeries.getValues()).containsExactly(Arrays.copyOf(expectedSeries.getValues(), 1856));
+    assertThat(salvagedSeries.getTimeStamps()).containsExactly(Arrays.copyOf(expectedSeries.getTimeStamps(), 1856));
+  }
+
+  @Test
+  public void parseSamplingShouldReturnParsingErrorsForCorruptedFilesWhenSalvageIsDisabled() throws Exception {
+    Path corruptedPath = temporaryFolder.newFile("corrupted.gfs").toPath();
+    Files.write(corruptedPath, corrupt(Files.readAllBytes(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()))));
+    ((DefaultStatisticsService) statisticsService).setSalvage("disabled");
+
+    List<ParsingResult<Sampling>> parsingResults = statisticsService.parseSampling(corruptedPath, Collections.emptyList());
+    assertThat(parsingResults.size()).isEqualTo(1);
+    assertThat(parsingResults.get(0).isSuccess()).isFalse();
+  }
+
+  @Test
+  public void structureAndPointInTimeReadersShouldSkipTheDamagedRegionsOfCorruptedFilesWhenSalvageIsEnabled() throws Exception {
+    Path corruptedPath = temporaryFolder.newFile("corrupted.gfs").toPath();
+    Files.write(corruptedPath, corrupt(Files.readAllBytes(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()))));
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", "vmStats", "threads", null));
+    long[] timeStamps = statisticsService.parseSampling(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), filters).get(0).getData().getCategory("VMStats[vmStats]").getStatistic("threads").getRawSeries().getTimeStamps();
+    ((DefaultStatisticsService) statisticsService).setSalvage("disabled");
+
+    assertThat(statisticsService.detectPauses(corruptedPath, 2000).get(0).isSuccess()).isFalse();
+    assertThat(statisticsService.catalogStatistics(corruptedPath, Collections.emptyList()).get(0).isSuccess()).isFalse();
+    assertThat(statisticsService.sampleValuesAt(corruptedPath, filters, timeStamps[3000], 60000).get(0).isSuccess()).isFalse();
+
+    ((DefaultStatisticsService) statisticsService).setSalvage("enabled");
+    assertThat(statisticsService.detectPauses(corruptedPath, 2000).get(0).isSuccess()).isTrue();
+    List<ParsingResult<List<CatalogEntry>>> catalogResults = statisticsService.catalogStatistics(corruptedPath, Collections.emptyList());
+    assertThat(catalogResults.get(0).isSuccess()).isTrue();
+    assertThat(catalogResults.get(0).getData()).hasSameSizeAs(statisticsService.catalogStatistics(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()), Collections.emptyList()).get(0).getData());
+    List<ParsingResult<List<SampledValue>>> sampledResults = statisticsService.sampleValuesAt(corruptedPath, filters, timeStamps[3000], 60000);
+    assertThat(sampledResults.get(0).isSuccess()).isTrue();
+    assertThat(sampledResults.get(0).getData().size()).isEqualTo(1);
+  }
+
+  @Test
+  public void watchStatisticsShouldNotifyTheSummariesEveryTimeNewSamplesAreWritten() throws Exception {
+    byte[] archiveBytes = Files.readAllBytes(Paths.get(StatisticsSampleDataUtils.SampleType.CLUSTER1_SERVER1.getFilePath()));
+    Path livePath = temporaryFolder.newFile("live.gfs").toPath();
+    Files.write(livePath, Arrays.copyOf(archiveBytes, archiveBytes.length / 2));
+    BlockingQueue<List<LiveSummary>> updates = new LinkedBlockingQueue<>();
+    List<ValueFilter> filters = Collections.singletonList(new SimpleValueFilter("VMStats", "vmStats", "cpus", null));
+    CompletableFuture<Void> watch = statisticsService.watchStatistics(livePath, filters, 60000, 10, updates::add);
+
+    List<LiveSummary> firstUpdate = updates.poll(10, TimeUnit.SECONDS);
+    assertThat(firstUpdate).hasSize(1);
+    assertThat(firstUpdate.get(0).getStatisticId()).isEqualTo("VMStats[vmStats].cpus");
+    assertThat(firstUpdate.get(0).getLastValue()).isEqualTo(8);
+
+    // Nothing is notified while the file doesn't grow.
+    assertThat(updates.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+    Files.write(livePath, Arrays.copyOfRange(archiveBytes, archiveBytes.length / 2, archiveBytes.length), StandardOpenOption.APPEND);
+    List<LiveSummary> secondUpdate = updates.poll(10, TimeUnit.SECONDS);
+    assertThat(secondUpdate).hasSize(1);
+    assertThat(secondUpdate.get(0).getTimeStamp()).isGreaterThan(firstUpdate.get(0).getTimeStamp());
+    assertThat(secondUpdate.get(0).getLastValue()).isEqualTo(8);
+
+    watch.cancel(false);
+    assertThat(watch.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void watchStatisticsShouldCompleteExceptionallyWhenTheFileCanNotBeRead() throws Exception {
+    Path livePath = temporaryFolder.newFile("live.gfs").toPath();
+    Files.write(livePath, new byte[] { 127 });
+
+    CompletableFuture<Void> watch = statisticsService.watchStatistics(livePath, Collections.emptyList(), 60000, 10, liveSummaries -> {});
+    assertThatThrownBy(() -> watch.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IOException.class);
+  }
+
+  private byte[] corrupt(byte[] archiveBytes) {
+    Random random = new Random(7);
+    for (int i = archiveBytes.length / 2; i < archiveBytes.length / 2 + 300; i++) archiveBytes[i] = (byte) random.nextInt(256);
+
+    return archiveBytes;
+  }
+
+  private long[] differences(long[] values, int from) {
+    long[] differences = new long[values.length - from];
+    for (int i = from; i < values.length; i++) differences[i - from] = values[i] - values[i - 1];
+
+    return differences;
+  }
+
+  private double[] differences(double[] values, int from) {
+    double[] differences = new double[values.length - from];
+    for (int i = from; i < values.length; i++) differences[i - from] = values[i] - values[i - 1];
+
+    return differences;
+  }
 }
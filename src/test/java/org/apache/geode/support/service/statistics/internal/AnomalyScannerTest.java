@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Anomaly;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+public class AnomalyScannerTest {
+  private final Series series = new Series(new long[] { 10, 20, 30, 40, 50, 60, 70, 80, 90 }, new double[] { 1, 2, Double.NaN, 1, 2, 20, 2, 1, 2 });
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new AnomalyScanner(10, 3, null)).isInstanceOf(NullPointerException.class).hasMessage("Anomaly score can not be null.");
+    assertThatThrownBy(() -> new AnomalyScanner(10, 0, StatisticsService.AnomalyScore.MAD)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be positive.");
+    assertThatThrownBy(() -> new AnomalyScanner(1, 3, StatisticsService.AnomalyScore.MAD)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window size should be at least 2.");
+  }
+
+  @Test
+  public void scanShouldReturnNullWhenThresholdIsNotReached() {
+    assertThat(new AnomalyScanner(4, 100, StatisticsService.AnomalyScore.ZScore).scan("statistic", series)).isNull();
+    assertThat(new AnomalyScanner(4, 100, StatisticsService.AnomalyScore.MAD).scan("statistic", series)).isNull();
+  }
+
+  @Test
+  public void scanShouldSkipMissingValuesAndReturnTheStrongestAnomaly() {
+    AnomalyScanner zScoreScanner = new AnomalyScanner(4, 3, StatisticsService.AnomalyScore.ZScore);
+    AnomalyScanner madScanner = new AnomalyScanner(4, 3, StatisticsService.AnomalyScore.MAD);
+
+    Anomaly zScoreAnomaly = zScoreScanner.scan("statistic", series);
+    assertThat(zScoreAnomaly.getStatisticId()).isEqualTo("statistic");
+    assertThat(zScoreAnomaly.getTimeStamp()).isEqualTo(60);
+    assertThat(zScoreAnomaly.getValue()).isEqualTo(20);
+    assertThat(zScoreAnomaly.getZScore()).isCloseTo(18.5 / Math.sqrt(1.0 / 3.0), within(1e-9));
+    assertThat(zScoreAnomaly.getMadScore()).isCloseTo(18.5 / (0.5 * RollingMadDetector.MAD_SCALE), within(1e-9));
+    assertThat(zScoreScanner.getScore(zScoreAnomaly)).isEqualTo(zScoreAnomaly.getZScore());
+
+    Anomaly madAnomaly = madScanner.scan("statistic", series);
+    assertThat(madAnomaly.getTimeStamp()).isEqualTo(60);
+    assertThat(madScanner.getScore(madAnomaly)).isEqualTo(madAnomaly.getMadScore());
+  }
+
+  @Test
+  public void scanShouldResetDetectorsBetweenSeries() {
+    AnomalyScanner scanner = new AnomalyScanner(4, 3, StatisticsService.AnomalyScore.ZScore);
+    scanner.scan("first", series);
+
+    assertThat(scanner.scan("second", new Series(new long[] { 10, 20, 30 }, new double[] { 100, 200, 300 }))).isNull();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.support.domain.statistics.filters.SimpleValueFilter;
+
+public class ArchiveIndexCacheTest {
+  private Path archivePath;
+  private Path cacheDirectory;
+  private ArchiveIndex archiveIndex;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void setUp() throws IOException {
+    archivePath = temporaryFolder.newFile("cluster1-server1.gfs").toPath();
+    cacheDirectory = temporaryFolder.getRoot().toPath().resolve("cache");
+    BloomFilter typeNames = BloomFilter.create(1, ArchiveIndex.FALSE_POSITIVE_PROBABILITY);
+    typeNames.put("vmstats");
+    archiveIndex = new ArchiveIndex(typeNames, BloomFilter.create(0, ArchiveIndex.FALSE_POSITIVE_PROBABILITY));
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenMaximumEntriesIsInvalid() {
+    assertThatThrownBy(() -> new ArchiveIndexCache(cacheDirectory, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum entries should be positive.");
+  }
+
+  @Test
+  public void getShouldReturnNullWhenTheIndexWasNeverStored() {
+    assertThat(new ArchiveIndexCache(cacheDirectory).get(archivePath)).isNull();
+    assertThat(new ArchiveIndexCache(cacheDirectory).get(archivePath.resolveSibling("absent.gfs"))).isNull();
+  }
+
+  @Test
+  public void getShouldReturnTheIndexPersistedByAnotherCacheInstance() throws IOException {
+    new ArchiveIndexCache(cacheDirectory).put(archivePath, archiveIndex);
+    assertThat(Files.list(cacheDirectory).filter(path -> path.toString().endsWith(ArchiveIndexCache.FILE_EXTENSION)).count()).isEqualTo(1);
+
+    ArchiveIndex readIndex = new ArchiveIndexCache(cacheDirectory).get(archivePath);
+    assertThat(readIndex).isNotNull();
+    assertThat(readIndex.mayMatch(archivePath.toFile(), Collections.singletonList(new SimpleValueFilter("VMStats", null, null, null)))).isTrue();
+    assertThat(readIndex.mayMatch(archivePath.toFile(), Collections.singletonList(new SimpleValueFilter("AbsentStats", null, null, null)))).isFalse();
+  }
+
+  @Test
+  public void getShouldReturnNullWhenTheArchiveWasModified() throws IOException {
+    ArchiveIndexCache archiveIndexCache = new ArchiveIndexCache(cacheDirectory);
+    archiveIndexCache.put(archivePath, archiveIndex);
+    assertThat(archiveIndexCache.get(archivePath)).isSameAs(archiveIndex);
+
+    Files.write(archivePath, new byte[] { 1, 2, 3 });
+    Files.setLastModifiedTime(archivePath, FileTime.fromMillis(Files.getLastModifiedTime(archivePath).toMillis() + 60000));
+    assertThat(archiveIndexCache.get(archivePath)).isNull();
+  }
+
+  @Test
+  public void getShouldReturnNullWhenTheFormatVersionDoesNotMatch() throws IOException {
+    ArchiveIndexCache archiveIndexCache = new ArchiveIndexCache(cacheDirectory);
+    Files.createDirectories(cacheDirectory);
+    Files.write(cacheDirectory.resolve(archiveIndexCache.getKey(archivePath) + ArchiveIndexCache.FILE_EXTENSION), new byte[] { 0, 0, 0, 99 });
+
+    assertThat(archiveIndexCache.get(archivePath)).isNull();
+  }
+
+  @Test
+  public void putShouldEvictTheOldestIndexesWhenTheMaximumIsExceeded() throws IOException {
+    ArchiveIndexCache archiveIndexCache = new ArchiveIndexCache(cacheDirectory, 2);
+    Path[] archives = new Path[3];
+
+    for (int i = 0; i < archives.length; i++) {
+      archives[i] = temporaryFolder.newFile("cluster1-server" + (i + 2) + ".gfs").toPath();
+      archiveIndexCache.put(archives[i], archiveIndex);
+
+      // Make sure the index files are ordered by age, whatever the file system time resolution.
+      Path indexFile = cacheDirectory.resolve(archiveIndexCache.getKey(archives[i]) + ArchiveIndexCache.FILE_EXTENSION);
+      Files.setLastModifiedTime(indexFile, FileTime.fromMillis(Files.getLastModifiedTime(indexFile).toMillis() - (archives.length - i) * 60000));
+    }
+
+    assertThat(Files.list(cacheDirectory).filter(path -> path.toString().endsWith(ArchiveIndexCache.FILE_EXTENSION)).count()).isEqualTo(2);
+    assertThat(archiveIndexCache.get(archives[0])).isNull();
+    assertThat(archiveIndexCache.get(archives[1])).isSameAs(archiveIndex);
+    assertThat(archiveIndexCache.get(archives[2])).isSameAs(archiveIndex);
+
+    ArchiveIndexCache otherArchiveIndexCache = new ArchiveIndexCache(cacheDirectory, 2);
+    assertThat(otherArchiveIndexCache.get(archives[0])).isNull();
+    assertThat(otherArchiveIndexCache.get(archives[1])).isNotNull();
+    assertThat(otherArchiveIndexCache.get(archives[2])).isNotNull();
+  }
+}
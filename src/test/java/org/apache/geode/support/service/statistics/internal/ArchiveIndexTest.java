@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.statistics.StatArchiveFile;
+import org.apache.geode.internal.statistics.StatArchiveReader;
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.domain.statistics.filters.SimpleValueFilter;
+import org.apache.geode.support.test.mockito.MockUtils;
+
+public class ArchiveIndexTest {
+  private File archive;
+  private ArchiveIndex archiveIndex;
+
+  @Before
+  public void setUp() {
+    archive = new File("cluster1-server1.gfs");
+    StatArchiveReader.ResourceType vmStatsType = MockUtils.mockResourceType("VMStats", "Stats available on a 1.5 java virtual machine.");
+    StatArchiveReader.ResourceType regionStatsType = MockUtils.mockResourceType("PartitionedRegionStats", "Statistics for operations and connections in the Partitioned Region");
+    StatArchiveReader.ResourceInst vmStatsInstance = MockUtils.mockResourceInstance("vmStats", true, vmStatsType, null);
+    when(vmStatsInstance.getId()).thenReturn(1L);
+    StatArchiveReader.ResourceInst regionStatsInstance = MockUtils.mockResourceInstance("/test", true, regionStatsType, null);
+    when(regionStatsInstance.getId()).thenReturn(2L);
+
+    StatArchiveFile statArchiveFile = mock(StatArchiveFile.class);
+    when(statArchiveFile.getResourceTypesTable()).thenReturn(new StatArchiveReader.ResourceType[] { vmStatsType, null, regionStatsType });
+    when(statArchiveFile.getResourceInstancesTable()).thenReturn(new StatArchiveReader.ResourceInst[] { vmStatsInstance, regionStatsInstance, null });
+    archiveIndex = ArchiveIndex.of(statArchiveFile);
+  }
+
+  @Test
+  public void mayMatchShouldReturnTrueWhenThereAreNoLiteralFilters() {
+    assertThat(archiveIndex.mayMatch(archive, Collections.emptyList())).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new RegexValueFilter("Absent.*", null, null, null)))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new SimpleValueFilter(null, null, "cpus", null)))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(mock(ValueFilter.class)))).isTrue();
+  }
+
+  @Test
+  public void mayMatchShouldIgnoreFiltersNotApplicableToTheArchive() {
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new SimpleValueFilter("AbsentStats", null, null, "cluster2-server1.gfs")))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new SimpleValueFilter("AbsentStats", null, null, "cluster1-server1.gfs")))).isFalse();
+  }
+
+  @Test
+  public void mayMatchShouldUseTheLiteralTypeAndInstanceIds() {
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new SimpleValueFilter("vmstats", null, null, null)))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new RegexValueFilter("VMStats", "VMSTATS", null, null)))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new RegexValueFilter(null, "/test", null, null)))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new RegexValueFilter(null, "2", null, null)))).isTrue();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new RegexValueFilter("AbsentStats", null, null, null)))).isFalse();
+    assertThat(archiveIndex.mayMatch(archive, Collections.singletonList(new RegexValueFilter(null, "/absent", null, null)))).isFalse();
+    assertThat(archiveIndex.mayMatch(archive, Arrays.asList(new RegexValueFilter("AbsentStats", null, null, null), new SimpleValueFilter("VMStats", null, null, null)))).isTrue();
+  }
+
+  @Test
+  public void readFromShouldReturnTheIndexPreviouslyWritten() throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    archiveIndex.writeTo(new DataOutputStream(byteArrayOutputStream));
+    ArchiveIndex readIndex = ArchiveIndex.readFrom(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+
+    assertThat(readIndex.mayMatch(archive, Collections.singletonList(new SimpleValueFilter("PartitionedRegionStats", "/test", null, null)))).isTrue();
+    assertThat(readIndex.mayMatch(archive, Collections.singletonList(new SimpleValueFilter("AbsentStats", null, null, null)))).isFalse();
+  }
+}
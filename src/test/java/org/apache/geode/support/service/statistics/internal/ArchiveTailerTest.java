@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.internal.statistics.StatArchiveFile;
+import org.apache.geode.internal.statistics.StatArchiveReader;
+import org.apache.geode.internal.statistics.StatValue;
+import org.apache.geode.internal.statistics.ValueFilter;
+import org.apache.geode.support.domain.statistics.filters.RegexValueFilter;
+import org.apache.geode.support.test.StatisticsSampleDataUtils;
+
+public class ArchiveTailerTest {
+  private Path livePath;
+  private byte[] archiveBytes;
+  private StatArchiveFile fullArchive;
+  private List<ValueFilter> filters;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void setUp() throws IOException {
+    Path archivePath = StatisticsSampleDataUtils.uncorruptedFolder.toPath().resolve("cluster1-server1.gfs");
+    archiveBytes = Files.readAllBytes(archivePath);
+    livePath = temporaryFolder.newFile("live.gfs").toPath();
+    filters = Collections.singletonList(new RegexValueFilter("VMStats|StatSampler", null, null, null));
+    fullArchive = new StatArchiveFile(archivePath.toFile(), filters.toArray(new ValueFilter[0]));
+    fullArchive.update(false);
+  }
+
+  private void append(int offset, int length) throws IOException {
+    try (OutputStream outputStream = Files.newOutputStream(livePath, StandardOpenOption.APPEND)) {
+      outputStream.write(archiveBytes, offset, length);
+    }
+  }
+
+  private void assertSameValues(StatArchiveFile actual, StatArchiveFile expected) {
+    assertThat(actual.getLastTimeStamp()).isEqualTo(expected.getLastTimeStamp());
+    StatArchiveReader.ResourceInst[] actualInstances = actual.getResourceInstancesTable();
+    StatArchiveReader.ResourceInst[] expectedInstances = expected.getResourceInstancesTable();
+
+    for (int i = 0; i < expectedInstances.length; i++) {
+      if ((expectedInstances[i] == null) || (!expectedInstances[i].isLoaded())) continue;
+      assertThat(actualInstances[i].getName()).isEqualTo(expectedInstances[i].getName());
+      StatValue[] actualValues = actualInstances[i].getStatValues();
+      StatValue[] expectedValues = expectedInstances[i].getStatValues();
+
+      for (int j = 0; j < expectedValues.length; j++) {
+        if (expectedValues[j] == null) continue;
+        assertThat(actualValues[j].getRawSnapshots()).isEqualTo(expectedValues[j].getRawSnapshots());
+        assertThat(actualValues[j].getRawAbsoluteTimeStamps()).isEqualTo(expectedValues[j].getRawAbsoluteTimeStamps());
+      }
+    }
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new ArchiveTailer(null, filters)).isInstanceOf(NullPointerException.class).hasMessage("Path can not be null.");
+    assertThatThrownBy(() -> new ArchiveTailer(livePath, null)).isInstanceOf(NullPointerException.class).hasMessage("Filters can not be null.");
+    assertThatThrownBy(() -> new ArchiveTailer(livePath.resolveSibling("live.gz"), filters)).isInstanceOf(IllegalArgumentException.class).hasMessage("Compressed statistics files can not be followed.");
+  }
+
+  @Test
+  public void pollShouldThrowExceptionWhenTheFileDoesNotExist() throws IOException {
+    Files.delete(livePath);
+    assertThatThrownBy(() -> new ArchiveTailer(livePath, filters).poll()).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void pollShouldThrowExceptionWhenTheFileContainsAnInvalidToken() throws IOException {
+    Files.write(livePath, new byte[] { 127, 1, 2, 3 });
+    assertThatThrownBy(() -> new ArchiveTailer(livePath, filters).poll()).isInstanceOf(IOException.class).hasMessage("Unexpected token byte value: 127");
+  }
+
+  @Test
+  public void pollShouldNotDecodeAnythingWhenTheFileDidNotGrow() throws IOException {
+    append(0, archiveBytes.length);
+    ArchiveTailer archiveTailer = new ArchiveTailer(livePath, filters);
+    assertThat(archiveTailer.getStatArchiveFile()).isNull();
+
+    assertThat(archiveTailer.poll()).isTrue();
+    StatArchiveFile statArchiveFile = archiveTailer.getStatArchiveFile();
+    assertThat(archiveTailer.poll()).isFalse();
+    assertThat(archiveTailer.poll()).isFalse();
+    assertThat(archiveTailer.getStatArchiveFile()).isSameAs(statArchiveFile);
+    assertThat(archiveTailer.getRolls()).isEqualTo(0);
+    assertSameValues(statArchiveFile, fullArchive);
+    archiveTailer.close();
+  }
+
+  @Test
+  public void pollShouldDecodeTheSameValuesAsAFullReadWhenTheFileGrowsInArbitraryChunks() throws IOException {
+    Random random = new Random(42);
+    ArchiveTailer archiveTailer = new ArchiveTailer(livePath, filters);
+
+    // Chunks end at random positions, usually in the middle of a token.
+    int offset = 0;
+    while (offset < archiveBytes.length) {
+      int length = Math.min(archiveBytes.length - offset, 1 + random.nextInt(4096));
+      append(offset, length);
+      archiveTailer.poll();
+      offset += length;
+    }
+
+    assertThat(archiveTailer.getRolls()).isEqualTo(0);
+    assertSameValues(archiveTailer.getStatArchiveFile(), fullArchive);
+    archiveTailer.close();
+  }
+
+  @Test
+  public void pollShouldReadTheNewFileFromTheBeginningWhenTheFileIsRolled() throws IOException {
+    append(0, archiveBytes.length / 2);
+    ArchiveTailer archiveTailer = new ArchiveTailer(livePath, filters);
+    assertThat(archiveTailer.poll()).isTrue();
+    StatArchiveFile firstFile = archiveTailer.getStatArchiveFile();
+    assertThat(firstFile.getLastTimeStamp()).isLessThan(fullArchive.getLastTimeStamp());
+
+    // The member renames the archive and starts writing a new, smaller, one.
+    Files.move(livePath, livePath.resolveSibling("live-01-01.gfs"));
+    Files.write(livePath, Arrays.copyOf(archiveBytes, archiveBytes.length / 4));
+    assertThat(archiveTailer.poll()).isTrue();
+    assertThat(archiveTailer.getRolls()).isEqualTo(1);
+    assertThat(archiveTailer.getStatArchiveFile()).isNotSameAs(firstFile);
+    assertThat(archiveTailer.getStatArchiveFile().getLastTimeStamp()).isLessThan(firstFile.getLastTimeStamp());
+
+    append(archiveBytes.length / 4, archiveBytes.length - archiveBytes.length / 4);
+    assertThat(archiveTailer.poll()).isTrue();
+    assertThat(archiveTailer.getRolls()).isEqualTo(1);
+    assertSameValues(archiveTailer.getStatArchiveFile(), fullArchive);
+    archiveTailer.close();
+  }
+}
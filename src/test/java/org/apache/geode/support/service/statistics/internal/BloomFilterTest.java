@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class BloomFilterTest {
+
+  @Test
+  public void createShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> BloomFilter.create(-1, 0.01)).isInstanceOf(IllegalArgumentException.class).hasMessage("Expected entries should be zero or positive.");
+    assertThatThrownBy(() -> BloomFilter.create(10, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("False positive probability should be between 0 and 1.");
+    assertThatThrownBy(() -> BloomFilter.create(10, 1)).isInstanceOf(IllegalArgumentException.class).hasMessage("False positive probability should be between 0 and 1.");
+  }
+
+  @Test
+  public void mightContainShouldNeverReturnFalseNegatives() {
+    BloomFilter bloomFilter = BloomFilter.create(1000, 0.01);
+    for (int i = 0; i < 1000; i++) bloomFilter.put("instance-" + i);
+
+    for (int i = 0; i < 1000; i++) assertThat(bloomFilter.mightContain("instance-" + i)).isTrue();
+  }
+
+  @Test
+  public void mightContainShouldReturnFalseForMostAbsentValues() {
+    BloomFilter bloomFilter = BloomFilter.create(1000, 0.01);
+    for (int i = 0; i < 1000; i++) bloomFilter.put("instance-" + i);
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) if (bloomFilter.mightContain("absent-" + i)) falsePositives++;
+    assertThat(falsePositives).isLessThan(500);
+    assertThat(BloomFilter.create(0, 0.01).mightContain("absent")).isFalse();
+  }
+
+  @Test
+  public void readFromShouldReturnTheFilterPreviouslyWritten() throws IOException {
+    BloomFilter bloomFilter = BloomFilter.create(10, 0.01);
+    bloomFilter.put("VMStats");
+    bloomFilter.put("CachePerfStats");
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    bloomFilter.writeTo(new DataOutputStream(byteArrayOutputStream));
+
+    BloomFilter readFilter = BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+    assertThat(readFilter.mightContain("VMStats")).isTrue();
+    assertThat(readFilter.mightContain("CachePerfStats")).isTrue();
+  }
+
+  @Test
+  public void readFromShouldThrowExceptionWhenContentIsInvalid() throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+    dataOutputStream.writeInt(0);
+    dataOutputStream.writeInt(-1);
+
+    assertThatThrownBy(() -> BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())))).isInstanceOf(IOException.class).hasMessage("Invalid bloom filter, 0 hashes and -1 words.");
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Series;
+
+public class BucketDownsamplerTest {
+
+  private Series downsample(double[] values, int points, BucketDownsampler.Aggregation aggregation) {
+    BucketDownsampler downsampler = new BucketDownsampler(values.length, points, aggregation);
+    for (int i = 0; i < values.length; i++) downsampler.add(i, values[i]);
+
+    return downsampler.getResult();
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new BucketDownsampler(-1, 10, BucketDownsampler.Aggregation.AVERAGE)).isInstanceOf(IllegalArgumentException.class).hasMessage("Size should be zero or positive.");
+    assertThatThrownBy(() -> new BucketDownsampler(10, 0, BucketDownsampler.Aggregation.AVERAGE)).isInstanceOf(IllegalArgumentException.class).hasMessage("Points should be positive.");
+  }
+
+  @Test
+  public void addShouldThrowExceptionWhenMoreSamplesThanExpectedAreAdded() {
+    BucketDownsampler downsampler = new BucketDownsampler(1, 10, BucketDownsampler.Aggregation.AVERAGE);
+    downsampler.add(0, 0);
+    assertThatThrownBy(() -> downsampler.add(1, 1)).isInstanceOf(IllegalStateException.class).hasMessage("Downsampler was created for 1 samples only.");
+  }
+
+  @Test
+  public void getResultShouldReturnEmptySeriesWhenNoSamplesAreAdded() {
+    assertThat(new BucketDownsampler(0, 10, BucketDownsampler.Aggregation.MIN_MAX).getResult().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void getResultShouldReturnTheSamePointsWhenCalledMoreThanOnce() {
+    BucketDownsampler downsampler = new BucketDownsampler(100, 10, BucketDownsampler.Aggregation.MIN_MAX);
+    for (int i = 0; i < 100; i++) downsampler.add(i, i % 7);
+
+    Series first = downsampler.getResult();
+    Series second = downsampler.getResult();
+    assertThat(first.size()).isEqualTo(10);
+    assertThat(second.getTimeStamps()).containsExactly(first.getTimeStamps());
+    assertThat(second.getValues()).containsExactly(first.getValues());
+  }
+
+  @Test
+  public void getResultShouldReturnOriginalSamplesWhenSizeIsLowerThanPoints() {
+    double[] values = new double[] { 5, 1, 3 };
+
+    for (BucketDownsampler.Aggregation aggregation : BucketDownsampler.Aggregation.values()) {
+      Series result = downsample(values, 10, aggregation);
+      assertThat(result.getValues()).containsExactly(values);
+      assertThat(result.getTimeStamps()).containsExactly(0, 1, 2);
+    }
+  }
+
+  @Test
+  public void getResultShouldKeepMinimumOfEachBucket() {
+    Series result = downsample(new double[] { 5, 1, 3, 7, 9, 2 }, 2, BucketDownsampler.Aggregation.MINIMUM);
+    assertThat(result.getValues()).containsExactly(1, 2);
+    assertThat(result.getTimeStamps()).containsExactly(1, 5);
+  }
+
+  @Test
+  public void getResultShouldKeepMaximumOfEachBucket() {
+    Series result = downsample(new double[] { 5, 1, 3, 7, 9, 2 }, 2, BucketDownsampler.Aggregation.MAXIMUM);
+    assertThat(result.getValues()).containsExactly(5, 9);
+    assertThat(result.getTimeStamps()).containsExactly(0, 4);
+  }
+
+  @Test
+  public void getResultShouldKeepAverageOfEachBucket() {
+    Series result = downsample(new double[] { 5, 1, 3, 7, 9, 2 }, 2, BucketDownsampler.Aggregation.AVERAGE);
+    assertThat(result.getValues()).containsExactly(3, 6);
+    assertThat(result.getTimeStamps()).containsExactly(0, 3);
+  }
+
+  @Test
+  public void getResultShouldKeepBothExtremesOfEachBucketInChronologicalOrder() {
+    Series result = downsample(new double[] { 5, 1, 3, 7, 9, 2, 4, 4 }, 4, BucketDownsampler.Aggregation.MIN_MAX);
+    assertThat(result.getValues()).containsExactly(1, 7, 9, 2);
+    assertThat(result.getTimeStamps()).containsExactly(1, 3, 4, 5);
+  }
+}
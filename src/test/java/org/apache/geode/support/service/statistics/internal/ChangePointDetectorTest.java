@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.ChangePoint;
+import org.apache.geode.support.domain.statistics.Series;
+
+public class ChangePointDetectorTest {
+  private final long[] timeStamps = new long[] { 10, 20, 30, 40, 50, 60, 70, 80 };
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new ChangePointDetector(0, 0.5)).isInstanceOf(IllegalArgumentException.class).hasMessage("Minimum segment should be positive.");
+    assertThatThrownBy(() -> new ChangePointDetector(2, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be between 0 (exclusive) and 1 (inclusive).");
+    assertThatThrownBy(() -> new ChangePointDetector(2, 1.5)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be between 0 (exclusive) and 1 (inclusive).");
+  }
+
+  @Test
+  public void detectShouldReturnNullWhenSeriesIsTooShortOrConstant() {
+    ChangePointDetector detector = new ChangePointDetector(2, 0.1);
+
+    assertThat(detector.detect("statistic", new Series(new long[] { 10, 20, 30 }, new double[] { 1, 2, 3 }))).isNull();
+    assertThat(detector.detect("statistic", new Series(timeStamps, new double[] { 3, 3, 3, 3, 3, 3, 3, 3 }))).isNull();
+  }
+
+  @Test
+  public void detectShouldReturnNullWhenThresholdIsNotReached() {
+    ChangePointDetector detector = new ChangePointDetector(2, 0.5);
+
+    assertThat(detector.detect("statistic", new Series(timeStamps, new double[] { 1, 2, 1, 2, 1, 2, 1, 2 }))).isNull();
+  }
+
+  @Test
+  public void detectShouldFindPerfectLevelShifts() {
+    ChangePoint changePoint = new ChangePointDetector(2, 0.1).detect("statistic", new Series(timeStamps, new double[] { 1, 1, 1, 1, 5, 5, 5, 5 }));
+
+    assertThat(changePoint.getStatisticId()).isEqualTo("statistic");
+    assertThat(changePoint.getTimeStamp()).isEqualTo(50);
+    assertThat(changePoint.getBefore()).isCloseTo(1, within(1e-9));
+    assertThat(changePoint.getAfter()).isCloseTo(5, within(1e-9));
+    assertThat(changePoint.getMagnitude()).isCloseTo(4, within(1e-9));
+    assertThat(changePoint.getScore()).isEqualTo(1);
+  }
+
+  @Test
+  public void detectShouldScoreNoisyLevelShiftsByExplainedVariance() {
+    ChangePoint changePoint = new ChangePointDetector(2, 0.1).detect("statistic", new Series(timeStamps, new double[] { 1, 2, 1, 2, 6, 7, 6, 7 }));
+
+    assertThat(changePoint.getTimeStamp()).isEqualTo(50);
+    assertThat(changePoint.getBefore()).isCloseTo(1.5, within(1e-9));
+    assertThat(changePoint.getAfter()).isCloseTo(6.5, within(1e-9));
+    assertThat(changePoint.getScore()).isCloseTo(50.0 / 52.0, within(1e-9));
+  }
+
+  @Test
+  public void detectShouldHonourMinimumSegment() {
+    ChangePoint changePoint = new ChangePointDetector(2, 0.1).detect("statistic", new Series(new long[] { 10, 20, 30, 40, 50, 60 }, new double[] { 0, 5, 5, 5, 5, 5 }));
+
+    assertThat(changePoint.getTimeStamp()).isEqualTo(30);
+    assertThat(changePoint.getBefore()).isCloseTo(2.5, within(1e-9));
+    assertThat(changePoint.getAfter()).isCloseTo(5, within(1e-9));
+    assertThat(changePoint.getScore()).isCloseTo(0.4, within(1e-9));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.ClockSkew;
+import org.apache.geode.support.domain.statistics.Series;
+
+public class ClockSkewEstimatorTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new ClockSkewEstimator(0, 1000)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum skew should be positive.");
+    assertThatThrownBy(() -> new ClockSkewEstimator(-1, 1000)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum skew should be positive.");
+    assertThatThrownBy(() -> new ClockSkewEstimator(5000, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Tolerance should be positive.");
+    assertThatThrownBy(() -> new ClockSkewEstimator(5000, -1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Tolerance should be positive.");
+  }
+
+  @Test
+  public void extractEventsShouldReturnSortedAndDistinctTimeStampsOfValueChanges() {
+    assertThat(ClockSkewEstimator.extractEvents(Collections.emptyList())).isEmpty();
+    assertThat(ClockSkewEstimator.extractEvents(Collections.singletonList(new Series(new long[] { 1000, 2000, 3000 }, new double[] { 5, 5, 5 })))).isEmpty();
+
+    Series first = new Series(new long[] { 1000, 2000, 3000, 4000, 5000 }, new double[] { 1, 1, 2, 2, 1 });
+    Series second = new Series(new long[] { 1000, 2000, 3000, 4000 }, new double[] { 0, 3, 4, 4 });
+    assertThat(ClockSkewEstimator.extractEvents(Arrays.asList(first, second))).containsExactly(2000, 3000, 5000);
+  }
+
+  @Test
+  public void estimateShouldReturnNonEstimatedSkewWhenThereAreNoSharedEvents() {
+    ClockSkewEstimator clockSkewEstimator = new ClockSkewEstimator(5000, 1000);
+
+    ClockSkew noReference = clockSkewEstimator.estimate(new long[0], new long[] { 1000, 2000 });
+    assertThat(noReference.isEstimated()).isFalse();
+    assertThat(noReference.getEvents()).isEqualTo(2);
+    assertThat(noReference.getMatchedEvents()).isEqualTo(0);
+
+    ClockSkew noEvents = clockSkewEstimator.estimate(new long[] { 1000, 2000 }, new long[0]);
+    assertThat(noEvents.isEstimated()).isFalse();
+    assertThat(noEvents.getEvents()).isEqualTo(0);
+
+    ClockSkew tooFar = clockSkewEstimator.estimate(new long[] { 1000, 2000 }, new long[] { 60000, 90000 });
+    assertThat(tooFar.isEstimated()).isFalse();
+    assertThat(tooFar.getOffset()).isEqualTo(0);
+    assertThat(tooFar.getEvents()).isEqualTo(2);
+    assertThat(tooFar.getMatchedEvents()).isEqualTo(0);
+  }
+
+  @Test
+  public void estimateShouldReturnTheMedianDifferenceOfTheMatchedEvents() {
+    ClockSkewEstimator clockSkewEstimator = new ClockSkewEstimator(5000, 1000);
+
+    // Member clock is 2.5 seconds ahead, the last event wasn't seen by the reference.
+    ClockSkew ahead = clockSkewEstimator.estimate(new long[] { 10000, 20000, 35000 }, new long[] { 12500, 22400, 37600, 50000 });
+    assertThat(ahead.isEstimated()).isTrue();
+    assertThat(ahead.isReference()).isFalse();
+    assertThat(ahead.getOffset()).isEqualTo(-2500);
+    assertThat(ahead.getEvents()).isEqualTo(4);
+    assertThat(ahead.getMatchedEvents()).isEqualTo(3);
+
+    // Member clock is 3 seconds behind, the median of an even amount of differences is the average of the middle ones.
+    ClockSkew behind = clockSkewEstimator.estimate(new long[] { 10000, 20000, 30000, 40000 }, new long[] { 7000, 17100, 26800, 37000 });
+    assertThat(behind.isEstimated()).isTrue();
+    assertThat(behind.getOffset()).isEqualTo(3000);
+    assertThat(behind.getEvents()).isEqualTo(4);
+    assertThat(behind.getMatchedEvents()).isEqualTo(4);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.support.service.StatisticsService;
+
+public class CorrelatorTest {
+  private ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreNull() {
+    assertThatThrownBy(() -> new Correlator(executorService, null)).isInstanceOf(NullPointerException.class).hasMessage("Correlation method can not be null.");
+    assertThatThrownBy(() -> new Correlator(null, StatisticsService.CorrelationMethod.Pearson)).isInstanceOf(NullPointerException.class).hasMessage("ExecutorService can not be null.");
+  }
+
+  @Test
+  public void correlateShouldThrowExceptionWhenSeriesAreNull() {
+    Correlator correlator = new Correlator(executorService, StatisticsService.CorrelationMethod.Pearson);
+
+    assertThatThrownBy(() -> correlator.correlate(null, new double[0][])).isInstanceOf(NullPointerException.class).hasMessage("Targets can not be null.");
+    assertThatThrownBy(() -> correlator.correlate(new double[0][], null)).isInstanceOf(NullPointerException.class).hasMessage("Candidates can not be null.");
+  }
+
+  @Test
+  public void rankShouldUseAverageRankForTiesAndKeepMissingValues() {
+    assertThat(Correlator.rank(new double[] { 30, 10, Double.NaN, 20, 10 })).containsExactly(4, 1.5, Double.NaN, 3, 1.5);
+  }
+
+  @Test
+  public void standardizeShouldReturnNullWhenCoefficientCanNotBeComputed() {
+    assertThat(Correlator.standardize(new double[] { 5, Double.NaN })).isNull();
+    assertThat(Correlator.standardize(new double[] { 5, 5, 5 })).isNull();
+  }
+
+  @Test
+  public void standardizeShouldCenterAndScaleValues() {
+    double[] result = Correlator.standardize(new double[] { 1, Double.NaN, 3 });
+
+    assertThat(result[0]).isCloseTo(-Math.sqrt(0.5), within(1e-9));
+    assertThat(result[1]).isEqualTo(0);
+    assertThat(result[2]).isCloseTo(Math.sqrt(0.5), within(1e-9));
+  }
+
+  @Test
+  public void centerShouldReturnNullWhenCoefficientCanNotBeComputed() {
+    assertThat(Correlator.center(new double[] { 5, Double.NaN })).isNull();
+    assertThat(Correlator.center(new double[] { 5, 5, 5 })).isNull();
+  }
+
+  @Test
+  public void centerShouldSubtractTheMeanAndKeepMissingValues() {
+    assertThat(Correlator.center(new double[] { 1, Double.NaN, 3 })).containsExactly(-1, Double.NaN, 1);
+  }
+
+  @Test
+  public void correlateShouldUseOnlyThePointsWhereBothSeriesHaveValues() {
+    double[][] targets = new double[][] { { 10, 20, 30, 1, 2, 3, Double.NaN } };
+    double[][] candidates = new double[][] {
+        { Double.NaN, Double.NaN, Double.NaN, 1, 2, 3, 4 },
+        { Double.NaN, Double.NaN, Double.NaN, 3, 1, 2, 9 },
+        { 1, 2, 3, Double.NaN, Double.NaN, Double.NaN, Double.NaN },
+        { 1, 2, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 3 },
+        { Double.NaN, Double.NaN, Double.NaN, 1, 1, 1, 2 }
+    };
+
+    double[][] result = new Correlator(executorService, StatisticsService.CorrelationMethod.Pearson).correlate(targets, candidates);
+    assertThat(result[0][0]).isCloseTo(1.0, within(1e-9));
+    assertThat(result[0][1]).isCloseTo(-0.5, within(1e-9));
+    assertThat(result[0][2]).isCloseTo(1.0, within(1e-9));
+    assertThat(result[0][3]).isCloseTo(1.0, within(1e-9));
+    assertThat(result[0][4]).isNaN();
+
+    double[][] spearman = new Correlator(executorService, StatisticsService.CorrelationMethod.Spearman).correlate(targets, candidates);
+    assertThat(spearman[0][0]).isCloseTo(1.0, within(1e-9));
+    assertThat(spearman[0][4]).isNaN();
+  }
+
+  @Test
+  public void correlateShouldReturnPearsonCoefficients() {
+    double[][] targets = new double[][] { { 1, 2, 3, 4, 5 } };
+    double[][] candidates = new double[][] { { 2, 4, 6, 8, 10 }, { 5, 4, 3, 2, 1 }, { 7, 7, 7, 7, 7 }, { 1, 3, 2, 5, 4 } };
+
+    double[][] result = new Correlator(executorService, StatisticsService.CorrelationMethod.Pearson).correlate(targets, candidates);
+    assertThat(result.length).isEqualTo(1);
+    assertThat(result[0][0]).isCloseTo(1.0, within(1e-9));
+    assertThat(result[0][1]).isCloseTo(-1.0, within(1e-9));
+    assertThat(result[0][2]).isNaN();
+    assertThat(result[0][3]).isCloseTo(0.8, within(1e-9));
+  }
+
+  @Test
+  public void correlateShouldReturnSpearmanCoefficients() {
+    double[][] targets = new double[][] { { 1, 2, 3, 4, 5 } };
+    double[][] candidates = new double[][] { { 1, 8, 27, 64, 125 }, { 1, 3, 2, 5, 4 } };
+
+    double[][] pearson = new Correlator(executorService, StatisticsService.CorrelationMethod.Pearson).correlate(targets, candidates);
+    double[][] spearman = new Correlator(executorService, StatisticsService.CorrelationMethod.Spearman).correlate(targets, candidates);
+    assertThat(pearson[0][0]).isLessThan(1.0);
+    assertThat(spearman[0][0]).isCloseTo(1.0, within(1e-9));
+    assertThat(spearman[0][1]).isCloseTo(0.8, within(1e-9));
+  }
+
+  @Test
+  public void correlateShouldComputeEveryBlockOfCandidates() {
+    int candidatesCount = Correlator.BLOCK_SIZE * 2 + 1;
+    double[][] targets = new double[][] { { 1, 2, 3 }, { 3, 2, 1 } };
+    double[][] candidates = new double[candidatesCount][];
+    for (int i = 0; i < candidatesCount; i++) candidates[i] = new double[] { i, i + 1, i + 2 };
+
+    double[][] result = new Correlator(executorService, StatisticsService.CorrelationMethod.Pearson).correlate(targets, candidates);
+    assertThat(result.length).isEqualTo(2);
+    for (int i = 0; i < candidatesCount; i++) {
+      assertThat(result[0][i]).isCloseTo(1.0, within(1e-9));
+      assertThat(result[1][i]).isCloseTo(-1.0, within(1e-9));
+    }
+  }
+}
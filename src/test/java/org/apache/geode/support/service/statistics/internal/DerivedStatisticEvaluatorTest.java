@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Statistic;
+import org.apache.geode.support.domain.statistics.derived.DerivedStatistic;
+
+public class DerivedStatisticEvaluatorTest {
+  private static final long[] TIME_STAMPS = new long[] { 1000, 2000, 3000, 4000 };
+  private Sampling sampling;
+  private DerivedStatisticEvaluator evaluator;
+
+  private Statistic mockStatistic(String name, String units, long[] timeStamps, double[] values) {
+    Statistic statistic = mock(Statistic.class);
+    when(statistic.getName()).thenReturn(name);
+    when(statistic.getUnits()).thenReturn(units);
+    when(statistic.getRawSeries()).thenReturn(new Series(timeStamps, values));
+
+    return statistic;
+  }
+
+  private Category mockCategory(String name, Statistic... statistics) {
+    Category category = new Category(name, "Description");
+    for (Statistic statistic : statistics) category.addStatistic(statistic);
+
+    return category;
+  }
+
+  @Before
+  public void setUp() {
+    Map<String, Category> categories = new HashMap<>();
+    categories.put("VMStats[vmStats]", mockCategory("VMStats[vmStats]",
+        mockStatistic("fdsOpen", "fds", TIME_STAMPS, new double[] { 10, 20, 30, 40 }),
+        mockStatistic("fdLimit", "fds", TIME_STAMPS, new double[] { 100, 100, 100, 100 })));
+    categories.put("CachePerfStats[regionA]", mockCategory("CachePerfStats[regionA]",
+        mockStatistic("gets", "operations", TIME_STAMPS, new double[] { 0, 10, 20, 40 }),
+        mockStatistic("getTime", "nanoseconds", TIME_STAMPS, new double[] { 0, 100, 300, 500 })));
+    categories.put("CachePerfStats[regionB]", mockCategory("CachePerfStats[regionB]",
+        mockStatistic("gets", "operations", TIME_STAMPS, new double[] { 1, 2, 4, 8 }),
+        mockStatistic("getTime", "nanoseconds", TIME_STAMPS, new double[] { 1, 4, 8, 8 })));
+    categories.put("StatSampler[statSampler]", mockCategory("StatSampler[statSampler]",
+        mockStatistic("delayDuration", "milliseconds", new long[] { 1500, 2000, 4000 }, new double[] { 5, 6, 8 })));
+    sampling = new Sampling(mock(SamplingMetadata.class), categories);
+    evaluator = new DerivedStatisticEvaluator();
+  }
+
+  @Test
+  public void getTypeNameAndInstanceNameShouldSplitCategoryNames() {
+    assertThat(DerivedStatisticEvaluator.getTypeName("VMStats[vmStats]")).isEqualTo("VMStats");
+    assertThat(DerivedStatisticEvaluator.getInstanceName("VMStats[vmStats]")).isEqualTo("vmStats");
+    assertThat(DerivedStatisticEvaluator.getTypeName("VMStats")).isEqualTo("VMStats");
+    assertThat(DerivedStatisticEvaluator.getInstanceName("VMStats")).isEqualTo("");
+  }
+
+  @Test
+  public void alignShouldReturnSeriesUntouchedWhenTimeStampsAreEqual() {
+    Series[] series = new Series[] { new Series(TIME_STAMPS, new double[] { 1, 2, 3, 4 }), new Series(TIME_STAMPS.clone(), new double[] { 5, 6, 7, 8 }) };
+
+    assertThat(DerivedStatisticEvaluator.align(series)).isSameAs(series);
+  }
+
+  @Test
+  public void alignShouldKeepOnlyCommonTimeStamps() {
+    Series[] series = new Series[] {
+        new Series(TIME_STAMPS, new double[] { 1, 2, 3, 4 }),
+        new Series(new long[] { 500, 2000, 3000, 4000 }, new double[] { 5, 6, 7, 8 }),
+        new Series(new long[] { 1000, 2000, 4000, 5000 }, new double[] { 9, 10, 11, 12 })
+    };
+
+    Series[] aligned = DerivedStatisticEvaluator.align(series);
+    assertThat(aligned.length).isEqualTo(3);
+    assertThat(aligned[0].getTimeStamps()).containsExactly(2000, 4000);
+    assertThat(aligned[1].getTimeStamps()).containsExactly(2000, 4000);
+    assertThat(aligned[2].getTimeStamps()).containsExactly(2000, 4000);
+    assertThat(aligned[0].getValues()).containsExactly(2, 4);
+    assertThat(aligned[1].getValues()).containsExactly(6, 8);
+    assertThat(aligned[2].getValues()).containsExactly(10, 11);
+  }
+
+  @Test
+  public void evaluateShouldAddTheDerivedStatisticToEveryInstanceOfTheFirstOperand() {
+    int added = evaluator.evaluate(sampling, new DerivedStatistic("getLatency=CachePerfStats.getTime/CachePerfStats.gets"));
+    assertThat(added).isEqualTo(2);
+
+    Statistic regionA = sampling.getCategory("CachePerfStats[regionA]").getStatistic("getLatency");
+    assertThat(regionA.getUnits()).isEqualTo("nanoseconds/operations");
+    assertThat(regionA.getRawSeries().getTimeStamps()).containsExactly(2000, 3000, 4000);
+    assertThat(regionA.getRawSeries().getValues()).containsExactly(10, 15, 12.5);
+
+    Statistic regionB = sampling.getCategory("CachePerfStats[regionB]").getStatistic("getLatency");
+    assertThat(regionB.getRawSeries().getValues()).containsExactly(1, 2, 2, 1);
+  }
+
+  @Test
+  public void evaluateShouldHonourExplicitInstances() {
+    int added = evaluator.evaluate(sampling, new DerivedStatistic("ratio=CachePerfStats[regionB].gets/CachePerfStats[regionA].gets"));
+    assertThat(added).isEqualTo(1);
+    assertThat(sampling.getCategory("CachePerfStats[regionA]").getStatistic("ratio")).isNull();
+
+    Statistic ratio = sampling.getCategory("CachePerfStats[regionB]").getStatistic("ratio");
+    assertThat(ratio.getUnits()).isEqualTo("");
+    assertThat(ratio.getRawSeries().getValues()).containsExactly(0.2, 0.2, 0.2);
+  }
+
+  @Test
+  public void evaluateShouldResolveOperandsFromOtherCategoriesAndAlignThem() {
+    int added = evaluator.evaluate(sampling, new DerivedStatistic("delayPerFd=StatSampler.delayDuration/VMStats.fdsOpen"));
+    assertThat(added).isEqualTo(1);
+
+    Statistic delayPerFd = sampling.getCategory("StatSampler[statSampler]").getStatistic("delayPerFd");
+    assertThat(delayPerFd.getUnits()).isEqualTo("milliseconds/fds");
+    assertThat(delayPerFd.getRawSeries().getTimeStamps()).containsExactly(2000, 4000);
+    assertThat(delayPerFd.getRawSeries().getValues()).containsExactly(0.3, 0.2);
+  }
+
+  @Test
+  public void evaluateShouldIgnoreInstancesWhereOperandsCanNotBeResolved() {
+    assertThat(evaluator.evaluate(sampling, new DerivedStatistic("missing=CachePerfStats.gets/CachePerfStats.misses"))).isEqualTo(0);
+    assertThat(evaluator.evaluate(sampling, new DerivedStatistic("missing=CachePerfStats.gets/CachePerfStats.gets * 0 / 0"))).isEqualTo(0);
+    assertThat(evaluator.evaluate(sampling, new DerivedStatistic("missing=DistributionStats.sentMessages/VMStats.fdsOpen"))).isEqualTo(0);
+    assertThat(sampling.getCategory("CachePerfStats[regionA]").getStatistics().size()).isEqualTo(2);
+  }
+}
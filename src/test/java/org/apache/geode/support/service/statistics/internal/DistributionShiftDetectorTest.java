@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.DistributionShift;
+import org.apache.geode.support.domain.statistics.Series;
+
+public class DistributionShiftDetectorTest {
+  private final long[] timeStamps = new long[] { 0, 10, 20, 30, 40, 50, 60, 70, 80, 90 };
+
+  @Test
+  public void constructorShouldThrowExceptionWhenWindowIsInvalid() {
+    assertThatThrownBy(() -> new DistributionShiftDetector(50, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window should be positive.");
+  }
+
+  @Test
+  public void kolmogorovSmirnovShouldReturnMaximumDistanceBetweenCumulativeDistributions() {
+    assertThat(DistributionShiftDetector.kolmogorovSmirnov(new double[] { 1, 2, 3 }, new double[] { 1, 2, 3 })).isEqualTo(0);
+    assertThat(DistributionShiftDetector.kolmogorovSmirnov(new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 })).isEqualTo(1);
+    assertThat(DistributionShiftDetector.kolmogorovSmirnov(new double[] { 1, 2, 3, 4 }, new double[] { 3, 4, 5, 6 })).isCloseTo(0.5, within(1e-9));
+    assertThat(DistributionShiftDetector.kolmogorovSmirnov(new double[] { 1, 1, 2, 2 }, new double[] { 1, 2 })).isEqualTo(0);
+  }
+
+  @Test
+  public void compareShouldReturnNullWhenWindowsDoNotHaveEnoughSamples() {
+    Series series = new Series(timeStamps, new double[] { 1, 1, 1, 1, 1, 5, 5, 5, 5, 5 });
+
+    assertThat(new DistributionShiftDetector(50, 10).compare("statistic", series)).isNull();
+    assertThat(new DistributionShiftDetector(10, 30).compare("statistic", series)).isNull();
+    assertThat(new DistributionShiftDetector(500, 30).compare("statistic", series)).isNull();
+  }
+
+  @Test
+  public void compareShouldReturnNullWhenDistributionsAreIdentical() {
+    Series series = new Series(timeStamps, new double[] { 1, 2, 1, 2, 1, 2, 1, 2, 1, 2 });
+
+    assertThat(new DistributionShiftDetector(50, 40).compare("statistic", series)).isNull();
+  }
+
+  @Test
+  public void compareShouldUseOnlySamplesWithinTheWindows() {
+    Series series = new Series(timeStamps, new double[] { 100, 100, 1, 1, 1, 5, 5, 5, -100, -100 });
+    DistributionShift shift = new DistributionShiftDetector(50, 30).compare("statistic", series);
+
+    assertThat(shift.getStatisticId()).isEqualTo("statistic");
+    assertThat(shift.getBefore()).isEqualTo(1);
+    assertThat(shift.getAfter()).isEqualTo(5);
+    assertThat(shift.getMeanShift()).isEqualTo(4);
+    assertThat(shift.getKolmogorovSmirnov()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FastFourierTransformTest {
+
+  @Test
+  public void nextPowerOfTwoShouldReturnSmallestPowerOfTwoNotLowerThanValue() {
+    assertThat(FastFourierTransform.nextPowerOfTwo(0)).isEqualTo(1);
+    assertThat(FastFourierTransform.nextPowerOfTwo(1)).isEqualTo(1);
+    assertThat(FastFourierTransform.nextPowerOfTwo(2)).isEqualTo(2);
+    assertThat(FastFourierTransform.nextPowerOfTwo(3)).isEqualTo(4);
+    assertThat(FastFourierTransform.nextPowerOfTwo(1024)).isEqualTo(1024);
+    assertThat(FastFourierTransform.nextPowerOfTwo(1025)).isEqualTo(2048);
+  }
+
+  @Test
+  public void transformShouldThrowExceptionWhenLengthIsInvalid() {
+    assertThatThrownBy(() -> FastFourierTransform.transform(new double[4], new double[2], false)).isInstanceOf(IllegalArgumentException.class).hasMessage("Real and Imaginary parts should have the same length.");
+    assertThatThrownBy(() -> FastFourierTransform.transform(new double[3], new double[3], false)).isInstanceOf(IllegalArgumentException.class).hasMessage("Length should be a power of two.");
+  }
+
+  @Test
+  public void transformShouldMatchDiscreteFourierTransform() {
+    Random random = new Random(0);
+    int n = 16;
+    double[] real = new double[n];
+    double[] imaginary = new double[n];
+    for (int i = 0; i < n; i++) real[i] = random.nextDouble();
+
+    double[] expectedReal = new double[n];
+    double[] expectedImaginary = new double[n];
+    for (int k = 0; k < n; k++) {
+      for (int t = 0; t < n; t++) {
+        double angle = -2 * Math.PI * k * t / n;
+        expectedReal[k] += real[t] * Math.cos(angle);
+        expectedImaginary[k] += real[t] * Math.sin(angle);
+      }
+    }
+
+    FastFourierTransform.transform(real, imaginary, false);
+    for (int k = 0; k < n; k++) {
+      assertThat(real[k]).isCloseTo(expectedReal[k], within(1e-9));
+      assertThat(imaginary[k]).isCloseTo(expectedImaginary[k], within(1e-9));
+    }
+  }
+
+  @Test
+  public void inverseTransformShouldRestoreOriginalValues() {
+    double[] real = new double[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+    double[] imaginary = new double[8];
+
+    FastFourierTransform.transform(real, imaginary, false);
+    FastFourierTransform.transform(real, imaginary, true);
+    for (int i = 0; i < 8; i++) {
+      assertThat(real[i]).isCloseTo(i + 1, within(1e-9));
+      assertThat(imaginary[i]).isCloseTo(0, within(1e-9));
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.LaggedCorrelation;
+
+public class LagCorrelatorTest {
+  private ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private double[] randomSeries(Random random, int length) {
+    double[] result = new double[length];
+    for (int i = 0; i < length; i++) result[i] = random.nextGaussian();
+
+    return result;
+  }
+
+  private double[] shift(double[] values, int lag) {
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      int source = i - lag;
+      result[i] = ((source >= 0) && (source < values.length)) ? values[source] : Double.NaN;
+    }
+
+    return result;
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new LagCorrelator(null, 10)).isInstanceOf(NullPointerException.class).hasMessage("ExecutorService can not be null.");
+    assertThatThrownBy(() -> new LagCorrelator(executorService, -1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Maximum lag should be zero or positive.");
+  }
+
+  @Test
+  public void correlateShouldThrowExceptionWhenSeriesAreInvalid() {
+    LagCorrelator lagCorrelator = new LagCorrelator(executorService, 10);
+
+    assertThatThrownBy(() -> lagCorrelator.correlate(null, new double[0][])).isInstanceOf(NullPointerException.class).hasMessage("Target can not be null.");
+    assertThatThrownBy(() -> lagCorrelator.correlate(new double[0], null)).isInstanceOf(NullPointerException.class).hasMessage("Candidates can not be null.");
+    assertThatThrownBy(() -> lagCorrelator.correlate(new double[2], new double[][] { new double[3] })).isInstanceOf(IllegalArgumentException.class).hasMessage("Candidates should have the same length as the target.");
+  }
+
+  @Test
+  public void findStrongestShouldPreferSmallestLagOnTies() {
+    double[] crossCorrelation = new double[] { 0.5, 0.8, 0.1, -0.9, -0.8 };
+
+    LaggedCorrelation strongest = LagCorrelator.findStrongest(crossCorrelation, 1);
+    assertThat(strongest.getLag()).isEqualTo(1);
+    assertThat(strongest.getCoefficient()).isEqualTo(0.8);
+
+    strongest = LagCorrelator.findStrongest(crossCorrelation, 2);
+    assertThat(strongest.getLag()).isEqualTo(-2);
+    assertThat(strongest.getCoefficient()).isEqualTo(-0.9);
+  }
+
+  @Test
+  public void correlateShouldReturnNaNWhenCoefficientCanNotBeComputed() {
+    LaggedCorrelation[] result = new LagCorrelator(executorService, 2).correlate(new double[] { 1, 1, 1, 1 }, new double[][] { { 1, 2, 3, 4 } });
+    assertThat(result[0].getCoefficient()).isNaN();
+
+    result = new LagCorrelator(executorService, 2).correlate(new double[] { 1, 2, 3, 4 }, new double[][] { { 1, 1, 1, 1 } });
+    assertThat(result[0].getCoefficient()).isNaN();
+  }
+
+  @Test
+  public void correlateShouldReturnPearsonCoefficientWhenMaximumLagIsZero() {
+    LaggedCorrelation[] result = new LagCorrelator(executorService, 0).correlate(new double[] { 1, 2, 3, 4, 5 }, new double[][] { { 1, 3, 2, 5, 4 }, { 5, 4, 3, 2, 1 } });
+
+    assertThat(result[0].getLag()).isEqualTo(0);
+    assertThat(result[0].getCoefficient()).isCloseTo(0.8, within(1e-9));
+    assertThat(result[1].getLag()).isEqualTo(0);
+    assertThat(result[1].getCoefficient()).isCloseTo(-1.0, within(1e-9));
+  }
+
+  @Test
+  public void correlateShouldFindLeadingAndFollowingCandidates() {
+    Random random = new Random(0);
+    double[] target = randomSeries(random, 500);
+    double[] leader = shift(target, -7);
+    double[] follower = shift(target, 3);
+    double[] inverted = shift(target, -12);
+    for (int i = 0; i < inverted.length; i++) inverted[i] = -inverted[i];
+
+    LaggedCorrelation[] result = new LagCorrelator(executorService, 20).correlate(target, new double[][] { leader, follower, inverted, randomSeries(random, 500) });
+    assertThat(result[0].getLag()).isEqualTo(7);
+    assertThat(result[0].getCoefficient()).isGreaterThan(0.9);
+    assertThat(result[1].getLag()).isEqualTo(-3);
+    assertThat(result[1].getCoefficient()).isGreaterThan(0.9);
+    assertThat(result[2].getLag()).isEqualTo(12);
+    assertThat(result[2].getCoefficient()).isLessThan(-0.9);
+    assertThat(Math.abs(result[3].getCoefficient())).isLessThan(0.3);
+  }
+
+  @Test
+  public void correlateShouldProcessEveryBlockOfCandidates() {
+    Random random = new Random(0);
+    double[] target = randomSeries(random, 100);
+    double[][] candidates = new double[LagCorrelator.BLOCK_SIZE * 2 + 1][];
+    for (int i = 0; i < candidates.length; i++) candidates[i] = shift(target, -(i % 5));
+
+    LaggedCorrelation[] result = new LagCorrelator(executorService, 10).correlate(target, candidates);
+    for (int i = 0; i < candidates.length; i++) assertThat(result[i].getLag()).isEqualTo(i % 5);
+  }
+}
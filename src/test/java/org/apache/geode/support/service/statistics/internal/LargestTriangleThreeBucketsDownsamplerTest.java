@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Series;
+
+public class LargestTriangleThreeBucketsDownsamplerTest {
+
+  private Series downsample(double[] values, int points) {
+    LargestTriangleThreeBucketsDownsampler downsampler = new LargestTriangleThreeBucketsDownsampler(values.length, points);
+    for (int i = 0; i < values.length; i++) downsampler.add(i, values[i]);
+
+    return downsampler.getResult();
+  }
+
+  @Test
+  public void constructorShouldThrowExceptionWhenPointsAreLowerThanThreeAndTheSeriesMustBeReduced() {
+    assertThatThrownBy(() -> new LargestTriangleThreeBucketsDownsampler(10, 2)).isInstanceOf(IllegalArgumentException.class).hasMessage("At least 3 points are required by the Largest-Triangle-Three-Buckets algorithm.");
+  }
+
+  @Test
+  public void getResultShouldReturnOriginalSamplesWhenPointsAreLowerThanThreeButNotLowerThanSize() {
+    assertThat(downsample(new double[] {}, 1).size()).isEqualTo(0);
+    assertThat(downsample(new double[] { 5 }, 1).getValues()).containsExactly(5);
+    assertThat(downsample(new double[] { 5, 1 }, 2).getValues()).containsExactly(5, 1);
+    assertThat(downsample(new double[] { 5, 1 }, 2).getTimeStamps()).containsExactly(0, 1);
+  }
+
+  @Test
+  public void getResultShouldReturnTheSamePointsWhenCalledMoreThanOnce() {
+    double[] values = new double[1000];
+    for (int i = 0; i < values.length; i++) values[i] = Math.sin(i / 10.0);
+    LargestTriangleThreeBucketsDownsampler downsampler = new LargestTriangleThreeBucketsDownsampler(values.length, 50);
+    for (int i = 0; i < values.length; i++) downsampler.add(i, values[i]);
+
+    Series first = downsampler.getResult();
+    Series second = downsampler.getResult();
+    assertThat(first.size()).isEqualTo(50);
+    assertThat(second.getTimeStamps()).containsExactly(first.getTimeStamps());
+    assertThat(second.getValues()).containsExactly(first.getValues());
+  }
+
+  @Test
+  public void getResultShouldReturnOriginalSamplesWhenSizeIsLowerThanPoints() {
+    double[] values = new double[] { 5, 1, 3, 7 };
+    Series result = downsample(values, 10);
+
+    assertThat(result.getValues()).containsExactly(values);
+    assertThat(result.getTimeStamps()).containsExactly(0, 1, 2, 3);
+  }
+
+  @Test
+  public void getResultShouldKeepFirstAndLastSamples() {
+    double[] values = new double[1000];
+    for (int i = 0; i < values.length; i++) values[i] = Math.sin(i / 10.0);
+    Series result = downsample(values, 50);
+
+    assertThat(result.size()).isEqualTo(50);
+    assertThat(result.getTimeStamps()[0]).isEqualTo(0);
+    assertThat(result.getTimeStamps()[49]).isEqualTo(999);
+    for (int i = 1; i < result.size(); i++) assertThat(result.getTimeStamps()[i]).isGreaterThan(result.getTimeStamps()[i - 1]);
+  }
+
+  @Test
+  public void getResultShouldPreserveIsolatedPeaks() {
+    double[] values = new double[1000];
+    Arrays.fill(values, 10);
+    values[333] = 500;
+    values[777] = -500;
+    Series result = downsample(values, 20);
+
+    assertThat(result.getValues()).contains(500, -500);
+    assertThat(result.getTimeStamps()).contains(333, 777);
+  }
+}
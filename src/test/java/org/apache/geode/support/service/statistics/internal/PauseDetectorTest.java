@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Pause;
+
+public class PauseDetectorTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenThresholdIsInvalid() {
+    assertThatThrownBy(() -> new PauseDetector(0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be positive.");
+    assertThatThrownBy(() -> new PauseDetector(-1000)).isInstanceOf(IllegalArgumentException.class).hasMessage("Threshold should be positive.");
+  }
+
+  @Test
+  public void detectShouldReturnEmptyListWhenThereAreNoGapsAboveThreshold() {
+    assertThat(new PauseDetector(1000).detect(new long[0])).isEmpty();
+    assertThat(new PauseDetector(1000).detect(new long[] { 5000 })).isEmpty();
+    assertThat(new PauseDetector(1000).detect(new long[] { 1000, 2000, 3000, 4000 })).isEmpty();
+  }
+
+  @Test
+  public void detectShouldReturnEveryGapAboveThresholdSortedByStartTime() {
+    List<Pause> pauses = new PauseDetector(1500).detect(new long[] { 1000, 2000, 5000, 6000, 7500, 7600, 9200, 12000 });
+
+    assertThat(pauses.size()).isEqualTo(3);
+    assertThat(pauses.get(0).getStartTimeStamp()).isEqualTo(2000);
+    assertThat(pauses.get(0).getEndTimeStamp()).isEqualTo(5000);
+    assertThat(pauses.get(0).getDuration()).isEqualTo(3000);
+    assertThat(pauses.get(1).getStartTimeStamp()).isEqualTo(7600);
+    assertThat(pauses.get(1).getEndTimeStamp()).isEqualTo(9200);
+    assertThat(pauses.get(1).getDuration()).isEqualTo(1600);
+    assertThat(pauses.get(2).getStartTimeStamp()).isEqualTo(9200);
+    assertThat(pauses.get(2).getEndTimeStamp()).isEqualTo(12000);
+    assertThat(pauses.get(2).getDuration()).isEqualTo(2800);
+  }
+}
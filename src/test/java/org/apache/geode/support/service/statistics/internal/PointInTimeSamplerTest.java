@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.SampledValue;
+import org.apache.geode.support.domain.statistics.Series;
+
+public class PointInTimeSamplerTest {
+  private final Series series = new Series(new long[] { 1000, 2000, 3000, 5000 }, new double[] { 10, 20, 30, 50 });
+
+  @Test
+  public void constructorShouldThrowExceptionWhenToleranceIsInvalid() {
+    assertThatThrownBy(() -> new PointInTimeSampler(1000, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Tolerance should be positive.");
+    assertThatThrownBy(() -> new PointInTimeSampler(1000, -1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Tolerance should be positive.");
+  }
+
+  @Test
+  public void sampleShouldReturnNullWhenThereAreNoSamplesWithinTolerance() {
+    assertThat(new PointInTimeSampler(1000, 500).sample("statistic", "units", new Series(new long[0], new double[0]))).isNull();
+    assertThat(new PointInTimeSampler(100, 500).sample("statistic", "units", series)).isNull();
+    assertThat(new PointInTimeSampler(4000, 500).sample("statistic", "units", series)).isNull();
+    assertThat(new PointInTimeSampler(9000, 500).sample("statistic", "units", series)).isNull();
+  }
+
+  @Test
+  public void sampleShouldReturnTheNearestSample() {
+    SampledValue exact = new PointInTimeSampler(2000, 500).sample("statistic", "units", series);
+    assertThat(exact.getStatisticId()).isEqualTo("statistic");
+    assertThat(exact.getUnits()).isEqualTo("units");
+    assertThat(exact.getTimeStamp()).isEqualTo(2000);
+    assertThat(exact.getValue()).isEqualTo(20);
+
+    SampledValue before = new PointInTimeSampler(2300, 500).sample("statistic", "units", series);
+    assertThat(before.getTimeStamp()).isEqualTo(2000);
+    assertThat(before.getValue()).isEqualTo(20);
+
+    SampledValue after = new PointInTimeSampler(4600, 500).sample("statistic", "units", series);
+    assertThat(after.getTimeStamp()).isEqualTo(5000);
+    assertThat(after.getValue()).isEqualTo(50);
+
+    SampledValue tie = new PointInTimeSampler(4000, 1000).sample("statistic", "units", series);
+    assertThat(tie.getTimeStamp()).isEqualTo(3000);
+    assertThat(tie.getValue()).isEqualTo(30);
+
+    SampledValue last = new PointInTimeSampler(5800, 1000).sample("statistic", "units", series);
+    assertThat(last.getTimeStamp()).isEqualTo(5000);
+  }
+}
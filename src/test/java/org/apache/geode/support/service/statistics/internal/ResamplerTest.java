@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+public class ResamplerTest {
+  private final long[] timeStamps = new long[] { 1500, 2500, 4500 };
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new Resampler(0, 0, 10)).isInstanceOf(IllegalArgumentException.class).hasMessage("Step should be positive.");
+    assertThatThrownBy(() -> new Resampler(0, 1000, -1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Points should be zero or positive.");
+  }
+
+  @Test
+  public void resampleShouldThrowExceptionWhenArraysHaveDifferentLengths() {
+    assertThatThrownBy(() -> new Resampler(0, 1000, 10).resample(new long[] { 1 }, new double[0], false)).isInstanceOf(IllegalArgumentException.class).hasMessage("TimeStamps and Values should have the same length.");
+  }
+
+  @Test
+  public void resampleShouldReturnNaNWhenThereAreNoSamples() {
+    assertThat(new Resampler(1000, 1000, 2).resample(new long[0], new double[0], false)).containsExactly(Double.NaN, Double.NaN);
+    assertThat(new Resampler(1000, 1000, 2).resample(new long[0], new double[0], true)).containsExactly(Double.NaN, Double.NaN);
+  }
+
+  @Test
+  public void resampleShouldHoldLatestValueForGauges() {
+    double[] result = new Resampler(1000, 1000, 5).resample(timeStamps, new double[] { 10, 20, 5 }, false);
+
+    assertThat(result).containsExactly(Double.NaN, 10, 20, 20, Double.NaN);
+  }
+
+  @Test
+  public void resampleShouldInterpolateRatePerSecondForCounters() {
+    double[] result = new Resampler(2000, 1000, 4).resample(timeStamps, new double[] { 100, 200, 600 }, true);
+
+    assertThat(result).containsExactly(Double.NaN, 150, 200, Double.NaN);
+  }
+
+  @Test
+  public void resampleShouldReturnNaNWhenCounterIsReset() {
+    double[] result = new Resampler(2000, 1000, 3).resample(new long[] { 1000, 2000, 3000, 4000 }, new double[] { 100, 200, 10, 50 }, true);
+
+    assertThat(result).containsExactly(100, Double.NaN, 40);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class RollingMadDetectorTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenWindowSizeIsInvalid() {
+    assertThatThrownBy(() -> new RollingMadDetector(0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window size should be at least 2.");
+  }
+
+  @Test
+  public void scoreShouldReturnNaNUntilWindowIsFull() {
+    RollingMadDetector detector = new RollingMadDetector(3);
+
+    assertThat(detector.score(1)).isNaN();
+    assertThat(detector.score(2)).isNaN();
+    assertThat(detector.score(3)).isNaN();
+    assertThat(detector.score(3)).isNotNaN();
+  }
+
+  @Test
+  public void scoreShouldNotBeSkewedByOutliersWithinOddWindows() {
+    RollingMadDetector detector = new RollingMadDetector(5);
+    for (double value : new double[] { 1, 2, 3, 4, 100 }) detector.score(value);
+
+    assertThat(detector.getMedian()).isEqualTo(3);
+    assertThat(detector.getMedianAbsoluteDeviation(3)).isEqualTo(1);
+    assertThat(detector.score(6)).isCloseTo(3 / RollingMadDetector.MAD_SCALE, within(1e-9));
+  }
+
+  @Test
+  public void scoreShouldAverageCentralValuesWithinEvenWindows() {
+    RollingMadDetector detector = new RollingMadDetector(4);
+    for (double value : new double[] { 4, 1, 3, 2 }) detector.score(value);
+
+    assertThat(detector.getMedian()).isEqualTo(2.5);
+    assertThat(detector.getMedianAbsoluteDeviation(2.5)).isEqualTo(1);
+    assertThat(detector.score(2.5 + 2 * RollingMadDetector.MAD_SCALE)).isCloseTo(2, within(1e-9));
+  }
+
+  @Test
+  public void scoreShouldFallbackToMeanAbsoluteDeviationWhenMedianAbsoluteDeviationIsZero() {
+    RollingMadDetector detector = new RollingMadDetector(5);
+    for (double value : new double[] { 5, 5, 10, 5, 5 }) detector.score(value);
+
+    assertThat(detector.getMedianAbsoluteDeviation(5)).isEqualTo(0);
+    assertThat(detector.getMeanAbsoluteDeviation(5)).isEqualTo(1);
+    assertThat(detector.score(5 + 2 * RollingMadDetector.MEAN_ABSOLUTE_DEVIATION_SCALE)).isCloseTo(2, within(1e-9));
+  }
+
+  @Test
+  public void scoreShouldReturnNaNWhenWindowHoldsASingleValue() {
+    RollingMadDetector detector = new RollingMadDetector(3);
+    for (double value : new double[] { 7, 7, 7 }) detector.score(value);
+
+    assertThat(detector.score(100)).isNaN();
+  }
+
+  @Test
+  public void resetShouldDiscardTheWindow() {
+    RollingMadDetector detector = new RollingMadDetector(2);
+    detector.score(1);
+    detector.score(3);
+    assertThat(detector.score(10)).isNotNaN();
+
+    detector.reset();
+    assertThat(detector.score(10)).isNaN();
+  }
+}
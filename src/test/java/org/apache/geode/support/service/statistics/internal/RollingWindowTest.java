@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.RollingSummary;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+public class RollingWindowTest {
+  private final Series series = new Series(new long[] { 0, 10, 20, 30, 40, 50, 60, 70, 80, 90 }, new double[] { 1, 3, 2, 5, 4, 4, 1, 0, 2, 6 });
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new RollingWindow(null, 30)).isInstanceOf(NullPointerException.class).hasMessage("Rolling function can not be null.");
+    assertThatThrownBy(() -> new RollingWindow(StatisticsService.RollingFunction.Max, 0)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window should be positive.");
+  }
+
+  @Test
+  public void rollShouldReturnEmptySeriesWhenThereAreNoFullWindows() {
+    assertThat(new RollingWindow(StatisticsService.RollingFunction.Avg, 100).roll(series).isEmpty()).isTrue();
+    assertThat(new RollingWindow(StatisticsService.RollingFunction.Max, 30).roll(new Series(new long[0], new double[0])).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void rollShouldComputeRollingMaximum() {
+    Series rolled = new RollingWindow(StatisticsService.RollingFunction.Max, 30).roll(series);
+
+    assertThat(rolled.getTimeStamps()).containsExactly(30, 40, 50, 60, 70, 80, 90);
+    assertThat(rolled.getValues()).containsExactly(5, 5, 5, 4, 4, 2, 6);
+  }
+
+  @Test
+  public void rollShouldComputeRollingMinimum() {
+    Series rolled = new RollingWindow(StatisticsService.RollingFunction.Min, 30).roll(series);
+
+    assertThat(rolled.getTimeStamps()).containsExactly(30, 40, 50, 60, 70, 80, 90);
+    assertThat(rolled.getValues()).containsExactly(2, 2, 4, 1, 0, 0, 0);
+  }
+
+  @Test
+  public void rollShouldComputeRollingAverage() {
+    Series rolled = new RollingWindow(StatisticsService.RollingFunction.Avg, 30).roll(series);
+
+    assertThat(rolled.getTimeStamps()).containsExactly(30, 40, 50, 60, 70, 80, 90);
+    assertThat(rolled.getValues()).containsExactly(10.0 / 3, 11.0 / 3, 13.0 / 3, 3, 5.0 / 3, 1, 8.0 / 3);
+  }
+
+  @Test
+  public void rollShouldUseTimeStampsWhenSamplesAreNotEquallySpaced() {
+    Series irregularSeries = new Series(new long[] { 0, 5, 40, 41, 100 }, new double[] { 1, 2, 3, 4, 5 });
+
+    Series maximum = new RollingWindow(StatisticsService.RollingFunction.Max, 30).roll(irregularSeries);
+    assertThat(maximum.getTimeStamps()).containsExactly(40, 41, 100);
+    assertThat(maximum.getValues()).containsExactly(3, 4, 5);
+
+    Series average = new RollingWindow(StatisticsService.RollingFunction.Avg, 30).roll(irregularSeries);
+    assertThat(average.getValues()).containsExactly(3, 3.5, 5);
+  }
+
+  @Test
+  public void summarizeShouldReturnNullWhenThereAreNoFullWindows() {
+    assertThat(new RollingWindow(StatisticsService.RollingFunction.Max, 100).summarize("statistic", series)).isNull();
+  }
+
+  @Test
+  public void summarizeShouldReturnTheEarliestHighestAndLowestWindows() {
+    RollingSummary maximum = new RollingWindow(StatisticsService.RollingFunction.Max, 30).summarize("statistic", series);
+    assertThat(maximum.getStatisticId()).isEqualTo("statistic");
+    assertThat(maximum.getHighest()).isEqualTo(6);
+    assertThat(maximum.getHighestTimeStamp()).isEqualTo(90);
+    assertThat(maximum.getLowest()).isEqualTo(2);
+    assertThat(maximum.getLowestTimeStamp()).isEqualTo(80);
+
+    RollingSummary minimum = new RollingWindow(StatisticsService.RollingFunction.Min, 30).summarize("statistic", series);
+    assertThat(minimum.getHighest()).isEqualTo(4);
+    assertThat(minimum.getHighestTimeStamp()).isEqualTo(50);
+    assertThat(minimum.getLowest()).isEqualTo(0);
+    assertThat(minimum.getLowestTimeStamp()).isEqualTo(70);
+
+    RollingSummary average = new RollingWindow(StatisticsService.RollingFunction.Avg, 30).summarize("statistic", series);
+    assertThat(average.getHighest()).isCloseTo(13.0 / 3, within(1e-9));
+    assertThat(average.getHighestTimeStamp()).isEqualTo(50);
+    assertThat(average.getLowest()).isCloseTo(1, within(1e-9));
+    assertThat(average.getLowestTimeStamp()).isEqualTo(80);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class RollingZScoreDetectorTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenWindowSizeIsInvalid() {
+    assertThatThrownBy(() -> new RollingZScoreDetector(1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Window size should be at least 2.");
+  }
+
+  @Test
+  public void scoreShouldReturnNaNUntilWindowIsFull() {
+    RollingZScoreDetector detector = new RollingZScoreDetector(3);
+
+    assertThat(detector.score(1)).isNaN();
+    assertThat(detector.score(2)).isNaN();
+    assertThat(detector.score(3)).isNaN();
+    assertThat(detector.score(5)).isCloseTo(3.0, within(1e-9));
+  }
+
+  @Test
+  public void scoreShouldUseTheSamplesPrecedingTheCurrentOne() {
+    RollingZScoreDetector detector = new RollingZScoreDetector(3);
+    detector.score(1);
+    detector.score(2);
+    detector.score(3);
+    detector.score(5);
+
+    // Window is now [2, 3, 5].
+    assertThat(detector.getMean()).isCloseTo(10.0 / 3.0, within(1e-9));
+    assertThat(detector.getStandardDeviation()).isCloseTo(Math.sqrt(21.0 / 9.0), within(1e-9));
+    assertThat(detector.score(2)).isCloseTo((10.0 / 3.0 - 2) / Math.sqrt(21.0 / 9.0), within(1e-9));
+  }
+
+  @Test
+  public void scoreShouldReturnNaNWhenWindowHoldsASingleValue() {
+    RollingZScoreDetector detector = new RollingZScoreDetector(3);
+    for (int i = 0; i < 10; i++) assertThat(detector.score(0.1)).isNaN();
+
+    assertThat(detector.getStandardDeviation()).isEqualTo(0);
+    assertThat(detector.score(5)).isNaN();
+  }
+
+  @Test
+  public void resetShouldDiscardTheWindow() {
+    RollingZScoreDetector detector = new RollingZScoreDetector(2);
+    detector.score(1);
+    detector.score(3);
+    assertThat(detector.score(10)).isNotNaN();
+
+    detector.reset();
+    assertThat(detector.getMean()).isEqualTo(0);
+    assertThat(detector.score(10)).isNaN();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.statistics.DerivedValue;
+import org.apache.geode.support.domain.statistics.Category;
+import org.apache.geode.support.domain.statistics.Sampling;
+import org.apache.geode.support.domain.statistics.SamplingMetadata;
+import org.apache.geode.support.domain.statistics.Statistic;
+
+public class SamplingStitcherTest {
+
+  private Sampling buildPart(String fileName, String productVersion, long[] timeStamps, double[] gets, double[] entries) {
+    Category category = new Category("CachePerfStats[cachePerfStats]", "Statistics about GemFire cache performance");
+    if (gets != null) category.addStatistic(new Statistic(new DerivedValue("gets", "operations", "The total number of times a successful get has been done on this cache.", true, timeStamps, gets)));
+    if (entries != null) category.addStatistic(new Statistic(new DerivedValue("entries", "entries", "Current number of entries.", false, timeStamps, entries)));
+    Map<String, Category> categories = new HashMap<>();
+    categories.put(category.getName(), category);
+
+    return new Sampling(new SamplingMetadata(fileName, 4, false, ZoneId.of("UTC"), timeStamps[0], timeStamps[timeStamps.length - 1], productVersion, "Linux"), categories);
+  }
+
+  @Test
+  public void buildShouldThrowExceptionWhenNoPartsWereAppended() {
+    assertThatThrownBy(() -> new SamplingStitcher().build()).isInstanceOf(IllegalStateException.class).hasMessage("At least one part should be appended.");
+  }
+
+  @Test
+  public void buildShouldReturnTheSamplingSpanningAllParts() {
+    SamplingStitcher samplingStitcher = new SamplingStitcher();
+    samplingStitcher.append(buildPart("member-01-01.gfs", "GemFire 9.3.0", new long[] { 1000, 2000, 3000 }, new double[] { 10, 20, 30 }, new double[] { 1, 2, 3 }));
+    samplingStitcher.append(buildPart("member-01-02.gfs", "GemFire 9.3.1", new long[] { 4000, 5000 }, new double[] { 40, 50 }, null));
+    Sampling sampling = samplingStitcher.build();
+
+    assertThat(samplingStitcher.getParts()).isEqualTo(2);
+    assertThat(sampling.getMetadata().getFileName()).isEqualTo("member-01-01.gfs");
+    assertThat(sampling.getMetadata().getStartTimeStamp()).isEqualTo(1000);
+    assertThat(sampling.getMetadata().getFinishTimeStamp()).isEqualTo(5000);
+    assertThat(sampling.getMetadata().getProductVersion()).isEqualTo("GemFire 9.3.1");
+
+    Category category = sampling.getCategory("CachePerfStats[cachePerfStats]");
+    assertThat(category.getDescription()).isEqualTo("Statistics about GemFire cache performance");
+    assertThat(category.getStatistic("gets").isCounter()).isTrue();
+    assertThat(category.getStatistic("gets").getRawSeries().getTimeStamps()).containsExactly(1000, 2000, 3000, 4000, 5000);
+    assertThat(category.getStatistic("gets").getRawSeries().getValues()).containsExactly(10, 20, 30, 40, 50);
+    assertThat(category.getStatistic("entries").isCounter()).isFalse();
+    assertThat(category.getStatistic("entries").getRawSeries().getValues()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void appendShouldIgnoreSamplesAlreadyCoveredByPreviousParts() {
+    SamplingStitcher samplingStitcher = new SamplingStitcher();
+    samplingStitcher.append(buildPart("member-01-01.gfs", "GemFire 9.3.0", new long[] { 1000, 2000, 3000 }, new double[] { 10, 20, 30 }, null));
+    samplingStitcher.append(buildPart("member-01-02.gfs", "GemFire 9.3.0", new long[] { 2000, 3000, 4000 }, new double[] { 20, 30, 40 }, null));
+    samplingStitcher.append(buildPart("member-01-01.gfs", "GemFire 9.3.0", new long[] { 1000, 2000, 3000 }, new double[] { 10, 20, 30 }, null));
+    Statistic statistic = samplingStitcher.build().getCategory("CachePerfStats[cachePerfStats]").getStatistic("gets");
+
+    assertThat(statistic.getRawSeries().getTimeStamps()).containsExactly(1000, 2000, 3000, 4000);
+    assertThat(statistic.getRawSeries().getValues()).containsExactly(10, 20, 30, 40);
+  }
+
+  @Test
+  public void filtersShouldBeAppliedAcrossTheBoundariesBetweenParts() {
+    SamplingStitcher samplingStitcher = new SamplingStitcher();
+    samplingStitcher.append(buildPart("member-01-01.gfs", "GemFire 9.3.0", new long[] { 1000, 2000 }, new double[] { 10, 20 }, null));
+    samplingStitcher.append(buildPart("member-01-02.gfs", "GemFire 9.3.0", new long[] { 4000, 5000 }, new double[] { 60, 70 }, null));
+    Statistic statistic = samplingStitcher.build().getCategory("CachePerfStats[cachePerfStats]").getStatistic("gets");
+
+    statistic.setFilter(Statistic.Filter.Second);
+    assertThat(statistic.getSeries().getTimeStamps()).containsExactly(2000, 4000, 5000);
+    assertThat(statistic.getSeries().getValues()).containsExactly(10, 20, 10);
+    statistic.setFilter(Statistic.Filter.Sample);
+    assertThat(statistic.getSeries().getValues()).containsExactly(10, 40, 10);
+    assertThat(statistic.getMaximum()).isCloseTo(40, within(0.001));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+public class SeriesAggregatorTest {
+  private final List<Series> sources = Arrays.asList(
+      new Series(new long[] { 1000, 2000, 3000, 4000 }, new double[] { 1, 2, 3, 4 }),
+      new Series(new long[] { 1500, 3500 }, new double[] { 10, 30 }),
+      new Series(new long[] { 2100, 2200, 2900 }, new double[] { 100, 200, 300 }));
+
+  @Test
+  public void constructorShouldThrowExceptionWhenParametersAreInvalid() {
+    assertThatThrownBy(() -> new SeriesAggregator(1000, null)).isInstanceOf(NullPointerException.class).hasMessage("Aggregation can not be null.");
+    assertThatThrownBy(() -> new SeriesAggregator(0, StatisticsService.Aggregation.Sum)).isInstanceOf(IllegalArgumentException.class).hasMessage("Step should be positive.");
+  }
+
+  private Series aggregate(StatisticsService.Aggregation aggregation, List<Series> sources) {
+    SeriesAggregator seriesAggregator = new SeriesAggregator(1000, aggregation);
+    sources.forEach(seriesAggregator::add);
+
+    return seriesAggregator.getResult();
+  }
+
+  @Test
+  public void addShouldThrowExceptionWhenSourceIsNull() {
+    assertThatThrownBy(() -> new SeriesAggregator(1000, StatisticsService.Aggregation.Sum).add(null)).isInstanceOf(NullPointerException.class).hasMessage("Source can not be null.");
+  }
+
+  @Test
+  public void getResultShouldReturnEmptySeriesWhenThereAreNoSamples() {
+    SeriesAggregator aggregator = new SeriesAggregator(1000, StatisticsService.Aggregation.Sum);
+    assertThat(aggregator.getResult().isEmpty()).isTrue();
+
+    aggregator.add(new Series(new long[0], new double[0]));
+    assertThat(aggregator.getResult().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void getResultShouldReturnSourceValuesOnGridWhenThereIsOnlyOneSource() {
+    Series result = aggregate(StatisticsService.Aggregation.Sum, Collections.singletonList(new Series(new long[] { 1200, 2700 }, new double[] { 5, 7 })));
+
+    assertThat(result.getTimeStamps()).containsExactly(1000, 2000);
+    assertThat(result.getValues()).containsExactly(5, 7);
+  }
+
+  @Test
+  public void getResultShouldHoldLatestValueOfEachSourceUntilItFinishes() {
+    Series sum = aggregate(StatisticsService.Aggregation.Sum, sources);
+    assertThat(sum.getTimeStamps()).containsExactly(1000, 2000, 3000, 4000);
+    assertThat(sum.getValues()).containsExactly(11, 312, 33, 4);
+
+    Series average = aggregate(StatisticsService.Aggregation.Avg, sources);
+    assertThat(average.getTimeStamps()).containsExactly(1000, 2000, 3000, 4000);
+    assertThat(average.getValues()).containsExactly(5.5, 104, 16.5, 4);
+
+    Series maximum = aggregate(StatisticsService.Aggregation.Max, sources);
+    assertThat(maximum.getTimeStamps()).containsExactly(1000, 2000, 3000, 4000);
+    assertThat(maximum.getValues()).containsExactly(10, 300, 30, 4);
+  }
+
+  @Test
+  public void getResultShouldNotDependOnTheOrderInWhichSourcesAreAdded() {
+    List<Series> reversedSources = Arrays.asList(sources.get(2), sources.get(1), sources.get(0));
+
+    Series sum = aggregate(StatisticsService.Aggregation.Sum, reversedSources);
+    assertThat(sum.getTimeStamps()).containsExactly(1000, 2000, 3000, 4000);
+    assertThat(sum.getValues()).containsExactly(11, 312, 33, 4);
+
+    // Sources starting before the grid, and slots on which no source has samples.
+    SeriesAggregator seriesAggregator = new SeriesAggregator(1000, StatisticsService.Aggregation.Max);
+    seriesAggregator.add(new Series(new long[] { 5000, 8000 }, new double[] { 1, 2 }));
+    seriesAggregator.add(new Series(new long[] { -1500, 6200 }, new double[] { 3, 0 }));
+    Series maximum = seriesAggregator.getResult();
+    assertThat(maximum.getTimeStamps()).containsExactly(-2000, 5000, 6000, 8000);
+    assertThat(maximum.getValues()).containsExactly(3, 3, 1, 2);
+    assertThat(seriesAggregator.getResult().getValues()).containsExactly(3, 3, 1, 2);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.RankedStatistic;
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.service.StatisticsService;
+
+public class StatisticRankerTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenRankingIsNull() {
+    assertThatThrownBy(() -> new StatisticRanker(null)).isInstanceOf(NullPointerException.class).hasMessage("Ranking can not be null.");
+  }
+
+  @Test
+  public void getValueShouldReturnTheRequestedRanking() {
+    RankedStatistic rankedStatistic = new RankedStatistic("VMStats[vmStats].threads", "threads", 10, 20, 30);
+
+    assertThat(new StatisticRanker(StatisticsService.Ranking.Max).getValue(rankedStatistic)).isEqualTo(10);
+    assertThat(new StatisticRanker(StatisticsService.Ranking.StdDev).getValue(rankedStatistic)).isEqualTo(20);
+    assertThat(new StatisticRanker(StatisticsService.Ranking.Rate).getValue(rankedStatistic)).isEqualTo(30);
+  }
+
+  @Test
+  public void rankShouldReturnNullWhenThereAreNoSamplesToEvaluate() {
+    StatisticRanker ranker = new StatisticRanker(StatisticsService.Ranking.Max);
+
+    assertThat(ranker.rank("gauge", "", false, new Series(new long[0], new double[0]))).isNull();
+    assertThat(ranker.rank("counter", "", true, new Series(new long[] { 1000 }, new double[] { 10 }))).isNull();
+    assertThat(ranker.rank("counter", "", true, new Series(new long[] { 1000, 1000 }, new double[] { 10, 20 }))).isNull();
+  }
+
+  @Test
+  public void rankShouldEvaluateGaugesAsSampled() {
+    RankedStatistic rankedStatistic = new StatisticRanker(StatisticsService.Ranking.Max).rank("gauge", "threads", false, new Series(new long[] { 0, 1000, 2000, 3000 }, new double[] { 1, 5, 3, 7 }));
+
+    assertThat(rankedStatistic.getStatisticId()).isEqualTo("gauge");
+    assertThat(rankedStatistic.getUnits()).isEqualTo("threads");
+    assertThat(rankedStatistic.getMaximum()).isEqualTo(7);
+    assertThat(rankedStatistic.getStandardDeviation()).isCloseTo(Math.sqrt(20.0 / 3.0), within(1e-9));
+    assertThat(rankedStatistic.getRate()).isCloseTo(2, within(1e-9));
+  }
+
+  @Test
+  public void rankShouldEvaluateCountersAsRatesPerSecondIgnoringResets() {
+    RankedStatistic rankedStatistic = new StatisticRanker(StatisticsService.Ranking.Rate).rank("counter", "operations", true, new Series(new long[] { 0, 1000, 2000, 4000, 5000 }, new double[] { 10, 20, 40, 5, 15 }));
+
+    assertThat(rankedStatistic.getMaximum()).isEqualTo(20);
+    assertThat(rankedStatistic.getStandardDeviation()).isCloseTo(Math.sqrt(100.0 / 3.0), within(1e-9));
+    assertThat(rankedStatistic.getRate()).isCloseTo(40.0 / 3.0, within(1e-9));
+  }
+}
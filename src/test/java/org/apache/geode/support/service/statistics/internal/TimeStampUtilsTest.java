@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class TimeStampUtilsTest {
+
+  @Test
+  public void lowerBoundShouldReturnFirstIndexNotBeforeTheTimeStamp() {
+    long[] timeStamps = new long[] { 0, 10, 20, 30, 40, 50, 60, 70, 80, 90 };
+
+    assertThat(TimeStampUtils.lowerBound(timeStamps, -10)).isEqualTo(0);
+    assertThat(TimeStampUtils.lowerBound(timeStamps, 0)).isEqualTo(0);
+    assertThat(TimeStampUtils.lowerBound(timeStamps, 45)).isEqualTo(5);
+    assertThat(TimeStampUtils.lowerBound(timeStamps, 50)).isEqualTo(5);
+    assertThat(TimeStampUtils.lowerBound(timeStamps, 100)).isEqualTo(10);
+    assertThat(TimeStampUtils.lowerBound(new long[0], 100)).isEqualTo(0);
+  }
+
+  @Test
+  public void nearestShouldReturnTheIndexOfTheClosestTimeStamp() {
+    long[] timeStamps = new long[] { 1000, 2000, 4000 };
+
+    assertThat(TimeStampUtils.nearest(timeStamps, 0)).isEqualTo(0);
+    assertThat(TimeStampUtils.nearest(timeStamps, 1400)).isEqualTo(0);
+    assertThat(TimeStampUtils.nearest(timeStamps, 1500)).isEqualTo(0);
+    assertThat(TimeStampUtils.nearest(timeStamps, 1600)).isEqualTo(1);
+    assertThat(TimeStampUtils.nearest(timeStamps, 3100)).isEqualTo(2);
+    assertThat(TimeStampUtils.nearest(timeStamps, 9000)).isEqualTo(2);
+  }
+}
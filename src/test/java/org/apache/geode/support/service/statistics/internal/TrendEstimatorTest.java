@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.support.service.statistics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.geode.support.domain.statistics.Series;
+import org.apache.geode.support.domain.statistics.Trend;
+
+public class TrendEstimatorTest {
+
+  @Test
+  public void constructorShouldThrowExceptionWhenPointsAreInvalid() {
+    assertThatThrownBy(() -> new TrendEstimator(-1)).isInstanceOf(IllegalArgumentException.class).hasMessage("Points should be greater than or equal to 3.");
+    assertThatThrownBy(() -> new TrendEstimator(2)).isInstanceOf(IllegalArgumentException.class).hasMessage("Points should be greater than or equal to 3.");
+  }
+
+  @Test
+  public void medianShouldWorkForOddAndEvenLengths() {
+    assertThat(TrendEstimator.median(new double[] { 5, 1, 3 }, 3)).isEqualTo(3);
+    assertThat(TrendEstimator.median(new double[] { 4, 1, 3, 2 }, 4)).isEqualTo(2.5);
+    assertThat(TrendEstimator.median(new double[] { 9, 1, 3, 0, 0 }, 3)).isEqualTo(3);
+  }
+
+  @Test
+  public void estimateShouldReturnNullWhenTheTrendCanNotBeFitted() {
+    TrendEstimator trendEstimator = new TrendEstimator(10);
+
+    assertThat(trendEstimator.estimate("statistic", "units", new Series(new long[] { 0, 1000 }, new double[] { 1, 2 }), 100)).isNull();
+    assertThat(trendEstimator.estimate("statistic", "units", new Series(new long[] { 1000, 1000, 1000 }, new double[] { 1, 2, 3 }), 100)).isNull();
+  }
+
+  @Test
+  public void estimateShouldFitLinearSeries() {
+    Trend trend = new TrendEstimator(10).estimate("statistic", "units", new Series(new long[] { 0, 1000, 2000, 3000 }, new double[] { 0, 10, 20, 30 }), 100);
+
+    assertThat(trend.getStatisticId()).isEqualTo("statistic");
+    assertThat(trend.getUnits()).isEqualTo("units");
+    assertThat(trend.getLastValue()).isEqualTo(30);
+    assertThat(trend.getSlope()).isCloseTo(10, within(0.0001));
+    assertThat(trend.getRobustSlope()).isCloseTo(10, within(0.0001));
+    assertThat(trend.hasCapacity()).isTrue();
+    assertThat(trend.getCapacity()).isEqualTo(100);
+    assertThat(trend.isExhausting()).isTrue();
+    assertThat(trend.getTimeToExhaustion()).isEqualTo(7000);
+  }
+
+  @Test
+  public void estimateShouldUseTheLastRawSampleWhenDownsampling() {
+    Trend trend = new TrendEstimator(3).estimate("statistic", "units", new Series(new long[] { 0, 1000, 2000, 3000, 4000, 5000 }, new double[] { 0, 10, 20, 30, 40, 50 }), 100);
+
+    assertThat(trend.getLastValue()).isEqualTo(50);
+    assertThat(trend.getSlope()).isCloseTo(10, within(0.0001));
+    assertThat(trend.getRobustSlope()).isCloseTo(10, within(0.0001));
+    assertThat(trend.getTimeToExhaustion()).isEqualTo(4500);
+  }
+
+  @Test
+  public void estimateRobustSlopeShouldIgnoreSpikes() {
+    Trend trend = new TrendEstimator(10).estimate("statistic", "units", new Series(new long[] { 0, 1000, 2000, 3000, 4000, 5000 }, new double[] { 0, 10, 20, 1000, 40, 50 }), Double.NaN);
+
+    assertThat(trend.getSlope()).isCloseTo(37.7142, within(0.0001));
+    assertThat(trend.getRobustSlope()).isCloseTo(10, within(0.0001));
+    assertThat(trend.hasCapacity()).isFalse();
+    assertThat(trend.isExhausting()).isFalse();
+    assertThat(trend.getTimeToExhaustion()).isEqualTo(-1);
+  }
+
+  @Test
+  public void estimateShouldNotComputeExhaustionUnlessBothTrendsAreGrowing() {
+    TrendEstimator trendEstimator = new TrendEstimator(10);
+
+    Trend decreasing = trendEstimator.estimate("statistic", "units", new Series(new long[] { 0, 1000, 2000, 3000 }, new double[] { 30, 20, 10, 0 }), 100);
+    assertThat(decreasing.getSlope()).isCloseTo(-10, within(0.0001));
+    assertThat(decreasing.getRobustSlope()).isCloseTo(-10, within(0.0001));
+    assertThat(decreasing.getTimeToExhaustion()).isEqualTo(-1);
+
+    Trend sawtooth = trendEstimator.estimate("statistic", "units", new Series(new long[] { 0, 1000, 2000, 3000, 4000, 5000, 6000 }, new double[] { 0, 10, 20, 30, 40, -100, -90 }), 1000);
+    assertThat(sawtooth.getSlope()).isNegative();
+    assertThat(sawtooth.getRobustSlope()).isCloseTo(10, within(0.0001));
+    assertThat(sawtooth.isExhausting()).isFalse();
+    assertThat(sawtooth.getTimeToExhaustion()).isEqualTo(-1);
+  }
+
+  @Test
+  public void estimateShouldReturnZeroTimeToExhaustionWhenCapacityIsAlreadyReached() {
+    Trend trend = new TrendEstimator(10).estimate("statistic", "units", new Series(new long[] { 0, 1000, 2000, 3000 }, new double[] { 100, 110, 120, 130 }), 100);
+
+    assertThat(trend.isExhausting()).isTrue();
+    assertThat(trend.getTimeToExhaustion()).isEqualTo(0);
+  }
+}
@@ -15,13 +15,16 @@
 package org.apache.geode.support.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.time.Duration;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -83,4 +86,31 @@ public class FormatUtilsTest {
     assertThat(FormatUtils.formatTimeZoneId(ZoneId.of("America/Argentina/Buenos_Aires"))).isEqualTo("[America/Argentina/Buenos_Aires]");
 
   }
+
+  @Test
+  public void parseDurationTest() {
+    assertThat(FormatUtils.parseDuration("45")).isEqualTo(Duration.ofSeconds(45));
+    assertThat(FormatUtils.parseDuration("500ms")).isEqualTo(Duration.ofMillis(500));
+    assertThat(FormatUtils.parseDuration("30s")).isEqualTo(Duration.ofSeconds(30));
+    assertThat(FormatUtils.parseDuration(" 10m ")).isEqualTo(Duration.ofMinutes(10));
+    assertThat(FormatUtils.parseDuration("2h")).isEqualTo(Duration.ofHours(2));
+    assertThat(FormatUtils.parseDuration("1d")).isEqualTo(Duration.ofDays(1));
+
+    assertThatThrownBy(() -> FormatUtils.parseDuration(null)).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid duration 'null', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> FormatUtils.parseDuration("10 minutes")).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid duration '10 minutes', expected an amount followed by an optional unit (ms, s, m, h or d).");
+    assertThatThrownBy(() -> FormatUtils.parseDuration("-5s")).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid duration '-5s', expected an amount followed by an optional unit (ms, s, m, h or d).");
+  }
+
+  @Test
+  public void parseDateTimeTest() {
+    ZoneId zoneId = ZoneId.of("America/Chicago");
+    long expectedTimeStamp = ZonedDateTime.of(2018, 3, 22, 14, 30, 0, 0, zoneId).toInstant().toEpochMilli();
+
+    assertThat(FormatUtils.parseDateTime("2018-03-22T14:30", zoneId)).isEqualTo(expectedTimeStamp);
+    assertThat(FormatUtils.parseDateTime("2018-03-22T14:30:00", zoneId)).isEqualTo(expectedTimeStamp);
+    assertThat(FormatUtils.parseDateTime("2018-03-22T14:30:00", ZoneId.of("UTC"))).isNotEqualTo(expectedTimeStamp);
+
+    assertThatThrownBy(() -> FormatUtils.parseDateTime(null, zoneId)).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid date time 'null', expected format is yyyy-MM-ddTHH:mm[:ss].");
+    assertThatThrownBy(() -> FormatUtils.parseDateTime("22/03/2018 14:30", zoneId)).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid date time '22/03/2018 14:30', expected format is yyyy-MM-ddTHH:mm[:ss].");
+  }
 }